@@ -42,7 +42,7 @@ CREATE INDEX idx_file_info_hash ON file_info (file_hash);
 CREATE INDEX idx_file_info_storage_type ON file_info (storage_type);
 CREATE INDEX idx_file_info_tenant_created ON file_info (tenant_id, created_by);
 CREATE INDEX idx_file_info_status ON file_info (status);
-CREATE INDEX idx_file_info_upload_time ON file_info (upload_time);
+CREATE INDEX idx_file_info_upload_time ON file_info (upload_time, file_id);
 CREATE INDEX idx_file_info_extension ON file_info (extension);
 CREATE INDEX idx_file_info_delete_flag ON file_info (delete_flag);
 
@@ -0,0 +1,56 @@
+package club.slavopolis.benchmarks;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 基准测试入口
+ * <p>在JMH命令行的基础上默认以JSON格式导出结果，便于在版本之间对比、发现性能回退；
+ * 命令行已指定{@code -rf}、{@code -rff}或仅查看帮助、列表时按原样交给JMH处理</p>
+ * <p>运行：{@code java -jar slavopolis-benchmarks/target/benchmarks.jar [基准测试名称正则] [JMH参数]}，
+ * 结果写入当前目录的{@code jmh-result.json}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class BenchmarkRunner {
+
+    /**
+     * 默认结果文件
+     */
+    public static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    /**
+     * 不执行基准测试或已自行指定结果输出的参数
+     */
+    private static final Set<String> PASS_THROUGH_OPTIONS = Set.of("-rf", "-rff", "-h", "-l", "-lp", "-lprof", "-lrf");
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Main.main(withDefaultResultFormat(args));
+    }
+
+    private static String[] withDefaultResultFormat(String[] args) {
+        for (String arg : args) {
+            if (PASS_THROUGH_OPTIONS.contains(arg)) {
+                return args;
+            }
+        }
+        List<String> result = new ArrayList<>(args.length + 4);
+        result.add("-rf");
+        result.add("json");
+        result.add("-rff");
+        result.add(DEFAULT_RESULT_FILE);
+        result.addAll(List.of(args));
+        return result.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,118 @@
+package club.slavopolis.benchmarks.core;
+
+import club.slavopolis.benchmarks.support.BenchmarkDatabase;
+import club.slavopolis.benchmarks.support.FileRow;
+import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
+import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC句柄创建方式基准测试
+ * <p>在并发负载下对比每次调用新建{@link EnhancedJdbcTemplate}、基于共享上下文创建句柄和直接复用单例模板三种方式的按主键查询延迟</p>
+ * <p>运行：{@code java -jar slavopolis-benchmarks/target/benchmarks.jar JdbcHandleBenchmark -prof gc}，
+ * 通过{@code gc.alloc.rate.norm}对比每次操作的分配字节数</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class JdbcHandleBenchmark {
+
+    private static final int ROW_COUNT = 10_000;
+
+    private static final String SELECT_BY_FILE_ID_SQL = """
+            SELECT file_id, original_name, file_size, content_type, file_hash, extension,
+                   storage_type, storage_key, status, access_permission, upload_time,
+                   tenant_id, download_count, last_access_time, created_by
+            FROM file_info
+            WHERE file_id = :fileId AND delete_flag = 0
+            """;
+
+    private HikariDataSource dataSource;
+
+    private NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private DataSourceTransactionManager transactionManager;
+
+    private TransactionDefinition transactionDefinition;
+
+    private JdbcExecutionContext context;
+
+    private EnhancedJdbcTemplate sharedTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = BenchmarkDatabase.createPooled(ROW_COUNT, 8);
+        namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        transactionDefinition = new DefaultTransactionDefinition();
+
+        context = new JdbcExecutionContext(
+                namedParameterJdbcTemplate, transactionManager, transactionDefinition, new SqlSecurityConfig());
+        sharedTemplate = context.newHandle();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public FileRow perCallTemplate() {
+        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
+                namedParameterJdbcTemplate,
+                transactionManager,
+                transactionDefinition
+        );
+        return namedJdbc.queryForObject(SELECT_BY_FILE_ID_SQL, randomFileId(), FileRow.class, false);
+    }
+
+    @Benchmark
+    public FileRow contextHandle() {
+        EnhancedJdbcTemplate namedJdbc = context.newHandle();
+        return namedJdbc.queryForObject(SELECT_BY_FILE_ID_SQL, randomFileId(), FileRow.class, false);
+    }
+
+    @Benchmark
+    public FileRow sharedTemplate() {
+        return sharedTemplate.queryForObject(SELECT_BY_FILE_ID_SQL, randomFileId(), FileRow.class, false);
+    }
+
+    private Map<String, Object> randomFileId() {
+        int id = ThreadLocalRandom.current().nextInt(ROW_COUNT);
+        return Map.of("fileId", String.format("file-%08d", id));
+    }
+}
@@ -0,0 +1,99 @@
+package club.slavopolis.benchmarks.core;
+
+import club.slavopolis.benchmarks.support.BenchmarkDatabase;
+import club.slavopolis.benchmarks.support.FileRow;
+import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
+import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 列表查询端到端基准测试
+ * <p>经由{@link EnhancedJdbcTemplate#queryForList}完整执行SQL验证、参数检查、执行监控、JDBC查询和行映射，
+ * 数据库为H2内存库，结果反映框架自身开销随结果集大小的变化</p>
+ * <p>运行：{@code java -jar slavopolis-benchmarks/target/benchmarks.jar QueryForListBenchmark}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryForListBenchmark {
+
+    private static final String SELECT_BY_TENANT_SQL = """
+            SELECT file_id, original_name, file_size, content_type, file_hash, extension,
+                   storage_type, storage_key, status, access_permission, upload_time,
+                   tenant_id, download_count, last_access_time, created_by
+            FROM file_info
+            WHERE tenant_id = :tenantId AND delete_flag = 0
+            ORDER BY id
+            """;
+
+    /**
+     * 测试数据按10个租户均匀分布，每次查询返回rowCount / 10行
+     */
+    @Param({"100", "1000", "10000"})
+    private int rowCount;
+
+    private HikariDataSource dataSource;
+
+    private EnhancedJdbcTemplate namedJdbc;
+
+    private Map<String, Object> params;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = BenchmarkDatabase.createPooled(rowCount, 2);
+        JdbcExecutionContext context = new JdbcExecutionContext(
+                new NamedParameterJdbcTemplate(dataSource),
+                new DataSourceTransactionManager(dataSource),
+                new DefaultTransactionDefinition(),
+                new SqlSecurityConfig());
+        namedJdbc = context.newHandle();
+        params = Map.of("tenantId", "tenant-3");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public List<FileRow> queryForBeans() {
+        return namedJdbc.queryForList(SELECT_BY_TENANT_SQL, params, FileRow.class, false);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> queryForMaps() {
+        return namedJdbc.queryForList(SELECT_BY_TENANT_SQL, params, false);
+    }
+}
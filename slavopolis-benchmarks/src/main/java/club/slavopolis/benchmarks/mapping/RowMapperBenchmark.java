@@ -0,0 +1,107 @@
+package club.slavopolis.benchmarks.mapping;
+
+import club.slavopolis.benchmarks.support.BenchmarkDatabase;
+import club.slavopolis.benchmarks.support.FileRow;
+import club.slavopolis.benchmarks.support.FileRowRecord;
+import club.slavopolis.persistence.jdbc.enums.MappingStrategy;
+import club.slavopolis.persistence.jdbc.mapping.BeanRowMapper;
+import club.slavopolis.persistence.jdbc.mapping.CompiledRowMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 行映射器基准测试
+ * <p>在同一个可滚动结果集上对比BeanWrapper映射与编译式映射，结果集读取开销对各方法相同</p>
+ * <p>运行：{@code java -jar slavopolis-benchmarks/target/benchmarks.jar RowMapperBenchmark}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RowMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int rowCount;
+
+    private Connection connection;
+
+    private PreparedStatement statement;
+
+    private ResultSet resultSet;
+
+    private RowMapper<FileRow> beanRowMapper;
+
+    private CompiledRowMapper<FileRow> compiledRowMapper;
+
+    private CompiledRowMapper<FileRowRecord> compiledRecordMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = BenchmarkDatabase.create(rowCount).getConnection();
+        statement = connection.prepareStatement(BenchmarkDatabase.SELECT_FILE_INFO_SQL,
+                ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_READ_ONLY);
+        resultSet = statement.executeQuery();
+
+        beanRowMapper = new BeanRowMapper<>(FileRow.class, MappingStrategy.INTELLIGENT);
+        compiledRowMapper = new CompiledRowMapper<>(FileRow.class);
+        compiledRecordMapper = new CompiledRowMapper<>(FileRowRecord.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        resultSet.close();
+        statement.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public void beanWrapperMapper(Blackhole blackhole) throws SQLException {
+        mapAll(beanRowMapper, blackhole);
+    }
+
+    @Benchmark
+    public void compiledBeanMapper(Blackhole blackhole) throws SQLException {
+        mapAll(compiledRowMapper.forQuery(), blackhole);
+    }
+
+    @Benchmark
+    public void compiledRecordMapper(Blackhole blackhole) throws SQLException {
+        mapAll(compiledRecordMapper.forQuery(), blackhole);
+    }
+
+    private <T> void mapAll(RowMapper<T> rowMapper, Blackhole blackhole) throws SQLException {
+        resultSet.beforeFirst();
+        int rowNum = 0;
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet, rowNum++));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package club.slavopolis.benchmarks.parser;
+
+import club.slavopolis.benchmarks.support.SampleStatement;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.security.SensitiveSqlMasker;
+import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL分析基准测试
+ * <p>覆盖分页计数SQL生成、ORDER BY去除、表名提取和敏感信息掩码；每次操作都重新分析SQL，对应验证结论缓存未命中时的开销</p>
+ * <p>运行：{@code java -jar slavopolis-benchmarks/target/benchmarks.jar SqlAnalysisBenchmark}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlAnalysisBenchmark {
+
+    @Param({"SIMPLE", "JOIN", "CTE", "SENSITIVE_UPDATE"})
+    private SampleStatement statement;
+
+    private String sql;
+
+    private SensitiveSqlMasker masker;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sql = statement.getSql();
+        masker = new SensitiveSqlMasker(new SqlSecurityConfig());
+    }
+
+    @Benchmark
+    public ParsedSql lex() {
+        return SqlLexer.parse(sql);
+    }
+
+    @Benchmark
+    public String countSql() {
+        return SqlLexer.parse(sql).getCountSql();
+    }
+
+    @Benchmark
+    public String removeOrderBy() {
+        return SqlLexer.parse(sql).withoutOrderBy();
+    }
+
+    @Benchmark
+    public Set<String> extractTables() {
+        return SqlLexer.parse(sql).getTables();
+    }
+
+    @Benchmark
+    public String maskSensitive() {
+        return masker.mask(SqlLexer.parse(sql));
+    }
+}
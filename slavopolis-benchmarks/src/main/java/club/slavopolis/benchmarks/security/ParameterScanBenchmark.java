@@ -0,0 +1,117 @@
+package club.slavopolis.benchmarks.security;
+
+import club.slavopolis.persistence.jdbc.security.InjectionPatternMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 参数注入扫描基准测试
+ * <p>对比逐个关键词{@code contains()}加危险字符检查的扫描方式与{@link InjectionPatternMatcher}单次扫描，
+ * 输入为不命中任何特征的正常参数，两种方式都需要扫描完整文本</p>
+ * <p>运行：{@code java -jar slavopolis-benchmarks/target/benchmarks.jar ParameterScanBenchmark}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParameterScanBenchmark {
+
+    /**
+     * 与SqlInjectionValidator相同的关键词黑名单
+     */
+    private static final List<String> KEYWORDS = List.of(
+        "union", "select", "insert", "update", "delete", "drop", "create", "alter",
+        "exec", "execute", "sp_", "xp_", "declare", "cast", "convert", "char",
+        "nchar", "varchar", "nvarchar", "ascii", "substring", "length", "len",
+        "user", "system_user", "session_user", "current_user", "database",
+        "version", "@@", "waitfor", "delay", "benchmark", "sleep",
+        "information_schema", "sysobjects", "syscolumns", "sysusers"
+    );
+
+    private static final List<String> DANGEROUS_SEQUENCES = List.of("'", "\"", "--", "/*", "*/", ";", "\\");
+
+    /**
+     * 不含黑名单关键词的单词，用于生成参数值
+     */
+    private static final String[] WORDS = {
+        "Order", "shipped", "to", "warehouse", "north", "with", "priority", "normal", "and", "tracking",
+        "enabled", "customer", "requested", "gift", "wrapping", "for", "items", "in", "basket", "review"
+    };
+
+    private static final InjectionPatternMatcher MATCHER = new InjectionPatternMatcher(KEYWORDS, DANGEROUS_SEQUENCES);
+
+    @Param({"64", "1024", "16384"})
+    private int length;
+
+    @Param({"TEXT", "KEY_VALUE"})
+    private String shape;
+
+    private String value;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(length + 32);
+        int field = 0;
+        if ("KEY_VALUE".equals(shape)) {
+            builder.append('{');
+        }
+        while (builder.length() < length) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            if ("KEY_VALUE".equals(shape)) {
+                builder.append(field > 0 ? ", " : "").append("field").append(field++).append(": ").append(word);
+            } else {
+                builder.append(builder.isEmpty() ? "" : " ").append(word);
+            }
+        }
+        if ("KEY_VALUE".equals(shape)) {
+            builder.append('}');
+        }
+        value = builder.toString();
+    }
+
+    @Benchmark
+    public int containsLoop() {
+        String normalizedValue = value.toLowerCase().trim();
+        int matched = 0;
+        for (String keyword : KEYWORDS) {
+            if (normalizedValue.contains(keyword)) {
+                matched |= InjectionPatternMatcher.KEYWORD;
+            }
+        }
+        for (String sequence : DANGEROUS_SEQUENCES) {
+            if (value.contains(sequence)) {
+                matched |= InjectionPatternMatcher.DANGEROUS_SEQUENCE;
+            }
+        }
+        return matched;
+    }
+
+    @Benchmark
+    public int automaton() {
+        return MATCHER.scan(value, 0, InjectionPatternMatcher.ALL);
+    }
+}
@@ -0,0 +1,86 @@
+package club.slavopolis.benchmarks.security;
+
+import club.slavopolis.benchmarks.support.SampleStatement;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.security.SqlInjectionValidator;
+import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import club.slavopolis.persistence.jdbc.security.SqlValidationCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL注入验证基准测试
+ * <p>对比语句级验证每次重新分析与命中验证结论缓存的开销，并覆盖常见长度的字符串参数验证</p>
+ * <p>运行：{@code java -jar slavopolis-benchmarks/target/benchmarks.jar SqlValidationBenchmark}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlValidationBenchmark {
+
+    /**
+     * 典型的短字符串参数：名称、备注
+     */
+    private static final String PARAMETER_VALUE = "Quarterly report for the northern warehouse, reviewed and approved";
+
+    @Param({"SIMPLE", "JOIN", "CTE", "SENSITIVE_UPDATE"})
+    private SampleStatement statement;
+
+    private String sql;
+
+    private SqlInjectionValidator validator;
+
+    private SqlValidationCache validationCache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sql = statement.getSql();
+        SqlSecurityConfig securityConfig = new SqlSecurityConfig();
+        validator = SqlInjectionValidator.of(securityConfig);
+        validationCache = SqlValidationCache.of(securityConfig);
+    }
+
+    @Benchmark
+    public String validateSql() {
+        validator.validateSql(sql);
+        return sql;
+    }
+
+    @Benchmark
+    public SqlValidationCache.SqlVerdict cachedVerdict() {
+        return validationCache.get(sql, statementSql -> {
+            ParsedSql parsedSql = SqlLexer.parse(statementSql);
+            validator.validate(parsedSql);
+            return SqlValidationCache.SqlVerdict.passed(parsedSql);
+        });
+    }
+
+    @Benchmark
+    public String validateParameter() {
+        validator.validateParameter("remark", PARAMETER_VALUE);
+        return PARAMETER_VALUE;
+    }
+}
@@ -0,0 +1,153 @@
+package club.slavopolis.benchmarks.support;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 基准测试内存数据库
+ * <p>基于H2（MySQL兼容模式）创建与生产结构一致的 file_info 表并填充测试数据</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class BenchmarkDatabase {
+
+    /**
+     * 文件信息查询SQL
+     */
+    public static final String SELECT_FILE_INFO_SQL = """
+            SELECT file_id, original_name, file_size, content_type, file_hash, extension,
+                   storage_type, storage_key, status, access_permission, upload_time,
+                   tenant_id, download_count, last_access_time, created_by
+            FROM file_info
+            WHERE delete_flag = 0
+            ORDER BY id
+            """;
+
+    private static final String CREATE_FILE_INFO_SQL = """
+            CREATE TABLE file_info (
+                id                BIGINT PRIMARY KEY AUTO_INCREMENT,
+                file_id           VARCHAR(64)  NOT NULL UNIQUE,
+                original_name     VARCHAR(255) NOT NULL,
+                file_size         BIGINT       NOT NULL,
+                content_type      VARCHAR(100),
+                file_hash         VARCHAR(64)  NOT NULL,
+                extension         VARCHAR(20),
+                storage_type      VARCHAR(20)  NOT NULL,
+                storage_key       VARCHAR(500) NOT NULL,
+                status            VARCHAR(20)  DEFAULT 'ACTIVE',
+                access_permission VARCHAR(20)  DEFAULT 'PRIVATE',
+                upload_time       DATETIME     DEFAULT CURRENT_TIMESTAMP,
+                tenant_id         VARCHAR(64),
+                download_count    INT          DEFAULT 0,
+                last_access_time  DATETIME,
+                created_by        VARCHAR(64)  NOT NULL,
+                delete_flag       TINYINT      NOT NULL DEFAULT 0
+            )
+            """;
+
+    private static final String INSERT_FILE_INFO_SQL = """
+            INSERT INTO file_info
+            (file_id, original_name, file_size, content_type, file_hash, extension, storage_type,
+             storage_key, status, access_permission, upload_time, tenant_id, download_count,
+             last_access_time, created_by, delete_flag)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)
+            """;
+
+    private BenchmarkDatabase() {
+    }
+
+    /**
+     * 创建独立的内存数据库并写入指定行数的文件信息
+     *
+     * @param rowCount 文件信息行数
+     * @return 数据源
+     * @throws SQLException SQL异常
+     */
+    public static DataSource create(int rowCount) throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(newDatabaseUrl());
+        dataSource.setUser("sa");
+
+        initialize(dataSource, rowCount);
+        return dataSource;
+    }
+
+    /**
+     * 创建带连接池的内存数据库并写入指定行数的文件信息
+     * <p>用于并发场景的基准测试，连接获取开销与生产环境的HikariCP一致</p>
+     *
+     * @param rowCount 文件信息行数
+     * @param poolSize 连接池大小
+     * @return 连接池数据源，使用完毕后需关闭
+     * @throws SQLException SQL异常
+     */
+    public static HikariDataSource createPooled(int rowCount, int poolSize) throws SQLException {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(newDatabaseUrl());
+        config.setUsername("sa");
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(poolSize);
+        config.setPoolName("benchmark-pool");
+
+        HikariDataSource dataSource = new HikariDataSource(config);
+        initialize(dataSource, rowCount);
+        return dataSource;
+    }
+
+    private static String newDatabaseUrl() {
+        return "jdbc:h2:mem:bench_" + UUID.randomUUID().toString().replace("-", "")
+                + ";MODE=MySQL;DB_CLOSE_DELAY=-1";
+    }
+
+    private static void initialize(DataSource dataSource, int rowCount) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_FILE_INFO_SQL);
+            }
+            insertFileInfo(connection, rowCount);
+        }
+    }
+
+    private static void insertFileInfo(Connection connection, int rowCount) throws SQLException {
+        LocalDateTime baseTime = LocalDateTime.of(2025, 7, 1, 0, 0);
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_FILE_INFO_SQL)) {
+            for (int i = 0; i < rowCount; i++) {
+                ps.setString(1, String.format("file-%08d", i));
+                ps.setString(2, "document-" + i + ".pdf");
+                ps.setLong(3, 1024L * (i + 1));
+                ps.setString(4, "application/pdf");
+                ps.setString(5, String.format("%064x", i));
+                ps.setString(6, "pdf");
+                ps.setString(7, i % 2 == 0 ? "DATABASE" : "MINIO");
+                ps.setString(8, "tenant-" + (i % 10) + "/" + i);
+                ps.setString(9, "ACTIVE");
+                ps.setString(10, "PRIVATE");
+                ps.setTimestamp(11, Timestamp.valueOf(baseTime.plusSeconds(i)));
+                ps.setString(12, "tenant-" + (i % 10));
+                ps.setInt(13, i % 100);
+                ps.setTimestamp(14, i % 3 == 0 ? null : Timestamp.valueOf(baseTime.plusMinutes(i)));
+                ps.setString(15, "user-" + (i % 50));
+                ps.addBatch();
+                if (i % 500 == 499) {
+                    ps.executeBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package club.slavopolis.benchmarks.support;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 基准测试用文件信息实体（JavaBean）
+ * <p>字段结构与文件模块的FileInfo一致</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+public class FileRow {
+
+    private String fileId;
+
+    private String originalName;
+
+    private Long fileSize;
+
+    private String contentType;
+
+    private String fileHash;
+
+    private String extension;
+
+    private StorageKind storageType;
+
+    private String storageKey;
+
+    private String status;
+
+    private String accessPermission;
+
+    private LocalDateTime uploadTime;
+
+    private String tenantId;
+
+    private Integer downloadCount;
+
+    private LocalDateTime lastAccessTime;
+
+    private String createdBy;
+
+    /**
+     * 存储类型
+     */
+    public enum StorageKind {
+        DATABASE, MINIO, OSS, LOCAL
+    }
+}
@@ -0,0 +1,20 @@
+package club.slavopolis.benchmarks.support;
+
+import java.time.LocalDateTime;
+
+/**
+ * 基准测试用文件信息实体（Record）
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public record FileRowRecord(String fileId, String originalName, long fileSize, String contentType,
+                            String fileHash, String extension, FileRow.StorageKind storageType,
+                            String storageKey, String status, String accessPermission,
+                            LocalDateTime uploadTime, String tenantId, int downloadCount,
+                            LocalDateTime lastAccessTime, String createdBy) {
+}
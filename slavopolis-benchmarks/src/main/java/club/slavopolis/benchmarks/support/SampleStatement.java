@@ -0,0 +1,66 @@
+package club.slavopolis.benchmarks.support;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 基准测试用典型SQL语句
+ * <p>覆盖业务代码中常见的语句形态，供SQL分析与验证类基准测试通过{@code @Param}选择</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SampleStatement {
+
+    /**
+     * 单表条件查询
+     */
+    SIMPLE("""
+            SELECT file_id, original_name, file_size FROM file_info
+            WHERE tenant_id = :tenantId AND delete_flag = 0 ORDER BY upload_time DESC
+            """),
+
+    /**
+     * 多表关联、子查询、字符串字面量中包含关键字
+     */
+    JOIN("""
+            SELECT f.file_id, f.original_name, u.user_name, COUNT(d.id) AS downloads
+            FROM file_info f
+            JOIN sys_user u ON u.user_id = f.created_by
+            LEFT JOIN file_download d ON d.file_id = f.file_id AND d.status = 'DONE; ORDER BY'
+            WHERE f.tenant_id = :tenantId
+              AND f.status IN ('ACTIVE', 'ARCHIVED')
+              AND f.file_id IN (SELECT file_id FROM file_tag WHERE tag = :tag ORDER BY weight)
+            GROUP BY f.file_id, f.original_name, u.user_name
+            ORDER BY downloads DESC
+            """),
+
+    /**
+     * 公共表表达式与集合操作
+     */
+    CTE("""
+            WITH recent AS (
+                SELECT file_id, upload_time FROM file_info WHERE upload_time > :since
+            )
+            SELECT file_id FROM recent
+            UNION ALL
+            SELECT file_id FROM file_archive WHERE archived_at > :since
+            ORDER BY file_id
+            """),
+
+    /**
+     * 含敏感列字面量的更新语句
+     */
+    SENSITIVE_UPDATE("""
+            UPDATE sys_user SET password = 'Pa55w0rd!2025', api_token = 'tk_9f8e7d6c5b4a', email = 'alice@example.com'
+            WHERE user_id = 1001 AND phone = '138-0013-8000'
+            """);
+
+    private final String sql;
+}
@@ -5,10 +5,13 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Objects;
 
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -21,15 +24,18 @@ import org.springframework.web.multipart.MultipartFile;
 
 import club.slavopolis.base.enums.BizErrorCode;
 import club.slavopolis.base.properties.CurrentSystemProperties;
+import club.slavopolis.base.response.PageResponse;
 import club.slavopolis.biz.file.dto.FileInfoDTO;
 import club.slavopolis.biz.file.dto.FileListQueryDTO;
 import club.slavopolis.biz.file.dto.FileUploadDTO;
 import club.slavopolis.biz.file.mapping.FileMapping;
 import club.slavopolis.file.api.FileService;
+import club.slavopolis.file.constant.FileConstants;
 import club.slavopolis.file.domain.FileInfo;
 import club.slavopolis.file.domain.request.FileListRequest;
 import club.slavopolis.file.domain.request.FileUploadRequest;
 import club.slavopolis.file.domain.result.FileUploadResult;
+import club.slavopolis.file.exception.FileOperationException;
 import club.slavopolis.web.vo.MultiResult;
 import club.slavopolis.web.vo.Result;
 import jakarta.validation.Valid;
@@ -96,36 +102,46 @@ public class FileController {
      * 下载文件
      *
      * @param fileId 文件ID
-     * @return 文件流
+     * @return 文件流，写出响应后关闭
      */
     @GetMapping("/download/{fileId}")
-    public ResponseEntity<byte[]> downloadFile(@PathVariable @NotBlank String fileId) {
+    public ResponseEntity<Resource> downloadFile(@PathVariable @NotBlank String fileId) {
         if (systemProperties.isDebug()) {
             log.info("下载文件开始: 文件ID={}", fileId);
         }
         
         try {
-            InputStream content = fileService.download(fileId);
             FileInfo fileInfo = fileService.getFileInfo(fileId);
             if (Objects.isNull(fileInfo)) {
                 return ResponseEntity.notFound().build();
             }
-
-            byte[] fileContent = content.readAllBytes();
             
+            // 响应头在打开文件流之前构建，文件流可能占用数据库连接，之后不再有可能失败的步骤
             HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.parseMediaType(fileInfo.getContentType()));
+            headers.setContentType(StringUtils.hasText(fileInfo.getContentType())
+                    ? MediaType.parseMediaType(fileInfo.getContentType())
+                    : MediaType.APPLICATION_OCTET_STREAM);
             headers.setContentDispositionFormData("attachment", fileInfo.getOriginalName());
-            headers.setContentLength(fileContent.length);
+            if (fileInfo.getFileSize() != null) {
+                headers.setContentLength(fileInfo.getFileSize());
+            }
+            
+            InputStream content = fileService.download(fileId);
             
             if (systemProperties.isDebug()) {
-                log.info("下载文件完成: 文件ID={}, 文件名={}, 大小={}", fileId, fileInfo.getOriginalName(), fileContent.length);
+                log.info("下载文件完成: 文件ID={}, 文件名={}, 大小={}", fileId, fileInfo.getOriginalName(), fileInfo.getFileSize());
             }
             
-            return new ResponseEntity<>(fileContent, headers, HttpStatus.OK);
+            // 边读边写出，文件内容不整体加载到内存
+            return new ResponseEntity<>(new InputStreamResource(content), headers, HttpStatus.OK);
+        } catch (FileOperationException e) {
+            log.error("下载文件失败: 文件ID={}, 错误={}", fileId, e.getMessage());
+            return FileConstants.FILE_NOT_FOUND.equals(e.getErrorCode())
+                    ? ResponseEntity.notFound().build()
+                    : ResponseEntity.internalServerError().build();
         } catch (Exception e) {
             log.error("下载文件失败: 文件ID={}, 错误={}", fileId, e.getMessage());
-            return ResponseEntity.notFound().build();
+            return ResponseEntity.internalServerError().build();
         }
     }
 
@@ -199,14 +215,14 @@ public class FileController {
             request.setPageNumber(queryDTO.getPageNumber());
             request.setPageSize(queryDTO.getPageSize());
 
-            List<FileInfo> fileInfoList = fileService.listFiles(request);
-            long totalCount = fileService.countFiles(request);
+            // 数据和总数在同一次查询中返回
+            PageResponse<FileInfo> page = fileService.pageFiles(request);
             
-            List<FileInfoDTO> fileInfos = fileInfoList.stream()
+            List<FileInfoDTO> fileInfos = page.getData().stream()
                     .map(fileMapping::to)
                     .toList();
             
-            return MultiResult.successMulti(fileInfos, totalCount, queryDTO.getPageNumber(), queryDTO.getPageSize());
+            return MultiResult.successMulti(fileInfos, page.getTotal(), queryDTO.getPageNumber(), queryDTO.getPageSize());
         } catch (Exception e) {
             log.error("查询文件列表失败: 条件={}, 错误={}", queryDTO, e.getMessage());
             return MultiResult.errorMulti(BizErrorCode.FILE_LIST_ERROR.getCode(), "查询文件列表失败: " + e.getMessage());
@@ -198,6 +198,16 @@ public class CurrentSystemProperties {
          * 异步处理线程池大小
          */
         private int asyncThreadPoolSize = 10;
+
+        /**
+         * 文件访问信息（下载次数、最后访问时间）的合并刷写间隔（默认1秒）
+         */
+        private Duration accessInfoFlushInterval = Duration.ofSeconds(1);
+
+        /**
+         * 文件访问信息最多缓冲的文件数，超出时由下载请求同步刷写
+         */
+        private int accessInfoMaxPendingFiles = 10000;
     }
 
     /**
@@ -0,0 +1,59 @@
+package club.slavopolis.base.response;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serial;
+import java.util.List;
+
+/**
+ * 游标分页响应基础定义
+ * <p>基于游标（Keyset/Seek）的分页不返回总数和总页数，客户端通过{@link #nextCursor}获取下一页</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Getter
+@Setter
+public class CursorPageResponse<T> extends MultiResponse<T> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 每页数量
+     */
+    private int pageSize;
+
+    /**
+     * 是否存在下一页
+     */
+    private boolean hasNext;
+
+    /**
+     * 下一页游标，不存在下一页时为null
+     */
+    private String nextCursor;
+
+    /**
+     * 创建游标分页响应对象
+     *
+     * @param dataList   数据列表
+     * @param pageSize   每页数量
+     * @param nextCursor 下一页游标，为null表示没有下一页
+     * @return 游标分页响应对象
+     */
+    public static <T> CursorPageResponse<T> success(List<T> dataList, int pageSize, String nextCursor) {
+        CursorPageResponse<T> pageResponse = new CursorPageResponse<>();
+        pageResponse.setSuccess(Boolean.TRUE);
+        pageResponse.setData(dataList);
+        pageResponse.setPageSize(pageSize);
+        pageResponse.setHasNext(nextCursor != null);
+        pageResponse.setNextCursor(nextCursor);
+        return pageResponse;
+    }
+}
@@ -39,10 +39,15 @@ public class PageResponse<T> extends MultiResponse<T> {
     private int totalPages;
 
     /**
-     * 总数据数量
+     * 总数据数量，总数未知时为-1
      */
     private int total;
 
+    /**
+     * 是否存在下一页
+     */
+    private boolean hasNext;
+
     /**
      * 创建分页响应对象
      *
@@ -60,6 +65,29 @@ public class PageResponse<T> extends MultiResponse<T> {
         pageResponse.setPageSize(pageSize);
         pageResponse.setCurrentPage(currentPage);
         pageResponse.setTotalPages((pageSize + total - 1) / pageSize);
+        pageResponse.setHasNext(currentPage < pageResponse.getTotalPages());
+        return pageResponse;
+    }
+
+    /**
+     * 创建不含总数的分页响应对象
+     * <p>总数和总页数为-1，是否存在下一页由{@code hasNext}给出</p>
+     *
+     * @param dataList    数据列表
+     * @param pageSize    每页数量
+     * @param currentPage 当前页码
+     * @param hasNext     是否存在下一页
+     * @return 分页响应对象
+     */
+    public static <T> PageResponse<T> successWithoutTotal(List<T> dataList, int pageSize, int currentPage, boolean hasNext) {
+        PageResponse<T> pageResponse = new PageResponse<>();
+        pageResponse.setSuccess(Boolean.TRUE);
+        pageResponse.setData(dataList);
+        pageResponse.setTotal(-1);
+        pageResponse.setPageSize(pageSize);
+        pageResponse.setCurrentPage(currentPage);
+        pageResponse.setTotalPages(-1);
+        pageResponse.setHasNext(hasNext);
         return pageResponse;
     }
 }
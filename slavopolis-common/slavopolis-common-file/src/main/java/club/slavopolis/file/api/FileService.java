@@ -4,6 +4,8 @@ import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
 
+import club.slavopolis.base.response.CursorPageResponse;
+import club.slavopolis.base.response.PageResponse;
 import club.slavopolis.file.domain.FileInfo;
 import club.slavopolis.file.domain.request.ChunkUploadRequest;
 import club.slavopolis.file.domain.request.FileListRequest;
@@ -111,6 +113,24 @@ public interface FileService {
      */
     long countFiles(FileListRequest request);
 
+    /**
+     * 分页列出文件
+     * <p>按请求的分页模式返回数据和总数，替代分别调用{@link #listFiles}和{@link #countFiles}</p>
+     *
+     * @param request 列表请求
+     * @return 文件分页结果
+     */
+    PageResponse<FileInfo> pageFiles(FileListRequest request);
+
+    /**
+     * 游标分页列出文件
+     * <p>不统计总数，通过返回的游标获取下一页，适合深度翻页和无限滚动</p>
+     *
+     * @param request 列表请求，首页游标为空
+     * @return 文件游标分页结果
+     */
+    CursorPageResponse<FileInfo> listFilesByCursor(FileListRequest request);
+
     // ================================ 高级功能 ================================
 
     /**
@@ -12,6 +12,9 @@ import club.slavopolis.file.repository.impl.FileInfoRepositoryImpl;
 import club.slavopolis.file.repository.impl.FileUploadSessionRepositoryImpl;
 import club.slavopolis.file.service.FileServiceImpl;
 import club.slavopolis.file.service.MultipartUploadManager;
+import club.slavopolis.persistence.jdbc.batch.WriteBehindBuffer;
+import club.slavopolis.persistence.jdbc.configuration.autoconfigure.JdbcAutoConfiguration;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -21,8 +24,6 @@ import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
@@ -39,7 +40,7 @@ import java.util.Map;
  * All rights reserved.
  */
 @Slf4j
-@AutoConfiguration(after = DataSourceAutoConfiguration.class)
+@AutoConfiguration(after = {DataSourceAutoConfiguration.class, JdbcAutoConfiguration.class})
 @EnableConfigurationProperties(CurrentSystemProperties.class)
 @ComponentScan(basePackages = {
         "club.slavopolis.file.storage",
@@ -72,8 +73,8 @@ public class FileAutoConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    public FileInfoRepository fileInfoRepository() {
-        return new FileInfoRepositoryImpl(systemProperties);
+    public FileInfoRepository fileInfoRepository(JdbcExecutionContext jdbcContext) {
+        return new FileInfoRepositoryImpl(systemProperties, jdbcContext);
     }
 
     /**
@@ -110,23 +111,35 @@ public class FileAutoConfiguration {
     @ConditionalOnMissingBean
     public MultipartUploadManager multipartUploadManager(
             Map<StorageType, FileStorageStrategy> storageStrategies,
-            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
-            DataSourceTransactionManager transactionManager,
-            TransactionDefinition defaultTransactionDefinition,
+            JdbcExecutionContext jdbcContext,
             CurrentSystemProperties systemProperties,
             FileUploadSessionRepository fileUploadSessionRepository,
             FileInfoRepository fileInfoRepository) {
         return new MultipartUploadManager(
                 storageStrategies,
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition,
+                jdbcContext,
                 systemProperties,
                 fileUploadSessionRepository,
                 fileInfoRepository
         );
     }
 
+    /**
+     * 文件访问信息写后缓冲区Bean，容器关闭时刷写剩余数据
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "fileAccessInfoBuffer")
+    public WriteBehindBuffer<String> fileAccessInfoBuffer(
+            JdbcExecutionContext jdbcContext,
+            FileInfoRepository fileInfoRepository) {
+        CurrentSystemProperties.PerformanceConfig performance = systemProperties.getFile().getPerformance();
+        return fileInfoRepository.createAccessInfoBuffer(
+                jdbcContext,
+                performance.getAccessInfoFlushInterval(),
+                performance.getAccessInfoMaxPendingFiles()
+        );
+    }
+
     /**
      * 文件服务Bean
      */
@@ -134,19 +147,17 @@ public class FileAutoConfiguration {
     @ConditionalOnMissingBean
     public FileService fileService(
             Map<StorageType, FileStorageStrategy> storageStrategies,
-            NamedParameterJdbcTemplate namedParameterJdbcTemplate,
-            DataSourceTransactionManager transactionManager,
-            TransactionDefinition defaultTransactionDefinition,
+            JdbcExecutionContext jdbcContext,
             MultipartUploadManager multipartUploadManager,
-            FileInfoRepository fileInfoRepository) {
+            FileInfoRepository fileInfoRepository,
+            WriteBehindBuffer<String> fileAccessInfoBuffer) {
         return new FileServiceImpl(
                 storageStrategies,
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition,
+                jdbcContext,
                 systemProperties,
                 multipartUploadManager,
-                fileInfoRepository
+                fileInfoRepository,
+                fileAccessInfoBuffer
         );
     }
 } 
\ No newline at end of file
@@ -6,6 +6,8 @@ import club.slavopolis.file.enums.FileStatus;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.Map;
 
@@ -21,7 +23,10 @@ import java.util.Map;
  */
 @Data
 @Accessors(chain = true)
-public class FileInfo {
+public class FileInfo implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     /**
      * 文件唯一标识
@@ -101,5 +106,6 @@ public class FileInfo {
     /**
      * 扩展信息
      */
+    @SuppressWarnings("serial")
     private Map<String, Object> extensionInfo;
 } 
\ No newline at end of file
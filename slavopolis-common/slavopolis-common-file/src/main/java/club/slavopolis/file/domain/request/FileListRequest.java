@@ -2,6 +2,7 @@ package club.slavopolis.file.domain.request;
 
 import club.slavopolis.file.enums.AccessPermission;
 import club.slavopolis.file.enums.FileStatus;
+import club.slavopolis.persistence.jdbc.enums.PageMode;
 import lombok.Data;
 import lombok.experimental.Accessors;
 
@@ -82,6 +83,16 @@ public class FileListRequest {
      */
     private Integer pageSize = 20;
 
+    /**
+     * 分页模式，默认在数据查询中一并返回总数
+     */
+    private PageMode pageMode = PageMode.WINDOW_COUNT;
+
+    /**
+     * 游标分页的游标（为空时查询第一页）
+     */
+    private String cursor;
+
     /**
      * 排序字段
      */
@@ -172,6 +183,16 @@ public class FileListRequest {
             return this;
         }
 
+        public Builder pageMode(PageMode pageMode) {
+            request.setPageMode(pageMode);
+            return this;
+        }
+
+        public Builder cursor(String cursor) {
+            request.setCursor(cursor);
+            return this;
+        }
+
         public Builder sortBy(String sortBy) {
             request.setSortBy(sortBy);
             return this;
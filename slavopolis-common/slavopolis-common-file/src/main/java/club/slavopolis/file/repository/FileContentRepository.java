@@ -2,6 +2,7 @@ package club.slavopolis.file.repository;
 
 import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -40,6 +41,7 @@ public interface FileContentRepository {
 
     /**
      * 获取文件所有分片数据
+     * <p>所有分片同时加载到内存，读取文件内容应使用{@link #openContentStream}</p>
      *
      * @param namedJdbc JDBC模板
      * @param fileId    文件ID
@@ -47,6 +49,16 @@ public interface FileContentRepository {
      */
     List<byte[]> findAllChunks(EnhancedJdbcTemplate namedJdbc, String fileId);
 
+    /**
+     * 按分片顺序以输入流读取文件内容，分片逐个从数据库拉取
+     * <p>返回的流持有数据库连接，调用方必须关闭</p>
+     *
+     * @param namedJdbc JDBC模板
+     * @param fileId    文件ID
+     * @return 文件内容输入流
+     */
+    InputStream openContentStream(EnhancedJdbcTemplate namedJdbc, String fileId);
+
     /**
      * 根据文件ID删除文件内容
      *
@@ -1,11 +1,16 @@
 package club.slavopolis.file.repository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import club.slavopolis.base.response.CursorPageResponse;
+import club.slavopolis.base.response.PageResponse;
 import club.slavopolis.file.domain.FileInfo;
 import club.slavopolis.file.domain.request.FileListRequest;
+import club.slavopolis.persistence.jdbc.batch.WriteBehindBuffer;
 import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
 
 /**
  * 文件信息数据访问接口
@@ -30,6 +35,7 @@ public interface FileInfoRepository {
 
     /**
      * 根据文件ID查询文件信息
+     * <p>启用JDBC查询结果缓存时结果可能来自缓存，返回的对象不应修改</p>
      *
      * @param namedJdbc JDBC模板
      * @param fileId    文件ID
@@ -39,6 +45,7 @@ public interface FileInfoRepository {
 
     /**
      * 根据文件哈希值查询文件信息
+     * <p>启用JDBC查询结果缓存时结果可能来自缓存，返回的对象不应修改</p>
      *
      * @param namedJdbc JDBC模板
      * @param fileHash  文件哈希值
@@ -64,6 +71,26 @@ public interface FileInfoRepository {
      */
     long countByRequest(EnhancedJdbcTemplate namedJdbc, FileListRequest request);
 
+    /**
+     * 根据查询条件分页查询文件列表
+     * <p>按{@link FileListRequest#getPageMode()}决定总数的获取方式，数据和总数尽量在一次查询中返回</p>
+     *
+     * @param namedJdbc JDBC模板
+     * @param request   查询请求
+     * @return 文件信息分页结果
+     */
+    PageResponse<FileInfo> findPageByRequest(EnhancedJdbcTemplate namedJdbc, FileListRequest request);
+
+    /**
+     * 根据查询条件游标分页查询文件列表
+     * <p>按上传时间和文件ID定位，任意页的查询开销与第一页相同</p>
+     *
+     * @param namedJdbc JDBC模板
+     * @param request   查询请求，游标取自{@link FileListRequest#getCursor()}
+     * @return 文件信息游标分页结果
+     */
+    CursorPageResponse<FileInfo> findPageByCursor(EnhancedJdbcTemplate namedJdbc, FileListRequest request);
+
     /**
      * 更新文件访问信息
      *
@@ -74,6 +101,26 @@ public interface FileInfoRepository {
      */
     boolean updateAccessInfo(EnhancedJdbcTemplate namedJdbc, String fileId, LocalDateTime accessTime);
 
+    /**
+     * 创建文件访问信息写后缓冲区
+     * <p>同一文件在一个刷写周期内的多次访问合并为一次更新：下载次数累加，最后访问时间取最后一次</p>
+     *
+     * @param jdbcContext    JDBC执行上下文
+     * @param flushInterval  刷写间隔
+     * @param maxPendingKeys 最多缓冲的文件数
+     * @return 以文件ID为键的写后缓冲区
+     */
+    WriteBehindBuffer<String> createAccessInfoBuffer(JdbcExecutionContext jdbcContext, Duration flushInterval, int maxPendingKeys);
+
+    /**
+     * 缓冲文件访问信息，由写后缓冲区异步合并刷写
+     *
+     * @param buffer     文件访问信息写后缓冲区
+     * @param fileId     文件ID
+     * @param accessTime 访问时间
+     */
+    void bufferAccessInfo(WriteBehindBuffer<String> buffer, String fileId, LocalDateTime accessTime);
+
     /**
      * 标记文件为已删除
      *
@@ -8,6 +8,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.DigestUtils;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -72,17 +73,12 @@ public class FileContentRepositoryImpl implements FileContentRepository {
             params.put("fileId", fileId);
             params.put("chunkIndex", chunkIndex);
 
-            List<Map<String, Object>> results = namedJdbc.queryForList(sql, params, systemProperties.isDebug());
-            if (results.isEmpty()) {
+            byte[] chunkData = namedJdbc.queryForBinaryStream(sql, params,
+                    stream -> stream != null ? stream.readAllBytes() : null);
+            if (chunkData == null) {
                 log.error("文件分片不存在: {}, chunkIndex: {}", fileId, chunkIndex);
-                return null;
             }
-            
-            Object chunkData = results.getFirst().get("chunk_data");
-            if (chunkData instanceof byte[] byteArray) {
-                return byteArray;
-            }
-            return null;
+            return chunkData;
             
         } catch (Exception e) {
             log.error("查询文件分片失败: {}, chunkIndex: {}", fileId, chunkIndex, e);
@@ -123,6 +119,23 @@ public class FileContentRepositoryImpl implements FileContentRepository {
         }
     }
 
+    @Override
+    public InputStream openContentStream(EnhancedJdbcTemplate namedJdbc, String fileId) {
+        log.debug("流式读取文件内容: {}", fileId);
+
+        String sql = """
+            SELECT chunk_data
+            FROM file_content
+            WHERE file_id = :fileId AND delete_flag = 0
+            ORDER BY chunk_index ASC
+            """;
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("fileId", fileId);
+
+        return namedJdbc.queryForBinaryStream(sql, params);
+    }
+
     @Override
     public boolean deleteByFileId(EnhancedJdbcTemplate namedJdbc, String fileId) {
         try {
@@ -1,21 +1,30 @@
 package club.slavopolis.file.repository.impl;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import club.slavopolis.base.properties.CurrentSystemProperties;
+import club.slavopolis.base.response.CursorPageResponse;
+import club.slavopolis.base.response.PageResponse;
 import club.slavopolis.base.utils.UniqueIdUtil;
 import club.slavopolis.file.domain.FileInfo;
 import club.slavopolis.file.domain.request.FileListRequest;
 import club.slavopolis.file.exception.FileOperationException;
 import club.slavopolis.file.repository.FileInfoRepository;
+import club.slavopolis.persistence.jdbc.batch.WriteBehindBuffer;
 import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
-import lombok.RequiredArgsConstructor;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
+import club.slavopolis.persistence.jdbc.core.PreparedQuery;
+import club.slavopolis.persistence.jdbc.enums.PageMode;
+import club.slavopolis.persistence.jdbc.enums.WriteMergeMode;
+import club.slavopolis.persistence.jdbc.page.SeekKey;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -30,11 +39,61 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @Repository
-@RequiredArgsConstructor
 public class FileInfoRepositoryImpl implements FileInfoRepository {
 
+    /**
+     * 更新文件访问信息，下载次数以增量参数累加，同步更新和写后缓冲刷写共用
+     */
+    private static final String UPDATE_ACCESS_INFO_SQL = """
+        UPDATE file_info
+        SET download_count = download_count + :downloadCount, last_access_time = :accessTime
+        WHERE file_id = :fileId AND delete_flag = 0
+        """;
+
+    /**
+     * 文件信息查询列
+     */
+    private static final String SELECT_FILE_INFO = """
+        SELECT file_id, original_name, file_size, content_type, file_hash, extension,
+               storage_type, storage_key, status, access_permission, upload_time,
+               tenant_id, download_count, last_access_time, extension_info, created_by
+        FROM file_info
+        """;
+
+    private static final String FIND_BY_ID_SQL = SELECT_FILE_INFO + "WHERE file_id = :fileId AND delete_flag = 0";
+
+    private static final String FIND_BY_HASH_SQL = SELECT_FILE_INFO + "WHERE file_hash = :fileHash AND delete_flag = 0 LIMIT 1";
+
     private final CurrentSystemProperties systemProperties;
 
+    /**
+     * 预编译查询句柄，创建时完成SQL验证并绑定行映射器
+     */
+    private final PreparedQuery<FileInfo> findByIdQuery;
+
+    private final PreparedQuery<FileInfo> findByHashQuery;
+
+    /**
+     * 列表查询句柄，按{@link ListFilter#mask()}的过滤条件组合索引，每种组合的SQL只解析一次
+     */
+    private final List<PreparedQuery<FileInfo>> listQueries;
+
+    /**
+     * 构造函数，使用执行上下文预编译查询句柄
+     *
+     * @param systemProperties 系统配置
+     * @param jdbcContext      JDBC执行上下文
+     */
+    public FileInfoRepositoryImpl(CurrentSystemProperties systemProperties, JdbcExecutionContext jdbcContext) {
+        this.systemProperties = systemProperties;
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        this.findByIdQuery = namedJdbc.prepare(FIND_BY_ID_SQL, FileInfo.class);
+        this.findByHashQuery = namedJdbc.prepare(FIND_BY_HASH_SQL, FileInfo.class);
+        this.listQueries = IntStream.range(0, 1 << 3)
+                .mapToObj(mask -> namedJdbc.prepare(buildListSql(mask), FileInfo.class))
+                .toList();
+    }
+
     @Override
     public FileInfo save(EnhancedJdbcTemplate namedJdbc, FileInfo fileInfo) {
         try {
@@ -77,18 +136,8 @@ public class FileInfoRepositoryImpl implements FileInfoRepository {
     @Override
     public FileInfo findById(EnhancedJdbcTemplate namedJdbc, String fileId) {
         try {
-            String sql = """
-                SELECT file_id, original_name, file_size, content_type, file_hash, extension,
-                       storage_type, storage_key, status, access_permission, upload_time,
-                       tenant_id, download_count, last_access_time, extension_info, created_by
-                FROM file_info
-                WHERE file_id = :fileId AND delete_flag = 0
-                """;
-                
-            Map<String, Object> params = new HashMap<>();
-            params.put("fileId", fileId);
-            
-            List<FileInfo> results = namedJdbc.queryForList(sql, params, FileInfo.class, systemProperties.isDebug());
+            // 启用查询结果缓存时命中缓存，file_info被写入后自动失效
+            List<FileInfo> results = namedJdbc.queryForListCached(findByIdQuery, fileId);
             return results.isEmpty() ? null : results.getFirst();
             
         } catch (Exception e) {
@@ -100,19 +149,7 @@ public class FileInfoRepositoryImpl implements FileInfoRepository {
     @Override
     public FileInfo findByHash(EnhancedJdbcTemplate namedJdbc, String fileHash) {
         try {
-            String sql = """
-                SELECT file_id, original_name, file_size, content_type, file_hash, extension,
-                       storage_type, storage_key, status, access_permission, upload_time,
-                       tenant_id, download_count, last_access_time, extension_info, created_by
-                FROM file_info
-                WHERE file_hash = :fileHash AND delete_flag = 0
-                LIMIT 1
-                """;
-                
-            Map<String, Object> params = new HashMap<>();
-            params.put("fileHash", fileHash);
-            
-            List<FileInfo> results = namedJdbc.queryForList(sql, params, FileInfo.class, systemProperties.isDebug());
+            List<FileInfo> results = namedJdbc.queryForListCached(findByHashQuery, fileHash);
             return results.isEmpty() ? null : results.getFirst();
             
         } catch (Exception e) {
@@ -124,27 +161,12 @@ public class FileInfoRepositoryImpl implements FileInfoRepository {
     @Override
     public List<FileInfo> findByRequest(EnhancedJdbcTemplate namedJdbc, FileListRequest request) {
         try {
-            StringBuilder sql = new StringBuilder();
-            sql.append("""
-                SELECT file_id, original_name, file_size, content_type, file_hash, extension,
-                       storage_type, storage_key, status, access_permission, upload_time,
-                       tenant_id, download_count, last_access_time, extension_info, created_by
-                FROM file_info
-                WHERE delete_flag = 0
-                """);
-            
-            Map<String, Object> params = buildQueryParams(request);
-            appendQueryConditions(sql, request);
-            
-            // 添加排序
-            sql.append(" ORDER BY upload_time DESC");
-            
-            // 添加分页
-            sql.append(" LIMIT :limit OFFSET :offset");
-            params.put("limit", request.getPageSize());
-            params.put("offset", (request.getPageNumber() - 1) * request.getPageSize());
+            ListFilter filter = ListFilter.of(request);
+            PreparedQuery<FileInfo> query = listQueries.get(filter.mask());
 
-            return namedJdbc.queryForList(sql.toString(), params, FileInfo.class, systemProperties.isDebug());
+            // 只需要当前页数据，不统计总数；分页SQL以参数绑定行数和偏移量，不同页码共用同一条SQL
+            return namedJdbc.queryForPage(query, request.getPageNumber(), request.getPageSize(),
+                    PageMode.HAS_NEXT, query.bindRecord(filter)).getData();
             
         } catch (Exception e) {
             log.error("根据条件查询文件列表失败", e);
@@ -155,14 +177,9 @@ public class FileInfoRepositoryImpl implements FileInfoRepository {
     @Override
     public long countByRequest(EnhancedJdbcTemplate namedJdbc, FileListRequest request) {
         try {
-            StringBuilder sql = new StringBuilder();
-            sql.append("SELECT COUNT(*) FROM file_info WHERE delete_flag = 0");
-            
-            Map<String, Object> params = buildQueryParams(request);
-            appendQueryConditions(sql, request);
-
-            Long count = namedJdbc.queryForLong(sql.toString(), params, systemProperties.isDebug());
-            return count != null ? count : 0L;
+            ListFilter filter = ListFilter.of(request);
+            PreparedQuery<FileInfo> query = listQueries.get(filter.mask());
+            return namedJdbc.queryForCount(query, query.bindRecord(filter));
             
         } catch (Exception e) {
             log.error("根据条件统计文件总数失败", e);
@@ -170,64 +187,58 @@ public class FileInfoRepositoryImpl implements FileInfoRepository {
         }
     }
 
-    /**
-     * 构建查询参数
-     */
-    private Map<String, Object> buildQueryParams(FileListRequest request) {
-        Map<String, Object> params = new HashMap<>();
-        
-        // 添加文件名过滤条件
-        if (StringUtils.hasText(request.getFileName())) {
-            params.put("fileName", "%" + request.getFileName() + "%");
-        }
-        
-        // 添加租户ID过滤条件
-        if (StringUtils.hasText(request.getTenantId())) {
-            params.put("tenantId", request.getTenantId());
-        }
-        
-        // 添加创建者过滤条件
-        if (StringUtils.hasText(request.getCreatedBy())) {
-            params.put("createdBy", request.getCreatedBy());
-        }
-        
-        return params;
+    @Override
+    public PageResponse<FileInfo> findPageByRequest(EnhancedJdbcTemplate namedJdbc, FileListRequest request) {
+        ListFilter filter = ListFilter.of(request);
+        PreparedQuery<FileInfo> query = listQueries.get(filter.mask());
+        return namedJdbc.queryForPage(query, request.getPageNumber(), request.getPageSize(), request.getPageMode(),
+                query.bindRecord(filter));
+    }
+
+    @Override
+    public CursorPageResponse<FileInfo> findPageByCursor(EnhancedJdbcTemplate namedJdbc, FileListRequest request) {
+        ListFilter filter = ListFilter.of(request);
+        PreparedQuery<FileInfo> query = listQueries.get(filter.mask());
+
+        // 列表查询的ORDER BY由游标分页按排序键重新生成；上传时间可能重复，以文件ID作为唯一的次排序键
+        List<SeekKey> keys = List.of(
+                SeekKey.of("upload_time", request.getSortDirection()),
+                SeekKey.of("file_id", request.getSortDirection()));
+
+        return namedJdbc.queryForCursorPage(query.getSql(), query.bindRecord(filter), FileInfo.class, keys,
+                request.getCursor(), request.getPageSize());
     }
 
     /**
-     * 添加查询条件
+     * 构建列表查询SQL
+     *
+     * @param mask 过滤条件组合，见{@link ListFilter#mask()}
+     * @return 列表查询SQL
      */
-    private void appendQueryConditions(StringBuilder sql, FileListRequest request) {
-        // 添加文件名过滤条件
-        if (StringUtils.hasText(request.getFileName())) {
+    private static String buildListSql(int mask) {
+        StringBuilder sql = new StringBuilder(SELECT_FILE_INFO).append("WHERE delete_flag = 0");
+        if ((mask & ListFilter.FILE_NAME) != 0) {
             sql.append(" AND original_name LIKE :fileName");
         }
-        
-        // 添加租户ID过滤条件
-        if (StringUtils.hasText(request.getTenantId())) {
+        if ((mask & ListFilter.TENANT_ID) != 0) {
             sql.append(" AND tenant_id = :tenantId");
         }
-        
-        // 添加创建者过滤条件
-        if (StringUtils.hasText(request.getCreatedBy())) {
+        if ((mask & ListFilter.CREATED_BY) != 0) {
             sql.append(" AND created_by = :createdBy");
         }
+        sql.append(" ORDER BY upload_time DESC");
+        return sql.toString();
     }
 
     @Override
     public boolean updateAccessInfo(EnhancedJdbcTemplate namedJdbc, String fileId, LocalDateTime accessTime) {
         try {
-            String sql = """
-                UPDATE file_info
-                SET download_count = download_count + 1, last_access_time = :accessTime
-                WHERE file_id = :fileId AND delete_flag = 0
-                """;
-                
             Map<String, Object> params = new HashMap<>();
             params.put("fileId", fileId);
+            params.put("downloadCount", 1);
             params.put("accessTime", accessTime);
             
-            int rows = namedJdbc.update(sql, params, systemProperties.isDebug());
+            int rows = namedJdbc.update(UPDATE_ACCESS_INFO_SQL, params, systemProperties.isDebug());
             return rows > 0;
             
         } catch (Exception e) {
@@ -236,6 +247,27 @@ public class FileInfoRepositoryImpl implements FileInfoRepository {
         }
     }
 
+    @Override
+    public WriteBehindBuffer<String> createAccessInfoBuffer(JdbcExecutionContext jdbcContext, Duration flushInterval, int maxPendingKeys) {
+        return WriteBehindBuffer.<String>builder("file-access-info")
+                .sql(UPDATE_ACCESS_INFO_SQL)
+                .keyParameter("fileId")
+                .merge("downloadCount", WriteMergeMode.ADDITIVE)
+                .merge("accessTime", WriteMergeMode.LAST_WRITE_WINS)
+                .flushThreshold(Math.min(WriteBehindBuffer.DEFAULT_FLUSH_THRESHOLD, maxPendingKeys))
+                .maxPendingKeys(maxPendingKeys)
+                .flushInterval(flushInterval)
+                .build(jdbcContext);
+    }
+
+    @Override
+    public void bufferAccessInfo(WriteBehindBuffer<String> buffer, String fileId, LocalDateTime accessTime) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("downloadCount", 1);
+        params.put("accessTime", accessTime);
+        buffer.submit(fileId, params);
+    }
+
     @Override
     public boolean markAsDeleted(EnhancedJdbcTemplate namedJdbc, String fileId) {
         try {
@@ -325,4 +357,32 @@ public class FileInfoRepositoryImpl implements FileInfoRepository {
             return false;
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * 列表查询过滤条件，未设置的条件为null，按组件名绑定到列表查询句柄
+     */
+    private record ListFilter(String fileName, String tenantId, String createdBy) {
+
+        private static final int FILE_NAME = 1;
+
+        private static final int TENANT_ID = 1 << 1;
+
+        private static final int CREATED_BY = 1 << 2;
+
+        private static ListFilter of(FileListRequest request) {
+            return new ListFilter(
+                    StringUtils.hasText(request.getFileName()) ? "%" + request.getFileName() + "%" : null,
+                    StringUtils.hasText(request.getTenantId()) ? request.getTenantId() : null,
+                    StringUtils.hasText(request.getCreatedBy()) ? request.getCreatedBy() : null);
+        }
+
+        /**
+         * 已设置的过滤条件组合
+         */
+        private int mask() {
+            return (fileName != null ? FILE_NAME : 0)
+                    | (tenantId != null ? TENANT_ID : 0)
+                    | (createdBy != null ? CREATED_BY : 0);
+        }
+    }
+}
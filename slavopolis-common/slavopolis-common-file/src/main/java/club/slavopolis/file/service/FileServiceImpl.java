@@ -9,15 +9,14 @@ import java.util.UUID;
 
 import org.apache.tika.Tika;
 import org.springframework.http.HttpMethod;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.TransactionDefinition;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
 import club.slavopolis.base.enums.StorageType;
 import club.slavopolis.base.properties.CurrentSystemProperties;
+import club.slavopolis.base.response.CursorPageResponse;
+import club.slavopolis.base.response.PageResponse;
 import club.slavopolis.file.api.FileService;
 import club.slavopolis.file.api.FileStorageStrategy;
 import club.slavopolis.file.constant.FileConstants;
@@ -33,7 +32,9 @@ import club.slavopolis.file.enums.UploadMethod;
 import club.slavopolis.file.exception.FileOperationException;
 import club.slavopolis.file.repository.FileInfoRepository;
 import club.slavopolis.file.util.FileUtils;
+import club.slavopolis.persistence.jdbc.batch.WriteBehindBuffer;
 import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
 import club.slavopolis.persistence.jdbc.transaction.TransactionStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -54,12 +55,11 @@ import lombok.extern.slf4j.Slf4j;
 public class FileServiceImpl implements FileService {
 
     private final Map<StorageType, FileStorageStrategy> storageStrategies;
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final DataSourceTransactionManager transactionManager;
-    private final TransactionDefinition defaultTransactionDefinition;
+    private final JdbcExecutionContext jdbcContext;
     private final CurrentSystemProperties systemProperties;
     private final MultipartUploadManager multipartUploadManager;
     private final FileInfoRepository fileInfoRepository;
+    private final WriteBehindBuffer<String> accessInfoBuffer;
     private final Tika tika = new Tika();
 
     // ================================ 基础操作 ================================
@@ -68,12 +68,8 @@ public class FileServiceImpl implements FileService {
     public FileUploadResult upload(FileUploadRequest request) {
         log.debug("开始上传文件: {}", request.getOriginalName());
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 验证文件
@@ -168,12 +164,8 @@ public class FileServiceImpl implements FileService {
     public boolean delete(String fileId) {
         log.debug("开始删除文件: {}", fileId);
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 查询文件信息
@@ -265,7 +257,7 @@ public class FileServiceImpl implements FileService {
     @Override
     public FileInfo getFileInfo(String fileId) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return fileInfoRepository.findById(namedJdbc, fileId);
         } catch (Exception e) {
             log.error("查询文件信息失败: {}", fileId, e);
@@ -276,7 +268,7 @@ public class FileServiceImpl implements FileService {
     @Override
     public List<FileInfo> listFiles(FileListRequest request) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return fileInfoRepository.findByRequest(namedJdbc, request);
         } catch (Exception e) {
             log.error("查询文件列表失败", e);
@@ -291,7 +283,7 @@ public class FileServiceImpl implements FileService {
     @Override
     public long countFiles(FileListRequest request) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return fileInfoRepository.countByRequest(namedJdbc, request);
         } catch (Exception e) {
             log.error("统计文件总数失败", e);
@@ -303,6 +295,36 @@ public class FileServiceImpl implements FileService {
         }
     }
 
+    @Override
+    public PageResponse<FileInfo> pageFiles(FileListRequest request) {
+        try {
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+            return fileInfoRepository.findPageByRequest(namedJdbc, request);
+        } catch (Exception e) {
+            log.error("分页查询文件列表失败", e);
+            throw new FileOperationException(
+                FileConstants.DOWNLOAD_FAILED, 
+                "查询文件列表失败: " + e.getMessage(), 
+                e
+            );
+        }
+    }
+
+    @Override
+    public CursorPageResponse<FileInfo> listFilesByCursor(FileListRequest request) {
+        try {
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+            return fileInfoRepository.findPageByCursor(namedJdbc, request);
+        } catch (Exception e) {
+            log.error("游标分页查询文件列表失败", e);
+            throw new FileOperationException(
+                FileConstants.DOWNLOAD_FAILED, 
+                "查询文件列表失败: " + e.getMessage(), 
+                e
+            );
+        }
+    }
+
     // ================================ 高级功能 ================================
 
     @Override
@@ -346,12 +368,8 @@ public class FileServiceImpl implements FileService {
     public String copyFile(String sourceFileId, String targetPath) {
         log.debug("复制文件: {} -> {}", sourceFileId, targetPath);
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 查询源文件信息
@@ -406,12 +424,8 @@ public class FileServiceImpl implements FileService {
     public boolean moveFile(String fileId, String targetPath) {
         log.debug("移动文件: {} -> {}", fileId, targetPath);
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 查询文件信息
@@ -515,7 +529,7 @@ public class FileServiceImpl implements FileService {
      */
     private FileInfo findFileByHash(String fileHash) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return fileInfoRepository.findByHash(namedJdbc, fileHash);
         } catch (Exception e) {
             log.error("根据哈希值查找文件失败: {}", fileHash, e);
@@ -646,11 +660,11 @@ public class FileServiceImpl implements FileService {
 
     /**
      * 更新文件访问信息
+     * <p>热点文件的每次下载不再直接更新数据库，由写后缓冲区按文件合并后批量刷写</p>
      */
     private void updateFileAccessInfo(FileInfo fileInfo) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
-            fileInfoRepository.updateAccessInfo(namedJdbc, fileInfo.getFileId(), LocalDateTime.now());
+            fileInfoRepository.bufferAccessInfo(accessInfoBuffer, fileInfo.getFileId(), LocalDateTime.now());
         } catch (Exception e) {
             log.warn("更新文件访问信息失败: {}", fileInfo.getFileId(), e);
         }
@@ -19,15 +19,13 @@ import club.slavopolis.file.repository.FileUploadSessionRepository;
 import club.slavopolis.file.exception.FileOperationException;
 import club.slavopolis.file.util.FileUtils;
 import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
 import club.slavopolis.persistence.jdbc.transaction.TransactionStatus;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.TransactionDefinition;
 import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 
@@ -59,9 +57,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class MultipartUploadManager {
 
     private final Map<StorageType, FileStorageStrategy> storageStrategies;
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final DataSourceTransactionManager transactionManager;
-    private final TransactionDefinition defaultTransactionDefinition;
+    private final JdbcExecutionContext jdbcContext;
     private final CurrentSystemProperties systemProperties;
     private final FileUploadSessionRepository fileUploadSessionRepository;
     private final FileInfoRepository fileInfoRepository;
@@ -86,12 +82,8 @@ public class MultipartUploadManager {
     public String initializeMultipartUpload(FileUploadRequest request) {
         log.debug("初始化分片上传: {}", request.getOriginalName());
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 验证请求
@@ -158,12 +150,8 @@ public class MultipartUploadManager {
     public ChunkUploadResult uploadChunk(ChunkUploadRequest request) {
         log.debug("上传分片: uploadId={}, chunkIndex={}", request.getUploadId(), request.getChunkIndex());
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 获取上传会话
@@ -224,12 +212,8 @@ public class MultipartUploadManager {
     public FileUploadResult completeUpload(String uploadId) {
         log.debug("完成分片上传: uploadId={}", uploadId);
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 获取上传会话
@@ -304,12 +288,8 @@ public class MultipartUploadManager {
     public void abortUpload(String uploadId) {
         log.debug("取消分片上传: uploadId={}", uploadId);
         
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 1. 标记上传会话为取消状态
@@ -364,7 +344,7 @@ public class MultipartUploadManager {
      */
     private UploadSession loadUploadSessionFromDatabase(String uploadId) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             FileUploadSession sessionData = fileUploadSessionRepository.findById(namedJdbc, uploadId);
             if (sessionData == null) {
                 return null;
@@ -537,7 +517,7 @@ public class MultipartUploadManager {
      */
     private FileInfo getFileInfo(String fileId) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return fileInfoRepository.findById(namedJdbc, fileId);
         } catch (Exception e) {
             log.error("查询文件信息失败: {}", fileId, e);
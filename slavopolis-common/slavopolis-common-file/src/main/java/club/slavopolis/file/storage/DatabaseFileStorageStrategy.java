@@ -8,19 +8,16 @@ import club.slavopolis.file.domain.FileMetadata;
 import club.slavopolis.file.exception.FileOperationException;
 import club.slavopolis.file.repository.FileContentRepository;
 import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
 import club.slavopolis.persistence.jdbc.transaction.TransactionStatus;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.http.HttpMethod;
-import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.DigestUtils;
 
-import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.security.MessageDigest;
 import java.time.Duration;
@@ -45,9 +42,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @ConditionalOnProperty(name = "biz.file.storage.type", havingValue = "DATABASE")
 public class DatabaseFileStorageStrategy implements FileStorageStrategy {
 
-    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
-    private final DataSourceTransactionManager transactionManager;
-    private final TransactionDefinition defaultTransactionDefinition;
+    private final JdbcExecutionContext jdbcContext;
     private final CurrentSystemProperties systemProperties;
     private final FileContentRepository fileContentRepository;
 
@@ -85,12 +80,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     public String store(String key, InputStream inputStream, FileMetadata metadata) {
         log.debug("开始上传文件到数据库: {}", key);
 
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
 
         try {
             // 删除已存在的文件内容
@@ -146,30 +137,20 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     @Override
     public InputStream retrieve(String key) {
         log.debug("开始从数据库下载文件: {}", key);
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
         
         try {
-            // 查询所有分片，按分片索引排序
-            List<byte[]> chunks = fileContentRepository.findAllChunks(namedJdbc, key);
-            if (chunks.isEmpty()) {
+            if (!fileContentRepository.existsByFileId(namedJdbc, key)) {
                 throw new FileOperationException(
                     FileConstants.FILE_NOT_FOUND, 
                     "文件不存在: " + key
                 );
             }
             
-            // 合并所有分片
-            int totalSize = chunks.stream().mapToInt(chunk -> chunk.length).sum();
-            byte[] fileData = new byte[totalSize];
-            int offset = 0;
-            
-            for (byte[] chunk : chunks) {
-                System.arraycopy(chunk, 0, fileData, offset, chunk.length);
-                offset += chunk.length;
-            }
-            
-            log.debug("文件下载成功，共{}个分片，{}字节: {}", chunks.size(), totalSize, key);
-            return new ByteArrayInputStream(fileData);
+            // 按分片索引顺序逐个拉取分片，流关闭时释放连接
+            InputStream content = fileContentRepository.openContentStream(namedJdbc, key);
+            log.debug("文件内容流已打开: {}", key);
+            return content;
             
         } catch (FileOperationException e) {
             throw e;
@@ -194,12 +175,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     public boolean delete(String key) {
         log.debug("开始删除数据库文件: {}", key);
 
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             deleteFileContent(namedJdbc, key);
@@ -223,7 +200,7 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     @Override
     public boolean exists(String key) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return fileContentRepository.existsByFileId(namedJdbc, key);
         } catch (Exception e) {
             log.error("检查文件存在性失败: {}", key, e);
@@ -244,12 +221,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     public String initializeMultipartUpload(String key, FileMetadata metadata) {
         log.debug("初始化数据库分片上传: {}", key);
 
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
 
         try {
             String uploadId = generateUploadId();
@@ -285,12 +258,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     public String uploadChunk(String uploadId, int chunkIndex, InputStream inputStream) {
         log.debug("上传分片: {} - {}", uploadId, chunkIndex);
 
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             MultipartUploadSession session = getAndValidateSession(uploadId);
@@ -375,12 +344,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     public boolean abortMultipartUpload(String uploadId) {
         log.debug("取消数据库分片上传: {}", uploadId);
 
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             MultipartUploadSession session = uploadSessions.get(uploadId);
@@ -422,7 +387,7 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
             Map<String, Object> params = new HashMap<>();
             params.put("fileId", key);
 
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return namedJdbc.queryForObject(sql, params, FileMetadata.class, systemProperties.isDebug());
             
         } catch (Exception e) {
@@ -444,12 +409,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
      */
     @Override
     public boolean updateMetadata(String key, FileMetadata metadata) {
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
 
         try {
             String sql = """
@@ -504,12 +465,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     public boolean copyFile(String sourceKey, String targetKey) {
         log.debug("复制数据库文件: {} -> {}", sourceKey, targetKey);
 
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 检查源文件是否存在
@@ -550,12 +507,8 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     public boolean moveFile(String sourceKey, String targetKey) {
         log.debug("移动数据库文件: {} -> {}", sourceKey, targetKey);
 
-        EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(
-                namedParameterJdbcTemplate,
-                transactionManager,
-                defaultTransactionDefinition
-        );
-        TransactionStatus transactionStatus = namedJdbc.getTransactionStatus();
+        EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
+        TransactionStatus transactionStatus = namedJdbc.beginTransaction();
         
         try {
             // 检查源文件是否存在
@@ -594,7 +547,7 @@ public class DatabaseFileStorageStrategy implements FileStorageStrategy {
     @Override
     public long getFileSize(String key) {
         try {
-            EnhancedJdbcTemplate namedJdbc = new EnhancedJdbcTemplate(namedParameterJdbcTemplate);
+            EnhancedJdbcTemplate namedJdbc = jdbcContext.newHandle();
             return fileContentRepository.getTotalSize(namedJdbc, key);
         } catch (Exception e) {
             log.error("获取文件大小失败: {}", key, e);
@@ -44,4 +44,16 @@ public class JdbcConstant {
     public static final String INSERT = "INSERT";
     public static final String UPDATE = "UPDATE";
     public static final String DELETE = "DELETE";
+
+    //============================ 分页 ============================
+
+    /**
+     * 窗口计数分页的总数列名
+     */
+    public static final String WINDOW_TOTAL_COLUMN = "_total_count";
+
+    /**
+     * 游标分页键值参数名前缀
+     */
+    public static final String SEEK_PARAM_PREFIX = "_seekKey";
 }
@@ -0,0 +1,339 @@
+package club.slavopolis.persistence.jdbc.async;
+
+import club.slavopolis.base.response.PageResponse;
+import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
+import club.slavopolis.persistence.jdbc.deadline.DeadlineContext;
+import club.slavopolis.persistence.jdbc.enums.PageMode;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 异步JDBC模板
+ * <p>在虚拟线程上执行查询并返回{@link CompletableFuture}，用于并发执行相互独立的查询，例如同时查询文件信息、统计和上传会话</p>
+ * <p>每个任务在独立的{@link EnhancedJdbcTemplate}句柄上执行，SQL验证和执行监控与同步调用完全一致；
+ * 任务在其他线程执行，不参与调用方线程上的事务</p>
+ * <p>所有任务经过{@link JdbcBulkheadGroup}限流，每个目标数据源上同时执行的任务数不超过其连接池大小；
+ * 启用读写分离时查询方法按选定从库的舱壁限流，{@link #update}和通用任务按主库舱壁限流</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class AsyncJdbcTemplate implements AutoCloseable {
+
+    private final JdbcExecutionContext context;
+
+    /**
+     * 数据源舱壁组
+     */
+    @Getter
+    private final JdbcBulkheadGroup bulkheads;
+
+    private final ExecutorService executor;
+
+    /**
+     * 执行器是否由本实例创建并负责关闭
+     */
+    private final boolean ownsExecutor;
+
+    /**
+     * 构造函数，使用每任务一个虚拟线程的执行器
+     *
+     * @param context  JDBC执行上下文
+     * @param bulkhead 数据源舱壁
+     */
+    public AsyncJdbcTemplate(JdbcExecutionContext context, JdbcBulkhead bulkhead) {
+        this(context, JdbcBulkheadGroup.of(bulkhead));
+    }
+
+    /**
+     * 构造函数，按目标数据源分别限流，使用每任务一个虚拟线程的执行器
+     *
+     * @param context   JDBC执行上下文
+     * @param bulkheads 数据源舱壁组
+     */
+    public AsyncJdbcTemplate(JdbcExecutionContext context, JdbcBulkheadGroup bulkheads) {
+        this(context, bulkheads, Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("slavopolis-jdbc-async-", 0).factory()), true);
+    }
+
+    /**
+     * 构造函数，使用指定的执行器
+     *
+     * @param context  JDBC执行上下文
+     * @param bulkhead 数据源舱壁
+     * @param executor 执行器，由调用方负责关闭
+     */
+    public AsyncJdbcTemplate(JdbcExecutionContext context, JdbcBulkhead bulkhead, ExecutorService executor) {
+        this(context, JdbcBulkheadGroup.of(bulkhead), executor, false);
+    }
+
+    /**
+     * 构造函数，按目标数据源分别限流，使用指定的执行器
+     *
+     * @param context   JDBC执行上下文
+     * @param bulkheads 数据源舱壁组
+     * @param executor  执行器，由调用方负责关闭
+     */
+    public AsyncJdbcTemplate(JdbcExecutionContext context, JdbcBulkheadGroup bulkheads, ExecutorService executor) {
+        this(context, bulkheads, executor, false);
+    }
+
+    private AsyncJdbcTemplate(JdbcExecutionContext context, JdbcBulkheadGroup bulkheads, ExecutorService executor, boolean ownsExecutor) {
+        Assert.notNull(context, "JdbcExecutionContext 不能为空");
+        Assert.notNull(bulkheads, "JdbcBulkheadGroup cannot be null");
+        Assert.notNull(executor, "Executor cannot be null");
+        this.context = context;
+        this.bulkheads = bulkheads;
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+    }
+
+    // ================================
+    // 通用异步执行
+    // ================================
+
+    /**
+     * 异步执行操作
+     * <p>调用线程绑定了{@link DeadlineContext}时，任务在同一截止时间内执行，请求中止时一并取消</p>
+     * <p>操作可能包含写入，按主库舱壁限流</p>
+     *
+     * @param <T>    返回类型
+     * @param action 在JDBC句柄上执行的操作
+     * @return 操作结果
+     */
+    public <T> CompletableFuture<T> supplyAsync(Function<? super EnhancedJdbcTemplate, ? extends T> action) {
+        Assert.notNull(action, "Action cannot be null");
+        return submit(() -> bulkheads.execute(() -> action.apply(context.newHandle())));
+    }
+
+    /**
+     * 异步执行无返回值的操作
+     *
+     * @param action 在JDBC句柄上执行的操作
+     * @return 操作完成信号
+     */
+    public CompletableFuture<Void> runAsync(Consumer<? super EnhancedJdbcTemplate> action) {
+        Assert.notNull(action, "Action cannot be null");
+        return supplyAsync(jdbc -> {
+            action.accept(jdbc);
+            return null;
+        });
+    }
+
+    // ================================
+    // 异步查询
+    // ================================
+
+    /**
+     * 异步查询单个长整数值
+     *
+     * @param sql    SQL查询语句
+     * @param params 命名参数
+     * @return 查询结果
+     */
+    public CompletableFuture<Long> queryForLong(String sql, Map<String, Object> params) {
+        return readAsync(jdbc -> jdbc.queryForLong(sql, params));
+    }
+
+    /**
+     * 异步统计查询
+     *
+     * @param sql    SQL查询语句
+     * @param params 命名参数
+     * @return 统计结果
+     */
+    public CompletableFuture<Integer> queryForCount(String sql, Map<String, Object> params) {
+        return readAsync(jdbc -> jdbc.queryForCount(sql, params));
+    }
+
+    /**
+     * 异步查询单个对象
+     *
+     * @param <T>          目标类型
+     * @param sql          SQL查询语句
+     * @param params       命名参数
+     * @param requiredType 目标类型
+     * @return 查询结果
+     */
+    public <T> CompletableFuture<Optional<T>> queryForOptional(String sql, Map<String, Object> params, Class<T> requiredType) {
+        return readAsync(jdbc -> jdbc.queryForOptional(sql, params, requiredType));
+    }
+
+    /**
+     * 异步查询Map列表
+     *
+     * @param sql    SQL查询语句
+     * @param params 命名参数
+     * @return 查询结果
+     */
+    public CompletableFuture<List<Map<String, Object>>> queryForList(String sql, Map<String, Object> params) {
+        return readAsync(jdbc -> jdbc.queryForList(sql, params));
+    }
+
+    /**
+     * 异步查询对象列表
+     *
+     * @param <T>          目标类型
+     * @param sql          SQL查询语句
+     * @param params       命名参数
+     * @param requiredType 目标类型
+     * @return 查询结果
+     */
+    public <T> CompletableFuture<List<T>> queryForList(String sql, Map<String, Object> params, Class<T> requiredType) {
+        return readAsync(jdbc -> jdbc.queryForList(sql, params, requiredType));
+    }
+
+    /**
+     * 异步分页查询
+     *
+     * @param <T>          目标类型
+     * @param sql          SQL查询语句
+     * @param params       命名参数
+     * @param requiredType 目标类型
+     * @param pageNum      页码（从1开始）
+     * @param pageSize     每页大小
+     * @param mode         分页模式
+     * @return 分页结果
+     */
+    public <T> CompletableFuture<PageResponse<T>> queryForPage(String sql, Map<String, Object> params, Class<T> requiredType,
+                                                              int pageNum, int pageSize, PageMode mode) {
+        return readAsync(jdbc -> jdbc.queryForPage(sql, params, requiredType, pageNum, pageSize, mode));
+    }
+
+    /**
+     * 异步执行更新
+     *
+     * @param sql    SQL更新语句
+     * @param params 命名参数
+     * @return 影响行数
+     */
+    public CompletableFuture<Integer> update(String sql, Map<String, Object> params) {
+        return supplyAsync(jdbc -> jdbc.update(sql, params));
+    }
+
+    // ================================
+    // 并发扇出
+    // ================================
+
+    /**
+     * 并发执行一组同类型的查询
+     *
+     * @param <T>     返回类型
+     * @param actions 查询操作
+     * @return 按提交顺序排列的结果，任一查询失败时以该异常完成
+     */
+    public <T> CompletableFuture<List<T>> supplyAll(List<? extends Function<? super EnhancedJdbcTemplate, ? extends T>> actions) {
+        Assert.notNull(actions, "Actions cannot be null");
+        List<CompletableFuture<T>> futures = new ArrayList<>(actions.size());
+        for (Function<? super EnhancedJdbcTemplate, ? extends T> action : actions) {
+            futures.add(supplyAsync(action));
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    List<T> results = new ArrayList<>(futures.size());
+                    for (CompletableFuture<T> future : futures) {
+                        results.add(future.join());
+                    }
+                    return results;
+                });
+    }
+
+    /**
+     * 创建扇出任务组
+     * <p>用于并发执行返回类型不同的查询：</p>
+     * <pre>{@code
+     * FanOut fanOut = asyncJdbc.fanOut();
+     * CompletableFuture<FileInfo> info = fanOut.submit(jdbc -> repository.findById(jdbc, fileId));
+     * CompletableFuture<Long> count = fanOut.submit(jdbc -> jdbc.queryForLong(countSql, params));
+     * fanOut.join();
+     * }</pre>
+     *
+     * @return 扇出任务组
+     */
+    public FanOut fanOut() {
+        return new FanOut();
+    }
+
+    /**
+     * 异步执行只读操作，按读取目标的舱壁限流
+     */
+    private <T> CompletableFuture<T> readAsync(Function<? super EnhancedJdbcTemplate, ? extends T> action) {
+        return submit(() -> bulkheads.executeRead(() -> action.apply(context.newHandle())));
+    }
+
+    /**
+     * 提交任务，调用方的截止时间随任务传递到执行线程
+     */
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        DeadlineContext deadline = DeadlineContext.current();
+        if (deadline == null) {
+            return CompletableFuture.supplyAsync(task, executor);
+        }
+        return CompletableFuture.supplyAsync(() -> deadline.call(task), executor);
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor) {
+            executor.close();
+        }
+    }
+
+    /**
+     * 扇出任务组
+     * <p>非线程安全，应在同一线程内提交任务并等待</p>
+     */
+    public final class FanOut {
+
+        private final List<CompletableFuture<?>> futures = new ArrayList<>();
+
+        private FanOut() {
+        }
+
+        /**
+         * 提交查询
+         *
+         * @param <T>    返回类型
+         * @param action 查询操作
+         * @return 查询结果
+         */
+        public <T> CompletableFuture<T> submit(Function<? super EnhancedJdbcTemplate, ? extends T> action) {
+            CompletableFuture<T> future = supplyAsync(action);
+            futures.add(future);
+            return future;
+        }
+
+        /**
+         * 等待所有查询完成
+         *
+         * @throws RuntimeException 任一查询失败时抛出其原始异常
+         */
+        public void join() {
+            try {
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package club.slavopolis.persistence.jdbc.async;
+
+import club.slavopolis.persistence.jdbc.exception.DataAccessException;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 数据源舱壁
+ * <p>以信号量限制同一数据源上并发执行的异步任务数，许可数与连接池大小一致；虚拟线程在信号量上等待的开销很小，
+ * 超出连接池容量的任务在此排队，而不是大量堆积在连接池的获取连接等待中</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class JdbcBulkhead {
+
+    /**
+     * 无法获取连接池大小时的默认许可数
+     */
+    public static final int DEFAULT_PERMITS = 10;
+
+    private final Semaphore semaphore;
+
+    /**
+     * 许可数
+     */
+    @Getter
+    private final int permits;
+
+    /**
+     * 获取许可的最长等待时间
+     */
+    @Getter
+    private final Duration acquireTimeout;
+
+    /**
+     * 构造函数
+     *
+     * @param permits        许可数
+     * @param acquireTimeout 获取许可的最长等待时间
+     */
+    public JdbcBulkhead(int permits, Duration acquireTimeout) {
+        Assert.isTrue(permits > 0, "Bulkhead permits must be positive");
+        Assert.notNull(acquireTimeout, "Acquire timeout cannot be null");
+        this.permits = permits;
+        this.acquireTimeout = acquireTimeout;
+        this.semaphore = new Semaphore(permits, true);
+    }
+
+    /**
+     * 按数据源的连接池大小创建舱壁
+     * <p>数据源为HikariCP连接池（或可解包为HikariCP）时取最大连接数，否则使用{@link #DEFAULT_PERMITS}</p>
+     *
+     * @param dataSource     数据源
+     * @param acquireTimeout 获取许可的最长等待时间
+     * @return 数据源舱壁
+     */
+    public static JdbcBulkhead forDataSource(DataSource dataSource, Duration acquireTimeout) {
+        int poolSize = resolvePoolSize(dataSource);
+        log.debug("Created JDBC bulkhead with {} permits for data source {}", poolSize, dataSource);
+        return new JdbcBulkhead(poolSize, acquireTimeout);
+    }
+
+    /**
+     * 在舱壁内执行操作
+     *
+     * @param <T>    返回类型
+     * @param action 要执行的操作
+     * @return 操作结果
+     * @throws DataAccessException 等待许可超时或被中断
+     */
+    public <T> T execute(Supplier<T> action) {
+        acquire();
+        try {
+            return action.get();
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * 获取当前可用许可数
+     *
+     * @return 可用许可数
+     */
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    /**
+     * 获取等待许可的任务数（估算值）
+     *
+     * @return 等待任务数
+     */
+    public int getQueueLength() {
+        return semaphore.getQueueLength();
+    }
+
+    private void acquire() {
+        try {
+            if (!semaphore.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw DataAccessException.bulkheadTimeout(permits, acquireTimeout.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw DataAccessException.connectionError(e);
+        }
+    }
+
+    private static int resolvePoolSize(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource hikari) {
+            return hikari.getMaximumPoolSize();
+        }
+        try {
+            if (dataSource != null && dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("Failed to unwrap HikariDataSource, using default bulkhead permits", e);
+        }
+        return DEFAULT_PERMITS;
+    }
+}
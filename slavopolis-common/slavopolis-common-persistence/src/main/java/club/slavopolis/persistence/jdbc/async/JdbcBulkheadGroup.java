@@ -0,0 +1,138 @@
+package club.slavopolis.persistence.jdbc.async;
+
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRouting;
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRoutingDataSource;
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 数据源舱壁组
+ * <p>每个目标数据源一个舱壁，许可数分别取各自连接池的最大连接数。未启用读写分离时只有一个舱壁；
+ * 启用读写分离时主库和每个从库各一个舱壁：</p>
+ * <ul>
+ *     <li>读任务在提交时选定健康的从库，在该从库的舱壁内执行，任务内的查询固定读取该从库；无健康从库时使用主库舱壁</li>
+ *     <li>其他任务可能包含写操作，在主库舱壁内执行，任务中的查询仍按路由规则读取</li>
+ * </ul>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class JdbcBulkheadGroup {
+
+    /**
+     * 主库（或唯一数据源）舱壁
+     */
+    @Getter
+    private final JdbcBulkhead primary;
+
+    /**
+     * 各从库舱壁，键为从库名称
+     */
+    private final Map<String, JdbcBulkhead> replicas;
+
+    /**
+     * 读写分离数据源，未启用时为null
+     */
+    private final ReadWriteRoutingDataSource routing;
+
+    private JdbcBulkheadGroup(JdbcBulkhead primary, Map<String, JdbcBulkhead> replicas, ReadWriteRoutingDataSource routing) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.routing = routing;
+    }
+
+    /**
+     * 创建只包含单个舱壁的舱壁组
+     *
+     * @param bulkhead 数据源舱壁
+     * @return 舱壁组
+     */
+    public static JdbcBulkheadGroup of(JdbcBulkhead bulkhead) {
+        Assert.notNull(bulkhead, "JdbcBulkhead cannot be null");
+        return new JdbcBulkheadGroup(bulkhead, Map.of(), null);
+    }
+
+    /**
+     * 为读写分离数据源的每个节点创建舱壁
+     *
+     * @param routing        读写分离数据源
+     * @param maxConcurrency 每个节点的许可数，小于等于0时取该节点连接池的最大连接数
+     * @param acquireTimeout 获取许可的最长等待时间
+     * @return 舱壁组
+     */
+    public static JdbcBulkheadGroup forRouting(ReadWriteRoutingDataSource routing, int maxConcurrency, Duration acquireTimeout) {
+        Assert.notNull(routing, "Routing data source cannot be null");
+        JdbcBulkhead primary = null;
+        Map<String, JdbcBulkhead> replicas = new LinkedHashMap<>();
+        for (var entry : routing.getNodeDataSources().entrySet()) {
+            JdbcBulkhead bulkhead = maxConcurrency > 0
+                    ? new JdbcBulkhead(maxConcurrency, acquireTimeout)
+                    : JdbcBulkhead.forDataSource(entry.getValue(), acquireTimeout);
+            if (ReadWriteRoutingDataSource.PRIMARY_KEY.equals(entry.getKey())) {
+                primary = bulkhead;
+            } else {
+                replicas.put(entry.getKey(), bulkhead);
+            }
+        }
+        return new JdbcBulkheadGroup(primary, Collections.unmodifiableMap(replicas), routing);
+    }
+
+    /**
+     * 在主库舱壁内执行操作
+     *
+     * @param <T>    返回类型
+     * @param action 要执行的操作
+     * @return 操作结果
+     */
+    public <T> T execute(Supplier<T> action) {
+        return primary.execute(action);
+    }
+
+    /**
+     * 在读取目标的舱壁内执行只读操作
+     *
+     * @param <T>    返回类型
+     * @param action 只读操作
+     * @return 操作结果
+     */
+    public <T> T executeRead(Supplier<T> action) {
+        String replica = routing != null ? routing.selectReplica() : null;
+        JdbcBulkhead bulkhead = replica != null ? replicas.get(replica) : null;
+        if (bulkhead == null) {
+            return primary.execute(action);
+        }
+        return bulkhead.execute(() -> ReadWriteRouting.preferReplica(replica, action));
+    }
+
+    /**
+     * 获取各节点的许可数
+     *
+     * @return 按节点名称的许可数，主库的键为{@link ReadWriteRoutingDataSource#PRIMARY_KEY}
+     */
+    public Map<String, Integer> getPermits() {
+        Map<String, Integer> permits = new LinkedHashMap<>();
+        permits.put(ReadWriteRoutingDataSource.PRIMARY_KEY, primary.getPermits());
+        replicas.forEach((name, bulkhead) -> permits.put(name, bulkhead.getPermits()));
+        return permits;
+    }
+
+    /**
+     * 获取从库舱壁
+     *
+     * @param replica 从库名称
+     * @return 从库舱壁，不存在时返回null
+     */
+    public JdbcBulkhead getReplica(String replica) {
+        return replicas.get(replica);
+    }
+}
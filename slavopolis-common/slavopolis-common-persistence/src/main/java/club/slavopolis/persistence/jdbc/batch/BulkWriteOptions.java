@@ -0,0 +1,53 @@
+package club.slavopolis.persistence.jdbc.batch;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 批量写入选项
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Getter
+@Builder
+public class BulkWriteOptions {
+
+    /**
+     * 默认子批次大小
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * 默认选项
+     */
+    public static final BulkWriteOptions DEFAULTS = BulkWriteOptions.builder().build();
+
+    /**
+     * 子批次大小（行数），不超过安全配置的最大批处理大小
+     */
+    @Builder.Default
+    private final int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * 是否将单行INSERT改写为多行INSERT，语句不支持改写时自动退回JDBC批处理
+     */
+    @Builder.Default
+    private final boolean multiRowInsert = true;
+
+    /**
+     * 是否在同一事务内写入所有子批次；调用方已处于事务中时直接加入该事务
+     */
+    @Builder.Default
+    private final boolean transactional = true;
+
+    /**
+     * 是否启用日志
+     */
+    @Builder.Default
+    private final boolean enableLogging = true;
+}
@@ -0,0 +1,61 @@
+package club.slavopolis.persistence.jdbc.batch;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 批量写入结果
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class BulkWriteResult {
+
+    /**
+     * 写入总行数
+     */
+    private long totalRows;
+
+    /**
+     * 影响行数（驱动未返回行数时不计入）
+     */
+    private long affectedRows;
+
+    /**
+     * 子批次数
+     */
+    private int subBatches;
+
+    /**
+     * 执行的语句数（多行INSERT时为语句条数，JDBC批处理时等于子批次数）
+     */
+    private int statements;
+
+    /**
+     * 是否使用了多行INSERT改写
+     */
+    private boolean multiRowInsert;
+
+    /**
+     * 总耗时（毫秒）
+     */
+    private long elapsedTime;
+
+    /**
+     * 最慢子批次耗时（毫秒）
+     */
+    private long maxSubBatchTime;
+
+    /**
+     * 平均每秒写入行数
+     */
+    public double getRowsPerSecond() {
+        return elapsedTime > 0 ? totalRows * 1000.0 / elapsedTime : 0.0;
+    }
+}
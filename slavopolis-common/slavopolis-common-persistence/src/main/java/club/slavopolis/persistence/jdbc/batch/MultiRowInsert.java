@@ -0,0 +1,243 @@
+package club.slavopolis.persistence.jdbc.batch;
+
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.parser.SqlToken;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 多行INSERT改写模板
+ * <p>将单行{@code INSERT ... VALUES (:a, :b)}改写为{@code INSERT ... VALUES (:a__0, :b__0), (:a__1, :b__1)}，
+ * 一条语句写入多行，减少语句解析和网络往返；第i行的参数重命名为{@code 参数名__i}</p>
+ * <p>仅支持VALUES后为单个元组、可选地跟随不含命名参数的{@code ON DUPLICATE KEY UPDATE}子句的语句，
+ * 其他形式由{@link #parse(String)}返回null，调用方应退回普通批处理</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class MultiRowInsert {
+
+    /**
+     * MySQL预编译语句的最大占位符数量
+     */
+    public static final int MAX_PLACEHOLDERS = 65535;
+
+    /**
+     * 改写后参数名的行号分隔符
+     */
+    private static final String ROW_SEPARATOR = "__";
+
+    /**
+     * VALUES之前的部分（含VALUES关键字）
+     */
+    private final String prefix;
+
+    /**
+     * 元组的文本片段，与参数名交替出现：片段0、参数0、片段1、参数1 ... 片段n
+     */
+    private final List<String> segments;
+
+    /**
+     * 元组内按出现顺序的参数名
+     */
+    private final List<String> parameterNames;
+
+    /**
+     * 元组后的部分
+     */
+    private final String suffix;
+
+    /**
+     * 去重后的参数名
+     */
+    @Getter
+    private final Set<String> distinctParameterNames;
+
+    /**
+     * 单条语句的最大行数（受占位符数量限制）
+     */
+    @Getter
+    private final int maxRowsPerStatement;
+
+    private final Map<Integer, String> renderedSql = new HashMap<>();
+
+    private MultiRowInsert(String prefix, List<String> segments, List<String> parameterNames, String suffix) {
+        this.prefix = prefix;
+        this.segments = segments;
+        this.parameterNames = parameterNames;
+        this.suffix = suffix;
+        this.distinctParameterNames = new LinkedHashSet<>(parameterNames);
+        this.maxRowsPerStatement = Math.max(1, MAX_PLACEHOLDERS / parameterNames.size());
+    }
+
+    /**
+     * 解析INSERT语句
+     *
+     * @param sql 单行INSERT语句
+     * @return 改写模板，语句不支持改写时返回null
+     */
+    public static MultiRowInsert parse(String sql) {
+        return sql == null ? null : parse(SqlLexer.parse(sql));
+    }
+
+    /**
+     * 基于词法分析结果解析INSERT语句
+     * <p>引号、注释和括号的识别与SQL验证使用同一词法分析，字符串中的冒号、括号和关键字不会被误认</p>
+     *
+     * @param parsedSql 单行INSERT语句的分析结果
+     * @return 改写模板，语句不支持改写时返回null
+     */
+    public static MultiRowInsert parse(ParsedSql parsedSql) {
+        if (parsedSql.isUnterminated() || parsedSql.hasComment() || parsedSql.hasMultipleStatements()
+                || !parsedSql.startsWith("insert", "replace")) {
+            return null;
+        }
+        List<SqlToken> tokens = parsedSql.getTokens();
+        int last = tokens.size() - 1;
+        if (tokens.get(last).type() == SqlTokenType.SEMICOLON) {
+            last--;
+        }
+
+        int values = indexOfTopLevel(tokens, last, "values");
+        if (values < 0 || values + 1 > last || tokens.get(values + 1).type() != SqlTokenType.LEFT_PAREN) {
+            return null;
+        }
+        int open = values + 1;
+        int close = findClosingParen(tokens, open, last);
+        if (close < 0 || !isSupportedSuffix(tokens, close + 1, last)) {
+            return null;
+        }
+
+        String sql = parsedSql.getSql();
+        List<String> segments = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int segmentStart = tokens.get(open).start();
+        for (int i = open; i <= close; i++) {
+            SqlToken token = tokens.get(i);
+            if (token.type() == SqlTokenType.PARAMETER) {
+                // 不支持位置参数
+                if (token.text().equals("?")) {
+                    return null;
+                }
+                segments.add(sql.substring(segmentStart, token.start()));
+                names.add(token.text().substring(1));
+                segmentStart = token.end();
+            } else if (token.type() == SqlTokenType.OPERATOR && token.text().indexOf(':') >= 0) {
+                // 类型转换或无法识别的参数
+                return null;
+            }
+        }
+        if (names.isEmpty()) {
+            return null;
+        }
+        segments.add(sql.substring(segmentStart, tokens.get(close).end()));
+
+        String prefix = sql.substring(tokens.getFirst().start(), tokens.get(open).start());
+        String suffix = sql.substring(tokens.get(close).end(), tokens.get(last).end());
+        return new MultiRowInsert(prefix, segments, names, suffix);
+    }
+
+    /**
+     * 生成指定行数的多行INSERT语句
+     *
+     * @param rows 行数
+     * @return 多行INSERT语句
+     */
+    public String render(int rows) {
+        return renderedSql.computeIfAbsent(rows, this::doRender);
+    }
+
+    /**
+     * 绑定多行参数
+     *
+     * @param rows 各行参数
+     * @return 改写后的命名参数
+     * @throws IllegalArgumentException 某行缺少参数
+     */
+    public Map<String, Object> bind(List<? extends Map<String, ?>> rows) {
+        Map<String, Object> params = new HashMap<>(rows.size() * distinctParameterNames.size() * 4 / 3 + 1);
+        for (int i = 0; i < rows.size(); i++) {
+            Map<String, ?> row = rows.get(i);
+            for (String name : distinctParameterNames) {
+                if (!row.containsKey(name)) {
+                    throw new IllegalArgumentException("No value supplied for parameter '" + name + "' in row " + i);
+                }
+                params.put(name + ROW_SEPARATOR + i, row.get(name));
+            }
+        }
+        return params;
+    }
+
+    private String doRender(int rows) {
+        StringBuilder sql = new StringBuilder(prefix.length() + suffix.length() + rows * (segments.size() * 8 + parameterNames.size() * 16));
+        sql.append(prefix);
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            for (int j = 0; j < parameterNames.size(); j++) {
+                sql.append(segments.get(j)).append(':').append(parameterNames.get(j)).append(ROW_SEPARATOR).append(i);
+            }
+            sql.append(segments.getLast());
+        }
+        return sql.append(suffix).toString();
+    }
+
+    /**
+     * 查找括号外的关键字
+     */
+    private static int indexOfTopLevel(List<SqlToken> tokens, int last, String keyword) {
+        for (int i = 0; i <= last; i++) {
+            SqlToken token = tokens.get(i);
+            if (token.depth() == 0 && token.is(keyword)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 查找匹配的右括号，左右括号的深度相同
+     */
+    private static int findClosingParen(List<SqlToken> tokens, int open, int last) {
+        int depth = tokens.get(open).depth();
+        for (int i = open + 1; i <= last; i++) {
+            SqlToken token = tokens.get(i);
+            if (token.type() == SqlTokenType.RIGHT_PAREN && token.depth() == depth) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 元组后为空，或为不含参数的{@code ON DUPLICATE KEY UPDATE}子句
+     */
+    private static boolean isSupportedSuffix(List<SqlToken> tokens, int from, int last) {
+        if (from > last) {
+            return true;
+        }
+        if (from + 3 > last || !tokens.get(from).is("on") || !tokens.get(from + 1).is("duplicate")
+                || !tokens.get(from + 2).is("key") || !tokens.get(from + 3).is("update")) {
+            return false;
+        }
+        for (int i = from + 4; i <= last; i++) {
+            if (tokens.get(i).type() == SqlTokenType.PARAMETER) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
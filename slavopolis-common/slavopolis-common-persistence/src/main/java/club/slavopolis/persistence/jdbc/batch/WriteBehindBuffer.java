@@ -0,0 +1,453 @@
+package club.slavopolis.persistence.jdbc.batch;
+
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
+import club.slavopolis.persistence.jdbc.enums.WriteMergeMode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 写后合并缓冲区
+ * <p>用于不需要同步落库的高频单行更新（如下载次数、最后访问时间）：写入先按键合并在内存中，
+ * 达到数量阈值或定时触发时以批处理语句统一刷写，同一行在一个刷写周期内只更新一次，
+ * 避免热点行的行锁竞争和每次请求一次数据库往返</p>
+ * <p>同一键的多次写入按参数的{@link WriteMergeMode}合并，未声明的参数为后写覆盖。
+ * 刷写时按键排序，固定多实例并发刷写时的加锁顺序</p>
+ * <p>待写入键数达到上限时，新键的提交方同步执行一次刷写（背压），而不是无限增长；
+ * 刷写失败的数据写回缓冲区并在下次刷写时重试。关闭时会刷写全部剩余数据，
+ * 进程异常退出时未刷写的数据会丢失，因此只适用于允许少量丢失的统计类字段</p>
+ * <pre>{@code
+ * WriteBehindBuffer<String> buffer = WriteBehindBuffer.<String>builder("file-access")
+ *         .sql("UPDATE file_info SET download_count = download_count + :downloadCount WHERE file_id = :fileId")
+ *         .keyParameter("fileId")
+ *         .merge("downloadCount", WriteMergeMode.ADDITIVE)
+ *         .build(jdbcContext);
+ * buffer.submit(fileId, Map.of("downloadCount", 1));
+ * }</pre>
+ *
+ * @param <K> 键类型，作为{@code keyParameter}参数绑定
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class WriteBehindBuffer<K> implements AutoCloseable {
+
+    /**
+     * 默认刷写阈值（待写入键数）
+     */
+    public static final int DEFAULT_FLUSH_THRESHOLD = 500;
+
+    /**
+     * 默认最大待写入键数
+     */
+    public static final int DEFAULT_MAX_PENDING_KEYS = 10000;
+
+    /**
+     * 默认刷写间隔
+     */
+    public static final Duration DEFAULT_FLUSH_INTERVAL = Duration.ofSeconds(1);
+
+    /**
+     * 缓冲区名称
+     */
+    @Getter
+    private final String name;
+
+    private final String sql;
+
+    private final String keyParameter;
+
+    private final Map<String, WriteMergeMode> mergeModes;
+
+    @Getter
+    private final int flushThreshold;
+
+    @Getter
+    private final int maxPendingKeys;
+
+    @Getter
+    private final Duration flushInterval;
+
+    private final JdbcExecutionContext context;
+
+    private final BulkWriteOptions writeOptions;
+
+    private final ConcurrentHashMap<K, Map<String, Object>> pending = new ConcurrentHashMap<>();
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * 刷写统计
+     */
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+    private final LongAdder flushFailures = new LongAdder();
+    private final LongAdder flushedRows = new LongAdder();
+    private final LongAdder backpressureEvents = new LongAdder();
+    private final LongAdder totalFlushNanos = new LongAdder();
+    private final AtomicLong maxFlushNanos = new AtomicLong();
+
+    private WriteBehindBuffer(Builder<K> builder, JdbcExecutionContext context) {
+        this.name = builder.name;
+        this.sql = builder.sql;
+        this.keyParameter = builder.keyParameter;
+        this.mergeModes = Map.copyOf(builder.mergeModes);
+        this.flushThreshold = builder.flushThreshold;
+        this.maxPendingKeys = builder.maxPendingKeys;
+        this.flushInterval = builder.flushInterval;
+        this.context = context;
+        this.writeOptions = BulkWriteOptions.builder()
+                .chunkSize(builder.flushThreshold)
+                .multiRowInsert(false)
+                .enableLogging(false)
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("slavopolis-write-behind-" + name)
+                .daemon(true)
+                .factory());
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 创建构建器
+     *
+     * @param <K>  键类型
+     * @param name 缓冲区名称，用于线程名、日志和指标
+     * @return 构建器
+     */
+    public static <K> Builder<K> builder(String name) {
+        return new Builder<>(name);
+    }
+
+    /**
+     * 提交写入
+     * <p>不等待落库；参数按合并方式与该键尚未刷写的参数合并</p>
+     *
+     * @param key    行的键
+     * @param values 命名参数（不含键参数）
+     * @throws IllegalStateException 缓冲区已关闭
+     * @throws RuntimeException      缓冲区已满且同步刷写失败
+     */
+    public void submit(K key, Map<String, ?> values) {
+        Assert.notNull(key, "Write-behind key cannot be null");
+        Assert.notNull(values, "Write-behind values cannot be null");
+        if (closed.get()) {
+            throw new IllegalStateException("Write-behind buffer is closed: " + name);
+        }
+
+        submitted.increment();
+        if (pending.size() >= maxPendingKeys && !pending.containsKey(key)) {
+            // 背压：由提交方同步刷写，刷写期间其他提交方在刷写锁上等待
+            backpressureEvents.increment();
+            flush();
+        }
+
+        pending.merge(key, new HashMap<>(values), (existing, incoming) -> {
+            coalesced.increment();
+            return mergeValues(existing, incoming);
+        });
+
+        if (pending.size() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::flushQuietly);
+            } catch (RuntimeException e) {
+                flushRequested.set(false);
+                log.debug("Write-behind buffer {} could not schedule flush", name, e);
+            }
+        }
+    }
+
+    /**
+     * 立即刷写所有待写入的数据
+     *
+     * @return 刷写的行数
+     * @throws RuntimeException 刷写失败，数据已写回缓冲区
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            flushRequested.set(false);
+            if (pending.isEmpty()) {
+                return 0;
+            }
+
+            List<K> keys = new ArrayList<>(pending.keySet());
+            sortKeys(keys);
+            List<K> drainedKeys = new ArrayList<>(keys.size());
+            List<Map<String, Object>> rows = new ArrayList<>(keys.size());
+            for (K key : keys) {
+                Map<String, Object> values = pending.remove(key);
+                if (values != null) {
+                    values.put(keyParameter, key);
+                    drainedKeys.add(key);
+                    rows.add(values);
+                }
+            }
+
+            long startTime = System.nanoTime();
+            try {
+                context.newHandle().bulkWrite(sql, rows, writeOptions);
+            } catch (RuntimeException e) {
+                flushFailures.increment();
+                requeue(drainedKeys, rows);
+                throw e;
+            }
+
+            long elapsedNanos = System.nanoTime() - startTime;
+            flushes.increment();
+            flushedRows.add(rows.size());
+            totalFlushNanos.add(elapsedNanos);
+            maxFlushNanos.accumulateAndGet(elapsedNanos, Math::max);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Write-behind buffer {} flushed {} rows in {}ms",
+                        name, rows.size(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+            }
+            return rows.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 获取待写入的键数
+     *
+     * @return 待写入键数
+     */
+    public int getPendingKeys() {
+        return pending.size();
+    }
+
+    /**
+     * 获取统计信息
+     *
+     * @return 统计信息
+     */
+    public WriteBehindStatistics getStatistics() {
+        long flushCount = flushes.sum();
+        return WriteBehindStatistics.builder()
+                .name(name)
+                .pendingKeys(pending.size())
+                .submitted(submitted.sum())
+                .coalesced(coalesced.sum())
+                .flushes(flushCount)
+                .flushFailures(flushFailures.sum())
+                .flushedRows(flushedRows.sum())
+                .backpressureEvents(backpressureEvents.sum())
+                .averageFlushTime(flushCount > 0 ? totalFlushNanos.sum() / 1_000_000.0 / flushCount : 0.0)
+                .maxFlushTime(TimeUnit.NANOSECONDS.toMillis(maxFlushNanos.get()))
+                .build();
+    }
+
+    /**
+     * 关闭缓冲区并刷写剩余数据
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(flushInterval.toMillis() + 1000, TimeUnit.MILLISECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            int rows = flush();
+            log.info("Write-behind buffer {} closed, drained {} pending rows", name, rows);
+        } catch (RuntimeException e) {
+            log.error("Write-behind buffer {} failed to drain {} pending rows on close", name, pending.size(), e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Write-behind buffer {} flush failed, {} rows retained for retry", name, pending.size(), e);
+        }
+    }
+
+    /**
+     * 将刷写失败的数据写回缓冲区，与失败期间的新写入合并
+     */
+    private void requeue(List<K> keys, List<Map<String, Object>> rows) {
+        for (int i = 0; i < keys.size(); i++) {
+            Map<String, Object> values = rows.get(i);
+            values.remove(keyParameter);
+            pending.merge(keys.get(i), values, (newer, older) -> mergeValues(older, newer));
+        }
+    }
+
+    /**
+     * 将后写入的参数合并到先写入的参数上
+     */
+    private Map<String, Object> mergeValues(Map<String, Object> earlier, Map<String, Object> later) {
+        for (Map.Entry<String, Object> entry : later.entrySet()) {
+            if (mergeModes.get(entry.getKey()) == WriteMergeMode.ADDITIVE) {
+                earlier.merge(entry.getKey(), entry.getValue(), WriteBehindBuffer::add);
+            } else {
+                earlier.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return earlier;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K> void sortKeys(List<K> keys) {
+        if (keys.size() > 1 && keys.getFirst() instanceof Comparable) {
+            try {
+                ((List) keys).sort(null);
+            } catch (ClassCastException e) {
+                // 键类型不可互相比较时保持原顺序
+            }
+        }
+    }
+
+    private static Object add(Object left, Object right) {
+        if (!(left instanceof Number a) || !(right instanceof Number b)) {
+            throw new IllegalArgumentException("Additive write-behind values must be numbers: " + left + ", " + right);
+        }
+        if (a instanceof BigDecimal || b instanceof BigDecimal) {
+            return toBigDecimal(a).add(toBigDecimal(b));
+        }
+        if (a instanceof Double || a instanceof Float || b instanceof Double || b instanceof Float) {
+            return a.doubleValue() + b.doubleValue();
+        }
+        if (a instanceof BigInteger || b instanceof BigInteger) {
+            return new BigInteger(a.toString()).add(new BigInteger(b.toString()));
+        }
+        return Math.addExact(a.longValue(), b.longValue());
+    }
+
+    private static BigDecimal toBigDecimal(Number number) {
+        return number instanceof BigDecimal d ? d : new BigDecimal(number.toString());
+    }
+
+    /**
+     * 写后缓冲区构建器
+     *
+     * @param <K> 键类型
+     */
+    public static final class Builder<K> {
+
+        private final String name;
+
+        private String sql;
+
+        private String keyParameter;
+
+        private final Map<String, WriteMergeMode> mergeModes = new HashMap<>();
+
+        private int flushThreshold = DEFAULT_FLUSH_THRESHOLD;
+
+        private int maxPendingKeys = DEFAULT_MAX_PENDING_KEYS;
+
+        private Duration flushInterval = DEFAULT_FLUSH_INTERVAL;
+
+        private Builder(String name) {
+            Assert.hasText(name, "Write-behind buffer name cannot be empty");
+            this.name = name;
+        }
+
+        /**
+         * 刷写语句，以命名参数引用键参数和各写入参数
+         */
+        public Builder<K> sql(String sql) {
+            this.sql = sql;
+            return this;
+        }
+
+        /**
+         * 键在刷写语句中的参数名
+         */
+        public Builder<K> keyParameter(String keyParameter) {
+            this.keyParameter = keyParameter;
+            return this;
+        }
+
+        /**
+         * 声明参数的合并方式，未声明的参数为后写覆盖
+         */
+        public Builder<K> merge(String parameter, WriteMergeMode mode) {
+            Assert.hasText(parameter, "Parameter name cannot be empty");
+            Assert.notNull(mode, "Merge mode cannot be null");
+            this.mergeModes.put(parameter, mode);
+            return this;
+        }
+
+        /**
+         * 待写入键数达到该值时触发刷写
+         */
+        public Builder<K> flushThreshold(int flushThreshold) {
+            this.flushThreshold = flushThreshold;
+            return this;
+        }
+
+        /**
+         * 最大待写入键数，达到后新键的提交方同步刷写
+         */
+        public Builder<K> maxPendingKeys(int maxPendingKeys) {
+            this.maxPendingKeys = maxPendingKeys;
+            return this;
+        }
+
+        /**
+         * 定时刷写间隔
+         */
+        public Builder<K> flushInterval(Duration flushInterval) {
+            this.flushInterval = flushInterval;
+            return this;
+        }
+
+        /**
+         * 创建缓冲区并启动定时刷写
+         *
+         * @param context JDBC执行上下文
+         * @return 写后缓冲区
+         */
+        public WriteBehindBuffer<K> build(JdbcExecutionContext context) {
+            Assert.notNull(context, "JdbcExecutionContext 不能为空");
+            Assert.hasText(sql, "Write-behind SQL cannot be empty");
+            Assert.hasText(keyParameter, "Key parameter cannot be empty");
+            Assert.isTrue(!mergeModes.containsKey(keyParameter), "Key parameter cannot have a merge mode");
+            Assert.isTrue(flushThreshold > 0, "Flush threshold must be positive");
+            Assert.isTrue(maxPendingKeys >= flushThreshold, "Max pending keys must not be less than flush threshold");
+            Assert.isTrue(flushInterval != null && flushInterval.toMillis() > 0, "Flush interval must be positive");
+            return new WriteBehindBuffer<>(this, context);
+        }
+    }
+}
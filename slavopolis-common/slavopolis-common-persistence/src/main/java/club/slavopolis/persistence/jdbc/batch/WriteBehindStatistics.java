@@ -0,0 +1,76 @@
+package club.slavopolis.persistence.jdbc.batch;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 写后缓冲统计信息
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class WriteBehindStatistics {
+
+    /**
+     * 缓冲区名称
+     */
+    private String name;
+
+    /**
+     * 待写入的键数
+     */
+    private int pendingKeys;
+
+    /**
+     * 提交次数
+     */
+    private long submitted;
+
+    /**
+     * 被合并到已有键的提交次数
+     */
+    private long coalesced;
+
+    /**
+     * 刷写次数
+     */
+    private long flushes;
+
+    /**
+     * 刷写失败次数
+     */
+    private long flushFailures;
+
+    /**
+     * 累计刷写行数
+     */
+    private long flushedRows;
+
+    /**
+     * 缓冲区满时由提交方同步刷写的次数
+     */
+    private long backpressureEvents;
+
+    /**
+     * 平均刷写时间（毫秒）
+     */
+    private double averageFlushTime;
+
+    /**
+     * 最长刷写时间（毫秒）
+     */
+    private long maxFlushTime;
+
+    /**
+     * 合并率：被合并的提交占总提交的比例，越高说明节省的数据库写入越多
+     */
+    public double getCoalescingRate() {
+        return submitted > 0 ? (double) coalesced / submitted : 0.0;
+    }
+}
@@ -0,0 +1,67 @@
+package club.slavopolis.persistence.jdbc.cache;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 查询结果二级缓存存储
+ * <p>由{@link QueryResultCache}在本地缓存未命中时读取，查询结果加载后写入，表数据变更时按表失效。
+ * 存储在多个应用实例间共享，实现应自行处理过期时间；存储不可用时应记录日志并按未命中处理，不应影响查询本身</p>
+ * <p>支持跨实例通知的实现在失效时通知其他实例，由其他实例的{@link QueryResultCache}清除对应的本地条目</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public interface QueryCacheStore {
+
+    /**
+     * 读取缓存的查询结果
+     *
+     * @param key 缓存键
+     * @return 查询结果，未命中时返回null
+     */
+    Object get(String key);
+
+    /**
+     * 写入查询结果
+     *
+     * @param key    缓存键
+     * @param value  查询结果，不为null
+     * @param tables 查询涉及的表，用于按表失效
+     */
+    void put(String key, Object value, Set<String> tables);
+
+    /**
+     * 使涉及指定表的查询结果失效
+     *
+     * @param tables 表名集合
+     */
+    void invalidateTables(Set<String> tables);
+
+    /**
+     * 使全部查询结果失效
+     */
+    void invalidateAll();
+
+    /**
+     * 检查结果类型能否写入存储，在首次缓存该类型的查询前调用
+     *
+     * @param resultType 结果类型，列表结果为元素类型
+     * @throws IllegalArgumentException 结果类型无法写入存储
+     */
+    default void checkCacheable(Class<?> resultType) {
+    }
+
+    /**
+     * 设置其他实例失效通知的监听器
+     * <p>监听器参数为失效的表，空集合表示全部失效；不支持跨实例通知的实现忽略该监听器</p>
+     *
+     * @param listener 失效监听器
+     */
+    default void setInvalidationListener(Consumer<Set<String>> listener) {
+    }
+}
@@ -0,0 +1,508 @@
+package club.slavopolis.persistence.jdbc.cache;
+
+import club.slavopolis.persistence.jdbc.monitoring.QueryCacheStatistics;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.time.Duration;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 查询结果缓存
+ * <p>以SQL指纹、结果类型和参数为键缓存查询结果，本地缓存基于Caffeine，可选配置{@link QueryCacheStore}作为二级缓存</p>
+ * <p>每个缓存条目登记其查询涉及的表，写操作成功后按表失效；每张表维护一个版本号，查询开始前记录版本，
+ * 查询期间表被写入时版本变化，结果不写入缓存，避免把写入前读到的旧数据缓存下来</p>
+ * <p>二级缓存支持跨实例通知时（如{@link RedisQueryCacheStore}），其他实例的失效同样清除本地条目；
+ * 否则本地缓存的失效只作用于当前实例，其他实例的本地条目在有效期内仍可能返回旧数据</p>
+ * <p>每次返回的都是缓存值的副本：列表和Map重新创建，Bean按无参构造函数创建后复制属性，其中Map、集合和数组属性复制一层，
+ * 不可变类型（字符串、数值、时间、枚举、记录等）直接返回；更深层的可变对象（如嵌套Bean）仍然共享，不应修改。
+ * 无法复制的结果类型在首次查询时抛出{@link IllegalArgumentException}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public final class QueryResultCache {
+
+    /**
+     * 默认缓存有效期
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    /**
+     * 默认最大缓存条目数
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    /**
+     * 空结果占位，区分"查询结果为null"与"未缓存"
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * 按运行时类型的复制函数，不可变类型为恒等函数
+     */
+    private static final ClassValue<UnaryOperator<Object>> COPIERS = new ClassValue<>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(Class<?> type) {
+            return createCopier(type);
+        }
+    };
+
+    private final Cache<String, Entry> entries;
+
+    private final long maximumSize;
+
+    /**
+     * 二级缓存，未配置时为null
+     */
+    private final QueryCacheStore store;
+
+    /**
+     * 表名到缓存条目的索引
+     */
+    private final Map<String, Set<Entry>> entriesByTable = new ConcurrentHashMap<>();
+
+    /**
+     * 表版本号，表被写入时递增
+     */
+    private final Map<String, AtomicLong> tableVersions = new ConcurrentHashMap<>();
+
+    /**
+     * 全局版本号，全部失效时递增
+     */
+    private final AtomicLong globalVersion = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder storeHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder staleLoadCount = new LongAdder();
+    private final LongAdder invalidationCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    /**
+     * 构造函数
+     *
+     * @param ttl         本地缓存有效期
+     * @param maximumSize 最大本地缓存条目数
+     */
+    public QueryResultCache(Duration ttl, long maximumSize) {
+        this(ttl, maximumSize, null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param ttl         本地缓存有效期
+     * @param maximumSize 最大本地缓存条目数
+     * @param store       二级缓存，可为null
+     */
+    public QueryResultCache(Duration ttl, long maximumSize, QueryCacheStore store) {
+        Assert.notNull(ttl, "TTL cannot be null");
+        Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "TTL must be positive");
+        this.maximumSize = maximumSize;
+        this.store = store;
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .removalListener((String key, Entry entry, RemovalCause cause) -> {
+                    if (entry != null) {
+                        unindex(entry);
+                    }
+                    if (cause.wasEvicted()) {
+                        evictionCount.increment();
+                    }
+                })
+                .build();
+        if (store != null) {
+            store.setInvalidationListener(this::invalidateLocal);
+        }
+    }
+
+    /**
+     * 检查结果类型能否缓存，在首次缓存该类型的查询前调用
+     *
+     * @param resultType 结果类型，列表结果为元素类型
+     * @throws IllegalArgumentException 结果类型无法复制或无法写入二级缓存
+     */
+    public void checkCacheable(Class<?> resultType) {
+        COPIERS.get(ClassUtils.resolvePrimitiveIfNecessary(resultType));
+        if (store != null) {
+            store.checkCacheable(resultType);
+        }
+    }
+
+    /**
+     * 获取查询结果，未命中时执行查询并缓存
+     * <p>无法识别涉及表的语句不缓存，直接执行查询</p>
+     *
+     * @param <T>        结果类型
+     * @param sql        语句的缓存键，由SQL指纹和字面量组成
+     * @param tables     查询涉及的表
+     * @param params     命名参数
+     * @param resultType 结果类型标识，同一SQL以不同方式映射时区分缓存
+     * @param loader     查询函数
+     * @return 查询结果
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String sql, Set<String> tables, Map<String, Object> params, String resultType, Supplier<T> loader) {
+        if (tables.isEmpty()) {
+            return loader.get();
+        }
+
+        String key = buildKey(sql, params, resultType);
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null) {
+            hitCount.increment();
+            return (T) copy(unwrap(entry.value));
+        }
+
+        long[] versions = snapshotVersions(tables);
+
+        if (store != null) {
+            Object stored = getFromStore(key);
+            if (stored != null) {
+                storeHitCount.increment();
+                putLocal(key, stored, tables, versions);
+                return (T) copy(stored);
+            }
+        }
+
+        missCount.increment();
+        T result = loader.get();
+        Object value = copy(result);
+
+        if (putLocal(key, value == null ? NULL : value, tables, versions) && store != null && value != null) {
+            putToStore(key, value, tables);
+        }
+        return result;
+    }
+
+    /**
+     * 使涉及指定表的缓存失效
+     * <p>表集合为空表示无法确定写入的表，全部失效</p>
+     *
+     * @param tables 表名集合
+     */
+    public void invalidateTables(Set<String> tables) {
+        if (tables.isEmpty()) {
+            invalidateAll();
+            return;
+        }
+        invalidateLocal(tables);
+
+        if (store != null) {
+            try {
+                store.invalidateTables(tables);
+            } catch (RuntimeException e) {
+                log.warn("Failed to invalidate query cache store for tables {}", tables, e);
+            }
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        invalidateLocal(Set.of());
+
+        if (store != null) {
+            try {
+                store.invalidateAll();
+            } catch (RuntimeException e) {
+                log.warn("Failed to invalidate query cache store", e);
+            }
+        }
+    }
+
+    /**
+     * 使本地缓存中涉及指定表的条目失效，不通知二级缓存，也用于处理其他实例的失效通知
+     *
+     * @param tables 表名集合，为空时全部失效
+     */
+    void invalidateLocal(Set<String> tables) {
+        if (tables.isEmpty()) {
+            globalVersion.incrementAndGet();
+            entries.invalidateAll();
+        } else {
+            for (String table : tables) {
+                tableVersions.computeIfAbsent(table, name -> new AtomicLong()).incrementAndGet();
+                Set<Entry> indexed = entriesByTable.get(table);
+                if (indexed != null) {
+                    for (Entry entry : indexed) {
+                        indexed.remove(entry);
+                        entries.asMap().remove(entry.key, entry);
+                    }
+                }
+            }
+        }
+        invalidationCount.increment();
+    }
+
+    /**
+     * 获取当前本地缓存条目数（估算值）
+     *
+     * @return 缓存条目数
+     */
+    public long size() {
+        return entries.estimatedSize();
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 缓存统计信息
+     */
+    public QueryCacheStatistics getStatistics() {
+        return QueryCacheStatistics.builder()
+                .size(entries.estimatedSize())
+                .maximumSize(maximumSize)
+                .hitCount(hitCount.sum())
+                .storeHitCount(storeHitCount.sum())
+                .missCount(missCount.sum())
+                .staleLoadCount(staleLoadCount.sum())
+                .invalidationCount(invalidationCount.sum())
+                .evictionCount(evictionCount.sum())
+                .build();
+    }
+
+    /**
+     * 查询期间涉及的表未被写入时写入本地缓存
+     *
+     * @return 写入成功返回true
+     */
+    private boolean putLocal(String key, Object value, Set<String> tables, long[] versions) {
+        Entry entry = new Entry(key, value, tables);
+        for (String table : tables) {
+            entriesByTable.computeIfAbsent(table, name -> ConcurrentHashMap.newKeySet()).add(entry);
+        }
+        // 先登记索引再比较版本：版本未变则之后的失效一定能通过索引找到该条目
+        if (!versionsUnchanged(tables, versions)) {
+            staleLoadCount.increment();
+            unindex(entry);
+            return false;
+        }
+        entries.put(key, entry);
+        if (!versionsUnchanged(tables, versions)) {
+            entries.asMap().remove(key, entry);
+            staleLoadCount.increment();
+            return false;
+        }
+        return true;
+    }
+
+    private void unindex(Entry entry) {
+        for (String table : entry.tables) {
+            Set<Entry> indexed = entriesByTable.get(table);
+            if (indexed != null) {
+                indexed.remove(entry);
+            }
+        }
+    }
+
+    private long[] snapshotVersions(Set<String> tables) {
+        long[] versions = new long[tables.size() + 1];
+        versions[0] = globalVersion.get();
+        int i = 1;
+        for (String table : tables) {
+            versions[i++] = tableVersions.computeIfAbsent(table, name -> new AtomicLong()).get();
+        }
+        return versions;
+    }
+
+    private boolean versionsUnchanged(Set<String> tables, long[] versions) {
+        if (globalVersion.get() != versions[0]) {
+            return false;
+        }
+        int i = 1;
+        for (String table : tables) {
+            if (tableVersions.get(table).get() != versions[i++]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object getFromStore(String key) {
+        try {
+            return store.get(key);
+        } catch (RuntimeException e) {
+            log.warn("Failed to read query cache store", e);
+            return null;
+        }
+    }
+
+    private void putToStore(String key, Object value, Set<String> tables) {
+        try {
+            store.put(key, value, tables);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write query cache store for tables {}", tables, e);
+        }
+    }
+
+    private static Object unwrap(Object value) {
+        return value == NULL ? null : value;
+    }
+
+    private static Object copy(Object value) {
+        return value == null ? null : COPIERS.get(value.getClass()).apply(value);
+    }
+
+    /**
+     * 创建复制函数：不可变类型直接返回，列表逐个复制元素，Map和数组复制一层，Bean逐个复制可读写属性
+     *
+     * @throws IllegalArgumentException 类型既不是不可变类型也没有无参构造函数
+     */
+    private static UnaryOperator<Object> createCopier(Class<?> type) {
+        if (isImmutable(type)) {
+            return UnaryOperator.identity();
+        }
+        if (List.class.isAssignableFrom(type)) {
+            return value -> {
+                List<?> list = (List<?>) value;
+                List<Object> copied = new ArrayList<>(list.size());
+                for (Object element : list) {
+                    copied.add(copy(element));
+                }
+                return copied;
+            };
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return value -> new LinkedHashMap<>((Map<?, ?>) value);
+        }
+        if (type.isArray()) {
+            return QueryResultCache::copyArray;
+        }
+        if (ClassUtils.getConstructorIfAvailable(type) == null) {
+            throw new IllegalArgumentException("Result type " + type.getName()
+                    + " cannot be cached: it is neither immutable nor a bean with a no-arg constructor");
+        }
+        List<PropertyDescriptor> properties = new ArrayList<>();
+        for (PropertyDescriptor property : BeanUtils.getPropertyDescriptors(type)) {
+            if (property.getReadMethod() != null && property.getWriteMethod() != null) {
+                properties.add(property);
+            }
+        }
+        return value -> {
+            Object copied = BeanUtils.instantiateClass(type);
+            try {
+                for (PropertyDescriptor property : properties) {
+                    property.getWriteMethod().invoke(copied, copyProperty(property.getReadMethod().invoke(value)));
+                }
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to copy cached " + type.getName(), e);
+            }
+            return copied;
+        };
+    }
+
+    /**
+     * 复制Bean属性值：Map、集合和数组属性复制一层，其他值共享
+     */
+    private static Object copyProperty(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return new LinkedHashMap<>(map);
+        }
+        if (value instanceof List<?> list) {
+            return new ArrayList<>(list);
+        }
+        if (value instanceof Set<?> set) {
+            return new LinkedHashSet<>(set);
+        }
+        return value != null && value.getClass().isArray() ? copyArray(value) : value;
+    }
+
+    private static Object copyArray(Object value) {
+        int length = Array.getLength(value);
+        Object copied = Array.newInstance(value.getClass().getComponentType(), length);
+        System.arraycopy(value, 0, copied, 0, length);
+        return copied;
+    }
+
+    private static boolean isImmutable(Class<?> type) {
+        String name = type.getName();
+        return ClassUtils.isPrimitiveOrWrapper(type) || type == String.class || type == UUID.class
+                || Enum.class.isAssignableFrom(type) || type.isRecord()
+                || (Number.class.isAssignableFrom(type) && (name.startsWith("java.lang.") || name.startsWith("java.math.")))
+                || (TemporalAccessor.class.isAssignableFrom(type) && name.startsWith("java.time."));
+    }
+
+    /**
+     * 构建缓存键：结果类型、SQL和按名称排序的参数，参数值带类型以区分1与"1"
+     */
+    private static String buildKey(String sql, Map<String, Object> params, String resultType) {
+        StringBuilder key = new StringBuilder(resultType.length() + sql.length() + 64)
+                .append(resultType).append('\n').append(sql);
+        if (params != null && !params.isEmpty()) {
+            for (Map.Entry<String, Object> param : new TreeMap<>(params).entrySet()) {
+                key.append('\n').append(param.getKey()).append('=');
+                appendValue(key, param.getValue());
+            }
+        }
+        return key.toString();
+    }
+
+    private static void appendValue(StringBuilder key, Object value) {
+        if (value == null) {
+            key.append("null");
+            return;
+        }
+        key.append(value.getClass().getName()).append(':');
+        if (value.getClass().isArray()) {
+            key.append('[');
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    key.append(',');
+                }
+                appendValue(key, Array.get(value, i));
+            }
+            key.append(']');
+        } else {
+            key.append(value);
+        }
+    }
+
+    /**
+     * 缓存条目
+     * <p>按对象标识比较，同一缓存键先后写入的条目在索引中互不影响</p>
+     */
+    private static final class Entry {
+
+        private final String key;
+
+        private final Object value;
+
+        private final Set<String> tables;
+
+        private Entry(String key, Object value, Set<String> tables) {
+            this.key = key;
+            this.value = value;
+            this.tables = tables;
+        }
+    }
+}
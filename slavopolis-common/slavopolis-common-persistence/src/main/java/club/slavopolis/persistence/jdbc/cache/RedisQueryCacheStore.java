@@ -0,0 +1,203 @@
+package club.slavopolis.persistence.jdbc.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 基于Redis的查询结果二级缓存
+ * <p>结果以缓存键的SHA-256摘要存储，每张表维护一个集合记录涉及该表的结果键，按表失效时删除集合中的结果和集合本身</p>
+ * <p>结果值由RedisTemplate的值序列化器序列化；使用JDK序列化（默认）时结果类型必须实现{@link Serializable}，
+ * 否则在首次缓存该类型的查询时抛出{@link IllegalArgumentException}</p>
+ * <p>失效时在{@link #getInvalidationTopic()}频道发布通知，其他实例收到后清除本地缓存中对应的条目；
+ * 需要将本实例注册到{@code RedisMessageListenerContainer}的该频道上才能接收通知</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class RedisQueryCacheStore implements QueryCacheStore, MessageListener {
+
+    /**
+     * 默认键前缀
+     */
+    public static final String DEFAULT_KEY_PREFIX = "slavopolis:jdbc:qc:";
+
+    /**
+     * 失效通知中表示全部失效的表名
+     */
+    private static final String ALL_TABLES = "*";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final String keyPrefix;
+
+    private final Duration ttl;
+
+    /**
+     * 失效通知频道
+     */
+    private final ChannelTopic invalidationTopic;
+
+    /**
+     * 本实例标识，忽略自己发布的失效通知
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private volatile Consumer<Set<String>> invalidationListener;
+
+    /**
+     * 构造函数
+     *
+     * @param redisTemplate Redis模板，键使用字符串序列化
+     * @param keyPrefix     键前缀
+     * @param ttl           结果有效期
+     */
+    public RedisQueryCacheStore(RedisTemplate<String, Object> redisTemplate, String keyPrefix, Duration ttl) {
+        Assert.notNull(redisTemplate, "RedisTemplate cannot be null");
+        Assert.hasText(keyPrefix, "Key prefix cannot be empty");
+        Assert.notNull(ttl, "TTL cannot be null");
+        Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "TTL must be positive");
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.invalidationTopic = new ChannelTopic(keyPrefix + "invalidation");
+    }
+
+    @Override
+    public Object get(String key) {
+        return redisTemplate.opsForValue().get(resultKey(key));
+    }
+
+    @Override
+    public void put(String key, Object value, Set<String> tables) {
+        String resultKey = resultKey(key);
+        redisTemplate.opsForValue().set(resultKey, value, ttl);
+        for (String table : tables) {
+            String tableKey = tableKey(table);
+            redisTemplate.opsForSet().add(tableKey, resultKey);
+            // 集合的有效期随最近写入的结果延长，结果全部过期后集合随之过期
+            redisTemplate.expire(tableKey, ttl);
+        }
+    }
+
+    @Override
+    public void invalidateTables(Set<String> tables) {
+        List<String> keys = new ArrayList<>();
+        for (String table : tables) {
+            String tableKey = tableKey(table);
+            Set<Object> members = redisTemplate.opsForSet().members(tableKey);
+            if (members != null) {
+                members.forEach(member -> keys.add(String.valueOf(member)));
+            }
+            keys.add(tableKey);
+        }
+        redisTemplate.delete(keys);
+        publishInvalidation(String.join(",", tables));
+    }
+
+    @Override
+    public void invalidateAll() {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(keys::add);
+        }
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+        publishInvalidation(ALL_TABLES);
+    }
+
+    @Override
+    public void checkCacheable(Class<?> resultType) {
+        if (redisTemplate.getValueSerializer() instanceof JdkSerializationRedisSerializer
+                && !Serializable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(resultType))) {
+            throw new IllegalArgumentException("Result type " + resultType.getName()
+                    + " must implement java.io.Serializable to be cached in Redis");
+        }
+    }
+
+    @Override
+    public void setInvalidationListener(Consumer<Set<String>> listener) {
+        this.invalidationListener = listener;
+    }
+
+    /**
+     * 接收其他实例发布的失效通知
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Consumer<Set<String>> listener = invalidationListener;
+        Object body = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (listener == null || !(body instanceof String payload)) {
+            return;
+        }
+        int separator = payload.indexOf('|');
+        if (separator < 0 || payload.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        String tables = payload.substring(separator + 1);
+        listener.accept(ALL_TABLES.equals(tables) ? Set.of() : Set.of(tables.split(",")));
+    }
+
+    /**
+     * 获取失效通知频道
+     *
+     * @return 频道
+     */
+    public ChannelTopic getInvalidationTopic() {
+        return invalidationTopic;
+    }
+
+    /**
+     * 发布失效通知，发布失败不影响本次失效
+     */
+    private void publishInvalidation(String tables) {
+        try {
+            redisTemplate.convertAndSend(invalidationTopic.getTopic(), instanceId + "|" + tables);
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish query cache invalidation for tables {}", tables, e);
+        }
+    }
+
+    private String resultKey(String key) {
+        return keyPrefix + "r:" + sha256(key);
+    }
+
+    private String tableKey(String table) {
+        return keyPrefix + "t:" + table;
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package club.slavopolis.persistence.jdbc.cache;
+
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.parser.SqlToken;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * SQL涉及表名提取
+ * <p>基于{@link SqlLexer}的词法单元，收集FROM、JOIN、UPDATE、INTO、TABLE之后的表名，FROM后的逗号表列表逐个收集，
+ * 子查询中的表随扫描一并收集；字符串字面量和注释被跳过，引号标识符去除引号</p>
+ * <p>表名统一转为小写，{@code schema.table}只保留表名部分。提取结果用于查询缓存的按表失效，
+ * 宁可多收集（如把派生表别名当作表名）也不能漏收集</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class SqlTables {
+
+    private SqlTables() {
+    }
+
+    /**
+     * 提取SQL涉及的表名
+     *
+     * @param sql SQL语句
+     * @return 小写表名集合，无法识别任何表时返回空集合
+     */
+    public static Set<String> extract(String sql) {
+        if (sql == null || sql.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return SqlLexer.parse(sql).getTables();
+    }
+
+    /**
+     * 从词法单元序列提取表名
+     *
+     * @param tokens 词法单元序列
+     * @return 小写表名集合，无法识别任何表时返回空集合
+     */
+    public static Set<String> extract(List<SqlToken> tokens) {
+        Set<String> tables = new LinkedHashSet<>();
+        // 各括号深度是否处于FROM表列表中
+        BitSet fromLists = new BitSet();
+        boolean expectTable = false;
+        String previous = null;
+        int i = 0;
+
+        while (i < tokens.size()) {
+            SqlToken token = tokens.get(i++);
+            SqlTokenType type = token.type();
+
+            if (token.isComment()) {
+                continue;
+            }
+            if (type == SqlTokenType.LEFT_PAREN) {
+                expectTable = false;
+            } else if (type == SqlTokenType.RIGHT_PAREN) {
+                fromLists.clear(token.depth() + 1);
+                expectTable = false;
+            } else if (type == SqlTokenType.COMMA) {
+                // 函数参数等逗号位于更深的括号内，表列表中的逗号后必然是下一个表
+                expectTable = fromLists.get(token.depth());
+            } else if (token.isIdentifier()) {
+                // 限定名：schema.table，只保留最后一段
+                while (i + 1 < tokens.size() && tokens.get(i).type() == SqlTokenType.DOT && tokens.get(i + 1).isIdentifier()) {
+                    token = tokens.get(i + 1);
+                    i += 2;
+                }
+                String word = token.identifier().toLowerCase(Locale.ROOT);
+                boolean quoted = token.type() != SqlTokenType.WORD;
+
+                if (expectTable && !quoted && isModifier(word)) {
+                    continue;
+                }
+                if (expectTable && (quoted || !word.equals("dual") && !word.equals("select"))) {
+                    tables.add(word);
+                    expectTable = false;
+                    continue;
+                }
+                expectTable = false;
+                if (quoted) {
+                    continue;
+                }
+                String keyword = previous;
+                previous = word;
+                switch (word) {
+                    case "from" -> {
+                        expectTable = true;
+                        fromLists.set(token.depth());
+                    }
+                    // ON DUPLICATE KEY UPDATE之后是列名
+                    case "update" -> expectTable = !"key".equals(keyword);
+                    case "join", "into", "table" -> expectTable = true;
+                    case "where", "on", "using", "group", "order", "having", "limit", "union",
+                         "set", "values", "select", "window", "for", "lock" -> fromLists.clear(token.depth());
+                    default -> {
+                        // 别名等保持表列表状态
+                    }
+                }
+            } else {
+                expectTable = false;
+            }
+        }
+        return tables.isEmpty() ? Collections.emptySet() : Collections.unmodifiableSet(tables);
+    }
+
+    /**
+     * 出现在表名之前的修饰关键字，如{@code UPDATE IGNORE t}、{@code CREATE TABLE IF NOT EXISTS t}
+     */
+    private static boolean isModifier(String word) {
+        return switch (word) {
+            case "ignore", "low_priority", "only", "lateral", "if", "not", "exists" -> true;
+            default -> false;
+        };
+    }
+}
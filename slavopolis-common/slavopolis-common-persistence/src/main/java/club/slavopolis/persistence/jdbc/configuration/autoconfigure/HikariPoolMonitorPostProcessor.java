@@ -0,0 +1,61 @@
+package club.slavopolis.persistence.jdbc.configuration.autoconfigure;
+
+import club.slavopolis.persistence.jdbc.monitoring.HikariPoolMonitor;
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+
+/**
+ * 连接池监控安装器
+ * <p>在数据源Bean初始化之前把{@link HikariPoolMonitor}安装到HikariCP连接池，读写分离路由数据源的主库和各从库连接池一并安装；
+ * 连接池未配置指标跟踪器时，以容器中的{@link MetricsTrackerFactory}（如Micrometer）作为委托，保留连接池原有的指标</p>
+ *
+ * @author Slavopolis Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+class HikariPoolMonitorPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<HikariPoolMonitor> poolMonitor;
+
+    private final ObjectProvider<MetricsTrackerFactory> trackerFactory;
+
+    HikariPoolMonitorPostProcessor(ObjectProvider<HikariPoolMonitor> poolMonitor,
+                                   ObjectProvider<MetricsTrackerFactory> trackerFactory) {
+        this.poolMonitor = poolMonitor;
+        this.trackerFactory = trackerFactory;
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource hikari) {
+            install(hikari, beanName);
+        } else if (bean instanceof ReadWriteRoutingDataSource routing) {
+            for (DataSource node : routing.getNodeDataSources().values()) {
+                if (node instanceof HikariDataSource hikari) {
+                    install(hikari, beanName);
+                }
+            }
+        }
+        return bean;
+    }
+
+    private void install(HikariDataSource dataSource, String beanName) {
+        HikariPoolMonitor monitor = poolMonitor.getIfAvailable();
+        if (monitor == null) {
+            return;
+        }
+        if (dataSource.getMetricsTrackerFactory() == null && monitor.getDefaultDelegate() == null) {
+            monitor.setDefaultDelegate(trackerFactory.getIfUnique());
+        }
+        if (monitor.install(dataSource)) {
+            log.debug("Connection pool monitor installed on data source bean '{}'", beanName);
+        }
+    }
+}
@@ -1,18 +1,47 @@
 package club.slavopolis.persistence.jdbc.configuration.autoconfigure;
 
+import club.slavopolis.persistence.jdbc.async.AsyncJdbcTemplate;
+import club.slavopolis.persistence.jdbc.async.JdbcBulkhead;
+import club.slavopolis.persistence.jdbc.async.JdbcBulkheadGroup;
+import club.slavopolis.persistence.jdbc.cache.QueryCacheStore;
+import club.slavopolis.persistence.jdbc.cache.QueryResultCache;
+import club.slavopolis.persistence.jdbc.cache.RedisQueryCacheStore;
 import club.slavopolis.persistence.jdbc.configuration.properties.JdbcProperties;
 import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
 import club.slavopolis.persistence.jdbc.core.JdbcOperations;
+import club.slavopolis.persistence.jdbc.deadline.DeadlineAwareJdbcTemplate;
+import club.slavopolis.persistence.jdbc.deadline.QueryDeadlineFilter;
+import club.slavopolis.persistence.jdbc.enums.MappingStrategy;
+import club.slavopolis.persistence.jdbc.monitoring.HikariPoolMonitor;
+import club.slavopolis.persistence.jdbc.monitoring.PoolSaturationListener;
+import club.slavopolis.persistence.jdbc.monitoring.SlowQueryExplainAnalyzer;
+import club.slavopolis.persistence.jdbc.page.PageCountCache;
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRoutingDataSource;
 import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import club.slavopolis.persistence.jdbc.transaction.RetryPolicy;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import jakarta.servlet.Filter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -35,44 +64,271 @@ import javax.sql.DataSource;
 public class JdbcAutoConfiguration {
 
     /**
-     * 配置增强JDBC模板
+     * 配置JDBC执行上下文
+     * <p>监控器、验证器、验证结果缓存和行映射器缓存在应用内共享，各JDBC句柄基于此上下文创建</p>
      * 
      * @param namedParameterJdbcTemplate Spring命名参数JDBC模板
      * @param transactionManager 事务管理器
      * @param transactionDefinition 事务定义
      * @param properties 配置属性
      * @param securityConfig SQL安全配置
-     * @return 增强JDBC模板
+     * @param queryCacheStore 查询结果二级缓存，可不存在
+     * @param poolMonitor 连接池监控器，可不存在
+     * @param explainAnalyzer 慢查询执行计划分析器，可不存在
+     * @return JDBC执行上下文
      */
     @Bean
-    @Primary
-    @ConditionalOnMissingBean(JdbcOperations.class)
-    public EnhancedJdbcTemplate enhancedJdbcTemplate(
+    @ConditionalOnMissingBean
+    public JdbcExecutionContext jdbcExecutionContext(
             NamedParameterJdbcTemplate namedParameterJdbcTemplate,
             DataSourceTransactionManager transactionManager,
             TransactionDefinition transactionDefinition,
             JdbcProperties properties,
-            SqlSecurityConfig securityConfig) {
+            SqlSecurityConfig securityConfig,
+            ObjectProvider<QueryCacheStore> queryCacheStore,
+            ObjectProvider<HikariPoolMonitor> poolMonitor,
+            ObjectProvider<SlowQueryExplainAnalyzer> explainAnalyzer) {
         
-        EnhancedJdbcTemplate template = new EnhancedJdbcTemplate(
-            namedParameterJdbcTemplate, 
+        // 启用截止时间时语句按剩余时间设置查询超时
+        NamedParameterJdbcTemplate template = properties.getDeadline().isEnabled()
+                ? DeadlineAwareJdbcTemplate.wrap(namedParameterJdbcTemplate)
+                : namedParameterJdbcTemplate;
+
+        JdbcExecutionContext context = new JdbcExecutionContext(
+            template, 
             transactionManager, 
             transactionDefinition,
             securityConfig
         );
         
         // 应用基础配置
-        template.setDefaultLoggingEnabled(properties.isDefaultLoggingEnabled());
-        template.setDefaultPageSize(properties.getDefaultPageSize());
-        template.setMaxPageSize(properties.getMaxPageSize());
+        context.setDefaultLoggingEnabled(properties.isDefaultLoggingEnabled());
+        context.setDefaultPageSize(properties.getDefaultPageSize());
+        context.setMaxPageSize(properties.getMaxPageSize());
+        context.setStreamFetchSize(properties.getStreaming().getFetchSize());
+        context.setMysqlStreamingEnabled(properties.getStreaming().isMysqlStreamingEnabled());
+        context.setMappingStrategy(parseMappingStrategy(properties.getMapping().getDefaultStrategy()));
+        context.setCheckFullyPopulated(properties.getMapping().isCheckFullyPopulated());
+        context.setPrimitivesDefaultedForNullValue(properties.getMapping().isPrimitivesDefaultedForNullValue());
+        context.setPageCountCache(new PageCountCache(
+                properties.getPaging().getCountCacheTtl(), properties.getPaging().getCountCacheMaxSize()));
+        if (properties.getQueryCache().isEnabled()) {
+            QueryCacheStore store = queryCacheStore.getIfAvailable();
+            context.setQueryResultCache(new QueryResultCache(
+                    properties.getQueryCache().getTtl(), properties.getQueryCache().getMaxSize(), store));
+            log.info("JDBC query result cache enabled - TTL: {}, Max size: {}, Store: {}",
+                    properties.getQueryCache().getTtl(), properties.getQueryCache().getMaxSize(),
+                    store != null ? store.getClass().getSimpleName() : "none");
+        }
         
-        log.info("Enhanced JDBC Template configured with security settings - " +
+        // 应用监控配置
+        context.getExecutionMonitor().setMonitoringEnabled(properties.getMonitor().isEnabled());
+        context.getExecutionMonitor().setSlowQueryThreshold(properties.getMonitor().getSlowQueryThreshold());
+        context.getExecutionMonitor().setLatencyWindow(properties.getMonitor().getLatencyWindow());
+        context.getExecutionMonitor().setMaxTrackedStatements(properties.getMonitor().getMaxTrackedStatements());
+        context.getExecutionMonitor().setMaxStatisticsEntries(properties.getMonitor().getMaxStatisticsEntries());
+        context.getExecutionMonitor().setStatisticsCleanupInterval(properties.getMonitor().getStatisticsCleanupInterval());
+        context.getExecutionMonitor().setPoolMonitor(poolMonitor.getIfAvailable());
+        context.getExecutionMonitor().setExplainAnalyzer(explainAnalyzer.getIfAvailable());
+        
+        log.info("JDBC execution context configured with security settings - " +
                 "SQL injection detection: {}, Parameter validation: {}, Data masking: {}", 
                 securityConfig.isSqlInjectionDetection(),
                 securityConfig.isParameterValidation(),
                 securityConfig.isSensitiveDataMasking());
         
-        return template;
+        return context;
+    }
+
+    /**
+     * 配置增强JDBC模板
+     * <p>基于共享执行上下文创建，与上下文创建的其他句柄共用监控统计和缓存</p>
+     * 
+     * @param context JDBC执行上下文
+     * @return 增强JDBC模板
+     */
+    @Bean
+    @Primary
+    @ConditionalOnMissingBean(JdbcOperations.class)
+    public EnhancedJdbcTemplate enhancedJdbcTemplate(JdbcExecutionContext context) {
+        return context.newHandle();
+    }
+
+    /**
+     * 配置异步JDBC模板
+     * <p>在虚拟线程上执行查询，每个目标数据源一个舱壁，并发数默认与各自的连接池大小一致；
+     * 启用读写分离时主库和每个从库分别限流</p>
+     *
+     * @param context JDBC执行上下文
+     * @param dataSource 数据源
+     * @param routingDataSource 读写分离数据源，可不存在
+     * @param properties 配置属性
+     * @return 异步JDBC模板
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "slavopolis.jdbc.async", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public AsyncJdbcTemplate asyncJdbcTemplate(JdbcExecutionContext context, DataSource dataSource,
+                                               ObjectProvider<ReadWriteRoutingDataSource> routingDataSource,
+                                               JdbcProperties properties) {
+        JdbcProperties.Async async = properties.getAsync();
+        ReadWriteRoutingDataSource routing = routingDataSource.getIfAvailable();
+        JdbcBulkheadGroup bulkheads;
+        if (routing != null) {
+            bulkheads = JdbcBulkheadGroup.forRouting(routing, async.getMaxConcurrency(), async.getAcquireTimeout());
+        } else {
+            bulkheads = JdbcBulkheadGroup.of(async.getMaxConcurrency() > 0
+                    ? new JdbcBulkhead(async.getMaxConcurrency(), async.getAcquireTimeout())
+                    : JdbcBulkhead.forDataSource(dataSource, async.getAcquireTimeout()));
+        }
+
+        log.info("Async JDBC template enabled - Bulkhead permits: {}, Acquire timeout: {}",
+                bulkheads.getPermits(), async.getAcquireTimeout());
+
+        return new AsyncJdbcTemplate(context, bulkheads);
+    }
+
+    /**
+     * 配置慢查询执行计划分析器
+     * <p>在后台线程上另取连接执行EXPLAIN，按采样率、指纹刷新间隔和每分钟次数限流</p>
+     *
+     * @param dataSource 数据源
+     * @param properties 配置属性
+     * @return 慢查询执行计划分析器
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "slavopolis.jdbc.monitor", name = "explain-enabled", havingValue = "true")
+    public SlowQueryExplainAnalyzer slowQueryExplainAnalyzer(DataSource dataSource, JdbcProperties properties) {
+        JdbcProperties.Monitor monitor = properties.getMonitor();
+        SlowQueryExplainAnalyzer analyzer = new SlowQueryExplainAnalyzer(dataSource, monitor.getExplainTimeout());
+        analyzer.setSampleRate(monitor.getExplainSampleRate());
+        analyzer.setMaxExplainsPerMinute(monitor.getExplainMaxPerMinute());
+        analyzer.setRefreshInterval(monitor.getExplainRefreshInterval());
+
+        log.info("Slow query EXPLAIN analyzer enabled - Sample rate: {}, Max per minute: {}, Refresh interval: {}",
+                monitor.getExplainSampleRate(), monitor.getExplainMaxPerMinute(), monitor.getExplainRefreshInterval());
+        return analyzer;
+    }
+
+    /**
+     * HikariCP连接池监控配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(HikariDataSource.class)
+    @ConditionalOnProperty(prefix = "slavopolis.jdbc.monitor", name = "pool-monitor-enabled", havingValue = "true", matchIfMissing = true)
+    static class PoolMonitorConfiguration {
+
+        /**
+         * 配置连接池监控器
+         *
+         * @param properties 配置属性
+         * @param listeners 饱和告警监听器
+         * @return 连接池监控器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public HikariPoolMonitor hikariPoolMonitor(JdbcProperties properties, ObjectProvider<PoolSaturationListener> listeners) {
+            JdbcProperties.Monitor monitor = properties.getMonitor();
+            HikariPoolMonitor poolMonitor = new HikariPoolMonitor();
+            poolMonitor.setSaturationThreshold(monitor.getPoolSaturationThreshold());
+            poolMonitor.setAlertInterval(monitor.getPoolAlertInterval());
+            poolMonitor.setLatencyWindow(monitor.getLatencyWindow());
+            listeners.orderedStream().forEach(poolMonitor::addListener);
+
+            log.info("Connection pool monitor enabled - Saturation threshold: {}, Alert interval: {}",
+                    monitor.getPoolSaturationThreshold(), monitor.getPoolAlertInterval());
+            return poolMonitor;
+        }
+
+        /**
+         * 配置连接池监控安装器
+         *
+         * @param poolMonitor 连接池监控器
+         * @param trackerFactory 连接池原有的指标跟踪器工厂，可不存在
+         * @return 连接池监控安装器
+         */
+        @Bean
+        public static HikariPoolMonitorPostProcessor hikariPoolMonitorPostProcessor(
+                ObjectProvider<HikariPoolMonitor> poolMonitor, ObjectProvider<MetricsTrackerFactory> trackerFactory) {
+            return new HikariPoolMonitorPostProcessor(poolMonitor, trackerFactory);
+        }
+    }
+
+    /**
+     * 请求截止时间过滤器配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(Filter.class)
+    @ConditionalOnProperty(prefix = "slavopolis.jdbc.deadline", name = {"enabled", "filter-enabled"}, havingValue = "true", matchIfMissing = true)
+    static class QueryDeadlineFilterConfiguration {
+
+        /**
+         * 注册请求截止时间过滤器，排在其他过滤器之前，使整个请求处理都受时限约束
+         *
+         * @param properties 配置属性
+         * @return 过滤器注册
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "queryDeadlineFilter")
+        public FilterRegistrationBean<QueryDeadlineFilter> queryDeadlineFilter(JdbcProperties properties) {
+            JdbcProperties.Deadline deadline = properties.getDeadline();
+            FilterRegistrationBean<QueryDeadlineFilter> registration = new FilterRegistrationBean<>(new QueryDeadlineFilter(
+                    deadline.getRequestTimeoutHeader(), deadline.getDefaultRequestTimeout(), deadline.getMaxRequestTimeout()));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+
+            log.info("Query deadline filter enabled - Header: {}, Default timeout: {}, Max timeout: {}",
+                    deadline.getRequestTimeoutHeader(), deadline.getDefaultRequestTimeout(), deadline.getMaxRequestTimeout());
+            return registration;
+        }
+    }
+
+    /**
+     * Redis查询结果二级缓存配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RedisTemplate.class)
+    @ConditionalOnProperty(prefix = "slavopolis.jdbc.query-cache", name = {"enabled", "redis-enabled"}, havingValue = "true")
+    static class RedisQueryCacheConfiguration {
+
+        /**
+         * 配置Redis查询结果二级缓存
+         * <p>键使用字符串序列化，结果使用JDK序列化，结果类型须实现{@link java.io.Serializable}</p>
+         *
+         * @param connectionFactory Redis连接工厂
+         * @param properties 配置属性
+         * @return 二级缓存存储
+         */
+        @Bean
+        @ConditionalOnMissingBean(QueryCacheStore.class)
+        public RedisQueryCacheStore redisQueryCacheStore(RedisConnectionFactory connectionFactory, JdbcProperties properties) {
+            RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+            redisTemplate.setConnectionFactory(connectionFactory);
+            redisTemplate.setKeySerializer(RedisSerializer.string());
+            redisTemplate.afterPropertiesSet();
+
+            JdbcProperties.QueryCache queryCache = properties.getQueryCache();
+            return new RedisQueryCacheStore(redisTemplate, queryCache.getRedisKeyPrefix(), queryCache.getRedisTtl());
+        }
+
+        /**
+         * 配置查询结果缓存失效通知的监听容器
+         * <p>订阅其他实例发布的失效通知，清除本实例本地缓存中对应的条目</p>
+         *
+         * @param connectionFactory Redis连接工厂
+         * @param store Redis二级缓存存储
+         * @return 消息监听容器
+         */
+        @Bean
+        @ConditionalOnBean(RedisQueryCacheStore.class)
+        public RedisMessageListenerContainer queryCacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                                     RedisQueryCacheStore store) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(connectionFactory);
+            container.addMessageListener(store, store.getInvalidationTopic());
+            return container;
+        }
     }
 
     /**
@@ -123,6 +379,25 @@ public class JdbcAutoConfiguration {
         return definition;
     }
 
+    /**
+     * 配置事务重试策略，所有注入该策略的事务共享重试预算
+     * 
+     * @param properties 配置属性
+     * @return 事务重试策略
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RetryPolicy transactionRetryPolicy(JdbcProperties properties) {
+        JdbcProperties.Transaction txConfig = properties.getTransaction();
+        return RetryPolicy.builder()
+                .maxAttempts(Math.max(txConfig.getRetryMaxAttempts(), 1))
+                .initialBackoff(txConfig.getRetryInitialBackoff())
+                .maxBackoff(txConfig.getRetryMaxBackoff())
+                .budgetRatio(txConfig.getRetryBudgetRatio())
+                .budgetCapacity(txConfig.getRetryBudgetCapacity())
+                .build();
+    }
+
     /**
      * 解析事务传播行为
      * 
@@ -142,6 +417,24 @@ public class JdbcAutoConfiguration {
         };
     }
 
+    /**
+     * 解析映射策略
+     * 
+     * @param strategy 映射策略字符串
+     * @return 映射策略，无法识别时使用智能映射
+     */
+    private MappingStrategy parseMappingStrategy(String strategy) {
+        if (strategy == null) {
+            return MappingStrategy.INTELLIGENT;
+        }
+        return switch (strategy.toUpperCase()) {
+            case "STRICT" -> MappingStrategy.STRICT;
+            case "LOOSE" -> MappingStrategy.LOOSE;
+            case "COMPILED" -> MappingStrategy.COMPILED;
+            default -> MappingStrategy.INTELLIGENT;
+        };
+    }
+
     /**
      * 解析事务隔离级别
      * 
@@ -0,0 +1,119 @@
+package club.slavopolis.persistence.jdbc.configuration.autoconfigure;
+
+import club.slavopolis.persistence.jdbc.batch.WriteBehindBuffer;
+import club.slavopolis.persistence.jdbc.configuration.properties.JdbcProperties;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
+import club.slavopolis.persistence.jdbc.monitoring.SqlExecutionMeterBinder;
+import club.slavopolis.persistence.jdbc.monitoring.SqlStatisticsEndpoint;
+import club.slavopolis.persistence.jdbc.monitoring.WriteBehindMeterBinder;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC监控指标自动配置类
+ * <p>存在Micrometer时导出SQL执行指标和写后缓冲指标，存在Actuator时注册sqlstats端点</p>
+ * <p>启用连接池监控时，连接池的Micrometer跟踪器由本配置提供并作为监控的委托</p>
+ *
+ * @author Slavopolis Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@AutoConfiguration(after = JdbcAutoConfiguration.class,
+        afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+@ConditionalOnBean(JdbcExecutionContext.class)
+public class JdbcMetricsAutoConfiguration {
+
+    /**
+     * Micrometer指标配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterBinder.class)
+    @ConditionalOnProperty(prefix = "slavopolis.jdbc.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class MeterBinderConfiguration {
+
+        /**
+         * 配置SQL执行指标绑定器
+         *
+         * @param context JDBC执行上下文
+         * @param properties 配置属性
+         * @return SQL执行指标绑定器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public SqlExecutionMeterBinder sqlExecutionMeterBinder(JdbcExecutionContext context, JdbcProperties properties) {
+            JdbcProperties.Metrics metrics = properties.getMetrics();
+
+            log.info("SQL execution metrics enabled - Max fingerprints: {}, Refresh interval: {}",
+                    metrics.getMaxFingerprints(), metrics.getRefreshInterval());
+
+            return new SqlExecutionMeterBinder(
+                context.getExecutionMonitor(),
+                metrics.getMaxFingerprints(),
+                metrics.getRefreshInterval()
+            );
+        }
+
+        /**
+         * 配置连接池的Micrometer指标跟踪器
+         * <p>连接池监控安装后Spring Boot不再为连接池设置跟踪器，由此保留hikaricp.*指标，作为连接池监控的委托</p>
+         *
+         * @param meterRegistry 指标注册表
+         * @return 指标跟踪器工厂
+         */
+        @Bean
+        @ConditionalOnClass(HikariDataSource.class)
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean(MetricsTrackerFactory.class)
+        public MetricsTrackerFactory hikariMetricsTrackerFactory(MeterRegistry meterRegistry) {
+            return new MicrometerMetricsTrackerFactory(meterRegistry);
+        }
+
+        /**
+         * 配置写后缓冲指标绑定器
+         *
+         * @param buffers 写后缓冲区
+         * @return 写后缓冲指标绑定器
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public WriteBehindMeterBinder writeBehindMeterBinder(ObjectProvider<WriteBehindBuffer<?>> buffers) {
+            return new WriteBehindMeterBinder(buffers);
+        }
+    }
+
+    /**
+     * Actuator端点配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass({Endpoint.class, ConditionalOnAvailableEndpoint.class})
+    static class EndpointConfiguration {
+
+        /**
+         * 配置SQL执行统计端点
+         *
+         * @param context JDBC执行上下文
+         * @return SQL执行统计端点
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnAvailableEndpoint(endpoint = SqlStatisticsEndpoint.class)
+        public SqlStatisticsEndpoint sqlStatisticsEndpoint(JdbcExecutionContext context) {
+            return new SqlStatisticsEndpoint(context.getExecutionMonitor());
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package club.slavopolis.persistence.jdbc.configuration.autoconfigure;
+
+import club.slavopolis.persistence.jdbc.configuration.properties.JdbcProperties;
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRoutingDataSource;
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRoutingFilter;
+import club.slavopolis.persistence.jdbc.routing.ReplicaLagProbe;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.Filter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 读写分离自动配置类
+ * <p>启用后以延迟连接代理包装的路由数据源作为主数据源，JDBC模板和事务管理器均基于此数据源创建；
+ * Servlet应用中同时注册{@link ReadWriteRoutingFilter}，读己之写的粘滞范围限定在单个请求内</p>
+ *
+ * @author Slavopolis Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+@AutoConfiguration(before = {DataSourceAutoConfiguration.class, JdbcAutoConfiguration.class})
+@ConditionalOnClass(HikariDataSource.class)
+@ConditionalOnProperty(prefix = "slavopolis.jdbc.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties({JdbcProperties.class, DataSourceProperties.class})
+public class ReadWriteRoutingAutoConfiguration {
+
+    /**
+     * 配置读写分离路由数据源
+     *
+     * @param properties 配置属性
+     * @param dataSourceProperties Spring数据源配置，主库未单独配置时使用
+     * @return 路由数据源
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ReadWriteRoutingDataSource readWriteRoutingDataSource(JdbcProperties properties,
+                                                                 DataSourceProperties dataSourceProperties) {
+        JdbcProperties.Routing routing = properties.getRouting();
+
+        DataSource primary = StringUtils.hasText(routing.getPrimary().getUrl())
+                ? createDataSource("primary", routing.getPrimary())
+                : dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        routing.getReplicas().forEach((name, node) -> replicas.put(name, createDataSource(name, node)));
+
+        ReadWriteRoutingDataSource dataSource = new ReadWriteRoutingDataSource(primary, replicas);
+        dataSource.setLagProbe(parseLagProbe(routing));
+        dataSource.setMaxReplicaLag(routing.getMaxReplicaLag());
+        dataSource.setStickiness(routing.getStickiness());
+        dataSource.setHealthCheckInterval(routing.getHealthCheckInterval());
+        dataSource.setCloseTargetsOnClose(true);
+
+        log.info("Read/write routing enabled - Replicas: {}, Lag probe: {}, Max replica lag: {}, Stickiness: {}",
+                replicas.keySet(), routing.getLagProbe(), routing.getMaxReplicaLag(), routing.getStickiness());
+
+        return dataSource;
+    }
+
+    /**
+     * 配置主数据源
+     * <p>延迟到第一条语句执行时才获取真正的连接，使事务的只读标志参与路由</p>
+     *
+     * @param routingDataSource 路由数据源
+     * @return 数据源
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return routingDataSource.toLazyProxy();
+    }
+
+    /**
+     * 读写路由请求过滤器配置
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(Filter.class)
+    @ConditionalOnProperty(prefix = "slavopolis.jdbc.routing", name = "filter-enabled", havingValue = "true", matchIfMissing = true)
+    static class ReadWriteRoutingFilterConfiguration {
+
+        /**
+         * 注册读写路由请求过滤器，排在其他过滤器之前，请求结束时清除容器线程上的写入记录
+         *
+         * @return 过滤器注册
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "readWriteRoutingFilter")
+        public FilterRegistrationBean<ReadWriteRoutingFilter> readWriteRoutingFilter() {
+            FilterRegistrationBean<ReadWriteRoutingFilter> registration = new FilterRegistrationBean<>(new ReadWriteRoutingFilter());
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+            return registration;
+        }
+    }
+
+    /**
+     * 创建节点连接池
+     *
+     * @param name 节点名称
+     * @param node 节点配置
+     * @return 连接池
+     */
+    private HikariDataSource createDataSource(String name, JdbcProperties.Node node) {
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword());
+        if (StringUtils.hasText(node.getDriverClassName())) {
+            builder.driverClassName(node.getDriverClassName());
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("slavopolis-" + name);
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        return dataSource;
+    }
+
+    /**
+     * 解析延迟探测方式
+     *
+     * @param routing 读写分离配置
+     * @return 延迟探测
+     */
+    private ReplicaLagProbe parseLagProbe(JdbcProperties.Routing routing) {
+        String probe = routing.getLagProbe() == null ? "CONNECTIVITY" : routing.getLagProbe().toUpperCase();
+        return switch (probe) {
+            case "MYSQL" -> ReplicaLagProbe.mysql();
+            case "QUERY" -> {
+                if (!StringUtils.hasText(routing.getLagQuery())) {
+                    throw new IllegalStateException("slavopolis.jdbc.routing.lag-query is required when lag-probe is QUERY");
+                }
+                yield ReplicaLagProbe.query(routing.getLagQuery());
+            }
+            default -> ReplicaLagProbe.connectivity(5);
+        };
+    }
+}
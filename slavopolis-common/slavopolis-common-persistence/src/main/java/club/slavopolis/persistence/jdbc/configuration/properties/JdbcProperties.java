@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * JDBC配置属性
@@ -57,6 +59,41 @@ public class JdbcProperties {
      */
     private Mapping mapping = new Mapping();
 
+    /**
+     * 流式查询配置
+     */
+    private Streaming streaming = new Streaming();
+
+    /**
+     * 指标导出配置
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 分页配置
+     */
+    private Paging paging = new Paging();
+
+    /**
+     * 异步执行配置
+     */
+    private Async async = new Async();
+
+    /**
+     * 读写分离配置
+     */
+    private Routing routing = new Routing();
+
+    /**
+     * 查询结果缓存配置
+     */
+    private QueryCache queryCache = new QueryCache();
+
+    /**
+     * 查询截止时间配置
+     */
+    private Deadline deadline = new Deadline();
+
     /**
      * 监控配置
      */
@@ -79,14 +116,64 @@ public class JdbcProperties {
         private boolean statisticsEnabled = true;
 
         /**
-         * 统计信息清理间隔
+         * 统计信息清理间隔，超过该时间未出现的慢查询和语句统计被淘汰
          */
         private Duration statisticsCleanupInterval = Duration.ofHours(1);
 
         /**
-         * 最大统计条目数
+         * 最大统计条目数（慢查询最多跟踪的SQL指纹数）
          */
         private int maxStatisticsEntries = 10000;
+
+        /**
+         * 延迟分布滚动窗口长度
+         */
+        private Duration latencyWindow = Duration.ofMinutes(1);
+
+        /**
+         * 最多单独统计延迟分布的SQL语句数
+         */
+        private int maxTrackedStatements = 256;
+
+        /**
+         * 是否监控HikariCP连接池：区分语句的连接获取等待和执行耗时，导出连接数并在饱和时告警
+         */
+        private boolean poolMonitorEnabled = true;
+
+        /**
+         * 连接池饱和告警阈值：使用中的连接数占最大连接数的比例，有线程等待连接时视为饱和
+         */
+        private double poolSaturationThreshold = 0.9;
+
+        /**
+         * 同一连接池两次饱和告警的最小间隔
+         */
+        private Duration poolAlertInterval = Duration.ofMinutes(1);
+
+        /**
+         * 是否在后台对慢查询执行EXPLAIN并保存执行计划
+         */
+        private boolean explainEnabled = false;
+
+        /**
+         * 慢查询触发执行计划分析的采样率
+         */
+        private double explainSampleRate = 0.1;
+
+        /**
+         * 每分钟最多执行的EXPLAIN次数
+         */
+        private int explainMaxPerMinute = 6;
+
+        /**
+         * 同一SQL指纹两次执行计划分析的最小间隔
+         */
+        private Duration explainRefreshInterval = Duration.ofMinutes(30);
+
+        /**
+         * EXPLAIN的查询超时
+         */
+        private Duration explainTimeout = Duration.ofSeconds(5);
     }
 
     /**
@@ -155,6 +242,31 @@ public class JdbcProperties {
          * 回滚异常类名列表
          */
         private String[] rollbackFor = {"java.lang.Exception"};
+
+        /**
+         * 瞬时异常重试的最大尝试次数（含首次执行），只对显式传入重试策略的事务生效
+         */
+        private int retryMaxAttempts = 3;
+
+        /**
+         * 首次重试前的退避上限
+         */
+        private Duration retryInitialBackoff = Duration.ofMillis(20);
+
+        /**
+         * 重试退避上限
+         */
+        private Duration retryMaxBackoff = Duration.ofSeconds(1);
+
+        /**
+         * 每个事务存入的重试令牌数，限制重试次数占事务数的比例
+         */
+        private double retryBudgetRatio = 0.2;
+
+        /**
+         * 最多累计的重试令牌数
+         */
+        private int retryBudgetCapacity = 10;
     }
 
     /**
@@ -164,7 +276,7 @@ public class JdbcProperties {
     public static class Mapping {
         
         /**
-         * 默认映射策略
+         * 默认映射策略（STRICT、LOOSE、INTELLIGENT、COMPILED），编译映射COMPILED需显式启用
          */
         private String defaultStrategy = "INTELLIGENT";
 
@@ -193,4 +305,236 @@ public class JdbcProperties {
          */
         private boolean underscoreToCamelCase = true;
     }
-} 
\ No newline at end of file
+
+    /**
+     * 流式查询配置
+     */
+    @Data
+    public static class Streaming {
+
+        /**
+         * 默认fetch size（每批从数据库拉取的行数）
+         */
+        private int fetchSize = 1000;
+
+        /**
+         * 是否对MySQL启用逐行流式读取（fetch size为Integer.MIN_VALUE）
+         * <p>关闭后MySQL需在连接参数中配置useCursorFetch=true才能按fetch size分批读取</p>
+         */
+        private boolean mysqlStreamingEnabled = true;
+    }
+
+    /**
+     * 指标导出配置
+     */
+    @Data
+    public static class Metrics {
+
+        /**
+         * 是否向Micrometer导出SQL执行指标
+         */
+        private boolean enabled = true;
+
+        /**
+         * 按SQL指纹导出的最大指纹数（按最近p99排序），用于限制标签基数
+         */
+        private int maxFingerprints = 50;
+
+        /**
+         * 按SQL指纹的指标刷新间隔
+         */
+        private Duration refreshInterval = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 分页配置
+     */
+    @Data
+    public static class Paging {
+
+        /**
+         * 缓存计数分页模式下总数的缓存有效期
+         */
+        private Duration countCacheTtl = Duration.ofSeconds(30);
+
+        /**
+         * 缓存计数分页模式下的最大缓存条目数
+         */
+        private int countCacheMaxSize = 1024;
+    }
+
+    /**
+     * 异步执行配置
+     */
+    @Data
+    public static class Async {
+
+        /**
+         * 是否启用异步JDBC模板
+         */
+        private boolean enabled = true;
+
+        /**
+         * 每个目标数据源的最大并发执行数，小于等于0时使用各自连接池的最大连接数
+         */
+        private int maxConcurrency = 0;
+
+        /**
+         * 等待执行许可的最长时间
+         */
+        private Duration acquireTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 读写分离配置
+     */
+    @Data
+    public static class Routing {
+
+        /**
+         * 是否启用读写分离
+         */
+        private boolean enabled = false;
+
+        /**
+         * 主库连接配置，未配置url时使用spring.datasource
+         */
+        private Node primary = new Node();
+
+        /**
+         * 从库连接配置，键为从库名称
+         */
+        private Map<String, Node> replicas = new LinkedHashMap<>();
+
+        /**
+         * 写入后同一线程的读取继续使用主库的时间窗口
+         */
+        private Duration stickiness = Duration.ofSeconds(5);
+
+        /**
+         * 是否注册请求结束时清除写入记录的过滤器，仅Servlet应用生效
+         */
+        private boolean filterEnabled = true;
+
+        /**
+         * 允许的最大复制延迟，超过时从库被剔除出读路由
+         */
+        private Duration maxReplicaLag = Duration.ofSeconds(10);
+
+        /**
+         * 从库健康检查间隔
+         */
+        private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+        /**
+         * 延迟探测方式：CONNECTIVITY（仅检查连通性）、MYSQL（SHOW REPLICA STATUS）、QUERY（执行lagQuery）
+         */
+        private String lagProbe = "CONNECTIVITY";
+
+        /**
+         * 延迟查询，返回延迟秒数，lagProbe为QUERY时使用
+         */
+        private String lagQuery;
+    }
+
+    /**
+     * 查询结果缓存配置
+     */
+    @Data
+    public static class QueryCache {
+
+        /**
+         * 是否启用查询结果缓存，只对显式调用缓存查询方法的查询生效
+         */
+        private boolean enabled = false;
+
+        /**
+         * 本地缓存有效期，多实例部署时也是其他实例写入后本地旧结果的最长保留时间
+         */
+        private Duration ttl = Duration.ofSeconds(30);
+
+        /**
+         * 最大本地缓存条目数
+         */
+        private int maxSize = 10000;
+
+        /**
+         * 是否启用Redis二级缓存，需要容器中存在RedisConnectionFactory
+         */
+        private boolean redisEnabled = false;
+
+        /**
+         * Redis二级缓存有效期
+         */
+        private Duration redisTtl = Duration.ofMinutes(5);
+
+        /**
+         * Redis键前缀
+         */
+        private String redisKeyPrefix = "slavopolis:jdbc:qc:";
+    }
+
+    /**
+     * 查询截止时间配置
+     */
+    @Data
+    public static class Deadline {
+
+        /**
+         * 是否按截止时间设置语句的查询超时，关闭后截止时间上下文不再生效
+         */
+        private boolean enabled = true;
+
+        /**
+         * 是否注册请求截止时间过滤器，仅Servlet应用生效
+         */
+        private boolean filterEnabled = true;
+
+        /**
+         * 携带请求时限的请求头，值为毫秒数
+         */
+        private String requestTimeoutHeader = "X-Request-Timeout";
+
+        /**
+         * 请求未携带时限时使用的默认时限，为空时不限制
+         */
+        private Duration defaultRequestTimeout;
+
+        /**
+         * 请求时限上限，请求头中更长的时限按该值截断
+         */
+        private Duration maxRequestTimeout = Duration.ofSeconds(30);
+    }
+
+    /**
+     * 数据库节点连接配置
+     */
+    @Data
+    public static class Node {
+
+        /**
+         * JDBC连接地址
+         */
+        private String url;
+
+        /**
+         * 用户名
+         */
+        private String username;
+
+        /**
+         * 密码
+         */
+        private String password;
+
+        /**
+         * 驱动类名，为空时根据url推断
+         */
+        private String driverClassName;
+
+        /**
+         * 连接池最大连接数
+         */
+        private int maximumPoolSize = 10;
+    }
+}
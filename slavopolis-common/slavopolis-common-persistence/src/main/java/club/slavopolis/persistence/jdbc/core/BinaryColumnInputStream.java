@@ -0,0 +1,105 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * 二进制列拼接输入流
+ * <p>按结果集顺序依次读取每行的二进制列，读完一行才推进到下一行，列值为NULL的行跳过；关闭时关闭结果流并释放数据库连接</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+final class BinaryColumnInputStream extends InputStream {
+
+    /**
+     * 每行二进制列的结果流，持有数据库连接
+     */
+    private final Stream<InputStream> rows;
+
+    private final Iterator<InputStream> iterator;
+
+    /**
+     * 当前行的输入流，推进到下一行后失效
+     */
+    private InputStream current;
+
+    private boolean closed;
+
+    BinaryColumnInputStream(Stream<InputStream> rows) {
+        this.rows = rows;
+        this.iterator = rows.iterator();
+    }
+
+    @Override
+    public int read() throws IOException {
+        InputStream in;
+        while ((in = currentRow()) != null) {
+            int b = in.read();
+            if (b >= 0) {
+                return b;
+            }
+            current = null;
+        }
+        return -1;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        if (len == 0) {
+            return 0;
+        }
+        InputStream in;
+        while ((in = currentRow()) != null) {
+            int n = in.read(b, off, len);
+            if (n > 0) {
+                return n;
+            }
+            if (n < 0) {
+                current = null;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return !closed && current != null ? current.available() : 0;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            current = null;
+            rows.close();
+        }
+    }
+
+    /**
+     * 获取当前行的输入流，当前行读完时推进到下一个非NULL行
+     *
+     * @return 输入流，没有更多行时返回null
+     */
+    private InputStream currentRow() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        try {
+            while (current == null && iterator.hasNext()) {
+                current = iterator.next();
+            }
+        } catch (RuntimeException e) {
+            throw new IOException("Failed to fetch next binary row", e);
+        }
+        return current;
+    }
+}
@@ -0,0 +1,29 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 二进制流回调接口
+ * <p>在数据库连接和结果集保持打开期间读取二进制列，回调返回后流即失效</p>
+ *
+ * @param <T> 返回类型
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@FunctionalInterface
+public interface BinaryStreamCallback<T> {
+
+    /**
+     * 读取二进制列
+     *
+     * @param stream 二进制列的输入流，列值为NULL时为null
+     * @return 处理结果
+     * @throws IOException 读取失败
+     */
+    T doWithStream(InputStream stream) throws IOException;
+}
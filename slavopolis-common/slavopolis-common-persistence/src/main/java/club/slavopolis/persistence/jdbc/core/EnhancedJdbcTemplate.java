@@ -1,21 +1,51 @@
 package club.slavopolis.persistence.jdbc.core;
 
+import club.slavopolis.base.response.CursorPageResponse;
 import club.slavopolis.base.response.PageResponse;
+import club.slavopolis.persistence.jdbc.batch.BulkWriteOptions;
+import club.slavopolis.persistence.jdbc.batch.BulkWriteResult;
+import club.slavopolis.persistence.jdbc.batch.MultiRowInsert;
+import club.slavopolis.persistence.jdbc.cache.QueryResultCache;
+import club.slavopolis.persistence.jdbc.deadline.DeadlineContext;
 import club.slavopolis.persistence.jdbc.exception.SecurityException;
+import club.slavopolis.persistence.jdbc.page.PageCountCache;
+import club.slavopolis.persistence.jdbc.page.SeekCursor;
+import club.slavopolis.persistence.jdbc.page.SeekKey;
 import club.slavopolis.persistence.jdbc.parameter.TypeSafeParameterSource;
+import club.slavopolis.persistence.jdbc.transaction.RetryPolicy;
 import club.slavopolis.persistence.jdbc.transaction.TransactionCallback;
 import club.slavopolis.persistence.jdbc.transaction.TransactionStatus;
+import club.slavopolis.persistence.jdbc.transaction.UnitOfWork;
 import club.slavopolis.persistence.jdbc.transaction.DefaultTransactionStatus;
+import club.slavopolis.persistence.jdbc.enums.MappingStrategy;
+import club.slavopolis.persistence.jdbc.enums.PageMode;
+import club.slavopolis.persistence.jdbc.enums.SqlOperationType;
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+import club.slavopolis.persistence.jdbc.mapping.BeanRowMapper;
+import club.slavopolis.persistence.jdbc.mapping.CompactRowMapper;
+import club.slavopolis.persistence.jdbc.mapping.CompiledRowMapper;
 import club.slavopolis.persistence.jdbc.mapping.IntelligentRowMapper;
+import club.slavopolis.persistence.jdbc.mapping.RowMapperKey;
+import club.slavopolis.persistence.jdbc.monitoring.ConnectionWaitTracker;
 import club.slavopolis.persistence.jdbc.monitoring.SqlExecutionMonitor;
+import club.slavopolis.persistence.jdbc.monitoring.SqlFingerprinter;
+import club.slavopolis.persistence.jdbc.monitoring.ValidationCacheStatistics;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.parser.SqlToken;
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRouting;
+import club.slavopolis.persistence.jdbc.security.SensitiveSqlMasker;
 import club.slavopolis.persistence.jdbc.security.SqlInjectionValidator;
 import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import club.slavopolis.persistence.jdbc.security.SqlValidationCache;
+import club.slavopolis.persistence.jdbc.security.SqlValidationCache.SqlVerdict;
 import club.slavopolis.persistence.jdbc.exception.TransactionException;
 import club.slavopolis.persistence.jdbc.exception.MappingException;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
@@ -24,12 +54,24 @@ import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.Blob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static club.slavopolis.persistence.jdbc.Constant.JdbcConstant.*;
 
@@ -81,9 +123,24 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     private final SqlSecurityConfig securityConfig;
 
     /**
-     * 智能行映射器缓存
+     * SQL验证结果缓存
      */
-    private final Map<Class<?>, RowMapper<?>> rowMapperCache = new ConcurrentHashMap<>();
+    private final SqlValidationCache validationCache;
+
+    /**
+     * 智能行映射器缓存，按目标类型、映射策略和映射选项区分
+     */
+    private final Map<RowMapperKey, RowMapper<?>> rowMapperCache;
+
+    /**
+     * 分页总数缓存
+     */
+    private final PageCountCache pageCountCache;
+
+    /**
+     * 查询结果缓存，未启用时为null
+     */
+    private QueryResultCache queryResultCache;
 
     /**
      * 默认启用日志
@@ -100,6 +157,36 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
      */
     private int maxPageSize = 1000;
 
+    /**
+     * 二进制流查询的fetch size，每批只拉取一行，避免驱动一次缓存多行大字段
+     */
+    private static final int BINARY_STREAM_FETCH_SIZE = 1;
+
+    /**
+     * 流式查询默认fetch size
+     */
+    private int streamFetchSize = 1000;
+
+    /**
+     * 是否对MySQL启用逐行流式读取
+     */
+    private boolean mysqlStreamingEnabled = true;
+
+    /**
+     * 实体映射策略
+     */
+    private MappingStrategy mappingStrategy = MappingStrategy.INTELLIGENT;
+
+    /**
+     * 是否检查完整映射
+     */
+    private boolean checkFullyPopulated = false;
+
+    /**
+     * 原始类型属性遇到NULL值时是否保留默认值
+     */
+    private boolean primitivesDefaultedForNullValue = false;
+
     /**
      * 构造函数 - 仅包含NamedParameterJdbcTemplate
      *
@@ -115,6 +202,10 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         this.sqlValidator = new SqlInjectionValidator();
         // 使用默认配置
         this.securityConfig = new SqlSecurityConfig();
+        this.validationCache = SqlValidationCache.of(this.securityConfig);
+        this.executionMonitor.setSensitiveParameterMatcher(this.securityConfig::isSensitiveParameter);
+        this.rowMapperCache = new ConcurrentHashMap<>();
+        this.pageCountCache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
     }
 
     /**
@@ -135,6 +226,10 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         this.sqlValidator = new SqlInjectionValidator();
         // 使用默认配置
         this.securityConfig = new SqlSecurityConfig();
+        this.validationCache = SqlValidationCache.of(this.securityConfig);
+        this.executionMonitor.setSensitiveParameterMatcher(this.securityConfig::isSensitiveParameter);
+        this.rowMapperCache = new ConcurrentHashMap<>();
+        this.pageCountCache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
     }
 
     /**
@@ -158,6 +253,10 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         this.sqlValidator = new SqlInjectionValidator();
         // 使用默认配置
         this.securityConfig = new SqlSecurityConfig();
+        this.validationCache = SqlValidationCache.of(this.securityConfig);
+        this.executionMonitor.setSensitiveParameterMatcher(this.securityConfig::isSensitiveParameter);
+        this.rowMapperCache = new ConcurrentHashMap<>();
+        this.pageCountCache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
     }
 
     /**
@@ -181,8 +280,42 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         this.transactionManager = transactionManager;
         this.defaultTransactionDefinition = transactionDefinition;
         this.executionMonitor = new SqlExecutionMonitor();
-        this.sqlValidator = new SqlInjectionValidator();
+        this.sqlValidator = SqlInjectionValidator.of(securityConfig);
         this.securityConfig = securityConfig;
+        this.validationCache = SqlValidationCache.of(securityConfig);
+        this.executionMonitor.setSensitiveParameterMatcher(this.securityConfig::isSensitiveParameter);
+        this.rowMapperCache = new ConcurrentHashMap<>();
+        this.pageCountCache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * 构造函数 - 基于共享执行上下文
+     * <p>监控器、验证器和各类缓存与上下文共享，仅事务状态属于本实例，推荐通过{@link JdbcExecutionContext#newHandle()}创建</p>
+     *
+     * @param context JDBC执行上下文
+     */
+    public EnhancedJdbcTemplate(JdbcExecutionContext context) {
+        Assert.notNull(context, "JdbcExecutionContext 不能为空");
+
+        this.namedParameterJdbcTemplate = context.getNamedParameterJdbcTemplate();
+        this.transactionManager = context.getTransactionManager();
+        this.defaultTransactionDefinition = context.getTransactionDefinition();
+        this.executionMonitor = context.getExecutionMonitor();
+        this.sqlValidator = context.getSqlValidator();
+        this.securityConfig = context.getSecurityConfig();
+        this.validationCache = context.getValidationCache();
+        this.rowMapperCache = context.getRowMapperCache();
+        this.pageCountCache = context.getPageCountCache();
+        this.queryResultCache = context.getQueryResultCache();
+
+        this.defaultLoggingEnabled = context.isDefaultLoggingEnabled();
+        this.defaultPageSize = context.getDefaultPageSize();
+        this.maxPageSize = context.getMaxPageSize();
+        this.streamFetchSize = context.getStreamFetchSize();
+        this.mysqlStreamingEnabled = context.isMysqlStreamingEnabled();
+        this.mappingStrategy = context.getMappingStrategy();
+        this.checkFullyPopulated = context.isCheckFullyPopulated();
+        this.primitivesDefaultedForNullValue = context.isPrimitivesDefaultedForNullValue();
     }
 
     // ================================
@@ -292,6 +425,18 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         return Optional.ofNullable(result);
     }
 
+    @Override
+    public <T> Optional<T> queryForOptionalCached(String sql, Map<String, Object> params, Class<T> requiredType) {
+        return queryForOptionalCached(sql, params, requiredType, defaultLoggingEnabled);
+    }
+
+    @Override
+    public <T> Optional<T> queryForOptionalCached(String sql, Map<String, Object> params, Class<T> requiredType, boolean enableLogging) {
+        T result = executeCachedQuery(sql, params, requiredType, "object:" + requiredType.getName(),
+                () -> queryForObject(sql, params, requiredType, enableLogging));
+        return Optional.ofNullable(result);
+    }
+
     // ================================
     // 查询操作实现 - Map返回
     // ================================
@@ -306,7 +451,7 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     public Map<String, Object> queryForMap(String sql, Map<String, Object> params, boolean enableLogging) {
         return executeQuery(sql, params, enableLogging, () -> {
             try {
-                return namedParameterJdbcTemplate.queryForMap(sql, params);
+                return namedParameterJdbcTemplate.queryForObject(sql, params, new CompactRowMapper());
             } catch (EmptyResultDataAccessException e) {
                 return null;
             }
@@ -323,8 +468,8 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     public Map<String, Object> queryForMap(String sql, Map<String, Object> params, String keyCase, boolean enableLogging) {
         return executeQuery(sql, params, enableLogging, () -> {
             try {
-                Map<String, Object> result = namedParameterJdbcTemplate.queryForMap(sql, params);
-                return transformMapKeys(result, keyCase);
+                // 键名转换在构建列头时完成
+                return namedParameterJdbcTemplate.queryForObject(sql, params, new CompactRowMapper(keyCase));
             } catch (EmptyResultDataAccessException e) {
                 return null;
             }
@@ -344,7 +489,7 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     @SuppressWarnings("SqlSourceToSinkFlow")
     public List<Map<String, Object>> queryForList(String sql, Map<String, Object> params, boolean enableLogging) {
         return executeQuery(sql, params, enableLogging, () ->
-                namedParameterJdbcTemplate.queryForList(sql, params));
+                namedParameterJdbcTemplate.query(sql, params, new CompactRowMapper()));
     }
 
     @Override
@@ -355,12 +500,9 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     @Override
     @SuppressWarnings("SqlSourceToSinkFlow")
     public List<Map<String, Object>> queryForList(String sql, Map<String, Object> params, String keyCase, boolean enableLogging) {
-        return executeQuery(sql, params, enableLogging, () -> {
-            List<Map<String, Object>> results = namedParameterJdbcTemplate.queryForList(sql, params);
-            return results.stream()
-                    .map(map -> transformMapKeys(map, keyCase))
-                    .toList();
-        });
+        // 键名转换每个结果集只执行一次，各行共享转换后的列头
+        return executeQuery(sql, params, enableLogging, () ->
+                namedParameterJdbcTemplate.query(sql, params, new CompactRowMapper(keyCase)));
     }
 
     @Override
@@ -392,6 +534,17 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         return executeQuery(sql, params, defaultLoggingEnabled, () -> namedParameterJdbcTemplate.query(sql, params, rowMapper));
     }
 
+    @Override
+    public <T> List<T> queryForListCached(String sql, Map<String, Object> params, Class<T> requiredType) {
+        return queryForListCached(sql, params, requiredType, defaultLoggingEnabled);
+    }
+
+    @Override
+    public <T> List<T> queryForListCached(String sql, Map<String, Object> params, Class<T> requiredType, boolean enableLogging) {
+        return executeCachedQuery(sql, params, requiredType, "list:" + requiredType.getName(),
+                () -> queryForList(sql, params, requiredType, enableLogging));
+    }
+
     // ================================
     // 查询操作实现 - 二进制数据
     // ================================
@@ -413,6 +566,62 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         });
     }
 
+    @Override
+    public <T> T queryForBinaryStream(String sql, Map<String, Object> params, BinaryStreamCallback<T> callback) {
+        Assert.notNull(callback, "Binary stream callback cannot be null");
+        try (Stream<InputStream> rows = executeBinaryStreamQuery(sql, params)) {
+            Iterator<InputStream> iterator = rows.iterator();
+            return iterator.hasNext() ? callback.doWithStream(iterator.next()) : null;
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("Failed to read binary stream: " + maskSensitiveParams(sql, params), e);
+        }
+    }
+
+    @Override
+    public InputStream queryForBinaryStream(String sql, Map<String, Object> params) {
+        return new BinaryColumnInputStream(executeBinaryStreamQuery(sql, params));
+    }
+
+    // ================================
+    // 查询操作实现 - 流式返回
+    // ================================
+
+    @Override
+    public <T> Stream<T> queryForStream(String sql, Map<String, Object> params, Class<T> requiredType) {
+        return queryForStream(sql, params, requiredType, streamFetchSize);
+    }
+
+    @Override
+    public <T> Stream<T> queryForStream(String sql, Map<String, Object> params, Class<T> requiredType, int fetchSize) {
+        Assert.notNull(requiredType, "Required type cannot be null");
+        RowMapper<T> rowMapper = getOrCreateRowMapper(requiredType);
+        if (rowMapper == null) {
+            rowMapper = IntelligentRowMapper.singleColumn(requiredType);
+        }
+        return executeStreamQuery(sql, params, fetchSize, defaultLoggingEnabled, rowMapper);
+    }
+
+    @Override
+    public <T> Stream<T> queryForStream(String sql, Map<String, Object> params, RowMapper<T> rowMapper) {
+        return executeStreamQuery(sql, params, streamFetchSize, defaultLoggingEnabled, rowMapper);
+    }
+
+    @Override
+    public <T> long queryForEach(String sql, Map<String, Object> params, Class<T> requiredType, Consumer<? super T> action) {
+        Assert.notNull(action, "Row action cannot be null");
+        try (Stream<T> stream = queryForStream(sql, params, requiredType)) {
+            return consumeStream(stream, action);
+        }
+    }
+
+    @Override
+    public <T> long queryForEach(String sql, Map<String, Object> params, RowMapper<T> rowMapper, Consumer<? super T> action) {
+        Assert.notNull(action, "Row action cannot be null");
+        try (Stream<T> stream = queryForStream(sql, params, rowMapper)) {
+            return consumeStream(stream, action);
+        }
+    }
+
     // ================================
     // 更新操作实现
     // ================================
@@ -449,6 +658,28 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         );
     }
 
+    @Override
+    public void deferUpdate(String sql, Map<String, Object> params) {
+        deferUpdate(sql, params, defaultLoggingEnabled);
+    }
+
+    @Override
+    public void deferUpdate(String sql, Map<String, Object> params, boolean enableLogging) {
+        DataSource dataSource = namedParameterJdbcTemplate.getJdbcTemplate().getDataSource();
+        UnitOfWork unitOfWork = dataSource != null ? UnitOfWork.bindIfAbsent(dataSource, this::flushWriteGroup) : null;
+        if (unitOfWork == null) {
+            update(sql, params, enableLogging);
+            return;
+        }
+        enqueueUpdate(unitOfWork, sql, params, enableLogging);
+    }
+
+    @Override
+    public int flushDeferredUpdates() {
+        UnitOfWork unitOfWork = activeUnitOfWork();
+        return unitOfWork != null ? unitOfWork.flush() : 0;
+    }
+
     // ================================
     // 批处理操作实现
     // ================================
@@ -472,6 +703,127 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
                 namedParameterJdbcTemplate.batchUpdate(sql, batchParams));
     }
 
+    @Override
+    public BulkWriteResult bulkWrite(String sql, Iterable<? extends Map<String, Object>> rows) {
+        return bulkWrite(sql, rows, BulkWriteOptions.DEFAULTS);
+    }
+
+    @Override
+    public BulkWriteResult bulkWrite(String sql, Iterable<? extends Map<String, Object>> rows, BulkWriteOptions options) {
+        Assert.hasText(sql, "SQL must not be empty");
+        Assert.notNull(rows, "Rows must not be null");
+        Assert.notNull(options, "Bulk write options must not be null");
+        Assert.isTrue(options.getChunkSize() > 0, "Chunk size must be positive");
+
+        // SQL只验证一次，各子批次复用验证结果
+        SqlVerdict verdict = validationCache.get(sql, this::evaluateStatement);
+        verdict.throwIfRejected();
+        String validatedSql = verdict.normalizedSql();
+        validateBatchUpdateOperation(verdict);
+        flushPendingWrites(null);
+
+        MultiRowInsert insert = options.isMultiRowInsert() ? MultiRowInsert.parse(verdict.parsedSql()) : null;
+        int chunkSize = Math.min(options.getChunkSize(), securityConfig.getMaxBatchSize());
+        BulkWriteProgress progress = new BulkWriteProgress(sql, validatedSql, insert, options.isEnableLogging());
+        long startTime = System.nanoTime();
+
+        try {
+            if (options.isTransactional() && transactionManager != null
+                    && !TransactionSynchronizationManager.isActualTransactionActive()) {
+                executeInTransaction(() -> writeChunks(rows, chunkSize, progress));
+            } else {
+                writeChunks(rows, chunkSize, progress);
+            }
+        } finally {
+            // 非事务写入失败时之前的子批次已生效，同样需要失效
+            invalidateQueryCache(verdict.tables());
+        }
+        ReadWriteRouting.recordWrite();
+
+        long elapsedTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        if (options.isEnableLogging() && log.isDebugEnabled()) {
+            log.debug("Bulk write completed: sql={}, rows={}, subBatches={}, statements={}, multiRowInsert={}, elapsed={}ms",
+                    maskSensitiveSql(sql), progress.rows, progress.subBatches, progress.statements, insert != null, elapsedTime);
+        }
+
+        return BulkWriteResult.builder()
+                .totalRows(progress.rows)
+                .affectedRows(progress.affectedRows)
+                .subBatches(progress.subBatches)
+                .statements(progress.statements)
+                .multiRowInsert(insert != null)
+                .elapsedTime(elapsedTime)
+                .maxSubBatchTime(TimeUnit.NANOSECONDS.toMillis(progress.maxSubBatchNanos))
+                .build();
+    }
+
+    /**
+     * 按子批次大小拆分并依次写入
+     * <p>输入按需迭代，内存中最多保留一个子批次</p>
+     */
+    private void writeChunks(Iterable<? extends Map<String, Object>> rows, int chunkSize, BulkWriteProgress progress) {
+        List<Map<String, Object>> chunk = new ArrayList<>(chunkSize);
+        for (Map<String, Object> row : rows) {
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, progress);
+        }
+    }
+
+    /**
+     * 写入一个子批次并记录执行监控
+     */
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    private void writeChunk(List<Map<String, Object>> chunk, BulkWriteProgress progress) {
+        long startTime = System.nanoTime();
+        try {
+            MultiRowInsert insert = progress.insert;
+            if (insert != null) {
+                // 单条语句的行数受占位符数量限制
+                int step = insert.getMaxRowsPerStatement();
+                for (int from = 0; from < chunk.size(); from += step) {
+                    List<Map<String, Object>> slice = chunk.subList(from, Math.min(from + step, chunk.size()));
+                    progress.addAffectedRows(namedParameterJdbcTemplate.update(insert.render(slice.size()), insert.bind(slice)));
+                    progress.statements++;
+                }
+            } else {
+                for (int count : namedParameterJdbcTemplate.batchUpdate(progress.sql, toParamArray(chunk))) {
+                    progress.addAffectedRows(count);
+                }
+                progress.statements++;
+            }
+
+            long elapsedNanos = System.nanoTime() - startTime;
+            progress.completeSubBatch(chunk.size(), elapsedNanos);
+            executionMonitor.recordBatchExecution(progress.validatedSql, chunk.size(), elapsedNanos, true);
+        } catch (RuntimeException e) {
+            executionMonitor.recordBatchExecution(progress.validatedSql, chunk.size(), System.nanoTime() - startTime, false);
+            recordTimeout(SqlOperationType.BATCH_UPDATE, e);
+
+            if (progress.enableLogging) {
+                log.error("Error executing bulk write sub-batch {} of SQL: {}",
+                        progress.subBatches + 1, maskSensitiveSql(progress.sql), e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 将批量参数列表转换为数组
+     *
+     * @param batchParams 批量参数
+     * @return 参数数组
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object>[] toParamArray(List<Map<String, Object>> batchParams) {
+        return batchParams.toArray((Map<String, Object>[]) new Map<?, ?>[batchParams.size()]);
+    }
+
     // ================================
     // 存储过程调用实现
     // ================================
@@ -503,7 +855,7 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     public Map<String, Object> callProcedureForMap(String sql, Map<String, Object> params, boolean enableLogging) {
         return executeQuery(sql, params, enableLogging, () -> {
             try {
-                return namedParameterJdbcTemplate.queryForMap(sql, params);
+                return namedParameterJdbcTemplate.queryForObject(sql, params, new CompactRowMapper());
             } catch (EmptyResultDataAccessException e) {
                 return new HashMap<>();
             }
@@ -525,7 +877,7 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     @SuppressWarnings("SqlSourceToSinkFlow")
     public List<Map<String, Object>> callProcedureForList(String sql, Map<String, Object> params, boolean enableLogging) {
         return executeQuery(sql, params, enableLogging, () ->
-                namedParameterJdbcTemplate.queryForList(sql, params));
+                namedParameterJdbcTemplate.query(sql, params, new CompactRowMapper()));
     }
 
     @Override
@@ -612,6 +964,13 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
             throw new IllegalArgumentException("Invalid transaction status type");
         }
 
+        // 事务已提交或已回滚（如提交后的后续步骤失败），无需再次回滚
+        if (transactionStatus.isCompleted()) {
+            currentTransactionStatus.remove();
+            log.debug("Transaction already completed, skip rollback: {}", transactionStatus.getTransactionName());
+            return;
+        }
+
         try {
             transactionManager.rollback(defaultStatus.getSpringTransactionStatus());
 
@@ -666,70 +1025,259 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         });
     }
 
+    @Override
+    public <T> T executeInTransaction(TransactionCallback<T> callback, RetryPolicy retryPolicy) {
+        Assert.notNull(callback, "Callback must not be null");
+        Assert.notNull(retryPolicy, "Retry policy must not be null");
+
+        // 外层事务中的失败已使整个事务回滚，只能由外层整体重试
+        if (currentTransactionStatus.get() != null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return executeInTransaction(callback);
+        }
+
+        retryPolicy.recordTransaction();
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            try {
+                T result = executeInTransaction(callback);
+                executionMonitor.recordTransaction(attempt, false, false);
+                return result;
+            } catch (RuntimeException ex) {
+                if (!retryPolicy.getRetryOn().test(ex)) {
+                    executionMonitor.recordTransaction(attempt, false, false);
+                    throw ex;
+                }
+                if (!retryPolicy.isRetryable(ex, attempt)) {
+                    executionMonitor.recordTransaction(attempt, true, false);
+                    throw ex;
+                }
+                if (!retryPolicy.tryAcquireRetry()) {
+                    executionMonitor.recordTransaction(attempt, false, true);
+                    log.warn("Transaction retry budget exhausted, giving up after {} attempt(s): {}", attempt, ex.getMessage());
+                    throw ex;
+                }
+                if (!awaitRetry(retryPolicy, attempt)) {
+                    executionMonitor.recordTransaction(attempt, true, false);
+                    throw ex;
+                }
+                log.debug("Retrying transaction after transient failure, attempt {}: {}", attempt, ex.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void executeInTransaction(Runnable action, RetryPolicy retryPolicy) {
+        Assert.notNull(action, "Action must not be null");
+
+        executeInTransaction(status -> {
+            action.run();
+            return null;
+        }, retryPolicy);
+    }
+
+    /**
+     * 重试前按退避时间等待
+     *
+     * @return 可以重试返回true；截止时间内已不足以等待或线程被中断时返回false
+     */
+    private boolean awaitRetry(RetryPolicy retryPolicy, int attempt) {
+        long backoffNanos = retryPolicy.backoffNanos(attempt);
+        DeadlineContext deadline = DeadlineContext.current();
+        if (deadline != null && (deadline.isCancelled() || deadline.remainingNanos() <= backoffNanos)) {
+            return false;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(backoffNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
     // ================================
     // 高级查询操作实现
     // ================================
 
     @Override
     public PageResponse<Map<String, Object>> queryForPage(String sql, Map<String, Object> params, int pageNum, int pageSize) {
-        validatePageParams(pageNum, pageSize);
+        return queryForPage(sql, params, pageNum, pageSize, PageMode.EXACT_COUNT);
+    }
 
-        // 构建计数SQL
-        String countSql = buildCountSql(sql);
-        int total = queryForCount(countSql, params);
+    @Override
+    public <T> PageResponse<T> queryForPage(String sql, Map<String, Object> params, Class<T> requiredType, int pageNum, int pageSize) {
+        return queryForPage(sql, params, requiredType, pageNum, pageSize, PageMode.EXACT_COUNT);
+    }
 
-        if (total == 0) {
-            List<Map<String, Object>> emptyRecord = Collections.emptyList();
-            return PageResponse.success(emptyRecord, total, pageSize, pageNum);
+    @Override
+    public PageResponse<Map<String, Object>> queryForPage(String sql, Map<String, Object> params, int pageNum, int pageSize, PageMode mode) {
+        return queryForPage(sql, params, new CompactRowMapper(), null, pageNum, pageSize, mode);
+    }
+
+    @Override
+    public <T> PageResponse<T> queryForPage(String sql, Map<String, Object> params, Class<T> requiredType, int pageNum, int pageSize, PageMode mode) {
+        RowMapper<T> rowMapper = getOrCreateRowMapper(requiredType);
+        if (rowMapper == null) {
+            rowMapper = new org.springframework.jdbc.core.SingleColumnRowMapper<>(requiredType);
+            // 单列映射无法容纳附加的总数列
+            if (mode == PageMode.WINDOW_COUNT) {
+                mode = PageMode.EXACT_COUNT;
+            }
         }
+        return queryForPage(sql, params, rowMapper, requiredType, pageNum, pageSize, mode);
+    }
 
-        // 构建分页SQL
-        String pageSql = buildPageSql(sql, pageNum, pageSize);
-        List<Map<String, Object>> records = queryForList(pageSql, params);
+    @Override
+    public CursorPageResponse<Map<String, Object>> queryForCursorPage(String sql, Map<String, Object> params, List<SeekKey> keys, String cursor, int pageSize) {
+        return queryForCursorPage(sql, params, new CompactRowMapper(), keys, cursor, pageSize);
+    }
 
-        return PageResponse.success(records, total, pageSize, pageNum);
+    @Override
+    public <T> CursorPageResponse<T> queryForCursorPage(String sql, Map<String, Object> params, Class<T> requiredType, List<SeekKey> keys, String cursor, int pageSize) {
+        RowMapper<T> rowMapper = getOrCreateRowMapper(requiredType);
+        if (rowMapper == null) {
+            rowMapper = new org.springframework.jdbc.core.SingleColumnRowMapper<>(requiredType);
+        }
+        return queryForCursorPage(sql, params, rowMapper, keys, cursor, pageSize);
     }
 
     @Override
     @SuppressWarnings("SqlSourceToSinkFlow")
-    public <T> PageResponse<T> queryForPage(String sql, Map<String, Object> params, Class<T> requiredType, int pageNum, int pageSize) {
-        validatePageParams(pageNum, pageSize);
+    public int queryForCount(String sql, Map<String, Object> params) {
+        // COUNT在部分数据库上返回BIGINT，按Long读取，超出int范围时抛出异常而不是截断
+        Long count = executeQuery(sql, params, defaultLoggingEnabled,
+                () -> namedParameterJdbcTemplate.queryForObject(sql, params, Long.class));
+        return count != null ? Math.toIntExact(count) : 0;
+    }
 
-        // 构建计数SQL
-        String countSql = buildCountSql(sql);
-        int total = queryForCount(countSql, params);
+    // ================================
+    // 预编译查询实现
+    // ================================
 
-        if (total == 0) {
-            return PageResponse.success(Collections.emptyList(), total, pageSize, pageNum);
-        }
+    @Override
+    public <T> PreparedQuery<T> prepare(String sql, Class<T> requiredType) {
+        PreparedQuery<T> query = PreparedQuery.of(sql, requiredType);
+        validationCache.get(query.getSql(), this::evaluateStatement).throwIfRejected();
+        // 句柄保存共享的映射器，执行时再为每次查询创建独立的映射器
+        RowMapper<T> rowMapper = getSharedRowMapper(requiredType);
+        return rowMapper != null ? query.withRowMapper(rowMapper) : query;
+    }
 
-        // 构建分页SQL
-        String pageSql = buildPageSql(sql, pageNum, pageSize);
+    @Override
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    public <T> List<T> queryForList(PreparedQuery<T> query, Object... args) {
+        Assert.notNull(query, "Prepared query must not be null");
+        return queryForList(query, query.bind(args));
+    }
 
-        // 使用智能行映射器进行分页查询
-        List<T> records = executeQuery(pageSql, params, defaultLoggingEnabled, () -> {
+    @Override
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    public <T> List<T> queryForList(PreparedQuery<T> query, Map<String, Object> params) {
+        Assert.notNull(query, "Prepared query must not be null");
+        query.bind(params);
+        RowMapper<T> rowMapper = resolveRowMapper(query);
+        return executeQuery(query.getSql(), params, defaultLoggingEnabled, () -> {
             try {
-                RowMapper<T> rowMapper = getOrCreateRowMapper(requiredType);
-                if (rowMapper != null) {
-                    return namedParameterJdbcTemplate.query(pageSql, params, rowMapper);
-                } else {
-                    return namedParameterJdbcTemplate.queryForList(pageSql, params, requiredType);
-                }
+                return namedParameterJdbcTemplate.query(query.getSql(), params, rowMapper);
             } catch (Exception ex) {
-                throw new MappingException("Failed to query page for type " + requiredType.getSimpleName(), ex);
+                throw new MappingException("Failed to query for list of type " + query.getRequiredType().getSimpleName(), ex);
             }
         });
+    }
 
-        return PageResponse.success(records, total, pageSize, pageNum);
+    @Override
+    public <T> List<T> queryForListCached(PreparedQuery<T> query, Object... args) {
+        Assert.notNull(query, "Prepared query must not be null");
+        Map<String, Object> params = query.bind(args);
+        Class<T> requiredType = query.getRequiredType();
+        return executeCachedQuery(query.getSql(), params, requiredType, "list:" + requiredType.getName(),
+                () -> queryForList(query, params));
     }
 
     @Override
     @SuppressWarnings("SqlSourceToSinkFlow")
-    public int queryForCount(String sql, Map<String, Object> params) {
-        return Math.toIntExact(executeQuery(sql, params, defaultLoggingEnabled, () -> {
-            Integer result = namedParameterJdbcTemplate.queryForObject(sql, params, Integer.class);
-            return result != null ? result : 0L;
-        }));
+    public <T> T queryForObject(PreparedQuery<T> query, Object... args) {
+        Assert.notNull(query, "Prepared query must not be null");
+        return queryForObject(query, query.bind(args));
+    }
+
+    @Override
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    public <T> T queryForObject(PreparedQuery<T> query, Map<String, Object> params) {
+        Assert.notNull(query, "Prepared query must not be null");
+        query.bind(params);
+        RowMapper<T> rowMapper = resolveRowMapper(query);
+        return executeQuery(query.getSql(), params, defaultLoggingEnabled, () -> {
+            try {
+                return namedParameterJdbcTemplate.queryForObject(query.getSql(), params, rowMapper);
+            } catch (EmptyResultDataAccessException e) {
+                return null;
+            } catch (Exception ex) {
+                throw new MappingException("Failed to query for object of type " + query.getRequiredType().getSimpleName(), ex);
+            }
+        });
+    }
+
+    @Override
+    public int queryForCount(PreparedQuery<?> query, Object... args) {
+        Assert.notNull(query, "Prepared query must not be null");
+        return queryForCount(query.getCountSql(), query.bind(args));
+    }
+
+    @Override
+    public int queryForCount(PreparedQuery<?> query, Map<String, Object> params) {
+        Assert.notNull(query, "Prepared query must not be null");
+        return queryForCount(query.getCountSql(), query.bind(params));
+    }
+
+    @Override
+    public <T> PageResponse<T> queryForPage(PreparedQuery<T> query, int pageNum, int pageSize, PageMode mode, Object... args) {
+        Assert.notNull(query, "Prepared query must not be null");
+        return queryForPage(query, pageNum, pageSize, mode, query.bind(args));
+    }
+
+    @Override
+    public <T> PageResponse<T> queryForPage(PreparedQuery<T> query, int pageNum, int pageSize, PageMode mode, Map<String, Object> params) {
+        Assert.notNull(query, "Prepared query must not be null");
+        Assert.notNull(mode, "Page mode must not be null");
+        validatePageParams(pageNum, pageSize);
+        query.bind(params);
+        // 不能分页的查询在执行任何语句之前失败
+        query.getPageSql();
+
+        RowMapper<T> rowMapper = resolveRowMapper(query);
+        String countSql = query.getCountSql();
+
+        return switch (mode) {
+            case EXACT_COUNT -> queryForPreparedPage(query, params, rowMapper, pageNum, pageSize,
+                    queryForCount(countSql, params));
+            case CACHED_COUNT -> queryForPreparedPage(query, params, rowMapper, pageNum, pageSize,
+                    pageCountCache.get(countSql, params, () -> queryForCount(countSql, params)));
+            case HAS_NEXT -> {
+                List<T> records = queryPageRecords(query.getPageSql(),
+                        query.bindPage(params, pageSize + 1, pageOffset(pageNum, pageSize)), rowMapper, query.getRequiredType());
+                boolean hasNext = records.size() > pageSize;
+                List<T> pageRecords = hasNext ? new ArrayList<>(records.subList(0, pageSize)) : records;
+                yield PageResponse.successWithoutTotal(pageRecords, pageSize, pageNum, hasNext);
+            }
+            // 窗口计数列需改写SELECT列表，沿用按SQL文本缓存的通用分页流程；单列映射无法容纳附加的总数列
+            case WINDOW_COUNT -> queryForPage(query.getSql(), params, rowMapper, query.getRequiredType(), pageNum, pageSize,
+                    rowMapper instanceof org.springframework.jdbc.core.SingleColumnRowMapper ? PageMode.EXACT_COUNT : mode);
+        };
+    }
+
+    // ================================
+    // 统计信息
+    // ================================
+
+    /**
+     * 获取SQL验证结果缓存统计信息
+     *
+     * @return 缓存统计信息
+     */
+    public ValidationCacheStatistics getValidationCacheStatistics() {
+        return validationCache.getStatistics();
     }
 
     // ================================
@@ -748,24 +1296,32 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     @SuppressWarnings({"SqlSourceToSinkFlow", "SqlResolve"})
     private <T> T executeQuery(String sql, Map<String, Object> params, boolean enableLogging, QueryExecutor<T> executor) {
         // 增强SQL安全验证
-        String validatedSql = performComprehensiveSqlValidation(sql, params);
+        SqlVerdict verdict = validateStatement(sql, params);
+        String validatedSql = verdict.normalizedSql();
+        // 读取前执行涉及相同表的排队写入
+        flushPendingWrites(verdict.tables());
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        long waitMark = ConnectionWaitTracker.mark();
 
         try {
             if (enableLogging && log.isDebugEnabled()) {
                 log.debug("Executing validated SQL: {} with params: {}", maskSensitiveParams(sql, params), params);
             }
 
-            T result = executor.execute();
+            // 查询在读范围内获取连接，配置读写分离时可路由到从库
+            T result = ReadWriteRouting.read(executor::execute);
 
             // 记录执行监控
-            executionMonitor.recordQueryExecution(validatedSql, params, System.currentTimeMillis() - startTime, true);
+            executionMonitor.recordExecution(SqlOperationType.QUERY, validatedSql, params,
+                    System.nanoTime() - startTime, ConnectionWaitTracker.since(waitMark), true);
 
             return result;
         } catch (Exception e) {
             // 记录执行监控
-            executionMonitor.recordQueryExecution(validatedSql, params, System.currentTimeMillis() - startTime, false);
+            executionMonitor.recordExecution(SqlOperationType.QUERY, validatedSql, params,
+                    System.nanoTime() - startTime, ConnectionWaitTracker.since(waitMark), false);
+            recordTimeout(SqlOperationType.QUERY, e);
 
             if (enableLogging) {
                 log.error("Error executing SQL: {} with params: {}", maskSensitiveParams(sql, params), params, e);
@@ -775,22 +1331,177 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     }
 
     /**
-     * 执行更新操作的通用方法
-     * <p>此方法已通过以下安全措施验证SQL安全性：</p>
-     * <ul>
-     *     <li>SqlInjectionValidator进行SQL注入检测</li>
-     *     <li>参数验证确保参数安全</li>
-     *     <li>使用NamedParameterJdbcTemplate的参数化查询</li>
+     * 执行流式查询的通用方法
+     * <p>SQL验证与普通查询一致；由于结果是延迟拉取的，执行监控在Stream关闭时记录，耗时覆盖整个遍历过程</p>
+     *
+     * @param sql           SQL查询语句
+     * @param params        命名参数
+     * @param fetchSize     每批拉取的行数
+     * @param enableLogging 是否启用SQL执行日志
+     * @param rowMapper     行映射器
+     * @return 延迟映射的结果流
+     */
+    @SuppressWarnings({"SqlSourceToSinkFlow", "SqlResolve"})
+    private <T> Stream<T> executeStreamQuery(String sql, Map<String, Object> params, int fetchSize,
+                                             boolean enableLogging, RowMapper<T> rowMapper) {
+        Assert.notNull(rowMapper, "RowMapper cannot be null");
+
+        // 增强SQL安全验证
+        SqlVerdict verdict = validateStatement(sql, params);
+        String validatedSql = verdict.normalizedSql();
+        flushPendingWrites(verdict.tables());
+
+        long startTime = System.nanoTime();
+        long waitMark = ConnectionWaitTracker.mark();
+        AtomicBoolean failed = new AtomicBoolean(false);
+
+        try {
+            if (enableLogging && log.isDebugEnabled()) {
+                log.debug("Executing validated streaming SQL: {} with params: {}, fetch size: {}",
+                        maskSensitiveParams(sql, params), params, fetchSize);
+            }
+
+            StreamingPreparedStatementCreator statementCreator =
+                    StreamingPreparedStatementCreator.of(sql, params, fetchSize, mysqlStreamingEnabled);
+
+            // 映射失败时标记，关闭时按失败记录
+            RowMapper<T> trackingMapper = (rs, rowNum) -> {
+                try {
+                    return rowMapper.mapRow(rs, rowNum);
+                } catch (SQLException | RuntimeException e) {
+                    failed.set(true);
+                    throw e;
+                }
+            };
+
+            Stream<T> stream = ReadWriteRouting.read(() -> namedParameterJdbcTemplate.getJdbcOperations()
+                    .queryForStream(statementCreator, trackingMapper));
+            // 连接在创建Stream时获取，关闭可能发生在其他线程
+            long connectionWaitNanos = ConnectionWaitTracker.since(waitMark);
+            return stream.onClose(() -> executionMonitor.recordExecution(SqlOperationType.QUERY, validatedSql, params,
+                    System.nanoTime() - startTime, connectionWaitNanos, !failed.get()));
+        } catch (Exception e) {
+            // 记录执行监控
+            executionMonitor.recordExecution(SqlOperationType.QUERY, validatedSql, params,
+                    System.nanoTime() - startTime, ConnectionWaitTracker.since(waitMark), false);
+            recordTimeout(SqlOperationType.QUERY, e);
+
+            if (enableLogging) {
+                log.error("Error executing streaming SQL: {} with params: {}", maskSensitiveParams(sql, params), params, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 执行二进制流查询，每行映射为第一列的输入流
+     * <p>输入流只在结果集停留在该行时有效，调用方须读完当前行再推进</p>
+     */
+    private Stream<InputStream> executeBinaryStreamQuery(String sql, Map<String, Object> params) {
+        return executeStreamQuery(sql, params, BINARY_STREAM_FETCH_SIZE, defaultLoggingEnabled,
+                (rs, rowNum) -> rs.getBinaryStream(1));
+    }
+
+    /**
+     * 执行可缓存查询
+     * <p>未启用查询结果缓存或处于读写事务中时直接查询：事务内可能读到本事务未提交的写入，不能放入缓存，
+     * 也不能读取缓存中事务外的旧结果；只读事务和非事务查询使用缓存</p>
+     *
+     * @param sql          SQL查询语句
+     * @param params       命名参数
+     * @param requiredType 结果类型，列表查询为元素类型
+     * @param resultType   结果类型标识
+     * @param loader       查询函数
+     * @return 查询结果
+     */
+    private <T> T executeCachedQuery(String sql, Map<String, Object> params, Class<?> requiredType, String resultType,
+                                     Supplier<T> loader) {
+        if (queryResultCache == null || (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly())) {
+            return loader.get();
+        }
+        SqlVerdict verdict = validateStatement(sql, params);
+        queryResultCache.checkCacheable(requiredType);
+        return queryResultCache.get(verdict.cacheKey(EnhancedJdbcTemplate::buildQueryCacheKey), verdict.tables(),
+                params, resultType, loader);
+    }
+
+    /**
+     * 构建查询结果缓存键中的语句部分：SQL指纹之后依次追加字面量和参数占位符的原文，
+     * 只有空白和注释不同的语句共用缓存键，字面量或IN列表不同的语句不会冲突
+     *
+     * @param parsedSql SQL分析结果
+     * @return 缓存键
+     */
+    private static String buildQueryCacheKey(ParsedSql parsedSql) {
+        StringBuilder key = new StringBuilder(SqlFingerprinter.fingerprint(parsedSql.getSql()));
+        for (SqlToken token : parsedSql.getTokens()) {
+            if (token.isLiteral() || token.type() == SqlTokenType.PARAMETER) {
+                key.append('\n').append(token.text());
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * 写操作后按表失效查询结果缓存
+     * <p>立即失效一次，事务内的写入在事务结束后再失效一次，清除提交前其他线程读到旧数据并写入的缓存</p>
+     *
+     * @param tables 写入涉及的表，为空时全部失效
+     */
+    private void invalidateQueryCache(Set<String> tables) {
+        QueryResultCache cache = queryResultCache;
+        if (cache == null) {
+            return;
+        }
+        cache.invalidateTables(tables);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateTables(tables);
+                }
+            });
+        }
+    }
+
+    /**
+     * 逐行消费结果流
+     *
+     * @param stream 结果流
+     * @param action 行处理回调
+     * @return 处理的行数
+     */
+    private <T> long consumeStream(Stream<T> stream, Consumer<? super T> action) {
+        long[] rowCount = {0L};
+        stream.forEachOrdered(row -> {
+            action.accept(row);
+            rowCount[0]++;
+        });
+        return rowCount[0];
+    }
+
+    /**
+     * 执行更新操作的通用方法
+     * <p>此方法已通过以下安全措施验证SQL安全性：</p>
+     * <ul>
+     *     <li>SqlInjectionValidator进行SQL注入检测</li>
+     *     <li>参数验证确保参数安全</li>
+     *     <li>使用NamedParameterJdbcTemplate的参数化查询</li>
      *     <li>敏感操作额外安全检查</li>
      * </ul>
      */
     @SuppressWarnings({"SqlSourceToSinkFlow", "SqlResolve"})
     private <T> T executeUpdate(String sql, Map<String, Object> params, boolean enableLogging, UpdateExecutor<T> executor) {
         // 增强SQL安全验证（更新操作需要额外安全检查）
-        String validatedSql = performComprehensiveSqlValidation(sql, params);
-        validateUpdateOperation(validatedSql);
+        SqlVerdict verdict = validateStatement(sql, params);
+        String validatedSql = verdict.normalizedSql();
+        // 告警检查只读取随验证结论缓存的分析结果，每次执行都输出
+        validateUpdateOperation(verdict);
+        flushPendingWrites(null);
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        long waitMark = ConnectionWaitTracker.mark();
 
         try {
             if (enableLogging && log.isDebugEnabled()) {
@@ -798,15 +1509,20 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
             }
 
             T result = executor.execute();
+            ReadWriteRouting.recordWrite();
+            invalidateQueryCache(verdict.tables());
 
             // 记录执行监控
-            executionMonitor.recordUpdateExecution(validatedSql, params, System.currentTimeMillis() - startTime, true);
+            executionMonitor.recordExecution(SqlOperationType.UPDATE, validatedSql, params,
+                    System.nanoTime() - startTime, ConnectionWaitTracker.since(waitMark), true);
 
             return result;
 
         } catch (Exception e) {
             // 记录执行监控
-            executionMonitor.recordUpdateExecution(validatedSql, params, System.currentTimeMillis() - startTime, false);
+            executionMonitor.recordExecution(SqlOperationType.UPDATE, validatedSql, params,
+                    System.nanoTime() - startTime, ConnectionWaitTracker.since(waitMark), false);
+            recordTimeout(SqlOperationType.UPDATE, e);
 
             if (enableLogging) {
                 log.error("Error executing update SQL: {} with params: {}", maskSensitiveParams(sql, params), params, e);
@@ -828,10 +1544,13 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     @SuppressWarnings({"SqlSourceToSinkFlow", "SqlResolve"})
     private <T> int[] executeBatchUpdate(String sql, T[] batchParams, boolean enableLogging, BatchUpdateExecutor executor) {
         // 增强SQL安全验证（批处理操作需要额外安全检查）
-        String validatedSql = performBatchSqlValidation(sql, batchParams);
-        validateBatchUpdateOperation(validatedSql, batchParams);
+        SqlVerdict verdict = performBatchSqlValidation(sql, batchParams);
+        String validatedSql = verdict.normalizedSql();
+        validateBatchUpdateOperation(verdict);
+        flushPendingWrites(null);
 
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
+        long waitMark = ConnectionWaitTracker.mark();
 
         try {
             if (enableLogging && log.isDebugEnabled()) {
@@ -840,15 +1559,23 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
             }
 
             int[] result = executor.execute();
+            ReadWriteRouting.recordWrite();
+            invalidateQueryCache(verdict.tables());
 
             // 记录执行监控
-            executionMonitor.recordBatchUpdateExecution(validatedSql, batchParams.length, System.currentTimeMillis() - startTime, true);
+            executionMonitor.recordBatchExecution(validatedSql, batchParams.length,
+                    System.nanoTime() - startTime, ConnectionWaitTracker.since(waitMark), true);
 
             return result;
 
         } catch (Exception e) {
+            // 批处理失败时部分语句可能已生效
+            invalidateQueryCache(verdict.tables());
+
             // 记录执行监控
-            executionMonitor.recordBatchUpdateExecution(validatedSql, batchParams.length, System.currentTimeMillis() - startTime, false);
+            executionMonitor.recordBatchExecution(validatedSql, batchParams.length,
+                    System.nanoTime() - startTime, ConnectionWaitTracker.since(waitMark), false);
+            recordTimeout(SqlOperationType.BATCH_UPDATE, e);
 
             if (enableLogging) {
                 log.error("Error executing batch update SQL: {}", maskSensitiveSql(sql), e);
@@ -858,50 +1585,78 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     }
 
     /**
-     * 转换Map键名大小写
+     * 获取当前事务中绑定到本模板数据源的工作单元
+     *
+     * @return 工作单元，未处于事务中或没有延迟的更新时返回null
      */
-    private Map<String, Object> transformMapKeys(Map<String, Object> map, String keyCase) {
-        if (map == null || !StringUtils.hasText(keyCase)) {
-            return map;
+    private UnitOfWork activeUnitOfWork() {
+        DataSource dataSource = namedParameterJdbcTemplate.getJdbcTemplate().getDataSource();
+        return dataSource != null ? UnitOfWork.getBound(dataSource) : null;
+    }
+
+    /**
+     * 将更新语句加入工作单元，SQL验证与立即执行时一致，更新操作告警在语句执行时输出
+     */
+    private void enqueueUpdate(UnitOfWork unitOfWork, String sql, Map<String, Object> params, boolean enableLogging) {
+        SqlVerdict verdict = validateStatement(sql, params);
+        unitOfWork.enqueue(sql, verdict.tables(), params, enableLogging);
+
+        if (enableLogging && log.isDebugEnabled()) {
+            log.debug("Deferred update SQL: {}, pending statements: {}", maskSensitiveParams(sql, params), unitOfWork.getPendingCount());
         }
+    }
 
-        Map<String, Object> result = new LinkedHashMap<>();
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String key = entry.getKey();
-            String transformedKey = switch (keyCase.toLowerCase()) {
-                case "lower" -> key.toLowerCase();
-                case "upper" -> key.toUpperCase();
-                case "camel" -> toCamelCase(key);
-                default -> key;
-            };
-            result.put(transformedKey, entry.getValue());
+    /**
+     * 执行涉及指定表的排队写入，保证语句能读取到或排在之前的写入之后
+     *
+     * @param tables 语句涉及的表，为null或空集合时执行全部排队写入
+     */
+    private void flushPendingWrites(Set<String> tables) {
+        UnitOfWork unitOfWork = activeUnitOfWork();
+        if (unitOfWork != null && unitOfWork.hasPendingWrites(tables)) {
+            unitOfWork.flush();
         }
-        return result;
     }
 
     /**
-     * 转换为驼峰命名
+     * 执行工作单元中的一组写入，多条语句时使用批处理，超过最大批处理大小时拆分
      */
-    private String toCamelCase(String str) {
-        if (!StringUtils.hasText(str)) {
-            return str;
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    private void flushWriteGroup(String sql, List<Map<String, Object>> batchParams, boolean enableLogging) {
+        if (batchParams.size() == 1) {
+            Map<String, Object> params = batchParams.getFirst();
+            executeUpdate(sql, params, enableLogging, () -> namedParameterJdbcTemplate.update(sql, params));
+            return;
+        }
+        int step = Math.max(securityConfig.getMaxBatchSize(), 1);
+        for (int from = 0; from < batchParams.size(); from += step) {
+            Map<String, Object>[] batch = toParamArray(batchParams.subList(from, Math.min(from + step, batchParams.size())));
+            executeBatchUpdate(sql, batch, enableLogging, () -> namedParameterJdbcTemplate.batchUpdate(sql, batch));
         }
+    }
 
-        StringBuilder result = new StringBuilder();
-        boolean nextUpperCase = false;
+    /**
+     * 语句因查询超时或截止时间取消而失败时计入超时统计
+     */
+    private void recordTimeout(SqlOperationType operationType, Exception e) {
+        if (DeadlineContext.isTimeout(e)) {
+            executionMonitor.recordTimeout(operationType);
+        }
+    }
 
-        for (char c : str.toCharArray()) {
-            if (c == '_') {
-                nextUpperCase = true;
-            } else if (nextUpperCase) {
-                result.append(Character.toUpperCase(c));
-                nextUpperCase = false;
-            } else {
-                result.append(Character.toLowerCase(c));
-            }
+    /**
+     * 转换Map键名大小写
+     */
+    private Map<String, Object> transformMapKeys(Map<String, Object> map, String keyCase) {
+        if (map == null || !StringUtils.hasText(keyCase)) {
+            return map;
         }
 
-        return result.toString();
+        Map<String, Object> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : map.entrySet()) {
+            result.put(CompactRowMapper.translateKey(entry.getKey(), keyCase), entry.getValue());
+        }
+        return result;
     }
 
     /**
@@ -921,8 +1676,7 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
 
     /**
      * 构建计数SQL
-     * <p>企业级SQL解析实现，支持复杂查询结构的计数SQL生成</p>
-     * <p>支持的SQL特性：</p>
+     * <p>计数SQL由语句的词法分析结果生成并随验证结论缓存，支持的SQL特性：</p>
      * <ul>
      *     <li>标准SELECT查询</li>
      *     <li>CTE(WITH子句)查询</li>
@@ -934,406 +1688,327 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
      * @param sql 原始查询SQL
      * @return 优化后的计数SQL语句
      */
-    @SuppressWarnings("SqlSourceToSinkFlow")
     private String buildCountSql(String sql) {
         Assert.hasText(sql, "Original SQL must not be empty");
-
-        String normalizedSql = sql.trim();
-        String lowerSql = normalizedSql.toLowerCase();
-
-        // 1. 处理WITH子句（CTE）查询
-        if (lowerSql.startsWith("with")) {
-            return handleCteCountSql(normalizedSql);
-        }
-
-        // 2. 处理UNION查询
-        if (containsUnionOperation(lowerSql)) {
-            return handleUnionCountSql(normalizedSql);
-        }
-
-        // 3. 处理标准SELECT查询
-        if (lowerSql.startsWith(SELECT.toLowerCase())) {
-            return handleSelectCountSql(normalizedSql);
-        }
-
-        // 4. 其他复杂查询使用子查询包装
-        return wrapAsSubqueryCount(normalizedSql);
+        return validationCache.get(sql, this::evaluateStatement).parsedSql().getCountSql();
     }
 
     /**
-     * 处理CTE（WITH子句）查询的计数SQL构建
+     * 构建分页SQL
+     * <p>此方法生成的SQL用于分页查询，使用安全的数值参数</p>
+     *
+     * @param sql      原始查询SQL
+     * @param pageNum  页码（已验证）
+     * @param pageSize 页大小（已验证）
+     * @return 分页SQL语句
      */
-    private String handleCteCountSql(String sql) {
-        // 对于CTE查询，直接使用子查询包装是最安全的方式
-        String cleanSql = removeOrderByClause(sql);
-        return "SELECT COUNT(*) FROM (" + cleanSql + ") AS cte_count_query";
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    private String buildPageSql(String sql, int pageNum, int pageSize) {
+        return buildPageSql(sql, pageNum, pageSize, pageSize);
     }
 
     /**
-     * 处理UNION查询的计数SQL构建
+     * 构建分页SQL，按页大小计算偏移量，按查询行数限制返回行数
+     *
+     * @param sql       原始查询SQL
+     * @param pageNum   页码（已验证）
+     * @param pageSize  页大小（已验证）
+     * @param fetchSize 查询行数
+     * @return 分页SQL语句
      */
-    private String handleUnionCountSql(String sql) {
-        // UNION查询需要包装为子查询来统计总数
-        String cleanSql = removeOrderByClause(sql);
-        return "SELECT COUNT(*) FROM (" + cleanSql + ") AS union_count_query";
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    private String buildPageSql(String sql, int pageNum, int pageSize, int fetchSize) {
+        Assert.hasText(sql, "Original SQL must not be empty");
+        Assert.isTrue(pageNum > 0, "Page number must be positive");
+        Assert.isTrue(pageSize > 0, "Page size must be positive");
+
+        return sql + " LIMIT " + fetchSize + " OFFSET " + pageOffset(pageNum, pageSize);
     }
 
     /**
-     * 处理标准SELECT查询的计数SQL构建
+     * 按分页模式执行分页查询
      */
-    private String handleSelectCountSql(String sql) {
-        String lowerSql = sql.toLowerCase();
-
-        // 检查是否包含DISTINCT、GROUP BY、HAVING等影响计数的子句
-        if (containsDistinctOrGroupBy(lowerSql)) {
-            return wrapAsSubqueryCount(sql);
-        }
-
-        // 尝试直接替换SELECT子句
-        SqlStructure structure = parseSqlStructure(sql);
-        if (structure.isValidForDirectCount()) {
-            String fromClause = sql.substring(structure.fromIndex());
-            String cleanFromClause = removeOrderByClause(fromClause);
-            return "SELECT COUNT(*) " + cleanFromClause;
-        }
+    private <T> PageResponse<T> queryForPage(String sql, Map<String, Object> params, RowMapper<T> rowMapper,
+                                             Class<?> requiredType, int pageNum, int pageSize, PageMode mode) {
+        Assert.notNull(mode, "Page mode must not be null");
+        validatePageParams(pageNum, pageSize);
 
-        // 如果解析失败或结构复杂，使用子查询包装
-        return wrapAsSubqueryCount(sql);
+        return switch (mode) {
+            case EXACT_COUNT -> queryForCountedPage(sql, params, rowMapper, requiredType, pageNum, pageSize,
+                    queryForCount(buildCountSql(sql), params));
+            case CACHED_COUNT -> {
+                String countSql = buildCountSql(sql);
+                int total = pageCountCache.get(countSql, params, () -> queryForCount(countSql, params));
+                yield queryForCountedPage(sql, params, rowMapper, requiredType, pageNum, pageSize, total);
+            }
+            case HAS_NEXT -> queryForHasNextPage(sql, params, rowMapper, requiredType, pageNum, pageSize);
+            case WINDOW_COUNT -> queryForWindowCountPage(sql, params, rowMapper, requiredType, pageNum, pageSize);
+        };
     }
 
     /**
-     * 使用子查询包装的方式构建计数SQL
+     * 已知总数时查询分页数据
      */
-    private String wrapAsSubqueryCount(String sql) {
-        String cleanSql = removeOrderByClause(sql);
-        return "SELECT COUNT(*) FROM (" + cleanSql + ") AS subquery_count";
-    }
+    private <T> PageResponse<T> queryForCountedPage(String sql, Map<String, Object> params, RowMapper<T> rowMapper,
+                                                    Class<?> requiredType, int pageNum, int pageSize, int total) {
+        if (total == 0) {
+            return PageResponse.success(Collections.emptyList(), total, pageSize, pageNum);
+        }
 
-    /**
-     * 检查SQL是否包含UNION操作
-     */
-    private boolean containsUnionOperation(String lowerSql) {
-        return lowerSql.contains(" union ") || lowerSql.contains(" union all ");
-    }
+        // 构建分页SQL
+        String pageSql = buildPageSql(sql, pageNum, pageSize);
+        List<T> records = queryPageRecords(pageSql, params, rowMapper, requiredType);
 
-    /**
-     * 检查SQL是否包含DISTINCT、GROUP BY等影响计数的子句
-     */
-    private boolean containsDistinctOrGroupBy(String lowerSql) {
-        return lowerSql.contains("select distinct") ||
-                lowerSql.contains(" group by ") ||
-                lowerSql.contains(" having ");
+        return PageResponse.success(records, total, pageSize, pageNum);
     }
 
     /**
-     * 解析SQL结构
+     * 多查询一行判断是否存在下一页，不执行计数查询
      */
-    private SqlStructure parseSqlStructure(String sql) {
-        String lowerSql = sql.toLowerCase();
+    private <T> PageResponse<T> queryForHasNextPage(String sql, Map<String, Object> params, RowMapper<T> rowMapper,
+                                                    Class<?> requiredType, int pageNum, int pageSize) {
+        String pageSql = buildPageSql(sql, pageNum, pageSize, pageSize + 1);
+        List<T> records = queryPageRecords(pageSql, params, rowMapper, requiredType);
 
-        int selectIndex = lowerSql.indexOf("select");
-        int fromIndex = findFromClauseIndex(lowerSql);
-        int whereIndex = lowerSql.indexOf(" where ");
-        int groupByIndex = lowerSql.indexOf(" group by ");
-        int havingIndex = lowerSql.indexOf(" having ");
-        int orderByIndex = lowerSql.indexOf(" order by ");
-
-        return new SqlStructure(selectIndex, fromIndex, whereIndex, groupByIndex, havingIndex, orderByIndex);
+        boolean hasNext = records.size() > pageSize;
+        List<T> pageRecords = hasNext ? new ArrayList<>(records.subList(0, pageSize)) : records;
+        return PageResponse.successWithoutTotal(pageRecords, pageSize, pageNum, hasNext);
     }
 
     /**
-     * 查找FROM子句的索引位置
+     * 在数据查询中附加窗口计数列获取总数
+     * <p>窗口函数在LIMIT之前对完整结果集求值，每行携带相同的总数；当前页为空（页码超出范围）时无法得到总数，退化为计数查询。
+     * 紧凑行映射器排除计数列，其他映射器返回的Map在映射后移除计数列</p>
      */
-    private int findFromClauseIndex(String lowerSql) {
-        int fromIndex = -1;
-        int searchStart = 0;
-        int parenDepth = 0;
+    @SuppressWarnings("unchecked")
+    private <T> PageResponse<T> queryForWindowCountPage(String sql, Map<String, Object> params, RowMapper<T> rowMapper,
+                                                        Class<?> requiredType, int pageNum, int pageSize) {
+        String windowSql = buildWindowCountSql(sql);
+        if (windowSql == null) {
+            return queryForCountedPage(sql, params, rowMapper, requiredType, pageNum, pageSize,
+                    queryForCount(buildCountSql(sql), params));
+        }
 
-        while (searchStart < lowerSql.length()) {
-            int nextFrom = lowerSql.indexOf(" from ", searchStart);
-            if (nextFrom == -1) {
-                break;
-            }
+        RowMapper<T> recordMapper = rowMapper instanceof CompactRowMapper compactRowMapper
+                ? (RowMapper<T>) compactRowMapper.excluding(WINDOW_TOTAL_COLUMN) : rowMapper;
+        WindowTotalCapturingRowMapper<T> capturingMapper = new WindowTotalCapturingRowMapper<>(recordMapper);
+        String pageSql = buildPageSql(windowSql, pageNum, pageSize);
+        List<T> records = queryPageRecords(pageSql, params, capturingMapper, requiredType);
 
-            // 检查该FROM是否在括号内（子查询中）
-            String beforeFrom = lowerSql.substring(searchStart, nextFrom);
-            for (char c : beforeFrom.toCharArray()) {
-                if (c == '(') {
-                    parenDepth++;
-                } else if (c == ')') {
-                    parenDepth--;
+        if (records.isEmpty()) {
+            int total = pageNum == 1 ? 0 : queryForCount(buildCountSql(sql), params);
+            return PageResponse.success(records, total, pageSize, pageNum);
+        }
+        if (recordMapper == rowMapper) {
+            for (T record : records) {
+                if (record instanceof Map<?, ?> map) {
+                    map.remove(WINDOW_TOTAL_COLUMN);
                 }
             }
-
-            if (parenDepth == 0) {
-                fromIndex = nextFrom;
-                break;
-            }
-
-            // 6 = " from ".length()
-            searchStart = nextFrom + 6;
         }
-
-        return fromIndex;
+        return PageResponse.success(records, capturingMapper.getTotal(), pageSize, pageNum);
     }
 
     /**
-     * SQL结构信息类
+     * 已知总数时按预编译分页SQL查询分页数据
      */
-    private record SqlStructure(int selectIndex, int fromIndex, int whereIndex, int groupByIndex, int havingIndex, int orderByIndex) {
-        public boolean isValidForDirectCount() {
-            return fromIndex > 0 && groupByIndex == -1 && havingIndex == -1;
+    private <T> PageResponse<T> queryForPreparedPage(PreparedQuery<T> query, Map<String, Object> params, RowMapper<T> rowMapper,
+                                                     int pageNum, int pageSize, int total) {
+        if (total == 0) {
+            return PageResponse.success(Collections.emptyList(), total, pageSize, pageNum);
         }
+
+        Map<String, Object> pageParams = query.bindPage(params, pageSize, pageOffset(pageNum, pageSize));
+        List<T> records = queryPageRecords(query.getPageSql(), pageParams, rowMapper, query.getRequiredType());
+        return PageResponse.success(records, total, pageSize, pageNum);
     }
 
     /**
-     * 构建分页SQL
-     * <p>此方法生成的SQL用于分页查询，使用安全的数值参数</p>
+     * 计算分页偏移量
      *
-     * @param sql      原始查询SQL
      * @param pageNum  页码（已验证）
      * @param pageSize 页大小（已验证）
-     * @return 分页SQL语句
+     * @return 偏移量
      */
-    @SuppressWarnings("SqlSourceToSinkFlow")
-    private String buildPageSql(String sql, int pageNum, int pageSize) {
-        Assert.hasText(sql, "Original SQL must not be empty");
-        Assert.isTrue(pageNum > 0, "Page number must be positive");
-        Assert.isTrue(pageSize > 0, "Page size must be positive");
-
-        int offset = (pageNum - 1) * pageSize;
+    private long pageOffset(int pageNum, int pageSize) {
+        long offset = (long) (pageNum - 1) * pageSize;
 
         // 防止整数溢出
         if (offset > Integer.MAX_VALUE) {
             throw new IllegalArgumentException("Page offset too large: " + offset);
         }
+        return offset;
+    }
 
-        return sql + " LIMIT " + pageSize + " OFFSET " + offset;
+    /**
+     * 查询分页数据
+     * <p>指定目标类型时，映射失败包装为{@link MappingException}</p>
+     */
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    private <T> List<T> queryPageRecords(String pageSql, Map<String, Object> params, RowMapper<T> rowMapper, Class<?> requiredType) {
+        return executeQuery(pageSql, params, defaultLoggingEnabled, () -> {
+            if (requiredType == null) {
+                return namedParameterJdbcTemplate.query(pageSql, params, rowMapper);
+            }
+            try {
+                return namedParameterJdbcTemplate.query(pageSql, params, rowMapper);
+            } catch (Exception ex) {
+                throw new MappingException("Failed to query page for type " + requiredType.getSimpleName(), ex);
+            }
+        });
     }
 
     /**
-     * 智能移除SQL中的ORDER BY子句
-     * <p>企业级SQL解析实现，精确识别和移除主查询中的ORDER BY子句</p>
-     * <p>支持的场景：</p>
-     * <ul>
-     *     <li>嵌套子查询中的ORDER BY保留</li>
-     *     <li>CTE查询中的ORDER BY正确处理</li>
-     *     <li>字符串字面量中的ORDER BY不误删</li>
-     *     <li>注释中的ORDER BY不误删</li>
-     *     <li>CASE表达式中的ORDER BY正确处理</li>
-     * </ul>
+     * 构建窗口计数SQL
+     * <p>在主查询的SELECT列表末尾追加{@code COUNT(*) OVER()}列；UNION、CTE和DISTINCT查询中窗口函数先于去重求值或无法直接追加，
+     * 返回null由调用方退化为计数查询</p>
      *
-     * @param sql 原始SQL语句
-     * @return 移除主查询ORDER BY后的SQL
+     * @param sql 原始查询SQL
+     * @return 窗口计数SQL，不适用时返回null
      */
-    private String removeOrderByClause(String sql) {
-        if (!StringUtils.hasText(sql)) {
-            return sql;
+    private String buildWindowCountSql(String sql) {
+        ParsedSql parsedSql = validationCache.get(sql, this::evaluateStatement).parsedSql();
+        int fromOffset = parsedSql.getFromOffset();
+        if (!parsedSql.startsWith("select") || parsedSql.hasSetOperation() || parsedSql.isDistinct() || fromOffset < 0) {
+            return null;
         }
-
-        // 使用状态机方式解析SQL，确保准确性
-        SqlParser parser = new SqlParser(sql);
-        return parser.removeMainQueryOrderBy();
+        return sql.substring(0, fromOffset).stripTrailing()
+                + ", COUNT(*) OVER() AS " + WINDOW_TOTAL_COLUMN + " "
+                + sql.substring(fromOffset).trim();
     }
 
     /**
-     * SQL解析器 - 用于精确解析SQL结构
+     * 执行游标分页查询
+     * <p>多查询一行用于判断是否存在下一页，下一页游标取自本页最后一行的排序键值</p>
      */
-    private static class SqlParser {
-        private final String sql;
-        private final String lowerSql;
-        private int position;
-        private int parenDepth;
-        private boolean inStringLiteral;
-        private boolean inComment;
-        private char stringDelimiter;
-
-        public SqlParser(String sql) {
-            this.sql = sql;
-            this.lowerSql = sql.toLowerCase();
-            this.position = 0;
-            this.parenDepth = 0;
-            this.inStringLiteral = false;
-            this.inComment = false;
-        }
-
-        /**
-         * 移除主查询中的ORDER BY子句
-         */
-        public String removeMainQueryOrderBy() {
-            int lastOrderByIndex = -1;
-            int lastOrderByDepth = -1;
-
-            while (position < sql.length()) {
-                char currentChar = sql.charAt(position);
-
-                // 处理字符串字面量
-                if (handleStringLiteral(currentChar)) {
-                    position++;
-                    continue;
-                }
+    @SuppressWarnings("SqlSourceToSinkFlow")
+    private <T> CursorPageResponse<T> queryForCursorPage(String sql, Map<String, Object> params, RowMapper<T> rowMapper,
+                                                         List<SeekKey> keys, String cursor, int pageSize) {
+        Assert.notEmpty(keys, "Seek keys must not be empty");
+        validatePageParams(1, pageSize);
 
-                // 处理注释
-                if (handleComment(currentChar)) {
-                    continue;
-                }
+        List<Object> lastValues = StringUtils.hasText(cursor) ? SeekCursor.decode(cursor, keys.size()) : null;
+        Map<String, Object> seekParams = params != null ? new HashMap<>(params) : new HashMap<>();
+        String seekSql = buildSeekSql(sql, keys, lastValues, seekParams, pageSize + 1);
 
-                // 如果在字符串或注释中，跳过
-                if (inStringLiteral || inComment) {
-                    position++;
-                    continue;
-                }
+        SeekKeyCapturingRowMapper<T> capturingMapper = new SeekKeyCapturingRowMapper<>(rowMapper, keys, pageSize - 1);
+        List<T> records = executeQuery(seekSql, seekParams, defaultLoggingEnabled,
+                () -> namedParameterJdbcTemplate.query(seekSql, seekParams, capturingMapper));
 
-                // 处理括号深度
-                if (currentChar == '(') {
-                    parenDepth++;
-                } else if (currentChar == ')') {
-                    parenDepth--;
-                }
+        if (records.size() <= pageSize) {
+            return CursorPageResponse.success(records, pageSize, null);
+        }
+        String nextCursor = SeekCursor.encode(capturingMapper.getCapturedValues());
+        return CursorPageResponse.success(new ArrayList<>(records.subList(0, pageSize)), pageSize, nextCursor);
+    }
 
-                // 查找ORDER BY
-                if (matchesOrderBy()) {
-                    // 记录最后一个主查询级别的ORDER BY
-                    if (parenDepth == 0) {
-                        lastOrderByIndex = position;
-                        lastOrderByDepth = parenDepth;
-                    }
-                }
+    /**
+     * 构建游标分页SQL
+     * <p>原始SQL作为派生表包装，排序键按结果集列名引用；MySQL对不含聚合、DISTINCT和LIMIT的派生表会合并到外层查询，
+     * 游标条件可以直接利用排序键上的索引</p>
+     * <p>游标条件展开为{@code k1 <= :v1 AND (k1 < :v1 OR (k1 = :v1 AND k2 < :v2) ...)}（以降序为例），
+     * 首列的范围条件用于索引范围扫描，同时支持各排序键方向不一致的情况</p>
+     *
+     * @param sql        原始查询SQL
+     * @param keys       排序键
+     * @param lastValues 上一页最后一行的排序键值，为null时查询第一页
+     * @param params     命名参数，游标键值参数会写入其中
+     * @param limit      查询行数
+     * @return 游标分页SQL语句
+     */
+    String buildSeekSql(String sql, List<SeekKey> keys, List<Object> lastValues, Map<String, Object> params, int limit) {
+        Assert.hasText(sql, "Original SQL must not be empty");
 
-                position++;
-            }
+        StringBuilder seekSql = new StringBuilder(sql.length() + 64 + keys.size() * 48);
+        seekSql.append("SELECT * FROM (").append(validationCache.get(sql, this::evaluateStatement).parsedSql().withoutOrderBy()).append(") AS seek_page_query");
 
-            // 如果找到主查询级别的ORDER BY，移除它
-            if (lastOrderByIndex >= 0) {
-                return sql.substring(0, lastOrderByIndex).trim();
+        if (lastValues != null) {
+            for (int i = 0; i < keys.size(); i++) {
+                params.put(SEEK_PARAM_PREFIX + i, lastValues.get(i));
             }
 
-            return sql;
-        }
-
-        /**
-         * 处理字符串字面量
-         */
-        private boolean handleStringLiteral(char currentChar) {
-            if (!inComment) {
-                if (!inStringLiteral) {
-                    if (currentChar == '\'' || currentChar == '"' || currentChar == '`') {
-                        inStringLiteral = true;
-                        stringDelimiter = currentChar;
-                        return true;
-                    }
-                } else {
-                    if (currentChar == stringDelimiter) {
-                        // 检查是否为转义字符
-                        if (position + 1 < sql.length() && sql.charAt(position + 1) == stringDelimiter) {
-                            // 跳过转义字符
-                            position++;
-                        } else {
-                            inStringLiteral = false;
-                        }
-                        return true;
-                    }
-                }
+            SeekKey first = keys.getFirst();
+            seekSql.append(" WHERE ");
+            if (keys.size() > 1) {
+                seekSql.append(first.getColumn()).append(first.isDescending() ? " <= :" : " >= :")
+                        .append(SEEK_PARAM_PREFIX).append(0).append(" AND (");
             }
-            return false;
-        }
-
-        /**
-         * 处理SQL注释
-         */
-        private boolean handleComment(char currentChar) {
-            if (!inStringLiteral) {
-                // 处理单行注释 --
-                if (currentChar == '-' && position + 1 < sql.length() &&
-                        sql.charAt(position + 1) == '-') {
-                    // 跳到行尾
-                    while (position < sql.length() &&
-                            sql.charAt(position) != '\n' &&
-                            sql.charAt(position) != '\r') {
-                        position++;
-                    }
-                    return true;
+            for (int i = 0; i < keys.size(); i++) {
+                if (i > 0) {
+                    seekSql.append(" OR (");
                 }
-
-                // 处理多行注释 /* */
-                if (currentChar == '/' && position + 1 < sql.length() &&
-                        sql.charAt(position + 1) == '*') {
-                    inComment = true;
-                    position += 2;
-
-                    // 查找注释结束
-                    while (position + 1 < sql.length()) {
-                        if (sql.charAt(position) == '*' &&
-                                sql.charAt(position + 1) == '/') {
-                            inComment = false;
-                            position += 2;
-                            break;
-                        }
-                        position++;
-                    }
-                    return true;
+                for (int j = 0; j < i; j++) {
+                    seekSql.append(keys.get(j).getColumn()).append(" = :").append(SEEK_PARAM_PREFIX).append(j).append(" AND ");
+                }
+                SeekKey key = keys.get(i);
+                seekSql.append(key.getColumn()).append(key.isDescending() ? " < :" : " > :").append(SEEK_PARAM_PREFIX).append(i);
+                if (i > 0) {
+                    seekSql.append(')');
                 }
             }
-            return false;
+            if (keys.size() > 1) {
+                seekSql.append(')');
+            }
         }
 
-        /**
-         * 检查当前位置是否匹配ORDER BY
-         */
-        private boolean matchesOrderBy() {
-            // "order by".length() = 8
-            if (position + 8 < lowerSql.length()) {
-                String substring = lowerSql.substring(position, position + 8);
-                if ("order by".equals(substring)) {
-                    // 确保ORDER BY前后是空白或特殊字符
-                    boolean validBefore = position == 0 ||
-                            Character.isWhitespace(sql.charAt(position - 1)) ||
-                            sql.charAt(position - 1) == ')' ||
-                            sql.charAt(position - 1) == ';';
-
-                    boolean validAfter = position + 8 >= sql.length() ||
-                            Character.isWhitespace(sql.charAt(position + 8));
-
-                    if (validBefore && validAfter) {
-                        // 跳过"order by"
-                        position += 8;
-                        return true;
-                    }
-                }
+        seekSql.append(" ORDER BY ");
+        for (int i = 0; i < keys.size(); i++) {
+            if (i > 0) {
+                seekSql.append(", ");
             }
-            return false;
+            seekSql.append(keys.get(i));
         }
+        return seekSql.append(" LIMIT ").append(limit).toString();
     }
 
     /**
-     * 执行全面的SQL安全验证
-     * <p>此方法集成多层安全检查，确保SQL语句的安全性</p>
+     * 执行SQL安全验证并返回语句验证结论
+     * <p>语句级验证结论按SQL文本缓存，参数验证每次执行</p>
      *
      * @param sql    SQL语句
      * @param params 参数映射
-     * @return 验证后的SQL语句
+     * @return 语句验证结论
      * @throws SecurityException 如果SQL不安全
      */
-    private String performComprehensiveSqlValidation(String sql, Map<String, Object> params) {
+    private SqlVerdict validateStatement(String sql, Map<String, Object> params) {
         Assert.hasText(sql, "SQL must not be empty");
 
-        // 1. 基础SQL安全验证
-        sqlValidator.validateSql(sql);
+        // 1. 语句级验证（命中缓存时跳过词法分析与规范化）
+        SqlVerdict verdict = validationCache.get(sql, this::evaluateStatement);
+        verdict.throwIfRejected();
 
         // 2. 参数安全验证
         validateParameters(params);
 
-        // 3. SQL语句规范化检查
-        String normalizedSql = normalizeSql(sql);
+        if (log.isTraceEnabled()) {
+            log.trace("SQL validation passed for: {}", maskSensitiveSql(verdict));
+        }
 
-        // 4. 白名单操作验证（可选，根据业务需求）
-        validateSqlOperationType(normalizedSql);
+        return verdict;
+    }
 
-        if (log.isTraceEnabled()) {
-            log.trace("SQL validation passed for: {}", maskSensitiveSql(sql));
+    /**
+     * 语句级SQL验证
+     * <p>结论只依赖SQL文本，可被缓存</p>
+     *
+     * @param sql SQL语句
+     * @return 语句验证结论
+     */
+    private SqlVerdict evaluateStatement(String sql) {
+        // 1. 词法分析，同时得到规范化SQL
+        ParsedSql parsedSql = SqlLexer.parse(sql);
+
+        // 2. 基础SQL安全验证
+        try {
+            sqlValidator.validate(parsedSql);
+        } catch (java.lang.SecurityException e) {
+            return SqlVerdict.rejected(parsedSql, e.getMessage());
         }
 
-        return normalizedSql;
+        // 3. 白名单操作验证（可选，根据业务需求）
+        validateSqlOperationType(parsedSql);
+
+        return SqlVerdict.passed(parsedSql);
     }
 
     /**
@@ -1341,97 +2016,82 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
      *
      * @param sql         SQL语句
      * @param batchParams 批处理参数
-     * @return 验证后的SQL语句
+     * @return 语句验证结论
      */
-    private <T> String performBatchSqlValidation(String sql, T[] batchParams) {
+    private <T> SqlVerdict performBatchSqlValidation(String sql, T[] batchParams) {
         Assert.hasText(sql, "SQL must not be empty");
         Assert.notNull(batchParams, "Batch parameters must not be null");
 
         // 基础SQL验证
-        sqlValidator.validateSql(sql);
+        SqlVerdict verdict = validationCache.get(sql, this::evaluateStatement);
+        verdict.throwIfRejected();
 
         // 批处理大小限制
         if (batchParams.length > securityConfig.getMaxBatchSize()) {
             throw new IllegalArgumentException("Batch size cannot exceed " + securityConfig.getMaxBatchSize() + " operations");
         }
 
-        return normalizeSql(sql);
+        return verdict;
     }
 
     /**
      * 验证更新操作的安全性
+     * <p>只检查主查询，子查询中的WHERE不能代替外层的WHERE条件</p>
      *
-     * @param sql 已验证的SQL语句
+     * @param verdict 语句验证结论
      */
-    private void validateUpdateOperation(String sql) {
-        String lowerSql = sql.toLowerCase().trim();
+    private void validateUpdateOperation(SqlVerdict verdict) {
+        ParsedSql parsedSql = verdict.parsedSql();
 
         // 检查是否为允许的更新操作
-        if (lowerSql.startsWith("select") || lowerSql.startsWith("with")) {
+        if (parsedSql.startsWith("select", "with")) {
             // 查询操作在更新方法中调用，可能是误用
-            log.warn("Query operation detected in update method: {}", maskSensitiveSql(sql));
+            log.warn("Query operation detected in update method: {}", maskSensitiveSql(verdict));
         }
 
         // 检查危险的更新操作
-        if (lowerSql.contains("delete") && !lowerSql.contains("where")) {
-            log.warn("DELETE operation without WHERE clause detected: {}", maskSensitiveSql(sql));
+        if (parsedSql.startsWith("delete") && !parsedSql.hasWhere()) {
+            log.warn("DELETE operation without WHERE clause detected: {}", maskSensitiveSql(verdict));
         }
 
-        if (lowerSql.contains("update") && !lowerSql.contains("where")) {
-            log.warn("UPDATE operation without WHERE clause detected: {}", maskSensitiveSql(sql));
+        if (parsedSql.startsWith("update") && !parsedSql.hasWhere()) {
+            log.warn("UPDATE operation without WHERE clause detected: {}", maskSensitiveSql(verdict));
         }
     }
 
     /**
      * 验证批处理更新操作的安全性
      *
-     * @param sql         已验证的SQL语句
-     * @param batchParams 批处理参数
+     * @param verdict 语句验证结论
      */
-    private <T> void validateBatchUpdateOperation(String sql, T[] batchParams) {
-        validateUpdateOperation(sql);
+    private void validateBatchUpdateOperation(SqlVerdict verdict) {
+        validateUpdateOperation(verdict);
 
         // 批处理特定验证
-        String lowerSql = sql.toLowerCase().trim();
-        if (lowerSql.contains("drop") || lowerSql.contains("truncate")) {
+        ParsedSql parsedSql = verdict.parsedSql();
+        if (parsedSql.containsKeyword("drop") || parsedSql.containsKeyword("truncate")) {
             throw new IllegalArgumentException("Dangerous operations not allowed in batch processing");
         }
     }
 
-    /**
-     * SQL语句规范化
-     *
-     * @param sql 原始SQL
-     * @return 规范化后的SQL
-     */
-    private String normalizeSql(String sql) {
-        if (!StringUtils.hasText(sql)) {
-            return sql;
-        }
-
-        // 移除多余空白字符
-        return sql.replaceAll("\\s+", " ").trim();
-    }
-
     /**
      * 验证SQL操作类型（可选的白名单验证）
+     * <p>在验证结论计算过程中调用，直接掩码分析结果，不经过验证缓存</p>
      *
-     * @param sql 规范化的SQL
+     * @param parsedSql SQL分析结果
      */
-    private void validateSqlOperationType(String sql) {
-        String lowerSql = sql.toLowerCase();
-
+    private void validateSqlOperationType(ParsedSql parsedSql) {
         // 这里可以根据业务需求添加操作类型限制
         // 例如：只允许特定类型的操作
-        if (lowerSql.startsWith("alter") || lowerSql.startsWith("create") || lowerSql.startsWith("drop")) {
-            log.info("DDL operation detected: {}", maskSensitiveSql(sql));
+        if (parsedSql.startsWith("alter", "create", "drop")) {
+            log.info("DDL operation detected: {}", maskParsedSql(parsedSql));
             // 可以选择抛出异常或记录日志
         }
     }
 
     /**
      * 企业级敏感SQL内容掩码处理
-     * <p>全面的敏感信息识别和掩码实现，支持多种SQL语法和场景</p>
+     * <p>基于语句的词法分析结果掩码字面量，掩码结果随验证结论缓存，同一语句只计算一次</p>
      * <p>支持的敏感信息类型：</p>
      * <ul>
      *     <li>密码相关：password, pwd, passwd, secret</li>
@@ -1452,192 +2112,31 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
      * @return 掩码处理后的SQL
      */
     private String maskSensitiveSql(String sql) {
-        if (!StringUtils.hasText(sql)) {
-            return sql;
-        }
-
-        if (!securityConfig.isSensitiveDataMasking()) {
+        if (!StringUtils.hasText(sql) || !securityConfig.isSensitiveDataMasking()) {
             // 如果禁用了掩码功能，直接返回原SQL
             return sql;
         }
-
-        SensitiveSqlMasker masker = new SensitiveSqlMasker(securityConfig);
-        return masker.maskSensitiveContent(sql);
+        return maskSensitiveSql(validationCache.get(sql, this::evaluateStatement));
     }
 
     /**
-     * 敏感SQL掩码处理器
+     * 敏感SQL内容掩码处理
+     *
+     * @param verdict 语句验证结论
+     * @return 掩码处理后的SQL
      */
-    private record SensitiveSqlMasker(SqlSecurityConfig securityConfig) {
-
-        // 掩码替换文本
-        private static final String MASK_TEXT = "***";
-
-        /**
-         * 对SQL中的敏感内容进行掩码处理
-         */
-        public String maskSensitiveContent(String sql) {
-            String result = sql;
-
-            // 1. 掩码 WHERE 条件中的敏感值
-            result = maskWhereConditions(result);
-
-            // 2. 掩码 INSERT VALUES 中的敏感数据
-            result = maskInsertValues(result);
-
-            // 3. 掩码 UPDATE SET 中的敏感赋值
-            result = maskUpdateSets(result);
-
-            // 4. 掩码函数参数中的敏感值
-            result = maskFunctionParameters(result);
-
-            // 5. 掩码 CASE 表达式中的敏感内容
-            result = maskCaseExpressions(result);
-
-            // 6. 通用敏感值掩码
-            result = maskGenericSensitiveValues(result);
-
-            return result;
-        }
-
-        /**
-         * 掩码WHERE条件中的敏感值
-         */
-        private String maskWhereConditions(String sql) {
-            String result = sql;
-            for (String keyword : securityConfig.getSensitiveParameterPatterns()) {
-                // 匹配模式：field = 'value' 或 field = "value"
-                result = result.replaceAll(
-                        "(?i)\\b" + keyword + "\\s*=\\s*'[^']*'",
-                        keyword + " = '" + MASK_TEXT + "'"
-                );
-                result = result.replaceAll(
-                        "(?i)\\b" + keyword + "\\s*=\\s*\"[^\"]*\"",
-                        keyword + " = \"" + MASK_TEXT + "\""
-                );
-
-                // 匹配模式：field IN ('value1', 'value2')
-                result = result.replaceAll(
-                        "(?i)\\b" + keyword + "\\s+IN\\s*\\([^)]*\\)",
-                        keyword + " IN ('" + MASK_TEXT + "')"
-                );
-
-                // 匹配模式：field LIKE 'pattern'
-                result = result.replaceAll(
-                        "(?i)\\b" + keyword + "\\s+LIKE\\s+'[^']*'",
-                        keyword + " LIKE '" + MASK_TEXT + "'"
-                );
-            }
-            return result;
-        }
-
-        /**
-         * 掩码INSERT VALUES中的敏感数据
-         */
-        private String maskInsertValues(String sql) {
-            // 对于INSERT语句，由于难以精确匹配字段位置，采用保守的掩码策略
-            if (sql.toLowerCase().contains("insert")) {
-                // 检查是否包含敏感关键词
-                for (String keyword : securityConfig.getSensitiveParameterPatterns()) {
-                    if (sql.toLowerCase().contains(keyword.toLowerCase())) {
-                        // 如果包含敏感关键词，对VALUES部分进行部分掩码
-                        return sql.replaceAll(
-                                "(?i)(VALUES\\s*\\([^)]*)" + keyword + "([^)]*\\))",
-                                "$1[含敏感数据已掩码]$2"
-                        );
-                    }
-                }
-            }
-            return sql;
-        }
-
-        /**
-         * 掩码UPDATE SET中的敏感赋值
-         */
-        private String maskUpdateSets(String sql) {
-            String result = sql;
-            for (String keyword : securityConfig.getSensitiveParameterPatterns()) {
-                // 匹配 SET field = 'value'
-                result = result.replaceAll(
-                        "(?i)\\bSET\\s+[^=]*\\b" + keyword + "\\s*=\\s*'[^']*'",
-                        "SET " + keyword + " = '" + MASK_TEXT + "'"
-                );
-                result = result.replaceAll(
-                        "(?i)\\b" + keyword + "\\s*=\\s*'[^']*'",
-                        keyword + " = '" + MASK_TEXT + "'"
-                );
-            }
-            return result;
-        }
-
-        /**
-         * 掩码函数参数中的敏感值
-         */
-        private String maskFunctionParameters(String sql) {
-            String result = sql;
-
-            // 掩码常见的加密/哈希函数参数
-            result = result.replaceAll(
-                    "(?i)(MD5|SHA1|SHA256|ENCRYPT|HASH)\\s*\\([^)]*\\)",
-                    "$1('" + MASK_TEXT + "')"
-            );
-
-            // 掩码密码相关函数
-            result = result.replaceAll(
-                    "(?i)(PASSWORD|PWD_HASH|ENCODE)\\s*\\([^)]*\\)",
-                    "$1('" + MASK_TEXT + "')"
-            );
-
-            return result;
-        }
-
-        /**
-         * 掩码CASE表达式中的敏感内容
-         */
-        private String maskCaseExpressions(String sql) {
-            String result = sql;
-            for (String keyword : securityConfig.getSensitiveParameterPatterns()) {
-                // 掩码CASE WHEN条件中的敏感值
-                result = result.replaceAll(
-                        "(?i)(CASE\\s+WHEN[^=]*)\\b" + keyword + "\\s*=\\s*'[^']*'",
-                        "$1" + keyword + " = '" + MASK_TEXT + "'"
-                );
-            }
-            return result;
+    private String maskSensitiveSql(SqlVerdict verdict) {
+        if (!securityConfig.isSensitiveDataMasking()) {
+            return verdict.parsedSql().getSql();
         }
+        return verdict.maskedSql(this::maskParsedSql);
+    }
 
-        /**
-         * 通用敏感值掩码 - 兜底处理
-         */
-        private String maskGenericSensitiveValues(String sql) {
-            String result = sql;
-
-            // 掩码看起来像密码的长字符串（长度>8的引号字符串）
-            result = result.replaceAll(
-                    "'[a-zA-Z0-9!@#$%^&*()_+\\-=\\[\\]{}|;:,.<>?]{9,}'",
-                    "'" + MASK_TEXT + "'"
-            );
-
-            // 掩码看起来像token的字符串（包含大小写字母和数字的长字符串）
-            result = result.replaceAll(
-                    "'[A-Za-z0-9+/=]{20,}'",
-                    "'" + MASK_TEXT + "'"
-            );
-
-            // 掩码邮箱地址
-            result = result.replaceAll(
-                    "'[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}'",
-                    "'" + MASK_TEXT + "@***.***'"
-            );
-
-            // 掩码电话号码（简单匹配）
-            result = result.replaceAll(
-                    "'[0-9-+()\\s]{10,}'",
-                    "'" + MASK_TEXT + "'"
-            );
-
-            return result;
+    private String maskParsedSql(ParsedSql parsedSql) {
+        if (!securityConfig.isSensitiveDataMasking()) {
+            return parsedSql.getSql();
         }
+        return new SensitiveSqlMasker(securityConfig).mask(parsedSql);
     }
 
     /**
@@ -1687,14 +2186,37 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
     }
 
     /**
-     * 获取或创建行映射器
+     * 获取或创建单次查询使用的行映射器
      *
      * @param <T>          目标类型
      * @param requiredType 目标类型
      * @return 行映射器，如果不适用返回null
      */
-    @SuppressWarnings("unchecked")
     private <T> RowMapper<T> getOrCreateRowMapper(Class<T> requiredType) {
+        return forQuery(getSharedRowMapper(requiredType));
+    }
+
+    /**
+     * 获取单次查询使用的行映射器
+     * <p>共享的映射器实例不保存查询状态，需要按结果集绑定映射计划的实现为每次查询返回独立的映射器</p>
+     *
+     * @param <T>       目标类型
+     * @param rowMapper 共享的行映射器，可以为null
+     * @return 行映射器
+     */
+    private static <T> RowMapper<T> forQuery(RowMapper<T> rowMapper) {
+        return rowMapper instanceof IntelligentRowMapper<T> intelligentMapper ? intelligentMapper.forQuery() : rowMapper;
+    }
+
+    /**
+     * 获取或创建缓存的共享行映射器
+     *
+     * @param <T>          目标类型
+     * @param requiredType 目标类型
+     * @return 行映射器，如果不适用返回null
+     */
+    @SuppressWarnings("unchecked")
+    private <T> RowMapper<T> getSharedRowMapper(Class<T> requiredType) {
         if (requiredType == null) {
             return null;
         }
@@ -1704,17 +2226,19 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
             return null;
         }
 
-        // 从缓存中获取
-        RowMapper<T> rowMapper = (RowMapper<T>) rowMapperCache.get(requiredType);
+        // 从缓存中获取，缓存由多个句柄共享，键中包含本句柄的映射配置
+        RowMapperKey key = new RowMapperKey(requiredType, mappingStrategy, checkFullyPopulated, primitivesDefaultedForNullValue);
+        RowMapper<T> rowMapper = (RowMapper<T>) rowMapperCache.get(key);
         if (rowMapper == null) {
             try {
-                // 创建智能行映射器
-                IntelligentRowMapper<T> intelligentMapper = IntelligentRowMapper.of(requiredType);
-                rowMapperCache.put(requiredType, intelligentMapper);
+                // 按配置的映射策略创建智能行映射器，放入缓存后不再修改
+                IntelligentRowMapper<T> intelligentMapper = IntelligentRowMapper.of(requiredType, mappingStrategy);
+                applyMappingOptions(intelligentMapper);
+                rowMapperCache.put(key, intelligentMapper);
                 rowMapper = intelligentMapper;
 
                 if (log.isDebugEnabled()) {
-                    log.debug("Created intelligent row mapper for type: {}", requiredType.getSimpleName());
+                    log.debug("Created {} row mapper for type: {}", mappingStrategy, requiredType.getSimpleName());
                 }
             } catch (Exception ex) {
                 log.debug("Failed to create intelligent row mapper for type {}, falling back to default",
@@ -1726,6 +2250,47 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
         return rowMapper;
     }
 
+    /**
+     * 解析预编译查询的行映射器
+     * <p>句柄未携带行映射器时按目标类型从缓存获取，简单类型使用单列映射</p>
+     *
+     * @param <T>   目标类型
+     * @param query 查询句柄
+     * @return 行映射器
+     */
+    private <T> RowMapper<T> resolveRowMapper(PreparedQuery<T> query) {
+        if (query.getRowMapper() != null) {
+            return forQuery(query.getRowMapper());
+        }
+        RowMapper<T> rowMapper = getOrCreateRowMapper(query.getRequiredType());
+        return rowMapper != null ? rowMapper : new org.springframework.jdbc.core.SingleColumnRowMapper<>(query.getRequiredType());
+    }
+
+    /**
+     * 应用映射选项
+     *
+     * @param rowMapper 行映射器
+     */
+    private void applyMappingOptions(IntelligentRowMapper<?> rowMapper) {
+        if (rowMapper instanceof CompiledRowMapper<?> compiledMapper) {
+            compiledMapper.setCheckFullyPopulated(checkFullyPopulated);
+            compiledMapper.setPrimitivesDefaultedForNullValue(primitivesDefaultedForNullValue);
+        } else if (rowMapper instanceof BeanRowMapper<?> beanMapper) {
+            beanMapper.setCheckFullyPopulated(checkFullyPopulated);
+            beanMapper.setPrimitivesDefaultedForNullValue(primitivesDefaultedForNullValue);
+        }
+    }
+
+    /**
+     * 设置实体映射策略，只影响本句柄，共享缓存中其他策略的映射器保持不变
+     *
+     * @param mappingStrategy 映射策略
+     */
+    public void setMappingStrategy(MappingStrategy mappingStrategy) {
+        Assert.notNull(mappingStrategy, "Mapping strategy cannot be null");
+        this.mappingStrategy = mappingStrategy;
+    }
+
     /**
      * 判断是否为简单类型
      *
@@ -1743,6 +2308,111 @@ public class EnhancedJdbcTemplate implements JdbcOperations {
                 type.isEnum();
     }
 
+    /**
+     * 读取窗口计数列的行映射器
+     */
+    private static final class WindowTotalCapturingRowMapper<T> implements RowMapper<T> {
+
+        private final RowMapper<T> delegate;
+
+        @Getter
+        private int total;
+
+        private WindowTotalCapturingRowMapper(RowMapper<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+            if (rowNum == 0) {
+                total = rs.getInt(WINDOW_TOTAL_COLUMN);
+            }
+            return delegate.mapRow(rs, rowNum);
+        }
+    }
+
+    /**
+     * 记录指定行排序键值的行映射器
+     * <p>只读取本页最后一行的排序键列，不依赖目标对象的属性结构</p>
+     */
+    private static final class SeekKeyCapturingRowMapper<T> implements RowMapper<T> {
+
+        private final RowMapper<T> delegate;
+
+        private final List<SeekKey> keys;
+
+        private final int captureRowNum;
+
+        @Getter
+        private List<Object> capturedValues;
+
+        private SeekKeyCapturingRowMapper(RowMapper<T> delegate, List<SeekKey> keys, int captureRowNum) {
+            this.delegate = delegate;
+            this.keys = keys;
+            this.captureRowNum = captureRowNum;
+        }
+
+        @Override
+        public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+            if (rowNum == captureRowNum) {
+                List<Object> values = new ArrayList<>(keys.size());
+                for (SeekKey key : keys) {
+                    Object value = rs.getObject(key.getColumn());
+                    if (value == null) {
+                        throw new IllegalStateException("Seek key column must not be null: " + key.getColumn());
+                    }
+                    values.add(value);
+                }
+                capturedValues = values;
+            }
+            return delegate.mapRow(rs, rowNum);
+        }
+    }
+
+    /**
+     * 批量写入进度
+     */
+    private static final class BulkWriteProgress {
+
+        private final String sql;
+
+        private final String validatedSql;
+
+        private final MultiRowInsert insert;
+
+        private final boolean enableLogging;
+
+        private long rows;
+
+        private long affectedRows;
+
+        private int subBatches;
+
+        private int statements;
+
+        private long maxSubBatchNanos;
+
+        private BulkWriteProgress(String sql, String validatedSql, MultiRowInsert insert, boolean enableLogging) {
+            this.sql = sql;
+            this.validatedSql = validatedSql;
+            this.insert = insert;
+            this.enableLogging = enableLogging;
+        }
+
+        private void addAffectedRows(int count) {
+            // 驱动返回SUCCESS_NO_INFO（-2）时不计入
+            if (count > 0) {
+                affectedRows += count;
+            }
+        }
+
+        private void completeSubBatch(int size, long elapsedNanos) {
+            rows += size;
+            subBatches++;
+            maxSubBatchNanos = Math.max(maxSubBatchNanos, elapsedNanos);
+        }
+    }
+
     // ================================
     // 函数式接口定义
     // ================================
@@ -0,0 +1,174 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import club.slavopolis.persistence.jdbc.cache.QueryResultCache;
+import club.slavopolis.persistence.jdbc.enums.MappingStrategy;
+import club.slavopolis.persistence.jdbc.mapping.RowMapperKey;
+import club.slavopolis.persistence.jdbc.monitoring.SqlExecutionMonitor;
+import club.slavopolis.persistence.jdbc.page.PageCountCache;
+import club.slavopolis.persistence.jdbc.security.SqlInjectionValidator;
+import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import club.slavopolis.persistence.jdbc.security.SqlValidationCache;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.util.Assert;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static club.slavopolis.persistence.jdbc.Constant.JdbcConstant.*;
+
+/**
+ * JDBC执行上下文
+ * <p>持有应用级共享的执行组件：SQL执行监控器、SQL注入验证器、验证结果缓存、行映射器缓存、分页总数缓存、查询结果缓存以及模板默认配置</p>
+ * <p>作为单例Bean使用，业务代码通过{@link #newHandle()}获取轻量的{@link EnhancedJdbcTemplate}句柄，句柄只持有共享组件的引用和自身的事务状态，
+ * 避免每次调用都重新创建监控器、验证器和空的映射器缓存</p>
+ *
+ * @author Slavopolis Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+@Setter
+public class JdbcExecutionContext {
+
+    /**
+     * Spring NamedParameterJdbcTemplate 实例
+     */
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 数据源事务管理器
+     */
+    private final DataSourceTransactionManager transactionManager;
+
+    /**
+     * 默认事务定义
+     */
+    private final TransactionDefinition transactionDefinition;
+
+    /**
+     * SQL安全配置
+     */
+    private final SqlSecurityConfig securityConfig;
+
+    /**
+     * 共享的SQL执行监控器
+     */
+    private final SqlExecutionMonitor executionMonitor;
+
+    /**
+     * 共享的SQL注入验证器
+     */
+    private final SqlInjectionValidator sqlValidator;
+
+    /**
+     * 共享的SQL验证结果缓存
+     */
+    private final SqlValidationCache validationCache;
+
+    /**
+     * 共享的行映射器缓存，按目标类型、映射策略和映射选项区分，句柄各自的映射配置互不影响
+     */
+    private final Map<RowMapperKey, RowMapper<?>> rowMapperCache = new ConcurrentHashMap<>();
+
+    /**
+     * 共享的分页总数缓存
+     */
+    private PageCountCache pageCountCache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
+
+    /**
+     * 共享的查询结果缓存，为null时不缓存
+     */
+    private QueryResultCache queryResultCache;
+
+    /**
+     * 默认启用日志
+     */
+    private boolean defaultLoggingEnabled = true;
+
+    /**
+     * 默认分页大小
+     */
+    private int defaultPageSize = 20;
+
+    /**
+     * 最大分页大小
+     */
+    private int maxPageSize = 1000;
+
+    /**
+     * 流式查询默认fetch size
+     */
+    private int streamFetchSize = 1000;
+
+    /**
+     * 是否对MySQL启用逐行流式读取
+     */
+    private boolean mysqlStreamingEnabled = true;
+
+    /**
+     * 实体映射策略
+     */
+    private MappingStrategy mappingStrategy = MappingStrategy.INTELLIGENT;
+
+    /**
+     * 是否检查完整映射
+     */
+    private boolean checkFullyPopulated = false;
+
+    /**
+     * 原始类型属性遇到NULL值时是否保留默认值
+     */
+    private boolean primitivesDefaultedForNullValue = false;
+
+    /**
+     * 构造函数
+     *
+     * @param namedParameterJdbcTemplate Spring命名参数JDBC模板
+     * @param transactionManager         数据源事务管理器
+     * @param transactionDefinition      事务定义
+     * @param securityConfig             SQL安全配置
+     */
+    public JdbcExecutionContext(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                DataSourceTransactionManager transactionManager,
+                                TransactionDefinition transactionDefinition,
+                                SqlSecurityConfig securityConfig) {
+        Assert.notNull(namedParameterJdbcTemplate, NAMED_PARAMETER_JDBC_TEMPLATE_CANNOT_BE_NULL);
+        Assert.notNull(transactionManager, DATASOURCE_TRANSACTION_MANAGER_CANNOT_BE_NULL);
+        Assert.notNull(transactionDefinition, TRANSACTION_DEFINITION_CANNOT_BE_NULL);
+        Assert.notNull(securityConfig, SQL_SECURITY_CONFIG_CANNOT_BE_NULL);
+
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.transactionManager = transactionManager;
+        this.transactionDefinition = transactionDefinition;
+        this.securityConfig = securityConfig;
+        this.executionMonitor = new SqlExecutionMonitor();
+        this.sqlValidator = SqlInjectionValidator.of(securityConfig);
+        this.validationCache = SqlValidationCache.of(securityConfig);
+        this.executionMonitor.setSensitiveParameterMatcher(securityConfig::isSensitiveParameter);
+    }
+
+    /**
+     * 创建轻量JDBC句柄
+     * <p>句柄共享本上下文的监控器、验证器和各类缓存，每个句柄独立维护线程内的事务状态，适合按请求或按事务创建</p>
+     *
+     * @return JDBC模板句柄
+     */
+    public EnhancedJdbcTemplate newHandle() {
+        return new EnhancedJdbcTemplate(this);
+    }
+
+    /**
+     * 设置新句柄默认的实体映射策略
+     *
+     * @param mappingStrategy 映射策略
+     */
+    public void setMappingStrategy(MappingStrategy mappingStrategy) {
+        Assert.notNull(mappingStrategy, "Mapping strategy cannot be null");
+        this.mappingStrategy = mappingStrategy;
+    }
+}
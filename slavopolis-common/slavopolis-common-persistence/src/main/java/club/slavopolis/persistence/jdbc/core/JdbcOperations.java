@@ -1,16 +1,26 @@
 package club.slavopolis.persistence.jdbc.core;
 
+import club.slavopolis.base.response.CursorPageResponse;
 import club.slavopolis.base.response.PageResponse;
+import club.slavopolis.persistence.jdbc.batch.BulkWriteOptions;
+import club.slavopolis.persistence.jdbc.batch.BulkWriteResult;
+import club.slavopolis.persistence.jdbc.enums.PageMode;
+import club.slavopolis.persistence.jdbc.page.SeekKey;
 import club.slavopolis.persistence.jdbc.parameter.TypeSafeParameterSource;
+import club.slavopolis.persistence.jdbc.transaction.RetryPolicy;
 import club.slavopolis.persistence.jdbc.transaction.TransactionCallback;
 import club.slavopolis.persistence.jdbc.transaction.TransactionStatus;
+import club.slavopolis.persistence.jdbc.transaction.UnitOfWork;
 import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.RowMapper;
 
+import java.io.InputStream;
 import java.sql.Blob;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 核心JDBC操作接口
@@ -156,6 +166,35 @@ public interface JdbcOperations {
      */
     <T> Optional<T> queryForOptional(String sql, Map<String, Object> params, Class<T> requiredType);
 
+    /**
+     * 查询单个对象，结果经查询结果缓存
+     * <p>以SQL指纹、参数和目标类型为键缓存，SQL涉及的表被写入后失效；未启用缓存、处于读写事务中
+     * 或无法识别SQL涉及的表时直接查询。每次返回缓存对象的浅副本，目标类型须为不可变类型或带无参构造函数的Bean，
+     * 使用JDK序列化的二级缓存还要求实现{@link java.io.Serializable}</p>
+     *
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @return 查询结果的Optional包装
+     * @throws DataAccessException 数据访问异常
+     * @throws IllegalArgumentException 目标类型无法缓存
+     */
+    <T> Optional<T> queryForOptionalCached(String sql, Map<String, Object> params, Class<T> requiredType);
+
+    /**
+     * 查询单个对象，结果经查询结果缓存（带日志控制）
+     *
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @param enableLogging 是否启用SQL执行日志
+     * @return 查询结果的Optional包装
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> Optional<T> queryForOptionalCached(String sql, Map<String, Object> params, Class<T> requiredType, boolean enableLogging);
+
     // ================================
     // 查询操作 - Map返回
     // ================================
@@ -289,6 +328,32 @@ public interface JdbcOperations {
      */
     <T> List<T> queryForList(String sql, Map<String, Object> params, RowMapper<T> rowMapper);
 
+    /**
+     * 查询多行数据，返回对象列表，结果经查询结果缓存
+     * <p>缓存规则同{@link #queryForOptionalCached(String, Map, Class)}，返回新的列表，其中的元素为缓存对象的浅副本</p>
+     *
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @return 查询结果对象列表
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> List<T> queryForListCached(String sql, Map<String, Object> params, Class<T> requiredType);
+
+    /**
+     * 查询多行数据，返回对象列表，结果经查询结果缓存（带日志控制）
+     *
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @param enableLogging 是否启用SQL执行日志
+     * @return 查询结果对象列表
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> List<T> queryForListCached(String sql, Map<String, Object> params, Class<T> requiredType, boolean enableLogging);
+
     // ================================
     // 查询操作 - 二进制数据
     // ================================
@@ -314,6 +379,103 @@ public interface JdbcOperations {
      */
     Blob queryForBlob(String sql, Map<String, Object> params, boolean enableLogging);
 
+    /**
+     * 以输入流读取第一行的第一列二进制数据
+     * <p>通过{@code ResultSet.getBinaryStream}读取并使用流式结果集，列值不会整体加载为{@code byte[]}或{@link Blob}；
+     * 流只在回调期间有效，回调返回后释放连接</p>
+     * 
+     * @param <T> 返回类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param callback 二进制流回调
+     * @return 回调结果，如果无结果返回null
+     * @throws DataAccessException 数据访问异常，读取流失败时为{@link org.springframework.dao.DataAccessResourceFailureException}
+     */
+    <T> T queryForBinaryStream(String sql, Map<String, Object> params, BinaryStreamCallback<T> callback);
+
+    /**
+     * 以输入流依次读取所有行的第一列二进制数据
+     * <p>结果集逐行从数据库拉取，读完一行才读取下一行，列值为NULL的行跳过，适用于按顺序拼接的分片内容；
+     * 内存占用不超过驱动缓存的单行数据</p>
+     * <p>返回的流持有数据库连接，调用方必须使用try-with-resources或显式关闭</p>
+     * 
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @return 拼接所有行的输入流，无结果时为空流，关闭时释放连接
+     * @throws DataAccessException 数据访问异常
+     */
+    InputStream queryForBinaryStream(String sql, Map<String, Object> params);
+
+    // ================================
+    // 查询操作 - 流式返回
+    // ================================
+
+    /**
+     * 流式查询对象
+     * <p>结果集按fetch size分批从数据库拉取并逐行映射，内存占用与结果集大小无关，适用于导出、全表扫描等场景</p>
+     * <p>返回的Stream持有数据库连接，调用方必须使用try-with-resources或显式关闭</p>
+     * 
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @return 延迟映射的结果流，关闭时释放连接
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> Stream<T> queryForStream(String sql, Map<String, Object> params, Class<T> requiredType);
+
+    /**
+     * 流式查询对象（指定fetch size）
+     * 
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @param fetchSize 每批从数据库拉取的行数，MySQL驱动下使用逐行流式读取时忽略该值
+     * @return 延迟映射的结果流，关闭时释放连接
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> Stream<T> queryForStream(String sql, Map<String, Object> params, Class<T> requiredType, int fetchSize);
+
+    /**
+     * 流式查询对象（使用自定义RowMapper）
+     * 
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param rowMapper 行映射器
+     * @return 延迟映射的结果流，关闭时释放连接
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> Stream<T> queryForStream(String sql, Map<String, Object> params, RowMapper<T> rowMapper);
+
+    /**
+     * 逐行回调处理查询结果
+     * <p>基于流式查询实现，处理完成或发生异常后自动释放连接</p>
+     * 
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @param action 行处理回调
+     * @return 处理的行数
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> long queryForEach(String sql, Map<String, Object> params, Class<T> requiredType, Consumer<? super T> action);
+
+    /**
+     * 逐行回调处理查询结果（使用自定义RowMapper）
+     * 
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param rowMapper 行映射器
+     * @param action 行处理回调
+     * @return 处理的行数
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> long queryForEach(String sql, Map<String, Object> params, RowMapper<T> rowMapper, Consumer<? super T> action);
+
     // ================================
     // 更新操作
     // ================================
@@ -360,6 +522,38 @@ public interface JdbcOperations {
      */
     Number updateAndReturnKey(String sql, TypeSafeParameterSource paramSource, boolean enableLogging);
 
+    /**
+     * 延迟执行更新操作，适用于不需要影响行数的写入
+     * <p>处于事务中时语句加入事务的{@link UnitOfWork}排队，相同SQL的语句在提交前、调用{@link #flushDeferredUpdates()}
+     * 或执行涉及相同表的查询、写入前合并为批处理执行；不在事务中时立即执行</p>
+     * <p>SQL验证在调用时完成，执行失败（如约束冲突）则在上述执行时刻抛出：提交前执行失败时提交中止、事务回滚，
+     * 异常由提交方法抛出；事务回滚时排队的语句直接丢弃。排队的语句不受保存点保护，创建保存点前应先调用
+     * {@link #flushDeferredUpdates()}</p>
+     *
+     * @param sql SQL语句
+     * @param params 命名参数
+     * @throws DataAccessException 数据访问异常
+     */
+    void deferUpdate(String sql, Map<String, Object> params);
+
+    /**
+     * 延迟执行更新操作（带日志控制）
+     *
+     * @param sql SQL语句
+     * @param params 命名参数
+     * @param enableLogging 是否启用SQL执行日志
+     * @throws DataAccessException 数据访问异常
+     */
+    void deferUpdate(String sql, Map<String, Object> params, boolean enableLogging);
+
+    /**
+     * 立即执行当前事务中延迟的更新操作
+     *
+     * @return 执行的语句数，没有排队的语句时返回0
+     * @throws DataAccessException 数据访问异常
+     */
+    int flushDeferredUpdates();
+
     // ================================
     // 批处理操作
     // ================================
@@ -395,6 +589,29 @@ public interface JdbcOperations {
      */
     int[] batchUpdate(String sql, TypeSafeParameterSource[] batchParams);
 
+    /**
+     * 自动分块批量写入
+     * <p>按子批次大小拆分任意数量的行并依次写入，单行INSERT语句可改写为多行INSERT；
+     * 每个子批次单独计入批处理执行统计</p>
+     *
+     * @param sql     SQL语句（单行INSERT可被改写为多行INSERT）
+     * @param rows    各行命名参数
+     * @param options 写入选项
+     * @return 写入结果
+     * @throws DataAccessException 数据访问异常
+     */
+    BulkWriteResult bulkWrite(String sql, Iterable<? extends Map<String, Object>> rows, BulkWriteOptions options);
+
+    /**
+     * 使用默认选项自动分块批量写入
+     *
+     * @param sql  SQL语句
+     * @param rows 各行命名参数
+     * @return 写入结果
+     * @throws DataAccessException 数据访问异常
+     */
+    BulkWriteResult bulkWrite(String sql, Iterable<? extends Map<String, Object>> rows);
+
     // ================================
     // 存储过程调用
     // ================================
@@ -545,6 +762,28 @@ public interface JdbcOperations {
      */
     void executeInTransaction(Runnable action);
 
+    /**
+     * 在事务中执行操作，因死锁、锁等待超时等瞬时异常失败时按重试策略整体重试
+     * <p>每次重试都在新事务中重新执行回调，回调中数据库以外的副作用需可重复执行；
+     * 已处于外层事务中时直接加入该事务且不重试，失败由外层事务处理</p>
+     * 
+     * @param <T> 返回类型
+     * @param callback 事务回调
+     * @param retryPolicy 重试策略
+     * @return 回调执行结果
+     * @throws DataAccessException 数据访问异常，重试后仍失败时为最后一次尝试的异常
+     */
+    <T> T executeInTransaction(TransactionCallback<T> callback, RetryPolicy retryPolicy);
+
+    /**
+     * 在事务中执行操作（无返回值），因瞬时异常失败时按重试策略整体重试
+     * 
+     * @param action 要执行的操作
+     * @param retryPolicy 重试策略
+     * @throws DataAccessException 数据访问异常，重试后仍失败时为最后一次尝试的异常
+     */
+    void executeInTransaction(Runnable action, RetryPolicy retryPolicy);
+
     // ================================
     // 高级查询操作
     // ================================
@@ -575,6 +814,70 @@ public interface JdbcOperations {
      */
     <T> PageResponse<T> queryForPage(String sql, Map<String, Object> params, Class<T> requiredType, int pageNum, int pageSize);
 
+    /**
+     * 按指定模式分页查询
+     * <p>{@link PageMode#EXACT_COUNT}与{@link #queryForPage(String, Map, int, int)}相同；
+     * {@link PageMode#HAS_NEXT}不返回总数；{@link PageMode#WINDOW_COUNT}在同一条语句中返回总数，
+     * 对UNION、CTE、DISTINCT查询退化为精确计数；{@link PageMode#CACHED_COUNT}在缓存有效期内复用总数</p>
+     *
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param pageNum 页码（从1开始）
+     * @param pageSize 每页大小
+     * @param mode 分页模式
+     * @return 分页结果，总数未知时总数和总页数为-1
+     * @throws DataAccessException 数据访问异常
+     */
+    PageResponse<Map<String, Object>> queryForPage(String sql, Map<String, Object> params, int pageNum, int pageSize, PageMode mode);
+
+    /**
+     * 按指定模式分页查询（对象类型）
+     *
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @param pageNum 页码（从1开始）
+     * @param pageSize 每页大小
+     * @param mode 分页模式
+     * @return 分页结果，总数未知时总数和总页数为-1
+     * @throws DataAccessException 数据访问异常
+     * @see #queryForPage(String, Map, int, int, PageMode)
+     */
+    <T> PageResponse<T> queryForPage(String sql, Map<String, Object> params, Class<T> requiredType, int pageNum, int pageSize, PageMode mode);
+
+    /**
+     * 游标分页查询
+     * <p>按排序键的上一页最后一行取值定位，生成{@code WHERE 排序键 > 游标值 ORDER BY 排序键 LIMIT n}形式的查询，
+     * 配合排序键上的索引时任意页的开销与第一页相同；不执行计数查询</p>
+     * <p>原始SQL不应包含ORDER BY和LIMIT子句，排序键必须是结果集中的列</p>
+     *
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param keys 排序键，最后一个排序键须唯一
+     * @param cursor 上一页返回的游标，为空时查询第一页
+     * @param pageSize 每页大小
+     * @return 游标分页结果
+     * @throws DataAccessException 数据访问异常
+     */
+    CursorPageResponse<Map<String, Object>> queryForCursorPage(String sql, Map<String, Object> params, List<SeekKey> keys, String cursor, int pageSize);
+
+    /**
+     * 游标分页查询（对象类型）
+     *
+     * @param <T> 目标类型
+     * @param sql SQL查询语句
+     * @param params 命名参数
+     * @param requiredType 目标类型
+     * @param keys 排序键，最后一个排序键须唯一
+     * @param cursor 上一页返回的游标，为空时查询第一页
+     * @param pageSize 每页大小
+     * @return 游标分页结果
+     * @throws DataAccessException 数据访问异常
+     * @see #queryForCursorPage(String, Map, List, String, int)
+     */
+    <T> CursorPageResponse<T> queryForCursorPage(String sql, Map<String, Object> params, Class<T> requiredType, List<SeekKey> keys, String cursor, int pageSize);
+
     /**
      * 统计查询
      * 
@@ -584,4 +887,131 @@ public interface JdbcOperations {
      * @throws DataAccessException 数据访问异常
      */
     int queryForCount(String sql, Map<String, Object> params);
+
+    // ================================
+    // 预编译查询
+    // ================================
+
+    /**
+     * 创建预编译查询句柄
+     * <p>立即验证SQL并按当前模板的映射配置解析行映射器，验证不通过时抛出异常；句柄不可变，可作为静态常量复用。
+     * 不需要提前验证时可使用不依赖模板的{@link PreparedQuery#of(String, Class)}</p>
+     *
+     * @param <T> 目标类型
+     * @param sql SQL查询语句，只能使用命名参数
+     * @param requiredType 目标类型
+     * @return 查询句柄
+     * @throws SecurityException SQL验证不通过
+     */
+    <T> PreparedQuery<T> prepare(String sql, Class<T> requiredType);
+
+    /**
+     * 执行预编译查询，返回结果列表
+     *
+     * @param <T> 目标类型
+     * @param query 查询句柄
+     * @param args 查询参数，按{@link PreparedQuery#getParameterNames()}的顺序传入
+     * @return 结果列表
+     * @throws DataAccessException 数据访问异常
+     * @see PreparedQuery#bind(Object...)
+     */
+    <T> List<T> queryForList(PreparedQuery<T> query, Object... args);
+
+    /**
+     * 执行预编译查询，按名称绑定参数，返回结果列表
+     *
+     * @param <T> 目标类型
+     * @param query 查询句柄
+     * @param params 命名参数，须包含所有命名参数，可由{@link PreparedQuery#bindRecord(Record)}生成
+     * @return 结果列表
+     * @throws DataAccessException 数据访问异常
+     * @see PreparedQuery#bind(Map)
+     */
+    <T> List<T> queryForList(PreparedQuery<T> query, Map<String, Object> params);
+
+    /**
+     * 执行预编译查询，返回结果列表，结果经查询结果缓存
+     * <p>缓存规则同{@link #queryForListCached(String, Map, Class)}，与相同SQL和目标类型的非预编译查询共用缓存条目</p>
+     *
+     * @param <T> 目标类型
+     * @param query 查询句柄
+     * @param args 查询参数，按{@link PreparedQuery#getParameterNames()}的顺序传入
+     * @return 结果列表
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> List<T> queryForListCached(PreparedQuery<T> query, Object... args);
+
+    /**
+     * 执行预编译查询，返回单个结果
+     *
+     * @param <T> 目标类型
+     * @param query 查询句柄
+     * @param args 查询参数，按{@link PreparedQuery#getParameterNames()}的顺序传入
+     * @return 查询结果，无结果时返回null
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> T queryForObject(PreparedQuery<T> query, Object... args);
+
+    /**
+     * 执行预编译查询，按名称绑定参数，返回单个结果
+     *
+     * @param <T> 目标类型
+     * @param query 查询句柄
+     * @param params 命名参数，须包含所有命名参数
+     * @return 查询结果，无结果时返回null
+     * @throws DataAccessException 数据访问异常
+     */
+    <T> T queryForObject(PreparedQuery<T> query, Map<String, Object> params);
+
+    /**
+     * 执行预编译查询的计数SQL
+     *
+     * @param query 查询句柄
+     * @param args 查询参数，按{@link PreparedQuery#getParameterNames()}的顺序传入
+     * @return 结果总数
+     * @throws DataAccessException 数据访问异常
+     */
+    int queryForCount(PreparedQuery<?> query, Object... args);
+
+    /**
+     * 执行预编译查询的计数SQL，按名称绑定参数
+     *
+     * @param query 查询句柄
+     * @param params 命名参数，须包含所有命名参数
+     * @return 结果总数
+     * @throws DataAccessException 数据访问异常
+     */
+    int queryForCount(PreparedQuery<?> query, Map<String, Object> params);
+
+    /**
+     * 按指定模式分页执行预编译查询
+     * <p>使用句柄中预先生成的计数SQL和分页SQL，行数和偏移量以参数绑定，不同页码共用同一条SQL</p>
+     *
+     * @param <T> 目标类型
+     * @param query 查询句柄
+     * @param pageNum 页码（从1开始）
+     * @param pageSize 每页大小
+     * @param mode 分页模式
+     * @param args 查询参数，按{@link PreparedQuery#getParameterNames()}的顺序传入
+     * @return 分页结果，总数未知时总数和总页数为-1
+     * @throws DataAccessException 数据访问异常
+     * @throws IllegalStateException 查询已包含LIMIT或锁定子句，不能分页
+     * @see #queryForPage(String, Map, int, int, PageMode)
+     */
+    <T> PageResponse<T> queryForPage(PreparedQuery<T> query, int pageNum, int pageSize, PageMode mode, Object... args);
+
+    /**
+     * 按指定模式分页执行预编译查询，按名称绑定参数
+     *
+     * @param <T> 目标类型
+     * @param query 查询句柄
+     * @param pageNum 页码（从1开始）
+     * @param pageSize 每页大小
+     * @param mode 分页模式
+     * @param params 命名参数，须包含所有命名参数
+     * @return 分页结果，总数未知时总数和总页数为-1
+     * @throws DataAccessException 数据访问异常
+     * @throws IllegalStateException 查询已包含LIMIT或锁定子句，不能分页
+     */
+    <T> PageResponse<T> queryForPage(PreparedQuery<T> query, int pageNum, int pageSize, PageMode mode, Map<String, Object> params);
 } 
\ No newline at end of file
@@ -0,0 +1,330 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.parser.SqlToken;
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 预编译查询句柄
+ * <p>创建时一次性完成词法分析，保存命名参数列表、计数SQL和以命名参数表示LIMIT/OFFSET的分页SQL；
+ * 分页SQL文本不随页码变化，执行时的验证结论和语句缓存都可以命中</p>
+ * <p>句柄不可变且线程安全，可以作为静态常量在多次调用和多个线程间共享。参数通过{@link #bind(Object...)}按位置绑定，
+ * 通过{@link #bind(Map)}按名称绑定，或通过{@link #bindRecord(Record)}按Record组件名绑定</p>
+ * <p>已包含LIMIT、OFFSET/FETCH或锁定子句（FOR UPDATE、LOCK IN SHARE MODE等）的查询不能分页，
+ * 获取分页SQL时抛出异常；末尾的分号在创建时去除</p>
+ * <p>{@link #of(String, Class)}创建的句柄不依赖模板，由执行的模板在首次使用时验证SQL并解析行映射器（结果按SQL文本和目标类型缓存）；
+ * {@link JdbcOperations#prepare(String, Class)}在创建时立即验证并解析行映射器</p>
+ *
+ * @param <T> 结果类型
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Getter
+public final class PreparedQuery<T> {
+
+    /**
+     * 分页SQL中的行数参数名
+     */
+    public static final String LIMIT_PARAMETER = "_pageLimit";
+
+    /**
+     * 分页SQL中的偏移量参数名
+     */
+    public static final String OFFSET_PARAMETER = "_pageOffset";
+
+    /**
+     * Record组件访问方法缓存
+     */
+    private static final ClassValue<Method[]> RECORD_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Method[] computeValue(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            Method[] accessors = new Method[components.length];
+            for (int i = 0; i < components.length; i++) {
+                accessors[i] = components[i].getAccessor();
+                ReflectionUtils.makeAccessible(accessors[i]);
+            }
+            return accessors;
+        }
+    };
+
+    /**
+     * 原始查询SQL
+     */
+    private final String sql;
+
+    /**
+     * 结果类型
+     */
+    private final Class<T> requiredType;
+
+    /**
+     * 命名参数，按首次出现的顺序排列，同名参数只出现一次
+     */
+    private final List<String> parameterNames;
+
+    /**
+     * 计数SQL
+     */
+    private final String countSql;
+
+    /**
+     * 分页SQL，行数和偏移量为{@link #LIMIT_PARAMETER}和{@link #OFFSET_PARAMETER}参数；查询不能分页时为null
+     */
+    @Getter(AccessLevel.NONE)
+    private final String pageSql;
+
+    /**
+     * 查询不能分页的原因，可以分页时为null
+     */
+    @Getter(AccessLevel.NONE)
+    private final String pagingConflict;
+
+    /**
+     * 行映射器，为null时由执行的模板按结果类型解析
+     */
+    private final RowMapper<T> rowMapper;
+
+    private PreparedQuery(String sql, Class<T> requiredType, List<String> parameterNames, String countSql,
+                          String pageSql, String pagingConflict, RowMapper<T> rowMapper) {
+        this.sql = sql;
+        this.requiredType = requiredType;
+        this.parameterNames = parameterNames;
+        this.countSql = countSql;
+        this.pageSql = pageSql;
+        this.pagingConflict = pagingConflict;
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * 创建预编译查询句柄
+     *
+     * @param sql          查询SQL，只能使用命名参数
+     * @param requiredType 结果类型
+     * @param <T>          结果类型
+     * @return 查询句柄
+     * @throws IllegalArgumentException SQL包含位置参数或使用了保留的分页参数名
+     */
+    public static <T> PreparedQuery<T> of(String sql, Class<T> requiredType) {
+        Assert.hasText(sql, "SQL must not be empty");
+        Assert.notNull(requiredType, "Required type must not be null");
+
+        String trimmed = sql.strip();
+        ParsedSql parsedSql = SqlLexer.parse(trimmed);
+        List<SqlToken> tokens = parsedSql.getTokens();
+        if (!tokens.isEmpty() && tokens.getLast().type() == SqlTokenType.SEMICOLON) {
+            trimmed = trimmed.substring(0, tokens.getLast().start()).strip();
+            parsedSql = SqlLexer.parse(trimmed);
+        }
+        List<String> parameterNames = extractParameterNames(parsedSql);
+        if (parameterNames.contains(LIMIT_PARAMETER) || parameterNames.contains(OFFSET_PARAMETER)) {
+            throw new IllegalArgumentException("Parameter names " + LIMIT_PARAMETER + " and " + OFFSET_PARAMETER + " are reserved");
+        }
+
+        String pagingConflict = findPagingConflict(parsedSql);
+        String pageSql = pagingConflict == null
+                ? trimmed + " LIMIT :" + LIMIT_PARAMETER + " OFFSET :" + OFFSET_PARAMETER
+                : null;
+        return new PreparedQuery<>(trimmed, requiredType, parameterNames, parsedSql.getCountSql(), pageSql, pagingConflict, null);
+    }
+
+    /**
+     * 获取分页SQL
+     *
+     * @return 分页SQL，行数和偏移量为{@link #LIMIT_PARAMETER}和{@link #OFFSET_PARAMETER}参数
+     * @throws IllegalStateException 查询已包含LIMIT、OFFSET/FETCH或锁定子句，不能分页
+     */
+    public String getPageSql() {
+        if (pageSql == null) {
+            throw new IllegalStateException("Query cannot be paged because it already contains " + pagingConflict + ": " + sql);
+        }
+        return pageSql;
+    }
+
+    /**
+     * 判断查询是否可以分页
+     *
+     * @return 可以分页返回true
+     */
+    public boolean isPageable() {
+        return pageSql != null;
+    }
+
+    /**
+     * 按位置绑定参数，参数依次对应{@link #getParameterNames()}，数量须一致
+     * <p>参数值为Map或Record时同样作为单个参数值绑定；按名称绑定使用{@link #bind(Map)}或{@link #bindRecord(Record)}</p>
+     *
+     * @param args 查询参数
+     * @return 参数映射
+     * @throws IllegalArgumentException 参数数量不一致
+     */
+    public Map<String, Object> bind(Object... args) {
+        Object[] values = args != null ? args : new Object[]{null};
+        if (values.length != parameterNames.size()) {
+            throw new IllegalArgumentException("Expected " + parameterNames.size() + " arguments " + parameterNames
+                    + " but got " + values.length);
+        }
+
+        Map<String, Object> params = new HashMap<>(Math.max(parameterNames.size() * 2, 4));
+        for (int i = 0; i < values.length; i++) {
+            params.put(parameterNames.get(i), values[i]);
+        }
+        return params;
+    }
+
+    /**
+     * 按名称绑定参数，参数须包含所有命名参数，多余的参数保留
+     *
+     * @param params 命名参数
+     * @return 参数映射，即传入的参数
+     * @throws IllegalArgumentException 缺少命名参数
+     */
+    public Map<String, Object> bind(Map<String, Object> params) {
+        Assert.notNull(params, "Parameters must not be null");
+        for (String name : parameterNames) {
+            if (!params.containsKey(name)) {
+                throw new IllegalArgumentException("Missing value for parameter: " + name);
+            }
+        }
+        return params;
+    }
+
+    /**
+     * 按Record组件名绑定参数，组件须覆盖所有命名参数，多余的组件忽略
+     *
+     * @param record 参数Record
+     * @return 参数映射
+     * @throws IllegalArgumentException Record缺少参数对应的组件
+     */
+    public Map<String, Object> bindRecord(Record record) {
+        Assert.notNull(record, "Record must not be null");
+        RecordComponent[] components = record.getClass().getRecordComponents();
+        Method[] accessors = RECORD_ACCESSORS.get(record.getClass());
+
+        Map<String, Object> params = new HashMap<>(Math.max(components.length * 2, 4));
+        for (int i = 0; i < components.length; i++) {
+            params.put(components[i].getName(), ReflectionUtils.invokeMethod(accessors[i], record));
+        }
+        for (String name : parameterNames) {
+            if (!params.containsKey(name)) {
+                throw new IllegalArgumentException("Record " + record.getClass().getSimpleName()
+                        + " has no component for parameter: " + name);
+            }
+        }
+        return params;
+    }
+
+    /**
+     * 绑定分页参数，与{@link #getPageSql()}配合使用
+     *
+     * @param params 查询参数
+     * @param limit  查询行数
+     * @param offset 偏移量
+     * @return 包含分页参数的新参数映射
+     */
+    public Map<String, Object> bindPage(Map<String, Object> params, int limit, long offset) {
+        Map<String, Object> pageParams = params != null ? new HashMap<>(params) : new HashMap<>();
+        pageParams.put(LIMIT_PARAMETER, limit);
+        pageParams.put(OFFSET_PARAMETER, offset);
+        return pageParams;
+    }
+
+    /**
+     * 使用指定行映射器创建新句柄
+     *
+     * @param mapper 行映射器
+     * @return 查询句柄
+     */
+    PreparedQuery<T> withRowMapper(RowMapper<T> mapper) {
+        return new PreparedQuery<>(sql, requiredType, parameterNames, countSql, pageSql, pagingConflict, mapper);
+    }
+
+    /**
+     * 查找主查询中与追加的分页子句冲突的子句
+     *
+     * @return 冲突子句的描述，没有冲突时返回null
+     */
+    private static String findPagingConflict(ParsedSql parsedSql) {
+        List<SqlToken> tokens = parsedSql.getTokens();
+        for (int i = 0; i < tokens.size(); i++) {
+            SqlToken token = tokens.get(i);
+            if (token.depth() != 0 || token.type() != SqlTokenType.WORD) {
+                continue;
+            }
+            SqlToken next = nextToken(tokens, i);
+            if (token.is("limit")) {
+                return "a LIMIT clause";
+            }
+            if (token.is("offset") && next != null && (next.type() == SqlTokenType.NUMBER || next.type() == SqlTokenType.PARAMETER)) {
+                return "an OFFSET clause";
+            }
+            if (token.is("fetch") && next != null && (next.is("first") || next.is("next"))) {
+                return "a FETCH clause";
+            }
+            if (token.is("for") && next != null && (next.is("update") || next.is("share"))) {
+                return "a locking clause";
+            }
+            if (token.is("lock") && next != null && next.is("in")) {
+                return "a locking clause";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 获取下一个非注释的词法单元
+     */
+    private static SqlToken nextToken(List<SqlToken> tokens, int index) {
+        for (int i = index + 1; i < tokens.size(); i++) {
+            if (!tokens.get(i).isComment()) {
+                return tokens.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 从词法分析结果提取命名参数
+     */
+    private static List<String> extractParameterNames(ParsedSql parsedSql) {
+        String sql = parsedSql.getSql();
+        Set<String> names = new LinkedHashSet<>();
+        for (SqlToken token : parsedSql.getTokens()) {
+            if (token.type() != SqlTokenType.PARAMETER) {
+                continue;
+            }
+            if (sql.charAt(token.start()) == '?') {
+                throw new IllegalArgumentException("Positional placeholders are not supported in prepared queries, use named parameters");
+            }
+            // PostgreSQL类型转换 ::type 不是参数
+            if (token.start() > 0 && sql.charAt(token.start() - 1) == ':') {
+                continue;
+            }
+            names.add(sql.substring(token.start() + 1, token.end()));
+        }
+        return List.copyOf(names);
+    }
+
+    @Override
+    public String toString() {
+        return "PreparedQuery[type=" + requiredType.getSimpleName() + ", parameters=" + parameterNames + "]: " + sql;
+    }
+}
@@ -0,0 +1,140 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 流式查询语句创建器
+ * <p>基于命名参数SQL创建只进、只读的预编译语句，并设置真实的fetch size，使驱动按批拉取结果集而不是一次性加载到内存</p>
+ * <p>对于MySQL驱动，fetch size为{@link Integer#MIN_VALUE}时才会进入逐行流式读取模式，本类会根据连接元数据自动切换</p>
+ *
+ * @author Slavopolis Team
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class StreamingPreparedStatementCreator implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+    /**
+     * MySQL 逐行流式读取所需的 fetch size
+     */
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * 参数绑定委托的语句创建器
+     */
+    private final PreparedStatementCreator delegate;
+
+    /**
+     * 展开命名参数后的SQL
+     */
+    private final String sql;
+
+    /**
+     * 普通驱动使用的 fetch size
+     */
+    private final int fetchSize;
+
+    /**
+     * 是否对MySQL启用逐行流式读取
+     */
+    private final boolean mysqlStreamingEnabled;
+
+    private StreamingPreparedStatementCreator(PreparedStatementCreator delegate, String sql,
+                                              int fetchSize, boolean mysqlStreamingEnabled) {
+        this.delegate = delegate;
+        this.sql = sql;
+        this.fetchSize = fetchSize;
+        this.mysqlStreamingEnabled = mysqlStreamingEnabled;
+    }
+
+    /**
+     * 根据命名参数SQL创建流式语句创建器
+     *
+     * @param sql                   命名参数SQL
+     * @param params                命名参数
+     * @param fetchSize             每批拉取的行数
+     * @param mysqlStreamingEnabled 是否对MySQL启用逐行流式读取
+     * @return 流式语句创建器
+     */
+    public static StreamingPreparedStatementCreator of(String sql, Map<String, Object> params,
+                                                       int fetchSize, boolean mysqlStreamingEnabled) {
+        MapSqlParameterSource paramSource = new MapSqlParameterSource(params != null ? params : Collections.emptyMap());
+        ParsedSql parsedSql = NamedParameterUtils.parseSqlStatement(sql);
+        String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource);
+        List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, paramSource);
+        Object[] values = NamedParameterUtils.buildValueArray(parsedSql, paramSource, null);
+
+        PreparedStatementCreatorFactory factory = new PreparedStatementCreatorFactory(sqlToUse, declaredParameters);
+        factory.setResultSetType(ResultSet.TYPE_FORWARD_ONLY);
+        factory.setUpdatableResults(false);
+
+        return new StreamingPreparedStatementCreator(
+                factory.newPreparedStatementCreator(values), sqlToUse, fetchSize, mysqlStreamingEnabled);
+    }
+
+    @Override
+    public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+        PreparedStatement ps = delegate.createPreparedStatement(con);
+        ps.setFetchDirection(ResultSet.FETCH_FORWARD);
+        ps.setFetchSize(resolveFetchSize(con));
+        return ps;
+    }
+
+    @Override
+    public String getSql() {
+        return sql;
+    }
+
+    @Override
+    public void cleanupParameters() {
+        if (delegate instanceof ParameterDisposer disposer) {
+            disposer.cleanupParameters();
+        }
+    }
+
+    /**
+     * 根据驱动类型决定实际使用的 fetch size
+     *
+     * @param con 数据库连接
+     * @return fetch size
+     * @throws SQLException 读取连接元数据失败
+     */
+    private int resolveFetchSize(Connection con) throws SQLException {
+        if (mysqlStreamingEnabled && isMySql(con.getMetaData())) {
+            return MYSQL_STREAMING_FETCH_SIZE;
+        }
+        return Math.max(fetchSize, 0);
+    }
+
+    /**
+     * 判断是否为MySQL驱动
+     * <p>MariaDB驱动本身支持正数fetch size的游标读取，不能使用{@link Integer#MIN_VALUE}</p>
+     *
+     * @param metaData 连接元数据
+     * @return 如果是MySQL驱动返回true
+     * @throws SQLException 读取连接元数据失败
+     */
+    private boolean isMySql(DatabaseMetaData metaData) throws SQLException {
+        String productName = metaData.getDatabaseProductName();
+        if (productName == null) {
+            return false;
+        }
+        return productName.toLowerCase(Locale.ROOT).contains("mysql");
+    }
+}
@@ -0,0 +1,77 @@
+package club.slavopolis.persistence.jdbc.deadline;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.Assert;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 支持截止时间的JDBC模板
+ * <p>在Spring设置完fetch size、最大行数和查询超时（含事务剩余时间）之后，按{@link DeadlineContext}的剩余时间收紧语句的查询超时，
+ * 并登记语句以便从其他线程取消；未绑定上下文时与{@link JdbcTemplate}行为一致</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public final class DeadlineAwareJdbcTemplate extends JdbcTemplate {
+
+    /**
+     * 基于已有模板创建，复制数据源、异常转换器和语句设置
+     *
+     * @param source 已有模板
+     */
+    public DeadlineAwareJdbcTemplate(JdbcTemplate source) {
+        Assert.notNull(source, "JdbcTemplate cannot be null");
+        setDataSource(source.getDataSource());
+        setExceptionTranslator(source.getExceptionTranslator());
+        setLazyInit(source.isLazyInit());
+        setIgnoreWarnings(source.isIgnoreWarnings());
+        setFetchSize(source.getFetchSize());
+        setMaxRows(source.getMaxRows());
+        setQueryTimeout(source.getQueryTimeout());
+        setSkipResultsProcessing(source.isSkipResultsProcessing());
+        setSkipUndeclaredResults(source.isSkipUndeclaredResults());
+        setResultsMapCaseInsensitive(source.isResultsMapCaseInsensitive());
+        afterPropertiesSet();
+    }
+
+    /**
+     * 为命名参数模板启用截止时间
+     * <p>底层模板已支持截止时间时原样返回；底层模板为{@link JdbcTemplate}的子类时可能带有自定义行为，不替换</p>
+     *
+     * @param template 命名参数模板
+     * @return 支持截止时间的命名参数模板
+     */
+    public static NamedParameterJdbcTemplate wrap(NamedParameterJdbcTemplate template) {
+        Assert.notNull(template, "NamedParameterJdbcTemplate cannot be null");
+        JdbcOperations operations = template.getJdbcOperations();
+        if (operations instanceof DeadlineAwareJdbcTemplate) {
+            return template;
+        }
+        if (operations.getClass() != JdbcTemplate.class) {
+            log.warn("JdbcOperations {} is customized, query deadlines are not applied", operations.getClass().getName());
+            return template;
+        }
+        NamedParameterJdbcTemplate wrapped = new NamedParameterJdbcTemplate(new DeadlineAwareJdbcTemplate((JdbcTemplate) operations));
+        wrapped.setCacheLimit(template.getCacheLimit());
+        return wrapped;
+    }
+
+    @Override
+    protected void applyStatementSettings(Statement stmt) throws SQLException {
+        super.applyStatementSettings(stmt);
+        DeadlineContext deadline = DeadlineContext.current();
+        if (deadline != null) {
+            deadline.applyTo(stmt);
+        }
+    }
+}
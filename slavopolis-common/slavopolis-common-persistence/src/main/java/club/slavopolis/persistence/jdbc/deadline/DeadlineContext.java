@@ -0,0 +1,307 @@
+package club.slavopolis.persistence.jdbc.deadline;
+
+import club.slavopolis.persistence.jdbc.exception.DataAccessException;
+import club.slavopolis.persistence.jdbc.exception.JdbcException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.util.Assert;
+
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 查询截止时间上下文
+ * <p>以线程变量传递当前调用或请求的截止时间，{@link DeadlineAwareJdbcTemplate}在创建语句时把剩余时间设置为语句的查询超时，
+ * 并登记执行中的语句；{@link #cancel()}取消所有已登记且未关闭的语句。取消只对其他线程中仍在执行的语句有效，
+ * 如异步请求超时后仍在运行的任务；当前线程中的语句只受查询超时约束，由驱动在截止时间到达时中断</p>
+ * <ul>
+ *     <li>单次调用：{@link #within(Duration, Supplier)}范围内的语句受该时限约束</li>
+ *     <li>单个请求：{@link QueryDeadlineFilter}按请求头或默认时限为每个请求绑定上下文</li>
+ * </ul>
+ * <p>嵌套时内层截止时间不会晚于外层，并与外层共享取消状态。上下文只在当前线程内有效，
+ * 交给其他线程执行的任务需通过{@link #call(Supplier)}或{@link #attach()}重新绑定，{@code AsyncJdbcTemplate}会自动传递</p>
+ * <p>JDBC的查询超时以秒为单位，不足1秒的剩余时间按1秒设置；语句已有更短的超时（如事务超时）时保持不变</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public final class DeadlineContext {
+
+    /**
+     * 当前线程绑定的上下文
+     */
+    private static final ThreadLocal<DeadlineContext> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 登记的语句超过该数量时清理已关闭的语句
+     */
+    private static final int PRUNE_THRESHOLD = 16;
+
+    /**
+     * 截止时间已过的错误码
+     */
+    public static final String DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
+
+    /**
+     * 查询已取消的错误码
+     */
+    public static final String QUERY_CANCELLED = "QUERY_CANCELLED";
+
+    /**
+     * 语句被取消时驱动报告的SQLState：MySQL查询中断、PostgreSQL查询取消
+     */
+    private static final Set<String> CANCELLED_SQL_STATES = Set.of("70100", "57014");
+
+    /**
+     * 截止时间（纳秒）
+     */
+    private final long deadlineNanos;
+
+    /**
+     * 外层上下文，取消状态与其共享
+     */
+    private final DeadlineContext parent;
+
+    /**
+     * 执行中的语句
+     */
+    private final Set<Statement> statements = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean cancelled;
+
+    private DeadlineContext(long deadlineNanos, DeadlineContext parent) {
+        this.deadlineNanos = deadlineNanos;
+        this.parent = parent;
+    }
+
+    /**
+     * 获取当前线程绑定的上下文
+     *
+     * @return 截止时间上下文，未绑定时返回null
+     */
+    public static DeadlineContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 创建从现在起经过指定时长到期的上下文，不晚于当前线程已绑定的上下文
+     *
+     * @param timeout 时限
+     * @return 截止时间上下文，尚未绑定到线程
+     */
+    public static DeadlineContext after(Duration timeout) {
+        Assert.notNull(timeout, "Timeout cannot be null");
+        Assert.isTrue(!timeout.isNegative(), "Timeout cannot be negative");
+        long deadline = System.nanoTime() + timeout.toNanos();
+        DeadlineContext parent = CURRENT.get();
+        if (parent != null && parent.deadlineNanos - deadline < 0) {
+            deadline = parent.deadlineNanos;
+        }
+        return new DeadlineContext(deadline, parent);
+    }
+
+    /**
+     * 在指定时限内执行操作
+     *
+     * @param <T>     返回类型
+     * @param timeout 时限
+     * @param action  操作
+     * @return 操作结果
+     */
+    public static <T> T within(Duration timeout, Supplier<T> action) {
+        return after(timeout).call(action);
+    }
+
+    /**
+     * 在指定时限内执行操作
+     *
+     * @param timeout 时限
+     * @param action  操作
+     */
+    public static void within(Duration timeout, Runnable action) {
+        within(timeout, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 在本上下文中执行操作，结束后恢复线程原有的上下文
+     *
+     * @param <T>    返回类型
+     * @param action 操作
+     * @return 操作结果
+     */
+    public <T> T call(Supplier<T> action) {
+        Assert.notNull(action, "Action cannot be null");
+        Scope scope = attach();
+        try {
+            return action.get();
+        } finally {
+            scope.close();
+        }
+    }
+
+    /**
+     * 把本上下文绑定到当前线程
+     *
+     * @return 绑定范围，关闭时恢复线程原有的上下文
+     */
+    public Scope attach() {
+        DeadlineContext previous = CURRENT.get();
+        CURRENT.set(this);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 获取剩余时间
+     *
+     * @return 剩余时间（纳秒），已到期时为0或负数
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * 是否已到期
+     *
+     * @return 已到期返回true
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * 是否已取消，外层上下文取消时同样视为已取消
+     *
+     * @return 已取消返回true
+     */
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    /**
+     * 取消上下文，并取消所有执行中的语句
+     * <p>可在任意线程调用；取消后本上下文中新的语句直接失败</p>
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Statement statement : statements) {
+            cancel(statement);
+        }
+        statements.clear();
+    }
+
+    /**
+     * 把剩余时间应用到语句的查询超时，并登记语句以便取消
+     *
+     * @param statement JDBC语句
+     * @throws SQLException 设置查询超时失败
+     * @throws DataAccessException 上下文已取消或已到期
+     */
+    public void applyTo(Statement statement) throws SQLException {
+        if (isCancelled()) {
+            throw DataAccessException.queryCancelled();
+        }
+        long remaining = remainingNanos();
+        if (remaining <= 0) {
+            throw DataAccessException.deadlineExceeded(TimeUnit.NANOSECONDS.toMillis(-remaining));
+        }
+
+        int seconds = (int) Math.min(Integer.MAX_VALUE, (remaining + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        int current = statement.getQueryTimeout();
+        if (current <= 0 || seconds < current) {
+            statement.setQueryTimeout(seconds);
+        }
+        register(statement);
+    }
+
+    /**
+     * 判断异常是否由查询超时或取消引起
+     * <p>按异常类型判断，沿原因链查找：{@link QueryTimeoutException}、{@link SQLTimeoutException}、
+     * SQLState为查询中断（MySQL {@code 70100}）或查询取消（PostgreSQL {@code 57014}）的{@link SQLException}，
+     * 以及截止时间已过或已取消的{@link JdbcException}。截止时间之后发生的其他异常（如约束冲突）不计为超时</p>
+     *
+     * @param e 异常
+     * @return 由超时或取消引起返回true
+     */
+    public static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof QueryTimeoutException || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+            if (cause instanceof SQLException sqlException && CANCELLED_SQL_STATES.contains(sqlException.getSQLState())) {
+                return true;
+            }
+            if (cause instanceof JdbcException jdbcException && (DEADLINE_EXCEEDED.equals(jdbcException.getErrorCode())
+                    || QUERY_CANCELLED.equals(jdbcException.getErrorCode()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 登记语句，登记期间上下文被取消时立即取消该语句
+     */
+    private void register(Statement statement) {
+        if (statements.size() >= PRUNE_THRESHOLD) {
+            statements.removeIf(DeadlineContext::isClosed);
+        }
+        statements.add(statement);
+        if (parent != null) {
+            parent.register(statement);
+        }
+        if (cancelled) {
+            cancel(statement);
+        }
+    }
+
+    private static void cancel(Statement statement) {
+        try {
+            if (!statement.isClosed()) {
+                statement.cancel();
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.debug("Failed to cancel statement", e);
+        }
+    }
+
+    private static boolean isClosed(Statement statement) {
+        try {
+            return statement.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    /**
+     * 上下文绑定范围
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        /**
+         * 恢复线程原有的上下文
+         */
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,137 @@
+package club.slavopolis.persistence.jdbc.deadline;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 请求截止时间过滤器
+ * <p>按请求头中的时限（毫秒）或默认时限为请求绑定{@link DeadlineContext}，请求内的SQL语句以剩余时间作为查询超时，
+ * 语句最长执行到请求的截止时间，由驱动按查询超时中断</p>
+ * <p>同步请求的语句在请求线程中执行，过滤器无法在语句执行期间得知客户端断开，不会主动取消这些语句；
+ * 请求处理抛出异常时取消的是该请求交给其他线程（如{@code AsyncJdbcTemplate}）且仍在执行的语句。
+ * 异步请求在容器报告超时或出错时取消上下文，其他线程中执行的语句被立即取消；正常结束的请求不取消其发起的后台任务</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class QueryDeadlineFilter implements Filter {
+
+    /**
+     * 携带请求时限的请求头
+     */
+    private final String timeoutHeader;
+
+    /**
+     * 默认时限，为null时不限制
+     */
+    private final Duration defaultTimeout;
+
+    /**
+     * 时限上限，为null时不截断
+     */
+    private final Duration maxTimeout;
+
+    /**
+     * 构造函数
+     *
+     * @param timeoutHeader  携带请求时限的请求头，为空时只使用默认时限
+     * @param defaultTimeout 默认时限，可为null
+     * @param maxTimeout     时限上限，可为null
+     */
+    public QueryDeadlineFilter(String timeoutHeader, Duration defaultTimeout, Duration maxTimeout) {
+        this.timeoutHeader = timeoutHeader;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        Duration timeout = request instanceof HttpServletRequest httpRequest ? resolveTimeout(httpRequest) : null;
+        if (timeout == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        DeadlineContext deadline = DeadlineContext.after(timeout);
+        DeadlineContext.Scope scope = deadline.attach();
+        boolean completed = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CancellingListener(deadline));
+            }
+            completed = true;
+        } finally {
+            scope.close();
+            // 请求线程的语句已结束，取消的是交给其他线程仍在执行的语句
+            if (!completed) {
+                deadline.cancel();
+            }
+        }
+    }
+
+    /**
+     * 解析请求时限：请求头优先，超过上限时截断
+     */
+    private Duration resolveTimeout(HttpServletRequest request) {
+        Duration timeout = defaultTimeout;
+        String header = StringUtils.hasText(timeoutHeader) ? request.getHeader(timeoutHeader) : null;
+        if (StringUtils.hasText(header)) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    timeout = Duration.ofMillis(millis);
+                }
+            } catch (NumberFormatException e) {
+                log.debug("Ignoring invalid {} header: {}", timeoutHeader, header);
+            }
+        }
+        if (timeout != null && maxTimeout != null && timeout.compareTo(maxTimeout) > 0) {
+            timeout = maxTimeout;
+        }
+        return timeout;
+    }
+
+    /**
+     * 异步请求超时或出错时取消语句
+     */
+    private record CancellingListener(DeadlineContext deadline) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            // 正常结束不取消
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            deadline.cancel();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            deadline.cancel();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
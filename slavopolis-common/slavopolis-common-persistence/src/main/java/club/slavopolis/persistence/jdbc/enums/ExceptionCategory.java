@@ -60,6 +60,11 @@ public enum ExceptionCategory {
      */
     TRANSACTION("Transaction"),
 
+    /**
+     * 瞬时异常：死锁、锁等待超时、序列化冲突等，重试可能成功
+     */
+    TRANSIENT("Transient"),
+
     /**
      * 映射异常
      */
@@ -30,5 +30,10 @@ public enum MappingStrategy {
     /**
      * 自定义映射：使用自定义转换器
      */
-    CUSTOM
+    CUSTOM,
+
+    /**
+     * 编译映射：按结果集结构预生成映射计划，匹配规则同智能映射
+     */
+    COMPILED
 }
@@ -0,0 +1,34 @@
+package club.slavopolis.persistence.jdbc.enums;
+
+/**
+ * 分页模式枚举
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public enum PageMode {
+
+    /**
+     * 精确计数：先执行计数查询再查询数据，两次数据库往返
+     */
+    EXACT_COUNT,
+
+    /**
+     * 仅判断是否有下一页：多查询一行，不执行计数查询，总数未知
+     */
+    HAS_NEXT,
+
+    /**
+     * 窗口计数：在数据查询中附加COUNT(*) OVER()获取总数，一次数据库往返，需要MySQL 8.0及以上
+     */
+    WINDOW_COUNT,
+
+    /**
+     * 缓存计数：计数结果按SQL和参数缓存一段时间，缓存有效期内总数可能与实际不一致
+     */
+    CACHED_COUNT
+}
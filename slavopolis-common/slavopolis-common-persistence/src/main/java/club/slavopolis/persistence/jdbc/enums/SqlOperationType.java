@@ -0,0 +1,29 @@
+package club.slavopolis.persistence.jdbc.enums;
+
+/**
+ * SQL操作类型枚举
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public enum SqlOperationType {
+
+    /**
+     * 查询操作
+     */
+    QUERY,
+
+    /**
+     * 更新操作：INSERT、UPDATE、DELETE
+     */
+    UPDATE,
+
+    /**
+     * 批量更新操作
+     */
+    BATCH_UPDATE
+}
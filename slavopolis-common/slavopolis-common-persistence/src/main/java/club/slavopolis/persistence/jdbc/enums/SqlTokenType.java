@@ -0,0 +1,84 @@
+package club.slavopolis.persistence.jdbc.enums;
+
+/**
+ * SQL词法单元类型枚举
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public enum SqlTokenType {
+
+    /**
+     * 关键字或标识符
+     */
+    WORD,
+
+    /**
+     * 反引号标识符
+     */
+    QUOTED_IDENTIFIER,
+
+    /**
+     * 字符串字面量：单引号或双引号
+     */
+    STRING,
+
+    /**
+     * 数值字面量
+     */
+    NUMBER,
+
+    /**
+     * 十六进制字面量：0x1F、X'1F'
+     */
+    HEX_LITERAL,
+
+    /**
+     * 参数占位符：?、:name
+     */
+    PARAMETER,
+
+    /**
+     * 左括号
+     */
+    LEFT_PAREN,
+
+    /**
+     * 右括号
+     */
+    RIGHT_PAREN,
+
+    /**
+     * 逗号
+     */
+    COMMA,
+
+    /**
+     * 分号
+     */
+    SEMICOLON,
+
+    /**
+     * 点号
+     */
+    DOT,
+
+    /**
+     * 运算符
+     */
+    OPERATOR,
+
+    /**
+     * 单行注释：--、#
+     */
+    LINE_COMMENT,
+
+    /**
+     * 块注释
+     */
+    BLOCK_COMMENT
+}
@@ -0,0 +1,24 @@
+package club.slavopolis.persistence.jdbc.enums;
+
+/**
+ * 写后缓冲的参数合并方式
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public enum WriteMergeMode {
+
+    /**
+     * 后写覆盖：同一键的多次写入只保留最后一次的值，如最后访问时间
+     */
+    LAST_WRITE_WINS,
+
+    /**
+     * 累加：同一键的多次写入按数值累加，如访问次数增量
+     */
+    ADDITIVE
+}
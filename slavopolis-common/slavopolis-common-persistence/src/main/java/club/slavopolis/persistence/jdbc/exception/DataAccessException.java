@@ -52,6 +52,36 @@ public class DataAccessException extends JdbcException {
         );
     }
 
+    /**
+     * 创建舱壁等待超时异常
+     */
+    public static DataAccessException bulkheadTimeout(int permits, long timeoutMillis) {
+        return new DataAccessException(
+            String.format("Timed out after %dms waiting for one of %d bulkhead permits", timeoutMillis, permits),
+            "BULKHEAD_TIMEOUT"
+        );
+    }
+
+    /**
+     * 创建截止时间已过异常
+     */
+    public static DataAccessException deadlineExceeded(long overdueMillis) {
+        return new DataAccessException(
+            String.format("Query deadline exceeded %dms ago", overdueMillis),
+            "DEADLINE_EXCEEDED"
+        );
+    }
+
+    /**
+     * 创建查询已取消异常
+     */
+    public static DataAccessException queryCancelled() {
+        return new DataAccessException(
+            "Query cancelled because the request was aborted",
+            "QUERY_CANCELLED"
+        );
+    }
+
     /**
      * 创建数据类型转换异常
      */
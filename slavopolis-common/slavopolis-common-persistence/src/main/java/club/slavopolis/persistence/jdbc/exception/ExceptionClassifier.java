@@ -0,0 +1,107 @@
+package club.slavopolis.persistence.jdbc.exception;
+
+import club.slavopolis.persistence.jdbc.enums.ExceptionCategory;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Set;
+
+/**
+ * 异常分类器
+ * <p>沿异常的cause链判断{@link ExceptionCategory}：死锁、锁等待超时、序列化冲突和瞬时连接异常归为{@link ExceptionCategory#TRANSIENT}，
+ * 其余异常使用{@link JdbcException}自身的分类</p>
+ * <p>查询超时和截止时间已过不视为瞬时异常，重试只会继续消耗已经不足的时间</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class ExceptionClassifier {
+
+    /**
+     * MySQL/MariaDB瞬时错误码：1205锁等待超时，1213死锁
+     */
+    private static final Set<Integer> TRANSIENT_ERROR_CODES = Set.of(1205, 1213);
+
+    /**
+     * 瞬时SQLState：40001序列化失败，40P01 PostgreSQL死锁
+     */
+    private static final Set<String> TRANSIENT_SQL_STATES = Set.of("40001", "40P01");
+
+    /**
+     * cause链的最大检查深度，防止循环引用
+     */
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private ExceptionClassifier() {
+    }
+
+    /**
+     * 判断异常分类
+     *
+     * @param e 异常
+     * @return 异常分类，无法识别时Spring数据访问异常为{@link ExceptionCategory#DATA_ACCESS}，其他为{@link ExceptionCategory#GENERAL}
+     */
+    public static ExceptionCategory classify(Throwable e) {
+        if (e == null) {
+            return ExceptionCategory.GENERAL;
+        }
+
+        ExceptionCategory declared = null;
+        Throwable current = e;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof QueryTimeoutException) {
+                return ExceptionCategory.DATA_ACCESS;
+            }
+            if (current instanceof JdbcException jdbcException) {
+                if (jdbcException.isTransientException()) {
+                    return ExceptionCategory.TRANSIENT;
+                }
+                // 包装异常（如提交失败）的真实原因可能是死锁，继续检查cause
+                if (declared == null) {
+                    declared = jdbcException.getCategory();
+                }
+            } else if (isTransient(current)) {
+                return ExceptionCategory.TRANSIENT;
+            }
+            current = current.getCause() != current ? current.getCause() : null;
+        }
+
+        if (declared != null) {
+            return declared;
+        }
+        return e instanceof org.springframework.dao.DataAccessException ? ExceptionCategory.DATA_ACCESS : ExceptionCategory.GENERAL;
+    }
+
+    /**
+     * 是否为瞬时异常
+     *
+     * @param e 异常
+     * @return 重试可能成功返回true
+     */
+    public static boolean isTransientException(Throwable e) {
+        return classify(e) == ExceptionCategory.TRANSIENT;
+    }
+
+    /**
+     * 判断单个异常（不含cause）是否为瞬时异常
+     */
+    private static boolean isTransient(Throwable e) {
+        if (e instanceof PessimisticLockingFailureException || e instanceof TransientDataAccessResourceException) {
+            return true;
+        }
+        if (e instanceof SQLTransactionRollbackException || e instanceof SQLTransientConnectionException) {
+            return true;
+        }
+        return e instanceof SQLException sqlException
+                && (TRANSIENT_ERROR_CODES.contains(sqlException.getErrorCode())
+                || TRANSIENT_SQL_STATES.contains(sqlException.getSQLState()));
+    }
+}
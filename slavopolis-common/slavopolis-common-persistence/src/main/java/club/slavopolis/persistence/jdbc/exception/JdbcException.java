@@ -107,6 +107,15 @@ public class JdbcException extends DataAccessException {
         return category == ExceptionCategory.SECURITY;
     }
 
+    /**
+     * 是否为瞬时异常
+     * 
+     * @return 如果是瞬时异常返回true
+     */
+    public boolean isTransientException() {
+        return category == ExceptionCategory.TRANSIENT;
+    }
+
     @Override
     public String toString() {
         return String.format("JdbcException{errorCode='%s', category=%s, message='%s'}", 
@@ -0,0 +1,223 @@
+package club.slavopolis.persistence.jdbc.mapping;
+
+import club.slavopolis.persistence.jdbc.exception.MappingException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.jdbc.support.JdbcUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 列读取器工厂
+ * <p>根据目标属性类型预先选择类型化的ResultSet取值方法，避免逐行通过反射判断类型和转换</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+final class ColumnReaders {
+
+    /**
+     * 兜底类型转换服务
+     */
+    private static final ConversionService CONVERSION_SERVICE = DefaultConversionService.getSharedInstance();
+
+    private ColumnReaders() {
+    }
+
+    /**
+     * 列读取器
+     */
+    @FunctionalInterface
+    interface ColumnReader {
+
+        /**
+         * 读取指定列的值
+         *
+         * @param rs    结果集
+         * @param index 列索引（从1开始）
+         * @return 列值，数据库NULL返回null
+         * @throws SQLException SQL异常
+         */
+        Object read(ResultSet rs, int index) throws SQLException;
+    }
+
+    /**
+     * 根据目标类型创建列读取器
+     *
+     * @param type 目标类型
+     * @return 列读取器
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ColumnReader forType(Class<?> type) {
+        if (type == String.class) {
+            return ResultSet::getString;
+        }
+        if (type == int.class || type == Integer.class) {
+            return (rs, index) -> {
+                int value = rs.getInt(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == long.class || type == Long.class) {
+            return (rs, index) -> {
+                long value = rs.getLong(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return (rs, index) -> {
+                boolean value = rs.getBoolean(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == double.class || type == Double.class) {
+            return (rs, index) -> {
+                double value = rs.getDouble(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == float.class || type == Float.class) {
+            return (rs, index) -> {
+                float value = rs.getFloat(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == short.class || type == Short.class) {
+            return (rs, index) -> {
+                short value = rs.getShort(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == byte.class || type == Byte.class) {
+            return (rs, index) -> {
+                byte value = rs.getByte(index);
+                return rs.wasNull() ? null : value;
+            };
+        }
+        if (type == BigDecimal.class) {
+            return ResultSet::getBigDecimal;
+        }
+        if (type == BigInteger.class) {
+            return (rs, index) -> {
+                BigDecimal value = rs.getBigDecimal(index);
+                return value != null ? value.toBigInteger() : null;
+            };
+        }
+        if (type == LocalDateTime.class || type == LocalDate.class
+                || type == LocalTime.class || type == OffsetDateTime.class) {
+            return (rs, index) -> rs.getObject(index, type);
+        }
+        if (type == Instant.class) {
+            return (rs, index) -> {
+                Timestamp value = rs.getTimestamp(index);
+                return value != null ? value.toInstant() : null;
+            };
+        }
+        if (type == Timestamp.class || type == java.util.Date.class) {
+            return ResultSet::getTimestamp;
+        }
+        if (type == java.sql.Date.class) {
+            return ResultSet::getDate;
+        }
+        if (type == java.sql.Time.class) {
+            return ResultSet::getTime;
+        }
+        if (type == byte[].class) {
+            return ResultSet::getBytes;
+        }
+        if (type == Blob.class) {
+            return ResultSet::getBlob;
+        }
+        if (type == Clob.class) {
+            return ResultSet::getClob;
+        }
+        if (type.isEnum()) {
+            return enumReader((Class<? extends Enum>) type);
+        }
+        return genericReader(type);
+    }
+
+    /**
+     * 创建枚举列读取器
+     * <p>字符串列按枚举名称匹配（先精确匹配再忽略大小写），数值列按序号匹配</p>
+     *
+     * @param enumType 枚举类型
+     * @return 列读取器
+     */
+    private static <E extends Enum<E>> ColumnReader enumReader(Class<E> enumType) {
+        E[] constants = enumType.getEnumConstants();
+        Map<String, E> byName = new HashMap<>(constants.length * 4);
+        for (E constant : constants) {
+            byName.put(constant.name(), constant);
+            byName.putIfAbsent(constant.name().toUpperCase(Locale.ROOT), constant);
+        }
+
+        return (rs, index) -> {
+            Object value = rs.getObject(index);
+            if (value == null) {
+                return null;
+            }
+            if (value instanceof Number number) {
+                int ordinal = number.intValue();
+                if (ordinal >= 0 && ordinal < constants.length) {
+                    return constants[ordinal];
+                }
+                throw MappingException.typeConversionError(value, enumType, null);
+            }
+            String name = value.toString().trim();
+            if (name.isEmpty()) {
+                return null;
+            }
+            E constant = byName.get(name);
+            if (constant == null) {
+                constant = byName.get(name.toUpperCase(Locale.ROOT));
+            }
+            if (constant == null) {
+                throw MappingException.typeConversionError(value, enumType, null);
+            }
+            return constant;
+        };
+    }
+
+    /**
+     * 创建通用列读取器
+     * <p>先按Spring JdbcUtils规则取值，类型不匹配时使用ConversionService转换</p>
+     *
+     * @param type 目标类型
+     * @return 列读取器
+     */
+    private static ColumnReader genericReader(Class<?> type) {
+        return (rs, index) -> {
+            Object value = JdbcUtils.getResultSetValue(rs, index, type);
+            if (value == null || type.isInstance(value)) {
+                return value;
+            }
+            if (CONVERSION_SERVICE.canConvert(value.getClass(), type)) {
+                try {
+                    return CONVERSION_SERVICE.convert(value, type);
+                } catch (Exception ex) {
+                    throw MappingException.typeConversionError(value, type, ex);
+                }
+            }
+            throw MappingException.typeConversionError(value, type, null);
+        };
+    }
+}
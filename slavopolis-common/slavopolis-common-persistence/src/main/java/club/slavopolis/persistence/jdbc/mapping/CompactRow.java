@@ -0,0 +1,261 @@
+package club.slavopolis.persistence.jdbc.mapping;
+
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * 紧凑行
+ * <p>同一结果集的所有行共享一个{@link Header}（列名及其索引），每行只保存一个值数组，
+ * 避免每行一个{@code LinkedHashMap}及其Entry和键的开销</p>
+ * <p>实现{@link Map}接口，键按列顺序迭代，查找时不区分大小写，与{@code ColumnMapRowMapper}返回的Map行为一致；
+ * 修改已有列的值直接写入数组，增删列时转换为普通的{@link LinkedCaseInsensitiveMap}</p>
+ * <p>序列化时替换为内容相同的{@link LinkedCaseInsensitiveMap}，列头不随每行序列化</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class CompactRow extends AbstractMap<String, Object> implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient Header header;
+
+    private final transient Object[] values;
+
+    /**
+     * 增删列后的普通Map，未修改结构时为null
+     */
+    private transient Map<String, Object> inflated;
+
+    private transient Set<Map.Entry<String, Object>> entrySet;
+
+    /**
+     * 构造函数
+     *
+     * @param header 共享的列头
+     * @param values 列值，长度与列头一致，由调用方转交所有权
+     */
+    CompactRow(Header header, Object[] values) {
+        this.header = header;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return inflated != null ? inflated.size() : values.length;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (inflated != null) {
+            return inflated.containsKey(key);
+        }
+        return header.indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (inflated != null) {
+            return inflated.get(key);
+        }
+        int index = header.indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (inflated == null) {
+            int index = header.indexOf(key);
+            if (index >= 0) {
+                Object previous = values[index];
+                values[index] = value;
+                return previous;
+            }
+            inflate();
+        }
+        return inflated.put(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (inflated == null) {
+            if (header.indexOf(key) < 0) {
+                return null;
+            }
+            inflate();
+        }
+        return inflated.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (inflated == null) {
+            inflated = new LinkedCaseInsensitiveMap<>(values.length);
+        } else {
+            inflated.clear();
+        }
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        if (inflated != null) {
+            return inflated.entrySet();
+        }
+        Set<Map.Entry<String, Object>> result = entrySet;
+        if (result == null) {
+            result = new EntrySet();
+            entrySet = result;
+        }
+        return result;
+    }
+
+    /**
+     * 序列化为普通Map
+     *
+     * @return 内容相同的{@link LinkedCaseInsensitiveMap}
+     */
+    @Serial
+    private Object writeReplace() {
+        Map<String, Object> replacement = new LinkedCaseInsensitiveMap<>(size());
+        replacement.putAll(this);
+        return replacement;
+    }
+
+    /**
+     * 转换为普通Map，之后的操作全部委托给它
+     */
+    private void inflate() {
+        Map<String, Object> map = new LinkedCaseInsensitiveMap<>(values.length + 4);
+        for (int i = 0; i < values.length; i++) {
+            map.put(header.keys[i], values[i]);
+        }
+        inflated = map;
+    }
+
+    /**
+     * 按列顺序迭代的Entry视图，Entry的setValue写回数组
+     */
+    private final class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public int size() {
+            return CompactRow.this.size();
+        }
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            if (inflated != null) {
+                return inflated.entrySet().iterator();
+            }
+            return new Iterator<>() {
+
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return next < values.length;
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    if (next >= values.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int index = next++;
+                    return new SimpleEntry<>(header.keys[index], values[index]) {
+                        @Override
+                        public Object setValue(Object value) {
+                            values[index] = value;
+                            return super.setValue(value);
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    /**
+     * 列头
+     * <p>保存一个结果集的列名（已按键名大小写策略转换）与位置，同一结果集的所有行共享</p>
+     */
+    public static final class Header {
+
+        private final String[] keys;
+
+        /**
+         * 原样键到位置
+         */
+        private final Map<String, Integer> exactIndex;
+
+        /**
+         * 小写键到位置，用于不区分大小写的查找
+         */
+        private final Map<String, Integer> lowerCaseIndex;
+
+        /**
+         * 构造函数
+         *
+         * @param keys 列名，不能重复（不区分大小写）
+         */
+        Header(String[] keys) {
+            this.keys = keys;
+            this.exactIndex = new HashMap<>(keys.length * 2);
+            this.lowerCaseIndex = new HashMap<>(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                exactIndex.put(keys[i], i);
+                lowerCaseIndex.put(keys[i].toLowerCase(Locale.ROOT), i);
+            }
+        }
+
+        /**
+         * 获取列数
+         *
+         * @return 列数
+         */
+        public int size() {
+            return keys.length;
+        }
+
+        /**
+         * 获取指定位置的列名
+         *
+         * @param index 位置
+         * @return 列名
+         */
+        public String getKey(int index) {
+            return keys[index];
+        }
+
+        /**
+         * 查找列的位置
+         *
+         * @param key 列名，不区分大小写
+         * @return 位置，不存在时返回-1
+         */
+        int indexOf(Object key) {
+            if (!(key instanceof String name)) {
+                return -1;
+            }
+            Integer index = exactIndex.get(name);
+            if (index == null) {
+                index = lowerCaseIndex.get(name.toLowerCase(Locale.ROOT));
+            }
+            return index != null ? index : -1;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package club.slavopolis.persistence.jdbc.mapping;
+
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 紧凑行映射器
+ * <p>将每行映射为{@link CompactRow}：列头在结果集第一行构建一次，列名的大小写转换也只在此时执行，之后每行只分配一个值数组</p>
+ * <p>列值读取方式与{@code ColumnMapRowMapper}一致；同名列（不区分大小写）只保留一个键，后出现的列值覆盖先出现的。
+ * 排除的列（如窗口计数分页附加的总数列）不进入列头，也不读取其值</p>
+ * <p>映射器持有当前结果集的列头，不能在多个查询间并发共享，每次查询应创建新实例</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class CompactRowMapper implements RowMapper<Map<String, Object>> {
+
+    /**
+     * 键名大小写策略："lower"、"upper"、"camel"，为空时保持列名原样
+     */
+    @Nullable
+    private final String keyCase;
+
+    /**
+     * 排除的列名（小写，按转换前的列名匹配）
+     */
+    private final Set<String> excludedColumns;
+
+    private CompactRow.Header header;
+
+    /**
+     * 结果集列到值数组位置的映射，排除的列为-1
+     */
+    private int[] slots;
+
+    /**
+     * 构造函数，保持列名原样
+     */
+    public CompactRowMapper() {
+        this(null);
+    }
+
+    /**
+     * 构造函数
+     *
+     * @param keyCase 键名大小写策略："lower"、"upper"、"camel"
+     */
+    public CompactRowMapper(@Nullable String keyCase) {
+        this(keyCase, Set.of());
+    }
+
+    private CompactRowMapper(@Nullable String keyCase, Set<String> excludedColumns) {
+        this.keyCase = StringUtils.hasText(keyCase) ? keyCase.toLowerCase(Locale.ROOT) : null;
+        this.excludedColumns = excludedColumns;
+    }
+
+    /**
+     * 创建排除指定列的映射器，键名大小写策略与当前映射器相同
+     *
+     * @param column 排除的列名，不区分大小写
+     * @return 新的映射器
+     */
+    public CompactRowMapper excluding(String column) {
+        Set<String> columns = new HashSet<>(excludedColumns);
+        columns.add(column.toLowerCase(Locale.ROOT));
+        return new CompactRowMapper(keyCase, Set.copyOf(columns));
+    }
+
+    @Override
+    public Map<String, Object> mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        if (rowNum == 0 || header == null) {
+            buildHeader(rs.getMetaData());
+        }
+        Object[] values = new Object[header.size()];
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] >= 0) {
+                values[slots[i]] = JdbcUtils.getResultSetValue(rs, i + 1);
+            }
+        }
+        return new CompactRow(header, values);
+    }
+
+    /**
+     * 获取当前结果集的列头
+     *
+     * @return 列头，未映射任何行时为null
+     */
+    @Nullable
+    public CompactRow.Header getHeader() {
+        return header;
+    }
+
+    /**
+     * 按键名大小写策略转换列名
+     *
+     * @param key     列名
+     * @param keyCase 键名大小写策略："lower"、"upper"、"camel"，其他值保持原样
+     * @return 转换后的键名
+     */
+    public static String translateKey(String key, @Nullable String keyCase) {
+        if (keyCase == null || !StringUtils.hasText(key)) {
+            return key;
+        }
+        return switch (keyCase.toLowerCase(Locale.ROOT)) {
+            case "lower" -> key.toLowerCase();
+            case "upper" -> key.toUpperCase();
+            case "camel" -> toCamelCase(key);
+            default -> key;
+        };
+    }
+
+    private void buildHeader(ResultSetMetaData metaData) throws SQLException {
+        int columnCount = metaData.getColumnCount();
+        Map<String, Integer> positions = new LinkedHashMap<>(columnCount * 2);
+        List<String> keys = new ArrayList<>(columnCount);
+        int[] columnSlots = new int[columnCount];
+
+        for (int i = 0; i < columnCount; i++) {
+            String column = JdbcUtils.lookupColumnName(metaData, i + 1);
+            if (excludedColumns.contains(column.toLowerCase(Locale.ROOT))) {
+                columnSlots[i] = -1;
+                continue;
+            }
+            String key = translateKey(column, keyCase);
+            String lowerCaseKey = key.toLowerCase(Locale.ROOT);
+            Integer slot = positions.get(lowerCaseKey);
+            if (slot == null) {
+                slot = keys.size();
+                positions.put(lowerCaseKey, slot);
+                keys.add(key);
+            }
+            columnSlots[i] = slot;
+        }
+
+        this.header = new CompactRow.Header(keys.toArray(String[]::new));
+        this.slots = columnSlots;
+    }
+
+    private static String toCamelCase(String str) {
+        StringBuilder result = new StringBuilder(str.length());
+        boolean nextUpperCase = false;
+
+        for (int i = 0; i < str.length(); i++) {
+            char c = str.charAt(i);
+            if (c == '_') {
+                nextUpperCase = true;
+            } else if (nextUpperCase) {
+                result.append(Character.toUpperCase(c));
+                nextUpperCase = false;
+            } else {
+                result.append(Character.toLowerCase(c));
+            }
+        }
+
+        return result.toString();
+    }
+}
@@ -0,0 +1,468 @@
+package club.slavopolis.persistence.jdbc.mapping;
+
+import club.slavopolis.persistence.jdbc.enums.MappingStrategy;
+import club.slavopolis.persistence.jdbc.exception.MappingException;
+import club.slavopolis.persistence.jdbc.mapping.ColumnReaders.ColumnReader;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 编译式行映射器实现
+ * <p>按（目标类型，结果集列结构）预先构建"列索引 → 类型化取值 → 生成式setter"的映射计划，逐行映射时不再解析元数据、不再使用BeanWrapper</p>
+ * <p>同时支持JavaBean（无参构造 + setter）和Record（规范构造函数）两种目标类型，列名匹配规则与{@link MappingStrategy#INTELLIGENT}一致</p>
+ * <p>映射器实例可在线程间共享，本身只缓存映射计划；与结果集的绑定由{@link #forQuery()}返回的单次查询映射器持有，
+ * 并发查询之间互不影响</p>
+ *
+ * @param <T> 目标类型
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class CompiledRowMapper<T> implements IntelligentRowMapper<T> {
+
+    /**
+     * 目标类型
+     */
+    private final Class<T> mappedClass;
+
+    /**
+     * 目标类型的可写属性元信息
+     */
+    private final TargetModel targetModel;
+
+    /**
+     * 映射计划缓存，键为结果集列标签签名
+     */
+    private final Map<String, MappingPlan> planCache = new ConcurrentHashMap<>();
+
+    /**
+     * 是否检查完整映射
+     */
+    @Getter
+    private boolean checkFullyPopulated = false;
+
+    /**
+     * 原始类型属性遇到NULL值时是否保留默认值
+     */
+    @Getter
+    private boolean primitivesDefaultedForNullValue = false;
+
+    /**
+     * 构造函数
+     *
+     * @param mappedClass 目标类型
+     */
+    public CompiledRowMapper(Class<T> mappedClass) {
+        Assert.notNull(mappedClass, "Mapped class must not be null");
+        this.mappedClass = mappedClass;
+        this.targetModel = mappedClass.isRecord() ? TargetModel.forRecord(mappedClass) : TargetModel.forBean(mappedClass);
+    }
+
+    /**
+     * 设置是否检查完整映射，已构建的映射计划失效
+     *
+     * @param checkFullyPopulated 是否检查完整映射
+     */
+    public void setCheckFullyPopulated(boolean checkFullyPopulated) {
+        this.checkFullyPopulated = checkFullyPopulated;
+        clearPlans();
+    }
+
+    /**
+     * 设置原始类型属性遇到NULL值时是否保留默认值，已构建的映射计划失效
+     *
+     * @param primitivesDefaultedForNullValue 是否保留默认值
+     */
+    public void setPrimitivesDefaultedForNullValue(boolean primitivesDefaultedForNullValue) {
+        this.primitivesDefaultedForNullValue = primitivesDefaultedForNullValue;
+        clearPlans();
+    }
+
+    /**
+     * 清空已构建的映射计划
+     */
+    public void clearPlans() {
+        planCache.clear();
+    }
+
+    /**
+     * 获取已构建的映射计划数量
+     *
+     * @return 映射计划数量
+     */
+    public int getPlanCount() {
+        return planCache.size();
+    }
+
+    @Override
+    public MappingStrategy getMappingStrategy() {
+        return MappingStrategy.COMPILED;
+    }
+
+    @Override
+    public Class<T> targetType() {
+        return mappedClass;
+    }
+
+    /**
+     * 映射单行
+     * <p>共享实例不保存结果集状态，每行按元数据查找映射计划；映射整个结果集时应使用{@link #forQuery()}</p>
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+        return (T) resolvePlan(rs).map(rs, rowNum);
+    }
+
+    /**
+     * 获取单次查询使用的映射器，首行解析映射计划，后续行直接复用
+     *
+     * @return 单次查询映射器
+     */
+    @Override
+    public RowMapper<T> forQuery() {
+        return new QueryRowMapper();
+    }
+
+    /**
+     * 按结果集列结构获取映射计划
+     *
+     * @param rs 结果集
+     * @return 映射计划
+     * @throws SQLException SQL异常
+     */
+    private MappingPlan resolvePlan(ResultSet rs) throws SQLException {
+        ResultSetMetaData rsmd = rs.getMetaData();
+        int columnCount = rsmd.getColumnCount();
+        String[] columns = new String[columnCount];
+        StringBuilder signature = new StringBuilder(columnCount * 16);
+        for (int index = 1; index <= columnCount; index++) {
+            columns[index - 1] = JdbcUtils.lookupColumnName(rsmd, index);
+            signature.append(columns[index - 1]).append('|');
+        }
+
+        return planCache.computeIfAbsent(signature.toString(), key -> buildPlan(columns));
+    }
+
+    /**
+     * 根据列结构构建映射计划
+     *
+     * @param columns 列标签（按列索引顺序）
+     * @return 映射计划
+     */
+    private MappingPlan buildPlan(String[] columns) {
+        List<Binding> bindings = new ArrayList<>(columns.length);
+        Set<String> populatedProperties = new HashSet<>();
+
+        for (int index = 1; index <= columns.length; index++) {
+            String column = columns[index - 1];
+            Property property = targetModel.find(StringUtils.delete(column, " "));
+            if (property == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("No property found for column '{}' on type {}", column, mappedClass.getSimpleName());
+                }
+                continue;
+            }
+            populatedProperties.add(property.name());
+            bindings.add(new Binding(index, column, property, ColumnReaders.forType(property.type())));
+        }
+
+        if (checkFullyPopulated && !populatedProperties.equals(targetModel.propertyNames())) {
+            throw new InvalidDataAccessApiUsageException(
+                    "Given ResultSet does not contain all fields necessary to populate object of " +
+                            mappedClass.getSimpleName() + ": " + targetModel.propertyNames());
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compiled mapping plan for type {} with {} of {} columns bound",
+                    mappedClass.getSimpleName(), bindings.size(), columns.length);
+        }
+        return new MappingPlan(targetModel, bindings.toArray(new Binding[0]), primitivesDefaultedForNullValue);
+    }
+
+    /**
+     * 创建新实例
+     *
+     * @param <T>         目标类型
+     * @param mappedClass 目标类型
+     * @return 映射器实例
+     */
+    public static <T> CompiledRowMapper<T> newInstance(Class<T> mappedClass) {
+        return new CompiledRowMapper<>(mappedClass);
+    }
+
+    // ================================
+    // 映射计划
+    // ================================
+
+    /**
+     * 单次查询映射器：映射计划保存在普通字段中，只在执行查询的线程内使用
+     */
+    private final class QueryRowMapper implements RowMapper<T> {
+
+        private MappingPlan plan;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T mapRow(@NonNull ResultSet rs, int rowNum) throws SQLException {
+            MappingPlan current = plan;
+            if (current == null || rowNum == 0) {
+                current = resolvePlan(rs);
+                plan = current;
+            }
+            return (T) current.map(rs, rowNum);
+        }
+    }
+
+    /**
+     * 单列绑定
+     *
+     * @param columnIndex 列索引（从1开始）
+     * @param column      列标签
+     * @param property    目标属性
+     * @param reader      列读取器
+     */
+    private record Binding(int columnIndex, String column, Property property, ColumnReader reader) {
+    }
+
+    /**
+     * 目标属性
+     *
+     * @param name      属性名
+     * @param type      属性类型
+     * @param position  Record组件位置，JavaBean为-1
+     * @param setter    setter访问器，Record为null
+     */
+    private record Property(String name, Class<?> type, int position, BiConsumer<Object, Object> setter) {
+
+        boolean isPrimitive() {
+            return type.isPrimitive();
+        }
+    }
+
+    /**
+     * 映射计划：一次构建，逐行执行
+     */
+    private static final class MappingPlan {
+
+        private final TargetModel model;
+        private final Binding[] bindings;
+        private final boolean primitivesDefaultedForNullValue;
+
+        MappingPlan(TargetModel model, Binding[] bindings, boolean primitivesDefaultedForNullValue) {
+            this.model = model;
+            this.bindings = bindings;
+            this.primitivesDefaultedForNullValue = primitivesDefaultedForNullValue;
+        }
+
+        Object map(ResultSet rs, int rowNum) throws SQLException {
+            return model.isRecord() ? mapRecord(rs, rowNum) : mapBean(rs, rowNum);
+        }
+
+        private Object mapBean(ResultSet rs, int rowNum) throws SQLException {
+            Object bean = model.instantiator().get();
+            for (Binding binding : bindings) {
+                Object value = binding.reader().read(rs, binding.columnIndex());
+                if (value == null && binding.property().isPrimitive()) {
+                    checkPrimitiveNull(binding, rowNum);
+                    continue;
+                }
+                try {
+                    binding.property().setter().accept(bean, value);
+                } catch (RuntimeException ex) {
+                    throw MappingException.fieldMappingError(binding.property().name(),
+                            binding.property().type().getSimpleName(), ex);
+                }
+            }
+            return bean;
+        }
+
+        private Object mapRecord(ResultSet rs, int rowNum) throws SQLException {
+            Object[] args = model.defaultArguments().clone();
+            for (Binding binding : bindings) {
+                Object value = binding.reader().read(rs, binding.columnIndex());
+                if (value == null && binding.property().isPrimitive()) {
+                    checkPrimitiveNull(binding, rowNum);
+                    continue;
+                }
+                args[binding.property().position()] = value;
+            }
+            try {
+                return model.constructor().invokeExact(args);
+            } catch (Throwable ex) {
+                throw MappingException.rowMapperCreationError(model.type(), ex);
+            }
+        }
+
+        private void checkPrimitiveNull(Binding binding, int rowNum) {
+            if (!primitivesDefaultedForNullValue) {
+                throw MappingException.fieldMappingError(binding.property().name(),
+                        binding.property().type().getSimpleName(),
+                        new IllegalArgumentException("Null value for primitive column '" + binding.column() + "'"));
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Null value for primitive property '{}' at row {}, keeping default",
+                        binding.property().name(), rowNum);
+            }
+        }
+    }
+
+    /**
+     * 目标类型元信息：属性索引、实例化方式
+     */
+    private static final class TargetModel {
+
+        private final Class<?> type;
+        private final Map<String, Property> propertiesByField;
+        private final Set<String> propertyNames;
+        private final Supplier<Object> instantiator;
+        private final MethodHandle constructor;
+        private final Object[] defaultArguments;
+
+        private TargetModel(Class<?> type, Map<String, Property> propertiesByField, Set<String> propertyNames,
+                            Supplier<Object> instantiator, MethodHandle constructor, Object[] defaultArguments) {
+            this.type = type;
+            this.propertiesByField = propertiesByField;
+            this.propertyNames = propertyNames;
+            this.instantiator = instantiator;
+            this.constructor = constructor;
+            this.defaultArguments = defaultArguments;
+        }
+
+        static TargetModel forBean(Class<?> type) {
+            Map<String, Property> properties = new HashMap<>();
+            Set<String> names = new HashSet<>();
+            for (PropertyDescriptor pd : BeanUtils.getPropertyDescriptors(type)) {
+                if (pd.getWriteMethod() == null) {
+                    continue;
+                }
+                Property property = new Property(pd.getName(), pd.getPropertyType(), -1,
+                        GeneratedAccessors.setter(type, pd.getWriteMethod()));
+                index(properties, property);
+                names.add(pd.getName());
+            }
+            return new TargetModel(type, properties, names, GeneratedAccessors.instantiator(type), null, null);
+        }
+
+        static TargetModel forRecord(Class<?> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            Map<String, Property> properties = new HashMap<>();
+            Set<String> names = new HashSet<>();
+            Object[] defaults = new Object[components.length];
+            for (int i = 0; i < components.length; i++) {
+                Class<?> componentType = components[i].getType();
+                index(properties, new Property(components[i].getName(), componentType, i, null));
+                names.add(components[i].getName());
+                if (componentType.isPrimitive()) {
+                    // 原始类型组件缺列时使用零值，避免拆箱NPE
+                    defaults[i] = Array.get(Array.newInstance(componentType, 1), 0);
+                }
+            }
+            return new TargetModel(type, properties, names, null, GeneratedAccessors.canonicalConstructor(type), defaults);
+        }
+
+        private static void index(Map<String, Property> properties, Property property) {
+            String lowerCaseName = lowerCaseName(property.name());
+            properties.put(lowerCaseName, property);
+            String underscoreName = underscoreName(property.name());
+            if (!lowerCaseName.equals(underscoreName)) {
+                properties.put(underscoreName, property);
+            }
+        }
+
+        Property find(String column) {
+            String field = lowerCaseName(column);
+            Property property = propertiesByField.get(field);
+            if (property == null) {
+                property = propertiesByField.get(field.replace("_", ""));
+            }
+            return property;
+        }
+
+        Class<?> type() {
+            return type;
+        }
+
+        Set<String> propertyNames() {
+            return propertyNames;
+        }
+
+        boolean isRecord() {
+            return constructor != null;
+        }
+
+        Supplier<Object> instantiator() {
+            return instantiator;
+        }
+
+        MethodHandle constructor() {
+            return constructor;
+        }
+
+        Object[] defaultArguments() {
+            return defaultArguments;
+        }
+    }
+
+    /**
+     * 转换为小写名称
+     *
+     * @param name 名称
+     * @return 小写名称
+     */
+    private static String lowerCaseName(String name) {
+        return name.toLowerCase(Locale.US);
+    }
+
+    /**
+     * 转换为下划线名称
+     *
+     * @param name 名称
+     * @return 下划线名称
+     */
+    private static String underscoreName(String name) {
+        if (!StringUtils.hasLength(name)) {
+            return "";
+        }
+        StringBuilder result = new StringBuilder();
+        result.append(Character.toLowerCase(name.charAt(0)));
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                result.append('_').append(Character.toLowerCase(c));
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+}
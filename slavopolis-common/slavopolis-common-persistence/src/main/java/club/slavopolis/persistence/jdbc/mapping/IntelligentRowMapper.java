@@ -35,6 +35,16 @@ public interface IntelligentRowMapper<T> extends RowMapper<T> {
      */
     Class<T> targetType();
 
+    /**
+     * 获取单次查询使用的映射器
+     * <p>需要按结果集保存状态的实现返回每次查询独立的映射器，共享实例本身不保存查询状态；默认返回自身</p>
+     *
+     * @return 行映射器
+     */
+    default RowMapper<T> forQuery() {
+        return this;
+    }
+
     /**
      * 是否缓存映射信息
      * 
@@ -73,9 +83,24 @@ public interface IntelligentRowMapper<T> extends RowMapper<T> {
      * @return 映射器实例
      */
     static <T> IntelligentRowMapper<T> of(Class<T> targetType, MappingStrategy strategy) {
+        if (strategy == MappingStrategy.COMPILED) {
+            return new CompiledRowMapper<>(targetType);
+        }
         return new BeanRowMapper<>(targetType, strategy);
     }
 
+    /**
+     * 创建编译式映射器
+     * <p>支持JavaBean和Record，逐行映射不使用反射</p>
+     * 
+     * @param <T> 目标类型
+     * @param targetType 目标类型
+     * @return 映射器实例
+     */
+    static <T> IntelligentRowMapper<T> compiled(Class<T> targetType) {
+        return new CompiledRowMapper<>(targetType);
+    }
+
     /**
      * 创建自定义映射器
      * 
@@ -0,0 +1,23 @@
+package club.slavopolis.persistence.jdbc.mapping;
+
+import club.slavopolis.persistence.jdbc.enums.MappingStrategy;
+
+/**
+ * 行映射器缓存键
+ * <p>映射器按目标类型、映射策略和映射选项缓存，共享缓存的句柄使用不同配置时各自得到独立的映射器实例，
+ * 缓存中的映射器创建后不再修改</p>
+ *
+ * @param type                            目标类型
+ * @param strategy                        映射策略
+ * @param checkFullyPopulated             是否检查完整映射
+ * @param primitivesDefaultedForNullValue 原始类型属性遇到NULL值时是否保留默认值
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public record RowMapperKey(Class<?> type, MappingStrategy strategy, boolean checkFullyPopulated,
+                           boolean primitivesDefaultedForNullValue) {
+}
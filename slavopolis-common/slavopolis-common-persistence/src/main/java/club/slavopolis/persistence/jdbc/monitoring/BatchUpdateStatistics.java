@@ -32,6 +32,11 @@ public class BatchUpdateStatistics {
      */
     private long failureBatchUpdates;
     
+    /**
+     * 超时或被取消的批处理次数，包含在失败次数中
+     */
+    private long timeoutBatchUpdates;
+    
     /**
      * 平均批处理时间（毫秒）
      */
@@ -42,6 +47,31 @@ public class BatchUpdateStatistics {
      */
     private long totalBatchUpdateTime;
     
+    /**
+     * 批处理累计行数
+     */
+    private long totalBatchRows;
+    
+    /**
+     * 累计批处理耗时分布
+     */
+    private LatencySnapshot latency;
+    
+    /**
+     * 最近滚动窗口内的批处理耗时分布
+     */
+    private LatencySnapshot recentLatency;
+    
+    /**
+     * 累计连接获取等待分布，未安装连接池监控时为空分布
+     */
+    private LatencySnapshot connectionWait;
+    
+    /**
+     * 最近滚动窗口内的连接获取等待分布
+     */
+    private LatencySnapshot recentConnectionWait;
+    
     /**
      * 批处理成功率
      */
@@ -49,6 +79,13 @@ public class BatchUpdateStatistics {
         return totalBatchUpdates > 0 ? (double) successBatchUpdates / totalBatchUpdates : 0.0;
     }
     
+    /**
+     * 平均批次大小（行数）
+     */
+    public double getAverageBatchSize() {
+        return totalBatchUpdates > 0 ? (double) totalBatchRows / totalBatchUpdates : 0.0;
+    }
+    
     /**
      * 批处理失败率
      */
@@ -0,0 +1,80 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 连接池统计信息
+ * <p>连接数来自HikariCP的池状态，按约1秒的间隔刷新</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class ConnectionPoolStatistics {
+
+    /**
+     * 连接池名称
+     */
+    private String poolName;
+
+    /**
+     * 使用中的连接数
+     */
+    private int activeConnections;
+
+    /**
+     * 空闲连接数
+     */
+    private int idleConnections;
+
+    /**
+     * 等待获取连接的线程数
+     */
+    private int pendingThreads;
+
+    /**
+     * 连接总数
+     */
+    private int totalConnections;
+
+    /**
+     * 最大连接数
+     */
+    private int maxConnections;
+
+    /**
+     * 连接获取次数
+     */
+    private long acquisitions;
+
+    /**
+     * 连接获取超时次数
+     */
+    private long timeouts;
+
+    /**
+     * 累计连接获取等待分布
+     */
+    private LatencySnapshot acquireWait;
+
+    /**
+     * 最近滚动窗口内的连接获取等待分布
+     */
+    private LatencySnapshot recentAcquireWait;
+
+    /**
+     * 饱和度：使用中的连接数占最大连接数的比例，有线程等待连接时为1
+     */
+    public double getSaturation() {
+        if (pendingThreads > 0) {
+            return 1.0;
+        }
+        return maxConnections > 0 ? (double) activeConnections / maxConnections : 0.0;
+    }
+}
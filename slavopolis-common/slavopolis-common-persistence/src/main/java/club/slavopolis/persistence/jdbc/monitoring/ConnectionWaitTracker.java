@@ -0,0 +1,75 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+/**
+ * 连接获取等待计时器
+ * <p>连接池在借出连接的线程上回调{@link #record(long)}，按线程累加获取连接的等待时间；
+ * 语句执行前后各取一次累计值，差值即为该语句等待连接的时间，与数据库执行时间分开统计</p>
+ * <p>事务内的语句复用事务开始时获取的连接，等待时间计入事务开始，不计入语句；
+ * 未安装{@link HikariPoolMonitor}时无法计时，{@link #mark()}返回-1</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class ConnectionWaitTracker {
+
+    /**
+     * 当前线程累计的连接获取等待时间（纳秒）
+     */
+    private static final ThreadLocal<long[]> WAIT_NANOS = ThreadLocal.withInitial(() -> new long[1]);
+
+    /**
+     * 是否已有连接池上报等待时间
+     */
+    private static volatile boolean enabled;
+
+    private ConnectionWaitTracker() {
+    }
+
+    /**
+     * 记录当前线程的一次连接获取等待
+     *
+     * @param waitNanos 等待时间（纳秒）
+     */
+    public static void record(long waitNanos) {
+        WAIT_NANOS.get()[0] += waitNanos;
+    }
+
+    /**
+     * 获取当前线程累计的等待时间，作为语句执行前的计时起点
+     *
+     * @return 累计等待时间（纳秒），未启用计时时返回-1
+     */
+    public static long mark() {
+        return enabled ? WAIT_NANOS.get()[0] : -1L;
+    }
+
+    /**
+     * 计算自计时起点以来当前线程的连接获取等待时间
+     *
+     * @param mark {@link #mark()}的返回值
+     * @return 等待时间（纳秒），未启用计时时返回-1
+     */
+    public static long since(long mark) {
+        return mark >= 0 ? WAIT_NANOS.get()[0] - mark : -1L;
+    }
+
+    /**
+     * 是否已启用计时
+     *
+     * @return 已有连接池上报等待时间返回true
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 启用计时，由{@link HikariPoolMonitor}在连接池创建跟踪器时调用
+     */
+    static void enable() {
+        enabled = true;
+    }
+}
@@ -0,0 +1,330 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HikariCP连接池监控器
+ * <p>以{@link MetricsTrackerFactory}的形式安装到连接池，在借出连接时记录获取等待时间：
+ * 一方面计入连接池的等待分布，一方面交给{@link ConnectionWaitTracker}按线程累加，供执行监控把语句耗时拆分为等待连接和数据库执行两部分</p>
+ * <p>借出连接时检查饱和度，达到阈值或获取连接超时时记录告警日志并通知{@link PoolSaturationListener}，同一连接池在告警间隔内只告警一次</p>
+ * <p>连接池原有的指标跟踪器（如Micrometer）作为委托继续接收全部回调</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+@Getter
+@Setter
+public class HikariPoolMonitor {
+
+    /**
+     * 默认饱和告警阈值
+     */
+    public static final double DEFAULT_SATURATION_THRESHOLD = 0.9;
+
+    /**
+     * 饱和告警阈值：使用中的连接数占最大连接数的比例
+     */
+    private double saturationThreshold = DEFAULT_SATURATION_THRESHOLD;
+
+    /**
+     * 同一连接池两次告警的最小间隔
+     */
+    private Duration alertInterval = Duration.ofMinutes(1);
+
+    /**
+     * 连接获取等待分布的滚动窗口长度，只对之后创建的连接池生效
+     */
+    private Duration latencyWindow = Duration.ofMinutes(1);
+
+    /**
+     * 连接池未配置指标跟踪器时使用的委托，可为null
+     */
+    private MetricsTrackerFactory defaultDelegate;
+
+    /**
+     * 按连接池名称的跟踪器
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<String, PoolTracker> pools = new ConcurrentHashMap<>();
+
+    /**
+     * 饱和告警监听器
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final List<PoolSaturationListener> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 设置饱和告警阈值
+     *
+     * @param saturationThreshold 阈值，取值(0, 1]
+     */
+    public void setSaturationThreshold(double saturationThreshold) {
+        Assert.isTrue(saturationThreshold > 0 && saturationThreshold <= 1, "Saturation threshold must be in (0, 1]");
+        this.saturationThreshold = saturationThreshold;
+    }
+
+    /**
+     * 设置告警间隔
+     *
+     * @param alertInterval 告警间隔
+     */
+    public void setAlertInterval(Duration alertInterval) {
+        Assert.notNull(alertInterval, "Alert interval cannot be null");
+        Assert.isTrue(!alertInterval.isNegative(), "Alert interval cannot be negative");
+        this.alertInterval = alertInterval;
+    }
+
+    /**
+     * 设置滚动窗口长度
+     *
+     * @param latencyWindow 滚动窗口长度
+     */
+    public void setLatencyWindow(Duration latencyWindow) {
+        Assert.notNull(latencyWindow, "Latency window cannot be null");
+        Assert.isTrue(!latencyWindow.isNegative() && !latencyWindow.isZero(), "Latency window must be positive");
+        this.latencyWindow = latencyWindow;
+    }
+
+    /**
+     * 添加饱和告警监听器
+     *
+     * @param listener 监听器
+     */
+    public void addListener(PoolSaturationListener listener) {
+        Assert.notNull(listener, "PoolSaturationListener cannot be null");
+        listeners.add(listener);
+    }
+
+    /**
+     * 安装到连接池
+     * <p>连接池已配置的指标跟踪器作为委托保留；配置了Dropwizard指标注册表的连接池不支持同时设置跟踪器，跳过安装</p>
+     *
+     * @param dataSource 连接池数据源
+     * @return 安装成功返回true
+     */
+    public boolean install(HikariDataSource dataSource) {
+        Assert.notNull(dataSource, "HikariDataSource cannot be null");
+        MetricsTrackerFactory current = dataSource.getMetricsTrackerFactory();
+        if (current instanceof MonitoringTrackerFactory monitoring && monitoring.monitor() == this) {
+            return true;
+        }
+        if (dataSource.getMetricRegistry() != null) {
+            log.info("Connection pool {} uses a metric registry, pool wait tracking is not installed", dataSource.getPoolName());
+            return false;
+        }
+        try {
+            dataSource.setMetricsTrackerFactory(trackerFactory(current != null ? current : defaultDelegate));
+            return true;
+        } catch (IllegalStateException e) {
+            log.warn("Failed to install pool wait tracking on connection pool {}: {}", dataSource.getPoolName(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 创建指标跟踪器工厂
+     *
+     * @param delegate 委托的跟踪器工厂，可为null
+     * @return 指标跟踪器工厂
+     */
+    public MetricsTrackerFactory trackerFactory(MetricsTrackerFactory delegate) {
+        return new MonitoringTrackerFactory(this, delegate);
+    }
+
+    /**
+     * 获取各连接池统计
+     *
+     * @return 连接池统计列表
+     */
+    public List<ConnectionPoolStatistics> getStatistics() {
+        long now = System.nanoTime();
+        List<ConnectionPoolStatistics> statistics = new ArrayList<>(pools.size());
+        for (PoolTracker tracker : pools.values()) {
+            statistics.add(tracker.toStatistics(now));
+        }
+        return statistics;
+    }
+
+    /**
+     * 获取指定连接池统计
+     *
+     * @param poolName 连接池名称
+     * @return 连接池统计，连接池未启动时返回空
+     */
+    public Optional<ConnectionPoolStatistics> getStatistics(String poolName) {
+        PoolTracker tracker = pools.get(poolName);
+        return tracker != null ? Optional.of(tracker.toStatistics(System.nanoTime())) : Optional.empty();
+    }
+
+    /**
+     * 清空各连接池的获取次数和等待分布
+     */
+    public void resetStatistics() {
+        pools.values().forEach(PoolTracker::reset);
+    }
+
+    /**
+     * 连接池饱和告警
+     */
+    private void alert(ConnectionPoolStatistics statistics, boolean timeout) {
+        log.warn("Connection pool {} is saturated{}: active={}, idle={}, pending={}, max={}, recentAcquireWaitP99={}ms",
+                statistics.getPoolName(), timeout ? " (connection timeout)" : "",
+                statistics.getActiveConnections(), statistics.getIdleConnections(), statistics.getPendingThreads(),
+                statistics.getMaxConnections(), statistics.getRecentAcquireWait().getP99());
+        for (PoolSaturationListener listener : listeners) {
+            try {
+                listener.onSaturation(statistics);
+            } catch (RuntimeException e) {
+                log.warn("Pool saturation listener failed: {}", listener, e);
+            }
+        }
+    }
+
+    /**
+     * 监控跟踪器工厂，连接池启动时创建跟踪器
+     */
+    private record MonitoringTrackerFactory(HikariPoolMonitor monitor, MetricsTrackerFactory delegate)
+            implements MetricsTrackerFactory {
+
+        @Override
+        public IMetricsTracker create(String poolName, PoolStats poolStats) {
+            IMetricsTracker delegateTracker = delegate != null ? delegate.create(poolName, poolStats) : null;
+            PoolTracker tracker = monitor.new PoolTracker(poolName, poolStats, delegateTracker);
+            monitor.pools.put(poolName, tracker);
+            ConnectionWaitTracker.enable();
+            return tracker;
+        }
+    }
+
+    /**
+     * 单个连接池的跟踪器
+     */
+    private final class PoolTracker implements IMetricsTracker {
+
+        private final String poolName;
+
+        private final PoolStats poolStats;
+
+        private final IMetricsTracker delegate;
+
+        private final LatencyRecorder acquireWait;
+
+        private final LongAdder acquisitions = new LongAdder();
+
+        private final LongAdder timeouts = new LongAdder();
+
+        private final AtomicLong nextAlertNanos = new AtomicLong(System.nanoTime());
+
+        private PoolTracker(String poolName, PoolStats poolStats, IMetricsTracker delegate) {
+            this.poolName = poolName;
+            this.poolStats = poolStats;
+            this.delegate = delegate;
+            this.acquireWait = new LatencyRecorder(latencyWindow);
+        }
+
+        @Override
+        public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+            long now = System.nanoTime();
+            acquisitions.increment();
+            acquireWait.record(elapsedAcquiredNanos, now);
+            ConnectionWaitTracker.record(elapsedAcquiredNanos);
+            if (delegate != null) {
+                delegate.recordConnectionAcquiredNanos(elapsedAcquiredNanos);
+            }
+
+            int max = poolStats.getMaxConnections();
+            if (max > 0 && (poolStats.getPendingThreads() > 0
+                    || (double) poolStats.getActiveConnections() / max >= saturationThreshold)) {
+                tryAlert(now, false);
+            }
+        }
+
+        @Override
+        public void recordConnectionTimeout() {
+            timeouts.increment();
+            if (delegate != null) {
+                delegate.recordConnectionTimeout();
+            }
+            tryAlert(System.nanoTime(), true);
+        }
+
+        @Override
+        public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+            if (delegate != null) {
+                delegate.recordConnectionCreatedMillis(connectionCreatedMillis);
+            }
+        }
+
+        @Override
+        public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+            if (delegate != null) {
+                delegate.recordConnectionUsageMillis(elapsedBorrowedMillis);
+            }
+        }
+
+        @Override
+        public void close() {
+            pools.remove(poolName, this);
+            if (delegate != null) {
+                delegate.close();
+            }
+        }
+
+        /**
+         * 抢占本轮告警，告警间隔内只有一个线程执行
+         */
+        private void tryAlert(long nowNanos, boolean timeout) {
+            long scheduled = nextAlertNanos.get();
+            if (nowNanos - scheduled >= 0
+                    && nextAlertNanos.compareAndSet(scheduled, nowNanos + alertInterval.toNanos())) {
+                alert(toStatistics(nowNanos), timeout);
+            }
+        }
+
+        private ConnectionPoolStatistics toStatistics(long nowNanos) {
+            return ConnectionPoolStatistics.builder()
+                    .poolName(poolName)
+                    .activeConnections(poolStats.getActiveConnections())
+                    .idleConnections(poolStats.getIdleConnections())
+                    .pendingThreads(poolStats.getPendingThreads())
+                    .totalConnections(poolStats.getTotalConnections())
+                    .maxConnections(poolStats.getMaxConnections())
+                    .acquisitions(acquisitions.sum())
+                    .timeouts(timeouts.sum())
+                    .acquireWait(acquireWait.cumulativeSnapshot())
+                    .recentAcquireWait(acquireWait.recentSnapshot(nowNanos))
+                    .build();
+        }
+
+        private void reset() {
+            acquisitions.reset();
+            timeouts.reset();
+            acquireWait.reset();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 延迟直方图
+ * <p>采用与HdrHistogram相同的对数-线性分桶：每个2的幂区间再等分为16个子桶，固定内存、无锁记录，相对误差不超过6.25%</p>
+ * <p>记录单位为纳秒，超过{@link #MAX_TRACKABLE_NANOS}的值计入最后一个桶，最大值仍精确记录</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class LatencyHistogram {
+
+    /**
+     * 子桶位数
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * 每个2的幂区间的子桶数
+     */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 可精确分桶的最大纳秒数（约68秒）
+     */
+    public static final long MAX_TRACKABLE_NANOS = (1L << 36) - 1;
+
+    /**
+     * 桶数量
+     */
+    static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_NANOS) + 1;
+
+    /**
+     * 纳秒到毫秒的换算
+     */
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos 耗时（纳秒），负值按0处理
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0L);
+        counts.incrementAndGet(bucketIndex(Math.min(value, MAX_TRACKABLE_NANOS)));
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    /**
+     * 清空直方图
+     * <p>与并发记录之间不加锁，清空期间写入的少量样本可能丢失</p>
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * 获取当前分布快照
+     *
+     * @return 延迟分布快照
+     */
+    public LatencySnapshot snapshot() {
+        return merge(new LatencyHistogram[]{this});
+    }
+
+    /**
+     * 合并多个直方图的分布
+     *
+     * @param histograms 直方图
+     * @return 合并后的延迟分布快照
+     */
+    static LatencySnapshot merge(LatencyHistogram[] histograms) {
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0L;
+        long max = 0L;
+        for (LatencyHistogram histogram : histograms) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                merged[i] += histogram.counts.get(i);
+            }
+            total += histogram.totalNanos.sum();
+            max = Math.max(max, histogram.maxNanos.get());
+        }
+
+        long count = 0L;
+        for (long bucketCount : merged) {
+            count += bucketCount;
+        }
+        if (count == 0L) {
+            return LatencySnapshot.EMPTY;
+        }
+
+        return LatencySnapshot.builder()
+                .count(count)
+                .mean(total / NANOS_PER_MILLI / count)
+                .p50(valueAtPercentile(merged, count, max, 50.0) / NANOS_PER_MILLI)
+                .p90(valueAtPercentile(merged, count, max, 90.0) / NANOS_PER_MILLI)
+                .p95(valueAtPercentile(merged, count, max, 95.0) / NANOS_PER_MILLI)
+                .p99(valueAtPercentile(merged, count, max, 99.0) / NANOS_PER_MILLI)
+                .max(max / NANOS_PER_MILLI)
+                .build();
+    }
+
+    /**
+     * 计算分位数对应的耗时
+     *
+     * @param buckets    各桶计数
+     * @param count      样本总数
+     * @param max        最大耗时
+     * @param percentile 分位数（0-100）
+     * @return 耗时（纳秒）
+     */
+    private static long valueAtPercentile(long[] buckets, long count, long max, double percentile) {
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 计算耗时所在的桶索引
+     * <p>小于32的值一值一桶；更大的值取最高位所在的2的幂区间，再按随后4位确定子桶</p>
+     *
+     * @param value 耗时（纳秒）
+     * @return 桶索引
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 计算桶内的最大值
+     *
+     * @param index 桶索引
+     * @return 桶上界（纳秒）
+     */
+    static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket) << shift) + (1L << shift) - 1;
+    }
+}
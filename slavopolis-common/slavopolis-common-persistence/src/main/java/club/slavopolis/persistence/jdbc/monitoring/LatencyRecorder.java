@@ -0,0 +1,117 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 延迟记录器
+ * <p>同时维护累计分布和滚动时间窗口分布，滚动窗口由若干个轮转的时间片直方图组成，过期时间片在下次写入时清空复用</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+final class LatencyRecorder {
+
+    /**
+     * 滚动窗口的时间片数量
+     */
+    private static final int SLOT_COUNT = 4;
+
+    /**
+     * 累计分布
+     */
+    private final LatencyHistogram cumulative = new LatencyHistogram();
+
+    /**
+     * 时间片直方图
+     */
+    private final LatencyHistogram[] slots = new LatencyHistogram[SLOT_COUNT];
+
+    /**
+     * 各时间片当前对应的时间片序号
+     */
+    private final AtomicLongArray slotEpochs = new AtomicLongArray(SLOT_COUNT);
+
+    /**
+     * 单个时间片长度（纳秒）
+     */
+    private final long slotNanos;
+
+    /**
+     * 构造函数
+     *
+     * @param window 滚动窗口长度
+     */
+    LatencyRecorder(Duration window) {
+        this.slotNanos = Math.max(window.toNanos() / SLOT_COUNT, 1L);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots[i] = new LatencyHistogram();
+            slotEpochs.set(i, Long.MIN_VALUE);
+        }
+    }
+
+    /**
+     * 记录一次耗时
+     *
+     * @param nanos    耗时（纳秒）
+     * @param nowNanos 当前{@link System#nanoTime()}
+     */
+    void record(long nanos, long nowNanos) {
+        cumulative.record(nanos);
+
+        long epoch = Math.floorDiv(nowNanos, slotNanos);
+        int index = (int) Math.floorMod(epoch, (long) SLOT_COUNT);
+        long slotEpoch = slotEpochs.get(index);
+        if (slotEpoch != epoch && slotEpochs.compareAndSet(index, slotEpoch, epoch)) {
+            slots[index].reset();
+        }
+        slots[index].record(nanos);
+    }
+
+    /**
+     * 获取累计分布快照
+     *
+     * @return 延迟分布快照
+     */
+    LatencySnapshot cumulativeSnapshot() {
+        return cumulative.snapshot();
+    }
+
+    /**
+     * 获取滚动窗口分布快照
+     *
+     * @param nowNanos 当前{@link System#nanoTime()}
+     * @return 延迟分布快照
+     */
+    LatencySnapshot recentSnapshot(long nowNanos) {
+        long currentEpoch = Math.floorDiv(nowNanos, slotNanos);
+        List<LatencyHistogram> live = new ArrayList<>(SLOT_COUNT);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            long slotEpoch = slotEpochs.get(i);
+            if (slotEpoch != Long.MIN_VALUE && currentEpoch - slotEpoch < SLOT_COUNT) {
+                live.add(slots[i]);
+            }
+        }
+        if (live.isEmpty()) {
+            return LatencySnapshot.EMPTY;
+        }
+        return LatencyHistogram.merge(live.toArray(new LatencyHistogram[0]));
+    }
+
+    /**
+     * 清空累计分布和滚动窗口
+     */
+    void reset() {
+        cumulative.reset();
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            slots[i].reset();
+            slotEpochs.set(i, Long.MIN_VALUE);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 延迟分布快照
+ * <p>分位数取所在直方图桶的上界（不超过实际最大值），相对误差不超过6.25%</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class LatencySnapshot {
+
+    /**
+     * 空快照
+     */
+    public static final LatencySnapshot EMPTY = LatencySnapshot.builder().build();
+
+    /**
+     * 样本数
+     */
+    private long count;
+
+    /**
+     * 平均耗时（毫秒）
+     */
+    private double mean;
+
+    /**
+     * 50分位耗时（毫秒）
+     */
+    private double p50;
+
+    /**
+     * 90分位耗时（毫秒）
+     */
+    private double p90;
+
+    /**
+     * 95分位耗时（毫秒）
+     */
+    private double p95;
+
+    /**
+     * 99分位耗时（毫秒）
+     */
+    private double p99;
+
+    /**
+     * 最大耗时（毫秒）
+     */
+    private double max;
+}
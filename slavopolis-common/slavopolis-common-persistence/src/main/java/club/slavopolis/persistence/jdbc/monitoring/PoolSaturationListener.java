@@ -0,0 +1,24 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+/**
+ * 连接池饱和告警监听器
+ * <p>连接池饱和度达到阈值或获取连接超时时回调，同一连接池在告警间隔内最多回调一次；
+ * 回调发生在借出连接的业务线程上，实现应尽快返回，耗时的通知应转交异步执行</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@FunctionalInterface
+public interface PoolSaturationListener {
+
+    /**
+     * 连接池饱和
+     *
+     * @param statistics 触发告警时的连接池统计
+     */
+    void onSaturation(ConnectionPoolStatistics statistics);
+}
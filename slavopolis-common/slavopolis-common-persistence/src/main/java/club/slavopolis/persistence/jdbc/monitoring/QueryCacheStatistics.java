@@ -0,0 +1,67 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 查询结果缓存统计信息
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class QueryCacheStatistics {
+
+    /**
+     * 当前本地缓存条目数
+     */
+    private long size;
+
+    /**
+     * 最大本地缓存条目数
+     */
+    private long maximumSize;
+
+    /**
+     * 本地缓存命中次数
+     */
+    private long hitCount;
+
+    /**
+     * 二级缓存命中次数
+     */
+    private long storeHitCount;
+
+    /**
+     * 未命中次数（执行了查询）
+     */
+    private long missCount;
+
+    /**
+     * 因查询期间表数据变更而未缓存的结果数
+     */
+    private long staleLoadCount;
+
+    /**
+     * 按表失效次数
+     */
+    private long invalidationCount;
+
+    /**
+     * 本地缓存淘汰次数
+     */
+    private long evictionCount;
+
+    /**
+     * 缓存命中率（含二级缓存）
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + storeHitCount + missCount;
+        return requestCount > 0 ? (double) (hitCount + storeHitCount) / requestCount : 0.0;
+    }
+}
@@ -0,0 +1,75 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 慢查询执行计划
+ * <p>由{@link SlowQueryExplainAnalyzer}在后台执行EXPLAIN得到，随{@link SlowQueryInfo}一并展示</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class QueryPlan {
+
+    /**
+     * 数据库产品名称
+     */
+    private String database;
+
+    /**
+     * 执行计划文本，过长时截断
+     */
+    private String plan;
+
+    /**
+     * 是否存在全表扫描或全索引扫描
+     */
+    private boolean fullScan;
+
+    /**
+     * 是否存在额外排序（filesort）
+     */
+    private boolean filesort;
+
+    /**
+     * 是否使用临时表
+     */
+    private boolean temporary;
+
+    /**
+     * 计划中发现的问题
+     */
+    private List<String> warnings;
+
+    /**
+     * 分析时间
+     */
+    private long capturedAt;
+
+    /**
+     * EXPLAIN失败时的错误信息
+     */
+    private String error;
+
+    /**
+     * 是否发现需要关注的问题
+     *
+     * @return 存在全表扫描、额外排序、临时表或其他问题时返回true
+     */
+    public boolean hasIssues() {
+        return fullScan || filesort || temporary || (warnings != null && !warnings.isEmpty());
+    }
+}
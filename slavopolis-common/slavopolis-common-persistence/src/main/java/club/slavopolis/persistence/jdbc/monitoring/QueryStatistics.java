@@ -32,6 +32,11 @@ public class QueryStatistics {
      */
     private long failureQueries;
     
+    /**
+     * 超时或被取消的查询次数，包含在失败次数中
+     */
+    private long timeoutQueries;
+    
     /**
      * 平均查询时间（毫秒）
      */
@@ -42,6 +47,26 @@ public class QueryStatistics {
      */
     private long totalQueryTime;
     
+    /**
+     * 累计查询耗时分布
+     */
+    private LatencySnapshot latency;
+    
+    /**
+     * 最近滚动窗口内的查询耗时分布
+     */
+    private LatencySnapshot recentLatency;
+    
+    /**
+     * 累计连接获取等待分布，未安装连接池监控时为空分布
+     */
+    private LatencySnapshot connectionWait;
+    
+    /**
+     * 最近滚动窗口内的连接获取等待分布
+     */
+    private LatencySnapshot recentConnectionWait;
+    
     /**
      * 查询成功率
      */
@@ -0,0 +1,455 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.parser.SqlToken;
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRouting;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 慢查询执行计划分析器
+ * <p>慢查询发生时按采样率抽取SQL指纹，在后台线程上另取连接执行EXPLAIN，业务线程只做入队；
+ * 配置读写分离时EXPLAIN在从库执行。分析得到的执行计划写回慢查询统计，并标记全表扫描、额外排序和临时表</p>
+ * <p>支持MySQL/MariaDB、PostgreSQL和H2的计划解析，其他数据库只保存计划文本；
+ * 另外根据参数值检查前导通配符的LIKE条件（如{@code original_name LIKE '%x%'}），这类条件无法使用索引</p>
+ * <p>为避免分析本身加重数据库负担：同一指纹在刷新间隔内只分析一次，全局按每分钟最大次数限流，
+ * 排队数量有上限，EXPLAIN设置查询超时；只分析SELECT语句</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class SlowQueryExplainAnalyzer implements AutoCloseable {
+
+    /**
+     * 执行计划文本的最大长度
+     */
+    private static final int MAX_PLAN_LENGTH = 8192;
+
+    /**
+     * 等待分析的最大任务数
+     */
+    private static final int QUEUE_CAPACITY = 16;
+
+    /**
+     * 记录分析时间的最大指纹数
+     */
+    private static final int MAX_TRACKED_FINGERPRINTS = 4096;
+
+    /**
+     * H2计划中的全表扫描标记，如PUBLIC.FILE_INFO.tableScan
+     */
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("([\\w.\"]+)\\.tableScan", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * PostgreSQL计划中的顺序扫描节点
+     */
+    private static final Pattern POSTGRES_SEQ_SCAN = Pattern.compile("Seq Scan on (\\S+)");
+
+    /**
+     * PostgreSQL计划中的排序节点
+     */
+    private static final Pattern POSTGRES_SORT = Pattern.compile("(^|->\\s*)(Incremental )?Sort\\b");
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 指纹最近一次分析的时间（纳秒）
+     */
+    private final Cache<String, Long> analyzedAt = Caffeine.newBuilder()
+            .maximumSize(MAX_TRACKED_FINGERPRINTS)
+            .build();
+
+    /**
+     * 下一次允许分析的时间（纳秒）
+     */
+    private final AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+
+    /**
+     * 已完成的分析次数
+     */
+    @Getter
+    private final LongAdder analyzedCount = new LongAdder();
+
+    /**
+     * 因限流或排队已满放弃的分析次数
+     */
+    @Getter
+    private final LongAdder droppedCount = new LongAdder();
+
+    /**
+     * 采样率：慢查询触发分析的概率
+     */
+    @Getter
+    private volatile double sampleRate = 0.1;
+
+    /**
+     * 每分钟最多执行的EXPLAIN次数
+     */
+    @Getter
+    private volatile int maxExplainsPerMinute = 6;
+
+    /**
+     * 同一指纹两次分析的最小间隔
+     */
+    @Getter
+    private volatile Duration refreshInterval = Duration.ofMinutes(30);
+
+    private volatile String databaseProductName;
+
+    /**
+     * 构造函数
+     *
+     * @param dataSource 数据源
+     * @param timeout    EXPLAIN的查询超时
+     */
+    public SlowQueryExplainAnalyzer(DataSource dataSource, Duration timeout) {
+        Assert.notNull(dataSource, "DataSource cannot be null");
+        Assert.notNull(timeout, "Timeout cannot be null");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setQueryTimeout((int) Math.max(timeout.toSeconds(), 1L));
+        template.setMaxRows(256);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "slavopolis-jdbc-explain");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 设置采样率
+     *
+     * @param sampleRate 采样率，取值[0, 1]
+     */
+    public void setSampleRate(double sampleRate) {
+        Assert.isTrue(sampleRate >= 0 && sampleRate <= 1, "Sample rate must be in [0, 1]");
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 设置每分钟最多执行的EXPLAIN次数
+     *
+     * @param maxExplainsPerMinute 每分钟最大次数
+     */
+    public void setMaxExplainsPerMinute(int maxExplainsPerMinute) {
+        Assert.isTrue(maxExplainsPerMinute > 0, "Max explains per minute must be positive");
+        this.maxExplainsPerMinute = maxExplainsPerMinute;
+    }
+
+    /**
+     * 设置同一指纹两次分析的最小间隔
+     *
+     * @param refreshInterval 刷新间隔
+     */
+    public void setRefreshInterval(Duration refreshInterval) {
+        Assert.notNull(refreshInterval, "Refresh interval cannot be null");
+        Assert.isTrue(!refreshInterval.isNegative(), "Refresh interval cannot be negative");
+        this.refreshInterval = refreshInterval;
+    }
+
+    /**
+     * 提交慢查询分析，在慢查询发生的线程上调用
+     * <p>未被采样、刷新间隔内已分析、超出限流或排队已满时直接返回</p>
+     *
+     * @param fingerprint SQL指纹
+     * @param sql         原始SQL
+     * @param params      参数
+     * @param sink        接收执行计划的回调，在分析线程上执行
+     */
+    public void submit(String fingerprint, String sql, Map<String, Object> params, BiConsumer<String, QueryPlan> sink) {
+        if (executor.isShutdown() || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        long now = System.nanoTime();
+        Long last = analyzedAt.getIfPresent(fingerprint);
+        if (last != null && now - last < refreshInterval.toNanos()) {
+            return;
+        }
+        if (!SqlLexer.parse(sql).startsWith("select")) {
+            return;
+        }
+        if (!tryAcquirePermit(now)) {
+            droppedCount.increment();
+            return;
+        }
+        analyzedAt.put(fingerprint, now);
+
+        Map<String, Object> parameters = params != null ? new HashMap<>(params) : Map.of();
+        try {
+            executor.execute(() -> analyze(fingerprint, sql, parameters, sink));
+        } catch (RejectedExecutionException e) {
+            analyzedAt.invalidate(fingerprint);
+            droppedCount.increment();
+        }
+    }
+
+    /**
+     * 分析SQL的执行计划，在调用线程上同步执行
+     *
+     * @param sql    SQL语句
+     * @param params 参数
+     * @return 执行计划
+     */
+    public QueryPlan explain(String sql, Map<String, Object> params) {
+        Map<String, Object> parameters = params != null ? params : Map.of();
+        List<String> warnings = new ArrayList<>();
+        checkLeadingWildcard(SqlLexer.parse(sql), parameters, warnings);
+
+        String database = databaseProductName();
+        List<Map<String, Object>> rows = ReadWriteRouting.read(
+                () -> jdbcTemplate.queryForList("EXPLAIN " + sql, parameters));
+
+        QueryPlan.QueryPlanBuilder plan = QueryPlan.builder()
+                .database(database)
+                .capturedAt(System.currentTimeMillis());
+        String lowerDatabase = database.toLowerCase(Locale.ROOT);
+        if (lowerDatabase.contains("mysql") || lowerDatabase.contains("mariadb")) {
+            parseMySqlPlan(rows, plan, warnings);
+        } else if (lowerDatabase.contains("postgres")) {
+            parseTextPlan(rows, plan, warnings, true);
+        } else if (lowerDatabase.contains("h2")) {
+            parseTextPlan(rows, plan, warnings, false);
+        } else {
+            plan.plan(truncate(formatRows(rows)));
+        }
+        return plan.warnings(List.copyOf(warnings)).build();
+    }
+
+    /**
+     * 获取等待分析的任务数
+     *
+     * @return 排队任务数
+     */
+    public int getPendingCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 后台分析任务
+     */
+    private void analyze(String fingerprint, String sql, Map<String, Object> params, BiConsumer<String, QueryPlan> sink) {
+        QueryPlan plan;
+        try {
+            plan = explain(sql, params);
+        } catch (RuntimeException e) {
+            log.debug("Failed to explain slow query: fingerprint={}", fingerprint, e);
+            plan = QueryPlan.builder()
+                    .capturedAt(System.currentTimeMillis())
+                    .warnings(List.of())
+                    .error(e.getMessage())
+                    .build();
+        }
+        analyzedCount.increment();
+
+        if (plan.hasIssues()) {
+            log.warn("Slow query plan issues: fingerprint={}, warnings={}", fingerprint, plan.getWarnings());
+        }
+        try {
+            sink.accept(fingerprint, plan);
+        } catch (RuntimeException e) {
+            log.warn("Failed to store slow query plan: fingerprint={}", fingerprint, e);
+        }
+    }
+
+    /**
+     * 按每分钟最大次数均匀发放许可
+     */
+    private boolean tryAcquirePermit(long nowNanos) {
+        long interval = TimeUnit.MINUTES.toNanos(1) / maxExplainsPerMinute;
+        while (true) {
+            long next = nextPermitNanos.get();
+            if (nowNanos - next < 0) {
+                return false;
+            }
+            if (nextPermitNanos.compareAndSet(next, nowNanos + interval)) {
+                return true;
+            }
+        }
+    }
+
+    private String databaseProductName() {
+        String productName = databaseProductName;
+        if (productName == null) {
+            productName = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            productName = productName != null ? productName : "unknown";
+            databaseProductName = productName;
+        }
+        return productName;
+    }
+
+    /**
+     * 解析MySQL的表格计划：type为ALL或index表示全表或全索引扫描，Extra标记额外排序和临时表
+     */
+    private void parseMySqlPlan(List<Map<String, Object>> rows, QueryPlan.QueryPlanBuilder plan, List<String> warnings) {
+        boolean fullScan = false;
+        boolean filesort = false;
+        boolean temporary = false;
+        for (Map<String, Object> row : rows) {
+            String table = String.valueOf(row.get("table"));
+            String type = String.valueOf(row.get("type"));
+            String extra = row.get("Extra") != null ? String.valueOf(row.get("Extra")) : "";
+            if ("ALL".equalsIgnoreCase(type)) {
+                fullScan = true;
+                warnings.add("Full table scan on " + table + " (rows=" + row.get("rows") + ")");
+            } else if ("index".equalsIgnoreCase(type)) {
+                fullScan = true;
+                warnings.add("Full index scan on " + table + " (rows=" + row.get("rows") + ")");
+            }
+            if (extra.contains("Using filesort")) {
+                filesort = true;
+                warnings.add("Filesort on " + table);
+            }
+            if (extra.contains("Using temporary")) {
+                temporary = true;
+                warnings.add("Temporary table on " + table);
+            }
+        }
+        plan.plan(truncate(formatRows(rows))).fullScan(fullScan).filesort(filesort).temporary(temporary);
+    }
+
+    /**
+     * 解析文本计划：PostgreSQL按Seq Scan和Sort节点，H2按tableScan标记和未走索引的ORDER BY
+     */
+    private void parseTextPlan(List<Map<String, Object>> rows, QueryPlan.QueryPlanBuilder plan, List<String> warnings,
+                               boolean postgres) {
+        StringBuilder text = new StringBuilder();
+        for (Map<String, Object> row : rows) {
+            for (Object value : row.values()) {
+                text.append(value).append('\n');
+            }
+        }
+        String planText = text.toString();
+
+        boolean fullScan = false;
+        boolean filesort = false;
+        Matcher scan = (postgres ? POSTGRES_SEQ_SCAN : H2_TABLE_SCAN).matcher(planText);
+        while (scan.find()) {
+            fullScan = true;
+            warnings.add("Full table scan on " + scan.group(1));
+        }
+        if (postgres) {
+            for (String line : planText.split("\n")) {
+                if (POSTGRES_SORT.matcher(line.trim()).find()) {
+                    filesort = true;
+                }
+            }
+        } else {
+            String upper = planText.toUpperCase(Locale.ROOT);
+            filesort = upper.contains("ORDER BY") && !upper.contains("INDEX SORTED");
+        }
+        if (filesort) {
+            warnings.add("Sort not satisfied by an index");
+        }
+        plan.plan(truncate(planText.strip())).fullScan(fullScan).filesort(filesort);
+    }
+
+    /**
+     * 检查前导通配符的LIKE条件：字面量或命名参数的值以%或_开头
+     */
+    private void checkLeadingWildcard(ParsedSql parsedSql, Map<String, Object> params, List<String> warnings) {
+        List<SqlToken> tokens = parsedSql.getTokens();
+        for (int i = 0; i < tokens.size(); i++) {
+            if (!tokens.get(i).is("like")) {
+                continue;
+            }
+            SqlToken operand = next(tokens, i + 1);
+            String pattern = null;
+            if (operand == null) {
+                continue;
+            } else if (operand.type() == SqlTokenType.STRING) {
+                pattern = operand.unquotedText();
+            } else if (operand.type() == SqlTokenType.PARAMETER && operand.text().startsWith(":")) {
+                Object value = params.get(operand.text().substring(1));
+                pattern = value instanceof CharSequence ? value.toString() : null;
+            }
+            if (pattern != null && !pattern.isEmpty() && (pattern.charAt(0) == '%' || pattern.charAt(0) == '_')) {
+                warnings.add("Leading wildcard LIKE on " + column(tokens, i) + " cannot use an index");
+            }
+        }
+    }
+
+    /**
+     * 获取LIKE左侧的列名，跳过NOT
+     */
+    private static String column(List<SqlToken> tokens, int likeIndex) {
+        int index = likeIndex - 1;
+        while (index >= 0 && (tokens.get(index).isComment() || tokens.get(index).is("not"))) {
+            index--;
+        }
+        if (index < 0 || !tokens.get(index).isIdentifier()) {
+            return "expression";
+        }
+        String column = tokens.get(index).identifier();
+        if (index >= 2 && tokens.get(index - 1).type() == SqlTokenType.DOT && tokens.get(index - 2).isIdentifier()) {
+            column = tokens.get(index - 2).identifier() + "." + column;
+        }
+        return column;
+    }
+
+    private static SqlToken next(List<SqlToken> tokens, int from) {
+        for (int i = from; i < tokens.size(); i++) {
+            if (!tokens.get(i).isComment()) {
+                return tokens.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static String formatRows(List<Map<String, Object>> rows) {
+        StringBuilder text = new StringBuilder();
+        for (Map<String, Object> row : rows) {
+            if (!text.isEmpty()) {
+                text.append('\n');
+            }
+            text.append(row);
+        }
+        return text.toString();
+    }
+
+    private static String truncate(String value) {
+        if (value.length() <= MAX_PLAN_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_PLAN_LENGTH) + "...";
+    }
+}
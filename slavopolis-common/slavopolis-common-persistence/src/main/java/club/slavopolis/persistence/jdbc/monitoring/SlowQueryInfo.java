@@ -1,7 +1,12 @@
 package club.slavopolis.persistence.jdbc.monitoring;
 
-import lombok.Data;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
 
 /**
  * 慢查询信息
@@ -14,47 +19,94 @@ import lombok.AllArgsConstructor;
  * All rights reserved.
  */
 @Data
+@Builder
+@NoArgsConstructor
 @AllArgsConstructor
 public class SlowQueryInfo {
-    
+
+    /**
+     * SQL指纹
+     */
+    private String fingerprint;
+
     /**
-     * SQL语句
+     * SQL语句（首次出现时的原始SQL）
      */
     private String sql;
-    
+
     /**
      * 最大执行时间（毫秒）
      */
     private long maxTime;
-    
+
     /**
      * 出现次数
      */
-    private int count;
-    
+    private long count;
+
+    /**
+     * 出现次数的误差上界（指纹替换其他指纹时继承的计数）
+     */
+    private long countError;
+
+    /**
+     * 平均执行时间（毫秒）
+     */
+    private double averageTime;
+
+    /**
+     * 50分位执行时间（毫秒）
+     */
+    private long p50Time;
+
+    /**
+     * 95分位执行时间（毫秒）
+     */
+    private long p95Time;
+
+    /**
+     * 99分位执行时间（毫秒）
+     */
+    private long p99Time;
+
+    /**
+     * 首次出现时间
+     */
+    private long firstOccurrence;
+
     /**
      * 最后出现时间
      */
     private long lastOccurrence;
-    
+
+    /**
+     * 参数样本，敏感参数已掩码
+     */
+    private List<Map<String, Object>> sampleParameters;
+
+    /**
+     * 执行计划，未启用分析、未被采样或尚未分析完成时为null
+     */
+    private QueryPlan plan;
+
     /**
      * 增加出现次数
      */
     public void incrementCount() {
         this.count++;
     }
-    
+
     /**
      * 设置最大执行时间
      */
     public void setMaxTime(long maxTime) {
         this.maxTime = maxTime;
     }
-    
+
     /**
      * 设置最后出现时间
      */
     public void setLastOccurrence(long lastOccurrence) {
         this.lastOccurrence = lastOccurrence;
     }
-} 
\ No newline at end of file
+}
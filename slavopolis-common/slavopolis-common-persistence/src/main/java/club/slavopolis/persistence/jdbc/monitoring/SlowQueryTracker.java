@@ -0,0 +1,341 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * 慢查询Top-K跟踪器
+ * <p>基于Space-Saving算法按SQL指纹统计慢查询：最多保留固定数量的指纹，满额时替换计数最小的指纹，
+ * 新指纹继承其计数作为误差上界，出现频率最高的慢查询始终被保留</p>
+ * <p>每个指纹通过蓄水池抽样保留固定数量的耗时样本和参数样本，内存占用与慢查询数量无关</p>
+ * <p>慢查询属于低频事件，所有操作在跟踪器上同步执行</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class SlowQueryTracker {
+
+    /**
+     * 每个指纹保留的耗时样本数
+     */
+    private static final int LATENCY_SAMPLE_SIZE = 64;
+
+    /**
+     * 每个指纹保留的参数样本数
+     */
+    private static final int PARAMETER_SAMPLE_SIZE = 3;
+
+    /**
+     * 参数样本值的最大长度
+     */
+    private static final int MAX_PARAMETER_VALUE_LENGTH = 256;
+
+    /**
+     * 示例SQL的最大长度
+     */
+    private static final int MAX_SAMPLE_SQL_LENGTH = 2048;
+
+    /**
+     * 敏感参数掩码
+     */
+    private static final String MASK = "******";
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    private int capacity;
+
+    private Predicate<String> sensitiveParameterMatcher;
+
+    /**
+     * 构造函数
+     *
+     * @param capacity                  最多跟踪的指纹数
+     * @param sensitiveParameterMatcher 敏感参数名匹配器，匹配的参数值在样本中掩码
+     */
+    public SlowQueryTracker(int capacity, Predicate<String> sensitiveParameterMatcher) {
+        Assert.isTrue(capacity > 0, "Capacity must be positive");
+        Assert.notNull(sensitiveParameterMatcher, "Sensitive parameter matcher cannot be null");
+        this.capacity = capacity;
+        this.sensitiveParameterMatcher = sensitiveParameterMatcher;
+    }
+
+    /**
+     * 记录一次慢查询
+     *
+     * @param fingerprint   SQL指纹
+     * @param sql           原始SQL
+     * @param params        参数
+     * @param executionTime 执行时间（毫秒）
+     */
+    public synchronized void record(String fingerprint, String sql, Map<String, Object> params, long executionTime) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(fingerprint);
+        if (entry == null) {
+            entry = admit(fingerprint, sql, now);
+        }
+        entry.record(executionTime, now, params);
+    }
+
+    /**
+     * 按出现次数降序获取前N个慢查询
+     *
+     * @param limit 最大数量
+     * @return 慢查询信息列表
+     */
+    public synchronized List<SlowQueryInfo> top(int limit) {
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(Comparator.comparingLong((Entry e) -> e.count).reversed()
+                .thenComparing(Comparator.comparingLong((Entry e) -> e.maxTime).reversed()));
+
+        int size = Math.min(Math.max(limit, 0), sorted.size());
+        List<SlowQueryInfo> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(sorted.get(i).toInfo());
+        }
+        return result;
+    }
+
+    /**
+     * 获取全部慢查询，按出现次数降序
+     *
+     * @return 指纹到慢查询信息的映射
+     */
+    public synchronized Map<String, SlowQueryInfo> snapshot() {
+        Map<String, SlowQueryInfo> result = new LinkedHashMap<>();
+        for (SlowQueryInfo info : top(entries.size())) {
+            result.put(info.getFingerprint(), info);
+        }
+        return result;
+    }
+
+    /**
+     * 关联执行计划，指纹已被淘汰时忽略
+     *
+     * @param fingerprint SQL指纹
+     * @param plan        执行计划
+     */
+    public synchronized void attachPlan(String fingerprint, QueryPlan plan) {
+        Entry entry = entries.get(fingerprint);
+        if (entry != null) {
+            entry.plan = plan;
+        }
+    }
+
+    /**
+     * 淘汰长时间未出现的指纹
+     *
+     * @param idleMillis 空闲时间（毫秒）
+     * @return 淘汰的指纹数
+     */
+    public synchronized int evictIdle(long idleMillis) {
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.lastOccurrence < cutoff);
+        return before - entries.size();
+    }
+
+    /**
+     * 设置最多跟踪的指纹数，超出部分按计数从小到大淘汰
+     *
+     * @param capacity 最多跟踪的指纹数
+     */
+    public synchronized void setCapacity(int capacity) {
+        Assert.isTrue(capacity > 0, "Capacity must be positive");
+        this.capacity = capacity;
+        while (entries.size() > capacity) {
+            entries.remove(minimum().fingerprint);
+        }
+    }
+
+    /**
+     * 设置敏感参数名匹配器
+     *
+     * @param sensitiveParameterMatcher 敏感参数名匹配器
+     */
+    public synchronized void setSensitiveParameterMatcher(Predicate<String> sensitiveParameterMatcher) {
+        Assert.notNull(sensitiveParameterMatcher, "Sensitive parameter matcher cannot be null");
+        this.sensitiveParameterMatcher = sensitiveParameterMatcher;
+    }
+
+    /**
+     * 获取当前跟踪的指纹数
+     *
+     * @return 指纹数
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * 清空跟踪数据
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 接纳新指纹，满额时替换计数最小的指纹
+     */
+    private Entry admit(String fingerprint, String sql, long now) {
+        Entry entry = new Entry(fingerprint, truncate(sql, MAX_SAMPLE_SQL_LENGTH), now);
+        if (entries.size() >= capacity) {
+            Entry evicted = minimum();
+            entries.remove(evicted.fingerprint);
+            entry.count = evicted.count;
+            entry.countError = evicted.count;
+        }
+        entries.put(fingerprint, entry);
+        return entry;
+    }
+
+    private Entry minimum() {
+        Entry minimum = null;
+        for (Entry entry : entries.values()) {
+            if (minimum == null || entry.count < minimum.count
+                    || entry.count == minimum.count && entry.lastOccurrence < minimum.lastOccurrence) {
+                minimum = entry;
+            }
+        }
+        return minimum;
+    }
+
+    /**
+     * 复制参数样本，敏感参数掩码，大值截断
+     */
+    private Map<String, Object> sampleOf(Map<String, Object> params) {
+        if (params == null || params.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> sample = new LinkedHashMap<>(params.size() * 2);
+        params.forEach((name, value) -> {
+            if (value == null) {
+                sample.put(name, null);
+            } else if (sensitiveParameterMatcher.test(name)) {
+                sample.put(name, MASK);
+            } else if (value instanceof byte[] bytes) {
+                sample.put(name, "byte[" + bytes.length + "]");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                sample.put(name, value);
+            } else {
+                sample.put(name, truncate(String.valueOf(value), MAX_PARAMETER_VALUE_LENGTH));
+            }
+        });
+        return sample;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength) + "...";
+    }
+
+    /**
+     * 单个指纹的统计项
+     */
+    private final class Entry {
+
+        private final String fingerprint;
+
+        private final String sql;
+
+        private final long firstOccurrence;
+
+        private final long[] latencySamples = new long[LATENCY_SAMPLE_SIZE];
+
+        private final List<Map<String, Object>> parameterSamples = new ArrayList<>(PARAMETER_SAMPLE_SIZE);
+
+        private long count;
+
+        private long countError;
+
+        /**
+         * 本指纹实际观测到的次数，用于抽样
+         */
+        private long observed;
+
+        private long totalTime;
+
+        private long maxTime;
+
+        private long lastOccurrence;
+
+        private QueryPlan plan;
+
+        Entry(String fingerprint, String sql, long now) {
+            this.fingerprint = fingerprint;
+            this.sql = sql;
+            this.firstOccurrence = now;
+        }
+
+        void record(long executionTime, long now, Map<String, Object> params) {
+            count++;
+            observed++;
+            totalTime += executionTime;
+            maxTime = Math.max(maxTime, executionTime);
+            lastOccurrence = now;
+
+            // 蓄水池抽样
+            if (observed <= LATENCY_SAMPLE_SIZE) {
+                latencySamples[(int) observed - 1] = executionTime;
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(observed);
+                if (slot < LATENCY_SAMPLE_SIZE) {
+                    latencySamples[(int) slot] = executionTime;
+                }
+            }
+            if (observed <= PARAMETER_SAMPLE_SIZE) {
+                parameterSamples.add(sampleOf(params));
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(observed);
+                if (slot < PARAMETER_SAMPLE_SIZE) {
+                    parameterSamples.set((int) slot, sampleOf(params));
+                }
+            }
+        }
+
+        SlowQueryInfo toInfo() {
+            int sampleCount = (int) Math.min(observed, LATENCY_SAMPLE_SIZE);
+            long[] samples = Arrays.copyOf(latencySamples, sampleCount);
+            Arrays.sort(samples);
+
+            return SlowQueryInfo.builder()
+                    .fingerprint(fingerprint)
+                    .sql(sql)
+                    .count(count)
+                    .countError(countError)
+                    .maxTime(maxTime)
+                    .averageTime(observed > 0 ? (double) totalTime / observed : 0.0)
+                    .p50Time(percentile(samples, 50.0))
+                    .p95Time(percentile(samples, 95.0))
+                    .p99Time(percentile(samples, 99.0))
+                    .firstOccurrence(firstOccurrence)
+                    .lastOccurrence(lastOccurrence)
+                    .sampleParameters(List.copyOf(parameterSamples))
+                    .plan(plan)
+                    .build();
+        }
+
+        private long percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0L;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+    }
+}
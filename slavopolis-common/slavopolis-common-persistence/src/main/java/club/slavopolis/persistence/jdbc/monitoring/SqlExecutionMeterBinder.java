@@ -0,0 +1,301 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import club.slavopolis.persistence.jdbc.enums.SqlOperationType;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * SQL执行指标绑定器
+ * <p>将{@link SqlExecutionMonitor}的统计以Micrometer指标导出，所有指标在采集时从监控器读取，不在SQL执行路径上增加开销</p>
+ * <p>按操作类型导出执行次数、累计耗时和最近窗口的延迟分位数；按SQL指纹导出的指标定期刷新，且只保留最近p99最高的若干指纹以控制标签基数</p>
+ * <p>安装连接池监控后，按操作类型导出连接获取等待分位数，按连接池导出各状态连接数和获取等待分位数</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class SqlExecutionMeterBinder implements MeterBinder, AutoCloseable {
+
+    /**
+     * 指标名前缀
+     */
+    private static final String PREFIX = "slavopolis.jdbc";
+
+    /**
+     * 指纹标签值的最大长度
+     */
+    private static final int MAX_FINGERPRINT_TAG_LENGTH = 256;
+
+    private final SqlExecutionMonitor monitor;
+
+    private final int maxFingerprints;
+
+    private final Duration refreshInterval;
+
+    private ScheduledExecutorService scheduler;
+
+    private MultiGauge statementLatency;
+
+    private MultiGauge statementExecutions;
+
+    private MultiGauge slowQueryCount;
+
+    private MultiGauge poolConnections;
+
+    private MultiGauge poolAcquireWait;
+
+    /**
+     * 构造函数
+     *
+     * @param monitor         SQL执行监控器
+     * @param maxFingerprints 按指纹导出的最大指纹数
+     * @param refreshInterval 按指纹指标的刷新间隔
+     */
+    public SqlExecutionMeterBinder(SqlExecutionMonitor monitor, int maxFingerprints, Duration refreshInterval) {
+        Assert.notNull(monitor, "SqlExecutionMonitor cannot be null");
+        Assert.notNull(refreshInterval, "Refresh interval cannot be null");
+        this.monitor = monitor;
+        this.maxFingerprints = Math.max(maxFingerprints, 0);
+        this.refreshInterval = refreshInterval;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindOperation(registry, SqlOperationType.QUERY, SqlExecutionMonitor::getQuerySuccessCount,
+                SqlExecutionMonitor::getQueryFailureCount, SqlExecutionMonitor::getQueryTimeoutCount,
+                SqlExecutionMonitor::getTotalQueryNanos);
+        bindOperation(registry, SqlOperationType.UPDATE, SqlExecutionMonitor::getUpdateSuccessCount,
+                SqlExecutionMonitor::getUpdateFailureCount, SqlExecutionMonitor::getUpdateTimeoutCount,
+                SqlExecutionMonitor::getTotalUpdateNanos);
+        bindOperation(registry, SqlOperationType.BATCH_UPDATE, SqlExecutionMonitor::getBatchUpdateSuccessCount,
+                SqlExecutionMonitor::getBatchUpdateFailureCount, SqlExecutionMonitor::getBatchUpdateTimeoutCount,
+                SqlExecutionMonitor::getTotalBatchUpdateNanos);
+        FunctionCounter.builder(PREFIX + ".batch.rows", monitor, m -> m.getTotalBatchRows().sum())
+                .description("Total rows written by batch updates")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".transaction.attempts", monitor, m -> m.getTransactionAttemptCount().sum())
+                .description("Attempts made by transactions executed with a retry policy, including first attempts")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".transaction.retried", monitor, m -> m.getRetriedTransactionCount().sum())
+                .description("Transactions that were retried after a transient failure")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".transaction.retry.exhausted", monitor, m -> m.getRetryExhaustedCount().sum())
+                .description("Transactions that still failed with a transient error after the last attempt")
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".transaction.retry.rejected", monitor, m -> m.getRetryBudgetRejectedCount().sum())
+                .description("Transactions that were not retried because the retry budget was exhausted")
+                .register(registry);
+
+        Gauge.builder(PREFIX + ".slow.queries.tracked", monitor, SqlExecutionMonitor::getSlowQueryCount)
+                .description("Number of SQL fingerprints tracked as slow queries")
+                .register(registry);
+
+        poolConnections = MultiGauge.builder(PREFIX + ".pool.connections")
+                .description("Connection pool connections by state")
+                .register(registry);
+        poolAcquireWait = MultiGauge.builder(PREFIX + ".pool.acquire.wait")
+                .description("Recent connection acquisition wait percentiles per pool")
+                .baseUnit("seconds")
+                .register(registry);
+
+        if (maxFingerprints > 0) {
+            bindStatements(registry);
+        }
+
+        refresh();
+        startScheduler();
+    }
+
+    /**
+     * 注册按SQL指纹的指标
+     */
+    private void bindStatements(MeterRegistry registry) {
+        statementLatency = MultiGauge.builder(PREFIX + ".statement.latency")
+                .description("Recent SQL latency percentiles per fingerprint")
+                .baseUnit("seconds")
+                .register(registry);
+        statementExecutions = MultiGauge.builder(PREFIX + ".statement.executions")
+                .description("Total SQL executions per fingerprint")
+                .register(registry);
+        slowQueryCount = MultiGauge.builder(PREFIX + ".slow.query.count")
+                .description("Slow query occurrences per fingerprint")
+                .register(registry);
+    }
+
+    /**
+     * 刷新按连接池和按SQL指纹的指标
+     * <p>监控关闭时跳过，已导出的指纹保持最后一次的值</p>
+     */
+    public void refresh() {
+        if (poolConnections == null || !monitor.isMonitoringEnabled()) {
+            return;
+        }
+
+        refreshPools();
+        if (statementLatency == null) {
+            return;
+        }
+
+        List<MultiGauge.Row<?>> latencyRows = new ArrayList<>();
+        List<MultiGauge.Row<?>> executionRows = new ArrayList<>();
+        List<StatementStatistics> statements = monitor.getStatementStatistics();
+        for (StatementStatistics statement : statements.subList(0, Math.min(maxFingerprints, statements.size()))) {
+            Tags tags = Tags.of(
+                    "fingerprint", fingerprintTag(statement.getSql()),
+                    "operation", operationTag(statement.getOperationType()));
+            LatencySnapshot recent = statement.getRecentLatency();
+            latencyRows.add(MultiGauge.Row.of(tags.and("quantile", "0.5"), recent.getP50() / 1000.0));
+            latencyRows.add(MultiGauge.Row.of(tags.and("quantile", "0.95"), recent.getP95() / 1000.0));
+            latencyRows.add(MultiGauge.Row.of(tags.and("quantile", "0.99"), recent.getP99() / 1000.0));
+            latencyRows.add(MultiGauge.Row.of(tags.and("quantile", "max"), recent.getMax() / 1000.0));
+            executionRows.add(MultiGauge.Row.of(tags.and("outcome", "success"),
+                    statement.getTotalExecutions() - statement.getFailureExecutions()));
+            executionRows.add(MultiGauge.Row.of(tags.and("outcome", "failure"), statement.getFailureExecutions()));
+        }
+        statementLatency.register(latencyRows, true);
+        statementExecutions.register(executionRows, true);
+
+        List<MultiGauge.Row<?>> slowRows = new ArrayList<>();
+        for (SlowQueryInfo slowQuery : monitor.getTopSlowQueries(maxFingerprints)) {
+            slowRows.add(MultiGauge.Row.of(Tags.of("fingerprint", fingerprintTag(slowQuery.getFingerprint())),
+                    slowQuery.getCount()));
+        }
+        slowQueryCount.register(slowRows, true);
+    }
+
+    /**
+     * 刷新连接池指标，连接池在首次获取连接时启动，启动后才出现对应的行
+     */
+    private void refreshPools() {
+        List<MultiGauge.Row<?>> connectionRows = new ArrayList<>();
+        List<MultiGauge.Row<?>> waitRows = new ArrayList<>();
+        for (ConnectionPoolStatistics pool : monitor.getConnectionPoolStatistics()) {
+            Tags tags = Tags.of("pool", pool.getPoolName());
+            connectionRows.add(MultiGauge.Row.of(tags.and("state", "active"), pool.getActiveConnections()));
+            connectionRows.add(MultiGauge.Row.of(tags.and("state", "idle"), pool.getIdleConnections()));
+            connectionRows.add(MultiGauge.Row.of(tags.and("state", "pending"), pool.getPendingThreads()));
+            connectionRows.add(MultiGauge.Row.of(tags.and("state", "max"), pool.getMaxConnections()));
+            LatencySnapshot recent = pool.getRecentAcquireWait();
+            waitRows.add(MultiGauge.Row.of(tags.and("quantile", "0.99"), recent.getP99() / 1000.0));
+            waitRows.add(MultiGauge.Row.of(tags.and("quantile", "max"), recent.getMax() / 1000.0));
+        }
+        poolConnections.register(connectionRows, true);
+        poolAcquireWait.register(waitRows, true);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * 绑定单个操作类型的指标
+     */
+    private void bindOperation(MeterRegistry registry, SqlOperationType operationType,
+                               Function<SqlExecutionMonitor, LongAdder> successCount,
+                               Function<SqlExecutionMonitor, LongAdder> failureCount,
+                               Function<SqlExecutionMonitor, LongAdder> timeoutCount,
+                               Function<SqlExecutionMonitor, LongAdder> totalNanos) {
+        Tags tags = Tags.of("operation", operationTag(operationType));
+
+        FunctionCounter.builder(PREFIX + ".executions", monitor, m -> successCount.apply(m).sum())
+                .description("SQL executions")
+                .tags(tags.and("outcome", "success"))
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".executions", monitor, m -> failureCount.apply(m).sum())
+                .description("SQL executions")
+                .tags(tags.and("outcome", "failure"))
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".timeouts", monitor, m -> timeoutCount.apply(m).sum())
+                .description("SQL executions that hit the query timeout or were cancelled")
+                .tags(tags)
+                .register(registry);
+        FunctionCounter.builder(PREFIX + ".execution.time", monitor, m -> totalNanos.apply(m).sum() / 1_000_000_000.0)
+                .description("Total SQL execution time")
+                .baseUnit("seconds")
+                .tags(tags)
+                .register(registry);
+
+        bindLatency(registry, operationType, tags, "0.5", LatencySnapshot::getP50);
+        bindLatency(registry, operationType, tags, "0.95", LatencySnapshot::getP95);
+        bindLatency(registry, operationType, tags, "0.99", LatencySnapshot::getP99);
+        bindLatency(registry, operationType, tags, "max", LatencySnapshot::getMax);
+
+        bindConnectionWait(registry, operationType, tags, "0.99", LatencySnapshot::getP99);
+        bindConnectionWait(registry, operationType, tags, "max", LatencySnapshot::getMax);
+    }
+
+    private void bindLatency(MeterRegistry registry, SqlOperationType operationType, Tags tags, String quantile,
+                             ToDoubleFunction<LatencySnapshot> value) {
+        TimeGauge.builder(PREFIX + ".latency", monitor, TimeUnit.MILLISECONDS,
+                        m -> value.applyAsDouble(m.getRecentLatencySnapshot(operationType)))
+                .description("Recent SQL latency percentiles")
+                .tags(tags.and("quantile", quantile))
+                .register(registry);
+    }
+
+    private void bindConnectionWait(MeterRegistry registry, SqlOperationType operationType, Tags tags, String quantile,
+                                    ToDoubleFunction<LatencySnapshot> value) {
+        TimeGauge.builder(PREFIX + ".connection.wait", monitor, TimeUnit.MILLISECONDS,
+                        m -> value.applyAsDouble(m.getRecentConnectionWaitSnapshot(operationType)))
+                .description("Recent connection acquisition wait percentiles of SQL executions")
+                .tags(tags.and("quantile", quantile))
+                .register(registry);
+    }
+
+    private synchronized void startScheduler() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "slavopolis-jdbc-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long periodMillis = Math.max(refreshInterval.toMillis(), 1000L);
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Failed to refresh SQL fingerprint metrics", e);
+            }
+        }, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static String operationTag(SqlOperationType operationType) {
+        return operationType != null ? operationType.name().toLowerCase(Locale.ROOT) : "mixed";
+    }
+
+    private static String fingerprintTag(String fingerprint) {
+        if (fingerprint == null) {
+            return "";
+        }
+        return fingerprint.length() > MAX_FINGERPRINT_TAG_LENGTH
+                ? fingerprint.substring(0, MAX_FINGERPRINT_TAG_LENGTH) : fingerprint;
+    }
+}
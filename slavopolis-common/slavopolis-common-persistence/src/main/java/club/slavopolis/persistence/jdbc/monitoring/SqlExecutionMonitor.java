@@ -1,17 +1,35 @@
 package club.slavopolis.persistence.jdbc.monitoring;
 
+import club.slavopolis.persistence.jdbc.enums.SqlOperationType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.Assert;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
 /**
  * SQL执行监控器
  * <p>提供SQL执行性能监控、统计和分析功能</p>
  * <p>支持执行时间统计、慢查询检测、异常统计等监控能力</p>
+ * <p>耗时以纳秒记录，计数器采用{@link LongAdder}分段累加；每种操作类型和每条SQL语句各自维护累计及滚动窗口的延迟直方图，可查看p50/p95/p99/max</p>
+ * <p>安装{@link HikariPoolMonitor}后，语句耗时拆分为等待连接和数据库执行两部分：执行耗时统计不含连接获取等待，
+ * 等待时间单独维护分布；慢查询仍按两者之和判定</p>
+ * <p>配置{@link SlowQueryExplainAnalyzer}后，慢查询按采样在后台分析执行计划，计划随慢查询信息一并返回</p>
  *
  * @author slavopolis
  * @version 1.0.0
@@ -25,35 +43,98 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public class SqlExecutionMonitor {
 
+    /**
+     * 超出语句统计上限后新语句的归并键
+     */
+    public static final String OTHER_STATEMENTS = "<other>";
+
+    /**
+     * 指纹缓存的最大条目数
+     */
+    private static final int FINGERPRINT_CACHE_SIZE = 4096;
+
     /**
      * 查询执行统计
      */
-    private final AtomicLong queryCount = new AtomicLong(0);
-    private final AtomicLong querySuccessCount = new AtomicLong(0);
-    private final AtomicLong queryFailureCount = new AtomicLong(0);
-    private final AtomicLong totalQueryTime = new AtomicLong(0);
+    private final LongAdder queryCount = new LongAdder();
+    private final LongAdder querySuccessCount = new LongAdder();
+    private final LongAdder queryFailureCount = new LongAdder();
+    private final LongAdder totalQueryNanos = new LongAdder();
 
     /**
      * 更新执行统计
      */
-    private final AtomicLong updateCount = new AtomicLong(0);
-    private final AtomicLong updateSuccessCount = new AtomicLong(0);
-    private final AtomicLong updateFailureCount = new AtomicLong(0);
-    private final AtomicLong totalUpdateTime = new AtomicLong(0);
+    private final LongAdder updateCount = new LongAdder();
+    private final LongAdder updateSuccessCount = new LongAdder();
+    private final LongAdder updateFailureCount = new LongAdder();
+    private final LongAdder totalUpdateNanos = new LongAdder();
 
     /**
      * 批处理执行统计
      */
-    private final AtomicLong batchUpdateCount = new AtomicLong(0);
-    private final AtomicLong batchUpdateSuccessCount = new AtomicLong(0);
-    private final AtomicLong batchUpdateFailureCount = new AtomicLong(0);
-    private final AtomicLong totalBatchUpdateTime = new AtomicLong(0);
+    private final LongAdder batchUpdateCount = new LongAdder();
+    private final LongAdder batchUpdateSuccessCount = new LongAdder();
+    private final LongAdder batchUpdateFailureCount = new LongAdder();
+    private final LongAdder totalBatchUpdateNanos = new LongAdder();
+    private final LongAdder totalBatchRows = new LongAdder();
+
+    /**
+     * 超时和取消统计
+     */
+    private final LongAdder queryTimeoutCount = new LongAdder();
+    private final LongAdder updateTimeoutCount = new LongAdder();
+    private final LongAdder batchUpdateTimeoutCount = new LongAdder();
+
+    /**
+     * 事务重试统计
+     */
+    private final LongAdder transactionCount = new LongAdder();
+    private final LongAdder transactionAttemptCount = new LongAdder();
+    private final LongAdder retriedTransactionCount = new LongAdder();
+    private final LongAdder retryExhaustedCount = new LongAdder();
+    private final LongAdder retryBudgetRejectedCount = new LongAdder();
+
+    /**
+     * 最多跟踪的慢查询指纹数
+     */
+    @Setter(AccessLevel.NONE)
+    private int maxStatisticsEntries = 10000;
+
+    /**
+     * 统计信息清理间隔，超过该时间未出现的慢查询和语句统计被淘汰
+     */
+    @Setter(AccessLevel.NONE)
+    private Duration statisticsCleanupInterval = Duration.ofHours(1);
+
+    /**
+     * 敏感参数名匹配器，匹配的参数值不会出现在慢查询参数样本中
+     */
+    @Setter(AccessLevel.NONE)
+    private Predicate<String> sensitiveParameterMatcher = name -> false;
 
     /**
      * 慢查询统计
      */
-    private final Map<String, SlowQueryInfo> slowQueries = new ConcurrentHashMap<>();
-    
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final SlowQueryTracker slowQueryTracker = new SlowQueryTracker(maxStatisticsEntries, sensitiveParameterMatcher);
+
+    /**
+     * 原始SQL到指纹的缓存
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Cache<String, String> fingerprints = Caffeine.newBuilder()
+            .maximumSize(FINGERPRINT_CACHE_SIZE)
+            .build();
+
+    /**
+     * 下次清理统计信息的时间（{@link System#nanoTime()}）
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final AtomicLong nextCleanupNanos = new AtomicLong(System.nanoTime() + statisticsCleanupInterval.toNanos());
+
     /**
      * 慢查询阈值（毫秒）
      */
@@ -65,131 +146,378 @@ public class SqlExecutionMonitor {
     private boolean monitoringEnabled = true;
 
     /**
-     * 记录查询执行
-     * 
+     * 延迟滚动窗口长度
+     */
+    @Setter(AccessLevel.NONE)
+    private Duration latencyWindow = Duration.ofMinutes(1);
+
+    /**
+     * 最多单独统计的SQL指纹数，超出后新指纹归并到{@link #OTHER_STATEMENTS}
+     */
+    private int maxTrackedStatements = 256;
+
+    /**
+     * 按操作类型的延迟记录器
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Map<SqlOperationType, LatencyRecorder> operationLatencies = createOperationLatencies(latencyWindow);
+
+    /**
+     * 按操作类型的连接获取等待记录器
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Map<SqlOperationType, LatencyRecorder> operationConnectionWaits = createOperationLatencies(latencyWindow);
+
+    /**
+     * 连接池监控器，未使用HikariCP或未安装时为null
+     */
+    private HikariPoolMonitor poolMonitor;
+
+    /**
+     * 慢查询执行计划分析器，可为null
+     */
+    private SlowQueryExplainAnalyzer explainAnalyzer;
+
+    /**
+     * 按SQL指纹的延迟记录器
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<String, StatementRecorder> statementRecorders = new ConcurrentHashMap<>();
+
+    /**
+     * 超出统计上限的语句共用的记录器
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile StatementRecorder otherStatements = new StatementRecorder(OTHER_STATEMENTS, null, latencyWindow);
+
+    /**
+     * 设置延迟滚动窗口长度，已有的延迟分布会被清空
+     *
+     * @param latencyWindow 滚动窗口长度
+     */
+    public void setLatencyWindow(Duration latencyWindow) {
+        Assert.notNull(latencyWindow, "Latency window cannot be null");
+        Assert.isTrue(!latencyWindow.isNegative() && !latencyWindow.isZero(), "Latency window must be positive");
+        this.latencyWindow = latencyWindow;
+        this.operationLatencies = createOperationLatencies(latencyWindow);
+        this.operationConnectionWaits = createOperationLatencies(latencyWindow);
+        this.otherStatements = new StatementRecorder(OTHER_STATEMENTS, null, latencyWindow);
+        this.statementRecorders.clear();
+    }
+
+    /**
+     * 设置最多跟踪的慢查询指纹数
+     *
+     * @param maxStatisticsEntries 最多跟踪的指纹数
+     */
+    public void setMaxStatisticsEntries(int maxStatisticsEntries) {
+        slowQueryTracker.setCapacity(maxStatisticsEntries);
+        this.maxStatisticsEntries = maxStatisticsEntries;
+    }
+
+    /**
+     * 设置统计信息清理间隔
+     *
+     * @param statisticsCleanupInterval 清理间隔
+     */
+    public void setStatisticsCleanupInterval(Duration statisticsCleanupInterval) {
+        Assert.notNull(statisticsCleanupInterval, "Statistics cleanup interval cannot be null");
+        Assert.isTrue(!statisticsCleanupInterval.isNegative() && !statisticsCleanupInterval.isZero(),
+                "Statistics cleanup interval must be positive");
+        this.statisticsCleanupInterval = statisticsCleanupInterval;
+        this.nextCleanupNanos.set(System.nanoTime() + statisticsCleanupInterval.toNanos());
+    }
+
+    /**
+     * 设置敏感参数名匹配器
+     *
+     * @param sensitiveParameterMatcher 敏感参数名匹配器
+     */
+    public void setSensitiveParameterMatcher(Predicate<String> sensitiveParameterMatcher) {
+        slowQueryTracker.setSensitiveParameterMatcher(sensitiveParameterMatcher);
+        this.sensitiveParameterMatcher = sensitiveParameterMatcher;
+    }
+
+    /**
+     * 记录SQL执行
+     *
+     * @param operationType 操作类型
      * @param sql SQL语句
-     * @param params 参数
-     * @param executionTime 执行时间（毫秒）
+     * @param params 参数，批处理为null
+     * @param elapsedNanos 执行时间（纳秒）
      * @param success 是否成功
      */
-    public void recordQueryExecution(String sql, Map<String, Object> params, long executionTime, boolean success) {
+    public void recordExecution(SqlOperationType operationType, String sql, Map<String, Object> params,
+                                long elapsedNanos, boolean success) {
+        recordExecution(operationType, sql, params, elapsedNanos, -1L, success);
+    }
+
+    /**
+     * 记录SQL执行，区分连接获取等待
+     *
+     * @param operationType 操作类型
+     * @param sql SQL语句
+     * @param params 参数，批处理为null
+     * @param elapsedNanos 总耗时（纳秒），包含连接获取等待
+     * @param connectionWaitNanos 连接获取等待时间（纳秒），小于0表示未知
+     * @param success 是否成功
+     */
+    public void recordExecution(SqlOperationType operationType, String sql, Map<String, Object> params,
+                                long elapsedNanos, long connectionWaitNanos, boolean success) {
         if (!monitoringEnabled) {
             return;
         }
 
-        queryCount.incrementAndGet();
-        totalQueryTime.addAndGet(executionTime);
+        long now = System.nanoTime();
+        long waitNanos = Math.min(connectionWaitNanos, elapsedNanos);
+        long executionNanos = waitNanos > 0 ? elapsedNanos - waitNanos : elapsedNanos;
+        switch (operationType) {
+            case QUERY -> count(queryCount, querySuccessCount, queryFailureCount, totalQueryNanos, executionNanos, success);
+            case UPDATE -> count(updateCount, updateSuccessCount, updateFailureCount, totalUpdateNanos, executionNanos, success);
+            case BATCH_UPDATE -> count(batchUpdateCount, batchUpdateSuccessCount, batchUpdateFailureCount,
+                    totalBatchUpdateNanos, executionNanos, success);
+        }
+        String fingerprint = fingerprint(sql);
+        operationLatencies.get(operationType).record(executionNanos, now);
+        if (waitNanos >= 0) {
+            operationConnectionWaits.get(operationType).record(waitNanos, now);
+        }
+        statementRecorder(operationType, fingerprint).record(executionNanos, waitNanos, now, success);
 
-        if (success) {
-            querySuccessCount.incrementAndGet();
-        } else {
-            queryFailureCount.incrementAndGet();
+        // 慢查询检测（批处理耗时与批次大小相关，不参与慢查询统计）
+        long executionTime = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (operationType != SqlOperationType.BATCH_UPDATE && executionTime > slowQueryThreshold) {
+            recordSlowQuery(fingerprint, sql, params, executionTime, waitNanos);
         }
 
-        // 慢查询检测
-        if (executionTime > slowQueryThreshold) {
-            recordSlowQuery(sql, params, executionTime);
+        if (now - nextCleanupNanos.get() >= 0) {
+            scheduleCleanup(now);
         }
 
         if (log.isDebugEnabled()) {
-            log.debug("Query execution recorded: sql={}, executionTime={}ms, success={}", 
-                sql, executionTime, success);
+            log.debug("{} execution recorded: sql={}, executionTime={}us, success={}",
+                operationType, sql, TimeUnit.NANOSECONDS.toMicros(elapsedNanos), success);
         }
     }
 
+    /**
+     * 记录查询执行
+     *
+     * @param sql SQL语句
+     * @param params 参数
+     * @param executionTime 执行时间（毫秒）
+     * @param success 是否成功
+     */
+    public void recordQueryExecution(String sql, Map<String, Object> params, long executionTime, boolean success) {
+        recordExecution(SqlOperationType.QUERY, sql, params, TimeUnit.MILLISECONDS.toNanos(executionTime), success);
+    }
+
     /**
      * 记录更新执行
-     * 
+     *
      * @param sql SQL语句
      * @param params 参数
      * @param executionTime 执行时间（毫秒）
      * @param success 是否成功
      */
     public void recordUpdateExecution(String sql, Map<String, Object> params, long executionTime, boolean success) {
+        recordExecution(SqlOperationType.UPDATE, sql, params, TimeUnit.MILLISECONDS.toNanos(executionTime), success);
+    }
+
+    /**
+     * 记录批处理执行
+     *
+     * @param sql SQL语句
+     * @param batchSize 批处理大小
+     * @param executionTime 执行时间（毫秒）
+     * @param success 是否成功
+     */
+    public void recordBatchUpdateExecution(String sql, int batchSize, long executionTime, boolean success) {
+        recordBatchExecution(sql, batchSize, TimeUnit.MILLISECONDS.toNanos(executionTime), success);
+    }
+
+    /**
+     * 记录批处理执行（纳秒精度）
+     * <p>自动分块的批量写入按子批次逐次记录，批次行数计入{@link BatchUpdateStatistics#getTotalBatchRows()}</p>
+     *
+     * @param sql SQL语句
+     * @param batchSize 批处理大小（行数）
+     * @param elapsedNanos 执行时间（纳秒）
+     * @param success 是否成功
+     */
+    public void recordBatchExecution(String sql, int batchSize, long elapsedNanos, boolean success) {
+        recordBatchExecution(sql, batchSize, elapsedNanos, -1L, success);
+    }
+
+    /**
+     * 记录批处理执行，区分连接获取等待
+     *
+     * @param sql SQL语句
+     * @param batchSize 批处理大小（行数）
+     * @param elapsedNanos 总耗时（纳秒），包含连接获取等待
+     * @param connectionWaitNanos 连接获取等待时间（纳秒），小于0表示未知
+     * @param success 是否成功
+     */
+    public void recordBatchExecution(String sql, int batchSize, long elapsedNanos, long connectionWaitNanos, boolean success) {
         if (!monitoringEnabled) {
             return;
         }
+        totalBatchRows.add(batchSize);
+        recordExecution(SqlOperationType.BATCH_UPDATE, sql, null, elapsedNanos, connectionWaitNanos, success);
+    }
 
-        updateCount.incrementAndGet();
-        totalUpdateTime.addAndGet(executionTime);
-
+    /**
+     * 累加操作计数
+     */
+    private void count(LongAdder total, LongAdder successCount, LongAdder failureCount, LongAdder totalNanos,
+                       long elapsedNanos, boolean success) {
+        total.increment();
+        totalNanos.add(elapsedNanos);
         if (success) {
-            updateSuccessCount.incrementAndGet();
+            successCount.increment();
         } else {
-            updateFailureCount.incrementAndGet();
+            failureCount.increment();
+        }
+    }
+
+    /**
+     * 获取SQL指纹
+     *
+     * @param sql SQL语句
+     * @return SQL指纹
+     */
+    public String fingerprint(String sql) {
+        if (sql == null) {
+            return "";
         }
+        return fingerprints.get(sql, SqlFingerprinter::fingerprint);
+    }
 
-        // 慢查询检测
-        if (executionTime > slowQueryThreshold) {
-            recordSlowQuery(sql, params, executionTime);
+    /**
+     * 获取SQL指纹的延迟记录器，超出统计上限时返回归并记录器
+     */
+    private StatementRecorder statementRecorder(SqlOperationType operationType, String fingerprint) {
+        StatementRecorder recorder = statementRecorders.get(fingerprint);
+        if (recorder != null) {
+            return recorder;
         }
+        if (statementRecorders.size() >= maxTrackedStatements) {
+            return otherStatements;
+        }
+        return statementRecorders.computeIfAbsent(fingerprint, key -> new StatementRecorder(key, operationType, latencyWindow));
+    }
 
-        if (log.isDebugEnabled()) {
-            log.debug("Update execution recorded: sql={}, executionTime={}ms, success={}", 
-                sql, executionTime, success);
+    /**
+     * 记录一次语句超时或取消，调用方另行按失败记录执行
+     *
+     * @param operationType 操作类型
+     */
+    public void recordTimeout(SqlOperationType operationType) {
+        if (!monitoringEnabled) {
+            return;
+        }
+        switch (operationType) {
+            case QUERY -> queryTimeoutCount.increment();
+            case UPDATE -> updateTimeoutCount.increment();
+            case BATCH_UPDATE -> batchUpdateTimeoutCount.increment();
         }
     }
 
     /**
-     * 记录批处理执行
-     * 
-     * @param sql SQL语句
-     * @param batchSize 批处理大小
-     * @param executionTime 执行时间（毫秒）
-     * @param success 是否成功
+     * 记录一个通过重试策略执行的事务
+     *
+     * @param attempts       尝试次数（含首次执行）
+     * @param exhausted      是否达到最大尝试次数后仍因瞬时异常失败
+     * @param budgetRejected 是否因重试预算耗尽而放弃重试
      */
-    public void recordBatchUpdateExecution(String sql, int batchSize, long executionTime, boolean success) {
+    public void recordTransaction(int attempts, boolean exhausted, boolean budgetRejected) {
         if (!monitoringEnabled) {
             return;
         }
+        transactionCount.increment();
+        transactionAttemptCount.add(attempts);
+        if (attempts > 1) {
+            retriedTransactionCount.increment();
+        }
+        if (exhausted) {
+            retryExhaustedCount.increment();
+        }
+        if (budgetRejected) {
+            retryBudgetRejectedCount.increment();
+        }
+    }
 
-        batchUpdateCount.incrementAndGet();
-        totalBatchUpdateTime.addAndGet(executionTime);
+    /**
+     * 记录慢查询
+     */
+    private void recordSlowQuery(String fingerprint, String sql, Map<String, Object> params, long executionTime,
+                                 long connectionWaitNanos) {
+        slowQueryTracker.record(fingerprint, sql, params, executionTime);
+        SlowQueryExplainAnalyzer analyzer = explainAnalyzer;
+        if (analyzer != null) {
+            analyzer.submit(fingerprint, sql, params, slowQueryTracker::attachPlan);
+        }
 
-        if (success) {
-            batchUpdateSuccessCount.incrementAndGet();
+        if (connectionWaitNanos >= 0) {
+            log.warn("Slow query detected: sql={}, executionTime={}ms, connectionWait={}ms, params={}",
+                    sql, executionTime, TimeUnit.NANOSECONDS.toMillis(connectionWaitNanos), params);
         } else {
-            batchUpdateFailureCount.incrementAndGet();
+            log.warn("Slow query detected: sql={}, executionTime={}ms, params={}", sql, executionTime, params);
         }
+    }
 
-        if (log.isDebugEnabled()) {
-            log.debug("Batch update execution recorded: sql={}, batchSize={}, executionTime={}ms, success={}", 
-                sql, batchSize, executionTime, success);
+    /**
+     * 抢占本轮清理，只有一个线程执行
+     */
+    private void scheduleCleanup(long nowNanos) {
+        long scheduled = nextCleanupNanos.get();
+        if (nowNanos - scheduled >= 0
+                && nextCleanupNanos.compareAndSet(scheduled, nowNanos + statisticsCleanupInterval.toNanos())) {
+            evictIdleStatistics();
         }
     }
 
     /**
-     * 记录慢查询
+     * 淘汰超过清理间隔未出现的慢查询和语句统计
+     * <p>记录执行时会按{@link #statisticsCleanupInterval}自动触发，也可由调度任务主动调用</p>
+     *
+     * @return 淘汰的条目数
      */
-    private void recordSlowQuery(String sql, Map<String, Object> params, long executionTime) {
-        String sqlKey = sql.trim();
-        
-        slowQueries.compute(sqlKey, (key, existing) -> {
-            if (existing == null) {
-                return new SlowQueryInfo(sql, executionTime, 1, System.currentTimeMillis());
-            } else {
-                existing.incrementCount();
-                if (executionTime > existing.getMaxTime()) {
-                    existing.setMaxTime(executionTime);
-                    existing.setLastOccurrence(System.currentTimeMillis());
-                }
-                return existing;
-            }
-        });
-
-        log.warn("Slow query detected: sql={}, executionTime={}ms, params={}", sql, executionTime, params);
+    public int evictIdleStatistics() {
+        long idleMillis = statisticsCleanupInterval.toMillis();
+        long cutoff = System.currentTimeMillis() - idleMillis;
+        int evictedSlowQueries = slowQueryTracker.evictIdle(idleMillis);
+        int before = statementRecorders.size();
+        statementRecorders.values().removeIf(recorder -> recorder.lastExecutionTime < cutoff);
+        int evictedStatements = before - statementRecorders.size();
+
+        if (evictedSlowQueries + evictedStatements > 0) {
+            log.debug("Evicted idle SQL statistics: slowQueries={}, statements={}", evictedSlowQueries, evictedStatements);
+        }
+        return evictedSlowQueries + evictedStatements;
     }
 
     /**
      * 获取查询统计信息
      */
     public QueryStatistics getQueryStatistics() {
+        long total = queryCount.sum();
+        long totalNanos = totalQueryNanos.sum();
         return QueryStatistics.builder()
-                .totalQueries(queryCount.get())
-                .successQueries(querySuccessCount.get())
-                .failureQueries(queryFailureCount.get())
-                .averageQueryTime(queryCount.get() > 0 ? (double) totalQueryTime.get() / queryCount.get() : 0.0)
-                .totalQueryTime(totalQueryTime.get())
+                .totalQueries(total)
+                .successQueries(querySuccessCount.sum())
+                .failureQueries(queryFailureCount.sum())
+                .timeoutQueries(queryTimeoutCount.sum())
+                .averageQueryTime(averageMillis(totalNanos, total))
+                .totalQueryTime(TimeUnit.NANOSECONDS.toMillis(totalNanos))
+                .latency(getLatencySnapshot(SqlOperationType.QUERY))
+                .recentLatency(getRecentLatencySnapshot(SqlOperationType.QUERY))
+                .connectionWait(getConnectionWaitSnapshot(SqlOperationType.QUERY))
+                .recentConnectionWait(getRecentConnectionWaitSnapshot(SqlOperationType.QUERY))
                 .build();
     }
 
@@ -197,12 +525,19 @@ public class SqlExecutionMonitor {
      * 获取更新统计信息
      */
     public UpdateStatistics getUpdateStatistics() {
+        long total = updateCount.sum();
+        long totalNanos = totalUpdateNanos.sum();
         return UpdateStatistics.builder()
-                .totalUpdates(updateCount.get())
-                .successUpdates(updateSuccessCount.get())
-                .failureUpdates(updateFailureCount.get())
-                .averageUpdateTime(updateCount.get() > 0 ? (double) totalUpdateTime.get() / updateCount.get() : 0.0)
-                .totalUpdateTime(totalUpdateTime.get())
+                .totalUpdates(total)
+                .successUpdates(updateSuccessCount.sum())
+                .failureUpdates(updateFailureCount.sum())
+                .timeoutUpdates(updateTimeoutCount.sum())
+                .averageUpdateTime(averageMillis(totalNanos, total))
+                .totalUpdateTime(TimeUnit.NANOSECONDS.toMillis(totalNanos))
+                .latency(getLatencySnapshot(SqlOperationType.UPDATE))
+                .recentLatency(getRecentLatencySnapshot(SqlOperationType.UPDATE))
+                .connectionWait(getConnectionWaitSnapshot(SqlOperationType.UPDATE))
+                .recentConnectionWait(getRecentConnectionWaitSnapshot(SqlOperationType.UPDATE))
                 .build();
     }
 
@@ -210,42 +545,194 @@ public class SqlExecutionMonitor {
      * 获取批处理统计信息
      */
     public BatchUpdateStatistics getBatchUpdateStatistics() {
+        long total = batchUpdateCount.sum();
+        long totalNanos = totalBatchUpdateNanos.sum();
         return BatchUpdateStatistics.builder()
-                .totalBatchUpdates(batchUpdateCount.get())
-                .successBatchUpdates(batchUpdateSuccessCount.get())
-                .failureBatchUpdates(batchUpdateFailureCount.get())
-                .averageBatchUpdateTime(batchUpdateCount.get() > 0 ? (double) totalBatchUpdateTime.get() / batchUpdateCount.get() : 0.0)
-                .totalBatchUpdateTime(totalBatchUpdateTime.get())
+                .totalBatchUpdates(total)
+                .successBatchUpdates(batchUpdateSuccessCount.sum())
+                .failureBatchUpdates(batchUpdateFailureCount.sum())
+                .timeoutBatchUpdates(batchUpdateTimeoutCount.sum())
+                .averageBatchUpdateTime(averageMillis(totalNanos, total))
+                .totalBatchUpdateTime(TimeUnit.NANOSECONDS.toMillis(totalNanos))
+                .totalBatchRows(totalBatchRows.sum())
+                .latency(getLatencySnapshot(SqlOperationType.BATCH_UPDATE))
+                .recentLatency(getRecentLatencySnapshot(SqlOperationType.BATCH_UPDATE))
+                .connectionWait(getConnectionWaitSnapshot(SqlOperationType.BATCH_UPDATE))
+                .recentConnectionWait(getRecentConnectionWaitSnapshot(SqlOperationType.BATCH_UPDATE))
                 .build();
     }
 
+    /**
+     * 获取事务重试统计信息
+     */
+    public TransactionRetryStatistics getTransactionRetryStatistics() {
+        long total = transactionCount.sum();
+        long attempts = transactionAttemptCount.sum();
+        return TransactionRetryStatistics.builder()
+                .totalTransactions(total)
+                .totalAttempts(attempts)
+                .retriedTransactions(retriedTransactionCount.sum())
+                .exhaustedTransactions(retryExhaustedCount.sum())
+                .budgetRejectedTransactions(retryBudgetRejectedCount.sum())
+                .averageAttempts(total > 0 ? (double) attempts / total : 0.0)
+                .build();
+    }
+
+    /**
+     * 获取指定操作类型的累计延迟分布
+     *
+     * @param operationType 操作类型
+     * @return 延迟分布快照
+     */
+    public LatencySnapshot getLatencySnapshot(SqlOperationType operationType) {
+        return operationLatencies.get(operationType).cumulativeSnapshot();
+    }
+
+    /**
+     * 获取指定操作类型在滚动窗口内的延迟分布
+     *
+     * @param operationType 操作类型
+     * @return 延迟分布快照
+     */
+    public LatencySnapshot getRecentLatencySnapshot(SqlOperationType operationType) {
+        return operationLatencies.get(operationType).recentSnapshot(System.nanoTime());
+    }
+
+    /**
+     * 获取指定操作类型的累计连接获取等待分布
+     *
+     * @param operationType 操作类型
+     * @return 等待分布快照
+     */
+    public LatencySnapshot getConnectionWaitSnapshot(SqlOperationType operationType) {
+        return operationConnectionWaits.get(operationType).cumulativeSnapshot();
+    }
+
+    /**
+     * 获取指定操作类型在滚动窗口内的连接获取等待分布
+     *
+     * @param operationType 操作类型
+     * @return 等待分布快照
+     */
+    public LatencySnapshot getRecentConnectionWaitSnapshot(SqlOperationType operationType) {
+        return operationConnectionWaits.get(operationType).recentSnapshot(System.nanoTime());
+    }
+
+    /**
+     * 获取各连接池的统计：使用中、空闲、等待连接数及连接获取等待分布
+     *
+     * @return 连接池统计列表，未安装连接池监控时为空
+     */
+    public List<ConnectionPoolStatistics> getConnectionPoolStatistics() {
+        return poolMonitor != null ? poolMonitor.getStatistics() : List.of();
+    }
+
+    /**
+     * 获取各SQL语句的执行统计
+     * <p>按滚动窗口内p99降序排列，其次按累计p99降序，便于定位导致尾延迟上升的语句</p>
+     *
+     * @return 语句执行统计列表
+     */
+    public List<StatementStatistics> getStatementStatistics() {
+        long now = System.nanoTime();
+        List<StatementStatistics> statistics = new ArrayList<>(statementRecorders.size() + 1);
+        for (StatementRecorder recorder : statementRecorders.values()) {
+            statistics.add(recorder.toStatistics(now));
+        }
+        StatementStatistics other = otherStatements.toStatistics(now);
+        if (other.getTotalExecutions() > 0) {
+            statistics.add(other);
+        }
+        statistics.sort(Comparator
+                .comparingDouble((StatementStatistics s) -> s.getRecentLatency().getP99()).reversed()
+                .thenComparing(Comparator.comparingDouble((StatementStatistics s) -> s.getLatency().getP99()).reversed()));
+        return statistics;
+    }
+
+    /**
+     * 获取指定SQL语句的执行统计
+     * <p>按SQL指纹查找，字面量不同的同类语句共享统计</p>
+     *
+     * @param sql SQL语句
+     * @return 语句执行统计，未记录过时返回空
+     */
+    public Optional<StatementStatistics> getStatementStatistics(String sql) {
+        StatementRecorder recorder = statementRecorders.get(fingerprint(sql));
+        return recorder != null ? Optional.of(recorder.toStatistics(System.nanoTime())) : Optional.empty();
+    }
+
+    /**
+     * 重置SQL语句执行统计
+     */
+    public void resetStatementStatistics() {
+        statementRecorders.clear();
+        otherStatements.reset();
+    }
+
     /**
      * 获取慢查询统计信息
+     * <p>键为SQL指纹，按出现次数降序</p>
      */
     public Map<String, SlowQueryInfo> getSlowQueries() {
-        return new ConcurrentHashMap<>(slowQueries);
+        return slowQueryTracker.snapshot();
     }
 
     /**
-     * 重置统计信息
+     * 获取当前跟踪的慢查询指纹数
+     *
+     * @return 慢查询指纹数
      */
-    public void resetStatistics() {
-        queryCount.set(0);
-        querySuccessCount.set(0);
-        queryFailureCount.set(0);
-        totalQueryTime.set(0);
-
-        updateCount.set(0);
-        updateSuccessCount.set(0);
-        updateFailureCount.set(0);
-        totalUpdateTime.set(0);
+    public int getSlowQueryCount() {
+        return slowQueryTracker.size();
+    }
 
-        batchUpdateCount.set(0);
-        batchUpdateSuccessCount.set(0);
-        batchUpdateFailureCount.set(0);
-        totalBatchUpdateTime.set(0);
+    /**
+     * 按出现次数降序获取前N个慢查询
+     *
+     * @param limit 最大数量
+     * @return 慢查询信息列表
+     */
+    public List<SlowQueryInfo> getTopSlowQueries(int limit) {
+        return slowQueryTracker.top(limit);
+    }
 
-        slowQueries.clear();
+    /**
+     * 重置统计信息
+     */
+    public void resetStatistics() {
+        queryCount.reset();
+        querySuccessCount.reset();
+        queryFailureCount.reset();
+        totalQueryNanos.reset();
+
+        updateCount.reset();
+        updateSuccessCount.reset();
+        updateFailureCount.reset();
+        totalUpdateNanos.reset();
+
+        batchUpdateCount.reset();
+        batchUpdateSuccessCount.reset();
+        batchUpdateFailureCount.reset();
+        totalBatchUpdateNanos.reset();
+        totalBatchRows.reset();
+
+        queryTimeoutCount.reset();
+        updateTimeoutCount.reset();
+        batchUpdateTimeoutCount.reset();
+
+        transactionCount.reset();
+        transactionAttemptCount.reset();
+        retriedTransactionCount.reset();
+        retryExhaustedCount.reset();
+        retryBudgetRejectedCount.reset();
+
+        operationLatencies.values().forEach(LatencyRecorder::reset);
+        operationConnectionWaits.values().forEach(LatencyRecorder::reset);
+        if (poolMonitor != null) {
+            poolMonitor.resetStatistics();
+        }
+        resetStatementStatistics();
+        slowQueryTracker.clear();
 
         log.info("SQL execution statistics have been reset");
     }
@@ -257,17 +744,111 @@ public class SqlExecutionMonitor {
         QueryStatistics queryStats = getQueryStatistics();
         UpdateStatistics updateStats = getUpdateStatistics();
         BatchUpdateStatistics batchStats = getBatchUpdateStatistics();
+        TransactionRetryStatistics transactionStats = getTransactionRetryStatistics();
 
         log.info("SQL Execution Statistics:");
-        log.info("  Queries: total={}, success={}, failure={}, avgTime={}ms",
-            queryStats.getTotalQueries(), queryStats.getSuccessQueries(), 
-            queryStats.getFailureQueries(), queryStats.getAverageQueryTime());
-        log.info("  Updates: total={}, success={}, failure={}, avgTime={}ms",
-            updateStats.getTotalUpdates(), updateStats.getSuccessUpdates(), 
-            updateStats.getFailureUpdates(), updateStats.getAverageUpdateTime());
-        log.info("  Batch Updates: total={}, success={}, failure={}, avgTime={}ms",
-            batchStats.getTotalBatchUpdates(), batchStats.getSuccessBatchUpdates(), 
-            batchStats.getFailureBatchUpdates(), batchStats.getAverageBatchUpdateTime());
-        log.info("  Slow Queries: count={}", slowQueries.size());
-    }
-} 
\ No newline at end of file
+        log.info("  Queries: total={}, success={}, failure={}, timeout={}, avgTime={}ms, p95={}ms, p99={}ms, max={}ms",
+            queryStats.getTotalQueries(), queryStats.getSuccessQueries(),
+            queryStats.getFailureQueries(), queryStats.getTimeoutQueries(), queryStats.getAverageQueryTime(),
+            queryStats.getLatency().getP95(), queryStats.getLatency().getP99(), queryStats.getLatency().getMax());
+        log.info("  Updates: total={}, success={}, failure={}, timeout={}, avgTime={}ms, p95={}ms, p99={}ms, max={}ms",
+            updateStats.getTotalUpdates(), updateStats.getSuccessUpdates(),
+            updateStats.getFailureUpdates(), updateStats.getTimeoutUpdates(), updateStats.getAverageUpdateTime(),
+            updateStats.getLatency().getP95(), updateStats.getLatency().getP99(), updateStats.getLatency().getMax());
+        log.info("  Batch Updates: total={}, success={}, failure={}, rows={}, avgSize={}, avgTime={}ms, p95={}ms, p99={}ms, max={}ms",
+            batchStats.getTotalBatchUpdates(), batchStats.getSuccessBatchUpdates(),
+            batchStats.getFailureBatchUpdates(), batchStats.getTotalBatchRows(),
+            batchStats.getAverageBatchSize(), batchStats.getAverageBatchUpdateTime(),
+            batchStats.getLatency().getP95(), batchStats.getLatency().getP99(), batchStats.getLatency().getMax());
+        log.info("  Transactions: total={}, attempts={}, retried={}, exhausted={}, budgetRejected={}, avgAttempts={}",
+            transactionStats.getTotalTransactions(), transactionStats.getTotalAttempts(),
+            transactionStats.getRetriedTransactions(), transactionStats.getExhaustedTransactions(),
+            transactionStats.getBudgetRejectedTransactions(), transactionStats.getAverageAttempts());
+        for (ConnectionPoolStatistics pool : getConnectionPoolStatistics()) {
+            log.info("  Pool {}: active={}, idle={}, pending={}, max={}, acquireWaitP99={}ms, timeouts={}",
+                pool.getPoolName(), pool.getActiveConnections(), pool.getIdleConnections(), pool.getPendingThreads(),
+                pool.getMaxConnections(), pool.getAcquireWait().getP99(), pool.getTimeouts());
+        }
+        log.info("  Statements: tracked={}", statementRecorders.size());
+        log.info("  Slow Queries: count={}", slowQueryTracker.size());
+    }
+
+    /**
+     * 计算平均耗时（毫秒）
+     */
+    private static double averageMillis(long totalNanos, long count) {
+        return count > 0 ? totalNanos / 1_000_000.0 / count : 0.0;
+    }
+
+    /**
+     * 创建各操作类型的延迟记录器
+     */
+    private static Map<SqlOperationType, LatencyRecorder> createOperationLatencies(Duration window) {
+        Map<SqlOperationType, LatencyRecorder> latencies = new EnumMap<>(SqlOperationType.class);
+        for (SqlOperationType operationType : SqlOperationType.values()) {
+            latencies.put(operationType, new LatencyRecorder(window));
+        }
+        return latencies;
+    }
+
+    /**
+     * SQL语句延迟记录器
+     */
+    private static final class StatementRecorder {
+
+        private final String sql;
+
+        private final SqlOperationType operationType;
+
+        private final LongAdder executions = new LongAdder();
+
+        private final LongAdder failures = new LongAdder();
+
+        private final LatencyRecorder latency;
+
+        private final LatencyRecorder connectionWait;
+
+        private volatile long lastExecutionTime;
+
+        StatementRecorder(String sql, SqlOperationType operationType, Duration window) {
+            this.sql = sql;
+            this.operationType = operationType;
+            this.latency = new LatencyRecorder(window);
+            this.connectionWait = new LatencyRecorder(window);
+        }
+
+        void record(long executionNanos, long connectionWaitNanos, long nowNanos, boolean success) {
+            executions.increment();
+            if (!success) {
+                failures.increment();
+            }
+            latency.record(executionNanos, nowNanos);
+            if (connectionWaitNanos >= 0) {
+                connectionWait.record(connectionWaitNanos, nowNanos);
+            }
+            lastExecutionTime = System.currentTimeMillis();
+        }
+
+        StatementStatistics toStatistics(long nowNanos) {
+            return StatementStatistics.builder()
+                    .sql(sql)
+                    .operationType(operationType)
+                    .totalExecutions(executions.sum())
+                    .failureExecutions(failures.sum())
+                    .lastExecutionTime(lastExecutionTime)
+                    .latency(latency.cumulativeSnapshot())
+                    .recentLatency(latency.recentSnapshot(nowNanos))
+                    .connectionWait(connectionWait.cumulativeSnapshot())
+                    .recentConnectionWait(connectionWait.recentSnapshot(nowNanos))
+                    .build();
+        }
+
+        void reset() {
+            executions.reset();
+            failures.reset();
+            latency.reset();
+            connectionWait.reset();
+            lastExecutionTime = 0L;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * SQL指纹生成器
+ * <p>将字面量替换为占位符、去除注释、合并空白，并把IN列表和多行VALUES折叠为固定形式，
+ * 使仅字面量不同的SQL（如拼接的IN列表、LIMIT/OFFSET值）归为同一指纹</p>
+ * <p>命名参数和{@code ?}占位符保持原样，标识符（含引号标识符）大小写不变</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class SqlFingerprinter {
+
+    /**
+     * 字面量占位符
+     */
+    private static final char PLACEHOLDER = '?';
+
+    /**
+     * 只包含占位符的IN列表
+     */
+    private static final Pattern IN_LIST_PATTERN = Pattern.compile(
+            "(?i)\\b(not\\s+)?in\\s*\\(\\s*(?:\\?|:\\w+)(?:\\s*,\\s*(?:\\?|:\\w+))*\\s*\\)");
+
+    /**
+     * 连续重复的VALUES元组
+     */
+    private static final Pattern REPEATED_TUPLE_PATTERN = Pattern.compile("(\\([^()]*\\))(?:\\s*,\\s*\\1)+");
+
+    private SqlFingerprinter() {
+    }
+
+    /**
+     * 生成SQL指纹
+     *
+     * @param sql SQL语句
+     * @return SQL指纹，输入为null时返回空字符串
+     */
+    public static String fingerprint(String sql) {
+        if (sql == null || sql.isEmpty()) {
+            return "";
+        }
+
+        String normalized = normalize(sql);
+        if (normalized.indexOf('(') >= 0) {
+            normalized = collapseInLists(normalized);
+            normalized = REPEATED_TUPLE_PATTERN.matcher(normalized).replaceAll("$1, ...");
+        }
+        return normalized;
+    }
+
+    /**
+     * 替换字面量、去除注释并合并空白
+     *
+     * @param sql SQL语句
+     * @return 规范化后的SQL
+     */
+    private static String normalize(String sql) {
+        int length = sql.length();
+        StringBuilder out = new StringBuilder(length);
+        boolean pendingSpace = false;
+        int i = 0;
+
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            // 空白与注释统一折叠为一个空格
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                i++;
+                continue;
+            }
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-' || c == '#') {
+                i = skipLineComment(sql, i);
+                pendingSpace = true;
+                continue;
+            }
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                i = skipBlockComment(sql, i + 2);
+                pendingSpace = true;
+                continue;
+            }
+
+            if (pendingSpace && !out.isEmpty()) {
+                out.append(' ');
+            }
+            pendingSpace = false;
+
+            if (c == '\'') {
+                i = skipStringLiteral(sql, i + 1);
+                out.append(PLACEHOLDER);
+            } else if (c == '"' || c == '`') {
+                int end = skipQuotedIdentifier(sql, i + 1, c);
+                out.append(sql, i, end);
+                i = end;
+            } else if (isNumberStart(sql, i) && !endsWithIdentifierChar(out)) {
+                i = skipNumber(sql, i);
+                out.append(PLACEHOLDER);
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * 折叠IN列表
+     */
+    private static String collapseInLists(String sql) {
+        Matcher matcher = IN_LIST_PATTERN.matcher(sql);
+        if (!matcher.find()) {
+            return sql;
+        }
+        StringBuilder out = new StringBuilder(sql.length());
+        do {
+            String not = matcher.group(1);
+            matcher.appendReplacement(out, not != null ? "not in (?+)" : "in (?+)");
+        } while (matcher.find());
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    private static int skipLineComment(String sql, int index) {
+        int i = index;
+        while (i < sql.length() && sql.charAt(i) != '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipBlockComment(String sql, int index) {
+        int end = sql.indexOf("*/", index);
+        return end < 0 ? sql.length() : end + 2;
+    }
+
+    private static int skipStringLiteral(String sql, int index) {
+        int i = index;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '\'') {
+                // 两个连续单引号为转义
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static int skipQuotedIdentifier(String sql, int index, char quote) {
+        int end = sql.indexOf(quote, index);
+        return end < 0 ? sql.length() : end + 1;
+    }
+
+    private static boolean isNumberStart(String sql, int index) {
+        char c = sql.charAt(index);
+        if (c >= '0' && c <= '9') {
+            return true;
+        }
+        return c == '.' && index + 1 < sql.length() && Character.isDigit(sql.charAt(index + 1));
+    }
+
+    private static int skipNumber(String sql, int index) {
+        int i = index;
+        // 十六进制字面量
+        if (sql.charAt(i) == '0' && i + 1 < sql.length() && (sql.charAt(i + 1) == 'x' || sql.charAt(i + 1) == 'X')) {
+            i += 2;
+            while (i < sql.length() && Character.digit(sql.charAt(i), 16) >= 0) {
+                i++;
+            }
+            return i;
+        }
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (Character.isDigit(c) || c == '.') {
+                i++;
+            } else if ((c == 'e' || c == 'E') && i + 1 < sql.length()
+                    && (Character.isDigit(sql.charAt(i + 1)) || sql.charAt(i + 1) == '-' || sql.charAt(i + 1) == '+')) {
+                i += 2;
+            } else {
+                break;
+            }
+        }
+        return i;
+    }
+
+    private static boolean endsWithIdentifierChar(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$' || last == ':';
+    }
+}
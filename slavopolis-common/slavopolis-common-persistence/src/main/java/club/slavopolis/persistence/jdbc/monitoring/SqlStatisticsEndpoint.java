@@ -0,0 +1,103 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL执行统计端点
+ * <p>{@code GET /actuator/sqlstats}返回各操作类型的统计、按最近p99排序的语句统计和慢查询Top-K；
+ * {@code GET /actuator/sqlstats/{section}}返回单个部分；{@code DELETE /actuator/sqlstats}重置统计</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+
+    /**
+     * 默认返回的语句和慢查询数量
+     */
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SqlExecutionMonitor monitor;
+
+    /**
+     * 构造函数
+     *
+     * @param monitor SQL执行监控器
+     */
+    public SqlStatisticsEndpoint(SqlExecutionMonitor monitor) {
+        this.monitor = monitor;
+    }
+
+    /**
+     * 获取全部统计信息
+     *
+     * @param limit 语句和慢查询的最大返回数量
+     * @return 统计信息
+     */
+    @ReadOperation
+    public Map<String, Object> statistics(@Nullable Integer limit) {
+        int size = resolveLimit(limit);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("monitoringEnabled", monitor.isMonitoringEnabled());
+        result.put("query", monitor.getQueryStatistics());
+        result.put("update", monitor.getUpdateStatistics());
+        result.put("batchUpdate", monitor.getBatchUpdateStatistics());
+        result.put("transactions", monitor.getTransactionRetryStatistics());
+        result.put("statements", topStatements(size));
+        result.put("slowQueries", monitor.getTopSlowQueries(size));
+        result.put("pools", monitor.getConnectionPoolStatistics());
+        return result;
+    }
+
+    /**
+     * 获取单个部分的统计信息
+     *
+     * @param section 部分名称：query、update、batchUpdate、transactions、statements、slowQueries、pools
+     * @param limit   语句和慢查询的最大返回数量
+     * @return 统计信息，部分名称无法识别时返回null
+     */
+    @ReadOperation
+    public Object section(@Selector String section, @Nullable Integer limit) {
+        int size = resolveLimit(limit);
+        return switch (section) {
+            case "query" -> monitor.getQueryStatistics();
+            case "update" -> monitor.getUpdateStatistics();
+            case "batchUpdate" -> monitor.getBatchUpdateStatistics();
+            case "transactions" -> monitor.getTransactionRetryStatistics();
+            case "statements" -> topStatements(size);
+            case "slowQueries" -> monitor.getTopSlowQueries(size);
+            case "pools" -> monitor.getConnectionPoolStatistics();
+            default -> null;
+        };
+    }
+
+    /**
+     * 重置统计信息
+     */
+    @DeleteOperation
+    public void reset() {
+        monitor.resetStatistics();
+    }
+
+    private List<StatementStatistics> topStatements(int limit) {
+        List<StatementStatistics> statements = monitor.getStatementStatistics();
+        return statements.subList(0, Math.min(limit, statements.size()));
+    }
+
+    private int resolveLimit(Integer limit) {
+        return limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+    }
+}
@@ -0,0 +1,72 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import club.slavopolis.persistence.jdbc.enums.SqlOperationType;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * SQL语句执行统计信息
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class StatementStatistics {
+
+    /**
+     * SQL语句
+     */
+    private String sql;
+
+    /**
+     * 操作类型
+     */
+    private SqlOperationType operationType;
+
+    /**
+     * 总执行次数
+     */
+    private long totalExecutions;
+
+    /**
+     * 失败执行次数
+     */
+    private long failureExecutions;
+
+    /**
+     * 最后执行时间
+     */
+    private long lastExecutionTime;
+
+    /**
+     * 累计耗时分布
+     */
+    private LatencySnapshot latency;
+
+    /**
+     * 最近滚动窗口内的耗时分布
+     */
+    private LatencySnapshot recentLatency;
+
+    /**
+     * 累计连接获取等待分布，未安装连接池监控时为空分布
+     */
+    private LatencySnapshot connectionWait;
+
+    /**
+     * 最近滚动窗口内的连接获取等待分布
+     */
+    private LatencySnapshot recentConnectionWait;
+
+    /**
+     * 失败率
+     */
+    public double getFailureRate() {
+        return totalExecutions > 0 ? (double) failureExecutions / totalExecutions : 0.0;
+    }
+}
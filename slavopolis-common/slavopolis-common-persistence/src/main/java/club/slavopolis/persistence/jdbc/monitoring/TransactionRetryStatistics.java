@@ -0,0 +1,50 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 事务重试统计信息
+ * <p>只统计通过重试策略执行的事务</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class TransactionRetryStatistics {
+    
+    /**
+     * 总事务数
+     */
+    private long totalTransactions;
+    
+    /**
+     * 总尝试次数（含首次执行）
+     */
+    private long totalAttempts;
+    
+    /**
+     * 发生过重试的事务数
+     */
+    private long retriedTransactions;
+    
+    /**
+     * 达到最大尝试次数后仍因瞬时异常失败的事务数
+     */
+    private long exhaustedTransactions;
+    
+    /**
+     * 因重试预算耗尽而放弃重试的事务数
+     */
+    private long budgetRejectedTransactions;
+    
+    /**
+     * 平均尝试次数
+     */
+    private double averageAttempts;
+}
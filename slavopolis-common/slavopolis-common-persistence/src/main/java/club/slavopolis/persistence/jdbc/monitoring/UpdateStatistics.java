@@ -32,6 +32,11 @@ public class UpdateStatistics {
      */
     private long failureUpdates;
     
+    /**
+     * 超时或被取消的更新次数，包含在失败次数中
+     */
+    private long timeoutUpdates;
+    
     /**
      * 平均更新时间（毫秒）
      */
@@ -42,6 +47,26 @@ public class UpdateStatistics {
      */
     private long totalUpdateTime;
     
+    /**
+     * 累计更新耗时分布
+     */
+    private LatencySnapshot latency;
+    
+    /**
+     * 最近滚动窗口内的更新耗时分布
+     */
+    private LatencySnapshot recentLatency;
+    
+    /**
+     * 累计连接获取等待分布，未安装连接池监控时为空分布
+     */
+    private LatencySnapshot connectionWait;
+    
+    /**
+     * 最近滚动窗口内的连接获取等待分布
+     */
+    private LatencySnapshot recentConnectionWait;
+    
     /**
      * 更新成功率
      */
@@ -0,0 +1,57 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * SQL验证结果缓存统计信息
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class ValidationCacheStatistics {
+
+    /**
+     * 是否启用缓存
+     */
+    private boolean enabled;
+
+    /**
+     * 当前缓存条目数
+     */
+    private long size;
+
+    /**
+     * 最大缓存条目数
+     */
+    private long maximumSize;
+
+    /**
+     * 命中次数
+     */
+    private long hitCount;
+
+    /**
+     * 未命中次数
+     */
+    private long missCount;
+
+    /**
+     * 淘汰次数
+     */
+    private long evictionCount;
+
+    /**
+     * 缓存命中率
+     */
+    public double getHitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount > 0 ? (double) hitCount / requestCount : 0.0;
+    }
+}
@@ -0,0 +1,73 @@
+package club.slavopolis.persistence.jdbc.monitoring;
+
+import club.slavopolis.persistence.jdbc.batch.WriteBehindBuffer;
+import club.slavopolis.persistence.jdbc.batch.WriteBehindStatistics;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.Assert;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 写后缓冲指标绑定器
+ * <p>为容器中的每个{@link WriteBehindBuffer}导出待写入键数、提交与合并次数、刷写次数、刷写行数和背压次数，以缓冲区名称作为标签</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class WriteBehindMeterBinder implements MeterBinder {
+
+    /**
+     * 指标名前缀
+     */
+    private static final String PREFIX = "slavopolis.jdbc.write.behind";
+
+    private final ObjectProvider<WriteBehindBuffer<?>> buffers;
+
+    /**
+     * 构造函数
+     *
+     * @param buffers 写后缓冲区
+     */
+    public WriteBehindMeterBinder(ObjectProvider<WriteBehindBuffer<?>> buffers) {
+        Assert.notNull(buffers, "Write-behind buffers cannot be null");
+        this.buffers = buffers;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        buffers.orderedStream().forEach(buffer -> bindBuffer(registry, buffer));
+    }
+
+    private void bindBuffer(MeterRegistry registry, WriteBehindBuffer<?> buffer) {
+        Tags tags = Tags.of("name", buffer.getName());
+
+        Gauge.builder(PREFIX + ".pending", buffer, WriteBehindBuffer::getPendingKeys)
+                .description("Keys waiting to be flushed")
+                .tags(tags)
+                .register(registry);
+        counter(registry, buffer, tags, "submitted", "Submitted writes", WriteBehindStatistics::getSubmitted);
+        counter(registry, buffer, tags, "coalesced", "Writes merged into a pending key", WriteBehindStatistics::getCoalesced);
+        counter(registry, buffer, tags, "flushes", "Successful flushes", WriteBehindStatistics::getFlushes);
+        counter(registry, buffer, tags, "flush.failures", "Failed flushes", WriteBehindStatistics::getFlushFailures);
+        counter(registry, buffer, tags, "flushed.rows", "Rows written by flushes", WriteBehindStatistics::getFlushedRows);
+        counter(registry, buffer, tags, "backpressure", "Flushes run by submitters on a full buffer",
+                WriteBehindStatistics::getBackpressureEvents);
+    }
+
+    private void counter(MeterRegistry registry, WriteBehindBuffer<?> buffer, Tags tags, String name, String description,
+                         ToDoubleFunction<WriteBehindStatistics> value) {
+        FunctionCounter.builder(PREFIX + "." + name, buffer, b -> value.applyAsDouble(b.getStatistics()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+}
@@ -0,0 +1,91 @@
+package club.slavopolis.persistence.jdbc.page;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.util.Assert;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * 分页总数缓存
+ * <p>以计数SQL和参数为键缓存总数，过期后下一次查询重新计数；列表页翻页时筛选条件不变，只有第一次需要执行计数查询</p>
+ * <p>缓存的总数在有效期内不反映数据变化，适用于可以接受近似总数的场景</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class PageCountCache {
+
+    /**
+     * 默认缓存有效期
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    /**
+     * 默认最大缓存条目数
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final Cache<CountKey, Integer> totals;
+
+    /**
+     * 构造函数
+     *
+     * @param ttl         缓存有效期
+     * @param maximumSize 最大缓存条目数
+     */
+    public PageCountCache(Duration ttl, long maximumSize) {
+        Assert.notNull(ttl, "TTL cannot be null");
+        Assert.isTrue(!ttl.isNegative() && !ttl.isZero(), "TTL must be positive");
+        this.totals = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * 获取总数，未命中或已过期时执行计数并缓存
+     *
+     * @param countSql 计数SQL
+     * @param params   命名参数
+     * @param counter  计数函数
+     * @return 总数
+     */
+    public int get(String countSql, Map<String, Object> params, IntSupplier counter) {
+        return totals.get(new CountKey(countSql, copyOf(params)), key -> counter.getAsInt());
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void invalidateAll() {
+        totals.invalidateAll();
+    }
+
+    /**
+     * 获取当前缓存条目数（估算值）
+     *
+     * @return 缓存条目数
+     */
+    public long size() {
+        return totals.estimatedSize();
+    }
+
+    private static Map<String, Object> copyOf(Map<String, Object> params) {
+        return params == null || params.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new HashMap<>(params));
+    }
+
+    /**
+     * 缓存键
+     */
+    private record CountKey(String sql, Map<String, Object> params) {
+    }
+}
@@ -0,0 +1,170 @@
+package club.slavopolis.persistence.jdbc.page;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 游标编解码器
+ * <p>将最后一行的排序键值编码为不透明的URL安全字符串，解码时还原为可直接绑定的参数值。
+ * 编码保留值的类型（整数、小数、字符串、日期时间等），游标内容对客户端不透明，不应被解析或拼接</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class SeekCursor {
+
+    /**
+     * 编码格式版本
+     */
+    private static final byte VERSION = 1;
+
+    private static final byte TYPE_STRING = 1;
+    private static final byte TYPE_LONG = 2;
+    private static final byte TYPE_DOUBLE = 3;
+    private static final byte TYPE_DECIMAL = 4;
+    private static final byte TYPE_BIG_INTEGER = 5;
+    private static final byte TYPE_BOOLEAN = 6;
+    private static final byte TYPE_DATE_TIME = 7;
+    private static final byte TYPE_DATE = 8;
+
+    private SeekCursor() {
+    }
+
+    /**
+     * 编码排序键值
+     *
+     * @param values 排序键值，顺序与排序键一致
+     * @return 游标字符串
+     * @throws IllegalArgumentException 键值为NULL或类型不支持
+     */
+    public static String encode(List<?> values) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(values.size());
+            for (Object value : values) {
+                writeValue(out, value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode page cursor", e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * 解码游标
+     *
+     * @param cursor        游标字符串
+     * @param expectedCount 期望的排序键数量
+     * @return 排序键值
+     * @throws IllegalArgumentException 游标格式错误或与排序键数量不匹配
+     */
+    public static List<Object> decode(String cursor, int expectedCount) {
+        List<Object> values;
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(cursor)))) {
+            if (in.readByte() != VERSION) {
+                throw new IOException("Unsupported cursor version");
+            }
+            int count = in.readUnsignedByte();
+            values = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                values.add(readValue(in));
+            }
+            if (in.available() > 0) {
+                throw new IOException("Unexpected trailing bytes");
+            }
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalArgumentException("Invalid page cursor", e);
+        }
+        if (values.size() != expectedCount) {
+            throw new IllegalArgumentException("Page cursor does not match sort keys");
+        }
+        return values;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        switch (value) {
+            case null -> throw new IllegalArgumentException("Seek key value cannot be null");
+            case String s -> {
+                out.writeByte(TYPE_STRING);
+                out.writeUTF(s);
+            }
+            case Long l -> writeLong(out, l);
+            case Integer i -> writeLong(out, i);
+            case Short s -> writeLong(out, s);
+            case Byte b -> writeLong(out, b);
+            case Double d -> writeDouble(out, d);
+            case Float f -> writeDouble(out, f);
+            case BigDecimal d -> {
+                out.writeByte(TYPE_DECIMAL);
+                out.writeUTF(d.toString());
+            }
+            case BigInteger i -> {
+                out.writeByte(TYPE_BIG_INTEGER);
+                out.writeUTF(i.toString());
+            }
+            case Boolean b -> {
+                out.writeByte(TYPE_BOOLEAN);
+                out.writeBoolean(b);
+            }
+            case Timestamp t -> writeDateTime(out, t.toLocalDateTime());
+            case LocalDateTime t -> writeDateTime(out, t);
+            case java.sql.Date d -> writeDate(out, d.toLocalDate());
+            case LocalDate d -> writeDate(out, d);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported seek key value type: " + value.getClass().getName());
+        }
+    }
+
+    private static void writeLong(DataOutputStream out, long value) throws IOException {
+        out.writeByte(TYPE_LONG);
+        out.writeLong(value);
+    }
+
+    private static void writeDouble(DataOutputStream out, double value) throws IOException {
+        out.writeByte(TYPE_DOUBLE);
+        out.writeDouble(value);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeByte(TYPE_DATE_TIME);
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static void writeDate(DataOutputStream out, LocalDate value) throws IOException {
+        out.writeByte(TYPE_DATE);
+        out.writeLong(value.toEpochDay());
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        return switch (type) {
+            case TYPE_STRING -> in.readUTF();
+            case TYPE_LONG -> in.readLong();
+            case TYPE_DOUBLE -> in.readDouble();
+            case TYPE_DECIMAL -> new BigDecimal(in.readUTF());
+            case TYPE_BIG_INTEGER -> new BigInteger(in.readUTF());
+            case TYPE_BOOLEAN -> in.readBoolean();
+            case TYPE_DATE_TIME -> LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+            case TYPE_DATE -> LocalDate.ofEpochDay(in.readLong());
+            default -> throw new IOException("Unknown value type: " + type);
+        };
+    }
+}
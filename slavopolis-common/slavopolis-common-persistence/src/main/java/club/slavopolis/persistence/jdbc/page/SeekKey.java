@@ -0,0 +1,81 @@
+package club.slavopolis.persistence.jdbc.page;
+
+import lombok.Getter;
+import org.springframework.util.Assert;
+
+import java.util.regex.Pattern;
+
+/**
+ * 游标分页排序键
+ * <p>对应查询结果中的一列，多个排序键按顺序组成排序和游标比较条件；最后一个排序键必须能唯一确定一行（如主键），
+ * 否则排序值相同的行可能在翻页时被跳过</p>
+ * <p>排序键列的值不能为NULL</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Getter
+public final class SeekKey {
+
+    /**
+     * 合法的列名格式
+     */
+    private static final Pattern COLUMN_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
+    /**
+     * 结果集列名（列标签）
+     */
+    private final String column;
+
+    /**
+     * 是否降序
+     */
+    private final boolean descending;
+
+    private SeekKey(String column, boolean descending) {
+        Assert.hasText(column, "Seek key column cannot be empty");
+        Assert.isTrue(COLUMN_PATTERN.matcher(column).matches(), () -> "Invalid seek key column: " + column);
+        this.column = column;
+        this.descending = descending;
+    }
+
+    /**
+     * 创建升序排序键
+     *
+     * @param column 结果集列名
+     * @return 排序键
+     */
+    public static SeekKey asc(String column) {
+        return new SeekKey(column, false);
+    }
+
+    /**
+     * 创建降序排序键
+     *
+     * @param column 结果集列名
+     * @return 排序键
+     */
+    public static SeekKey desc(String column) {
+        return new SeekKey(column, true);
+    }
+
+    /**
+     * 按排序方向创建排序键
+     *
+     * @param column    结果集列名
+     * @param direction 排序方向（ASC/DESC，忽略大小写，为空时升序）
+     * @return 排序键
+     */
+    public static SeekKey of(String column, String direction) {
+        return new SeekKey(column, "DESC".equalsIgnoreCase(direction));
+    }
+
+    @Override
+    public String toString() {
+        return column + (descending ? " DESC" : " ASC");
+    }
+}
@@ -0,0 +1,358 @@
+package club.slavopolis.persistence.jdbc.parser;
+
+import club.slavopolis.persistence.jdbc.cache.SqlTables;
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SQL分析结果
+ * <p>保存词法单元序列、规范化SQL，以及主查询（括号深度为0）各子句的位置；表名和计数SQL在首次使用时基于词法单元计算并保存，
+ * 分析结果随SQL验证结论一起缓存，同一语句重复执行时不再扫描SQL文本</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class ParsedSql {
+
+    private final String sql;
+
+    private final List<SqlToken> tokens;
+
+    private final String normalizedSql;
+
+    private final boolean unterminated;
+
+    /**
+     * 首个关键字（小写），无关键字时为空字符串
+     */
+    private final String leadingKeyword;
+
+    // 主查询子句的词法单元下标，不存在时为-1
+    private final int fromIndex;
+    private final int whereIndex;
+    private final int groupByIndex;
+    private final int havingIndex;
+    private final int orderByIndex;
+
+    private final boolean distinct;
+    private final boolean setOperation;
+    private final boolean comment;
+    private final boolean hexLiteral;
+    private final boolean multipleStatements;
+
+    private volatile Set<String> tables;
+
+    private volatile String countSql;
+
+    ParsedSql(String sql, List<SqlToken> tokens, String normalizedSql, boolean unterminated) {
+        this.sql = sql;
+        this.tokens = tokens;
+        this.normalizedSql = normalizedSql;
+        this.unterminated = unterminated;
+
+        String leading = "";
+        int select = -1, from = -1, where = -1, groupBy = -1, having = -1, orderBy = -1;
+        boolean distinctSelect = false, union = false, hasComment = false, hex = false, multiple = false;
+        boolean afterSemicolon = false;
+
+        for (int i = 0; i < tokens.size(); i++) {
+            SqlToken token = tokens.get(i);
+            SqlTokenType type = token.type();
+            if (token.isComment()) {
+                hasComment = true;
+                continue;
+            }
+            if (afterSemicolon) {
+                multiple = true;
+            }
+            if (type == SqlTokenType.SEMICOLON) {
+                afterSemicolon = true;
+                continue;
+            }
+            if (type == SqlTokenType.HEX_LITERAL) {
+                hex = true;
+            }
+            if (type != SqlTokenType.WORD) {
+                continue;
+            }
+            if (leading.isEmpty()) {
+                leading = token.text();
+            }
+            if (token.depth() != 0) {
+                continue;
+            }
+            switch (token.text()) {
+                case "select" -> {
+                    if (select < 0) {
+                        select = i;
+                        SqlToken modifier = next(tokens, i);
+                        distinctSelect = modifier != null && (modifier.is("distinct") || modifier.is("distinctrow"));
+                    }
+                }
+                case "from" -> {
+                    if (select >= 0 && from < 0) {
+                        from = i;
+                    }
+                }
+                case "where" -> {
+                    if (where < 0) {
+                        where = i;
+                    }
+                }
+                case "group" -> {
+                    if (groupBy < 0 && isFollowedByBy(tokens, i)) {
+                        groupBy = i;
+                    }
+                }
+                case "having" -> {
+                    if (having < 0) {
+                        having = i;
+                    }
+                }
+                // 取最后一个：UNION等集合操作的各分支中不应出现未加括号的ORDER BY
+                case "order" -> {
+                    if (isFollowedByBy(tokens, i)) {
+                        orderBy = i;
+                    }
+                }
+                case "union", "intersect", "except" -> union = true;
+                default -> {
+                    // 其他关键字不影响主查询结构
+                }
+            }
+        }
+
+        this.leadingKeyword = leading;
+        this.fromIndex = from;
+        this.whereIndex = where;
+        this.groupByIndex = groupBy;
+        this.havingIndex = having;
+        this.orderByIndex = orderBy;
+        this.distinct = distinctSelect;
+        this.setOperation = union;
+        this.comment = hasComment;
+        this.hexLiteral = hex;
+        this.multipleStatements = multiple;
+    }
+
+    /**
+     * 获取原始SQL
+     *
+     * @return 原始SQL
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * 获取词法单元序列
+     *
+     * @return 不可修改的词法单元列表
+     */
+    public List<SqlToken> getTokens() {
+        return tokens;
+    }
+
+    /**
+     * 获取规范化SQL：字面量和引号标识符之外的连续空白合并为一个空格，去除首尾空白和单行注释
+     *
+     * @return 规范化SQL
+     */
+    public String getNormalizedSql() {
+        return normalizedSql;
+    }
+
+    /**
+     * 获取首个关键字
+     *
+     * @return 小写关键字，如select、with、insert，无关键字时为空字符串
+     */
+    public String getLeadingKeyword() {
+        return leadingKeyword;
+    }
+
+    /**
+     * 是否以指定关键字开头
+     *
+     * @param keywords 小写关键字
+     * @return 是返回true
+     */
+    public boolean startsWith(String... keywords) {
+        for (String keyword : keywords) {
+            if (leadingKeyword.equals(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 主查询是否包含WHERE子句
+     *
+     * @return 包含返回true
+     */
+    public boolean hasWhere() {
+        return whereIndex >= 0;
+    }
+
+    /**
+     * 主查询是否为SELECT DISTINCT
+     *
+     * @return 是返回true
+     */
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    /**
+     * 主查询是否包含UNION、INTERSECT、EXCEPT
+     *
+     * @return 包含返回true
+     */
+    public boolean hasSetOperation() {
+        return setOperation;
+    }
+
+    /**
+     * 主查询是否包含GROUP BY或HAVING
+     *
+     * @return 包含返回true
+     */
+    public boolean hasGrouping() {
+        return groupByIndex >= 0 || havingIndex >= 0;
+    }
+
+    /**
+     * 是否包含注释
+     *
+     * @return 包含返回true
+     */
+    public boolean hasComment() {
+        return comment;
+    }
+
+    /**
+     * 是否包含十六进制字面量
+     *
+     * @return 包含返回true
+     */
+    public boolean hasHexLiteral() {
+        return hexLiteral;
+    }
+
+    /**
+     * 分号之后是否还有语句
+     *
+     * @return 包含多条语句返回true
+     */
+    public boolean hasMultipleStatements() {
+        return multipleStatements;
+    }
+
+    /**
+     * 是否存在未闭合的引号或块注释
+     *
+     * @return 存在返回true
+     */
+    public boolean isUnterminated() {
+        return unterminated;
+    }
+
+    /**
+     * 是否包含指定关键字（任意括号深度）
+     *
+     * @param keyword 小写关键字
+     * @return 包含返回true
+     */
+    public boolean containsKeyword(String keyword) {
+        for (SqlToken token : tokens) {
+            if (token.is(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取主查询FROM关键字在原始SQL中的位置
+     *
+     * @return 字符位置，不存在时为-1
+     */
+    public int getFromOffset() {
+        return fromIndex >= 0 ? tokens.get(fromIndex).start() : -1;
+    }
+
+    /**
+     * 获取去除主查询ORDER BY子句后的SQL
+     * <p>子查询、字符串字面量和注释中的ORDER BY不受影响；主查询ORDER BY之后的LIMIT一并去除</p>
+     *
+     * @return 去除首尾空白后的SQL
+     */
+    public String withoutOrderBy() {
+        return orderByIndex >= 0 ? sql.substring(0, tokens.get(orderByIndex).start()).trim() : sql.trim();
+    }
+
+    /**
+     * 获取语句涉及的表
+     *
+     * @return 小写表名集合，无法识别时为空集合
+     */
+    public Set<String> getTables() {
+        Set<String> result = tables;
+        if (result == null) {
+            result = SqlTables.extract(tokens);
+            tables = result;
+        }
+        return result;
+    }
+
+    /**
+     * 获取计数SQL
+     * <p>不含DISTINCT、GROUP BY、HAVING的单个SELECT直接把SELECT列表替换为{@code COUNT(*)}；
+     * CTE、集合操作及其他复杂查询包装为子查询计数。主查询的ORDER BY均被去除</p>
+     *
+     * @return 计数SQL
+     */
+    public String getCountSql() {
+        String result = countSql;
+        if (result == null) {
+            result = buildCountSql();
+            countSql = result;
+        }
+        return result;
+    }
+
+    private String buildCountSql() {
+        if (startsWith("with")) {
+            return "SELECT COUNT(*) FROM (" + withoutOrderBy() + ") AS cte_count_query";
+        }
+        if (setOperation) {
+            return "SELECT COUNT(*) FROM (" + withoutOrderBy() + ") AS union_count_query";
+        }
+        if (startsWith("select") && !distinct && !hasGrouping() && fromIndex >= 0) {
+            int end = orderByIndex >= 0 ? tokens.get(orderByIndex).start() : sql.length();
+            return "SELECT COUNT(*) " + sql.substring(tokens.get(fromIndex).start(), end).trim();
+        }
+        return "SELECT COUNT(*) FROM (" + withoutOrderBy() + ") AS subquery_count";
+    }
+
+    private static SqlToken next(List<SqlToken> tokens, int index) {
+        for (int i = index + 1; i < tokens.size(); i++) {
+            if (!tokens.get(i).isComment()) {
+                return tokens.get(i);
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFollowedByBy(List<SqlToken> tokens, int index) {
+        SqlToken next = next(tokens, index);
+        return next != null && next.is("by");
+    }
+}
@@ -0,0 +1,234 @@
+package club.slavopolis.persistence.jdbc.parser;
+
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * SQL词法分析器
+ * <p>单次扫描SQL，识别字符串字面量、引号标识符、注释、参数占位符和括号深度，同时生成规范化SQL；
+ * 注入检测、规范化、表名提取、计数SQL和敏感信息掩码都基于扫描结果{@link ParsedSql}，不再各自扫描SQL文本</p>
+ * <p>词法规则按MySQL：单引号和双引号为字符串，支持反斜杠和连续引号转义；反引号为标识符；
+ * {@code --}和{@code #}开始单行注释</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class SqlLexer {
+
+    /**
+     * 可组合为多字符运算符的字符
+     */
+    private static final String COMPOSITE_OPERATOR_CHARS = "<>=!|&:";
+
+    private final String sql;
+
+    private final int length;
+
+    private final List<SqlToken> tokens;
+
+    private final StringBuilder normalized;
+
+    private int position;
+
+    private int depth;
+
+    private boolean pendingSpace;
+
+    private boolean unterminated;
+
+    private SqlLexer(String sql) {
+        this.sql = sql;
+        this.length = sql.length();
+        this.tokens = new ArrayList<>(Math.max(8, length / 4));
+        this.normalized = new StringBuilder(length);
+    }
+
+    /**
+     * 分析SQL
+     *
+     * @param sql SQL语句
+     * @return 分析结果
+     */
+    public static ParsedSql parse(String sql) {
+        if (sql == null) {
+            sql = "";
+        }
+        SqlLexer lexer = new SqlLexer(sql);
+        lexer.scan();
+        return new ParsedSql(sql, List.copyOf(lexer.tokens), lexer.normalized.toString(), lexer.unterminated);
+    }
+
+    private void scan() {
+        while (position < length) {
+            char c = sql.charAt(position);
+            char next = position + 1 < length ? sql.charAt(position + 1) : 0;
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = true;
+                position++;
+            } else if (c == '-' && next == '-' || c == '#') {
+                scanLineComment();
+            } else if (c == '/' && next == '*') {
+                scanBlockComment();
+            } else if (c == '\'' || c == '"') {
+                emit(SqlTokenType.STRING, position, scanQuoted(position + 1, c), null);
+            } else if (c == '`') {
+                int start = position;
+                int end = scanQuoted(position + 1, c);
+                String name = sql.substring(start + 1, sql.charAt(end - 1) == '`' && end - start >= 2 ? end - 1 : end);
+                emit(SqlTokenType.QUOTED_IDENTIFIER, start, end, name.replace("``", "`"));
+            } else if ((c == 'x' || c == 'X') && next == '\'') {
+                emit(SqlTokenType.HEX_LITERAL, position, scanQuoted(position + 2, '\''), null);
+            } else if (c == '0' && (next == 'x' || next == 'X')) {
+                emit(SqlTokenType.HEX_LITERAL, position, scanWhile(position + 2, true), null);
+            } else if (Character.isDigit(c) || c == '.' && Character.isDigit(next) && !followsIdentifier()) {
+                emit(SqlTokenType.NUMBER, position, scanNumber(), null);
+            } else if (isIdentifierStart(c) || c == '@') {
+                int end = scanWhile(position + 1, false);
+                emit(SqlTokenType.WORD, position, end, sql.substring(position, end).toLowerCase(Locale.ROOT));
+            } else if (c == '?') {
+                emit(SqlTokenType.PARAMETER, position, position + 1, null);
+            } else if (c == ':' && isIdentifierStart(next)) {
+                emit(SqlTokenType.PARAMETER, position, scanWhile(position + 1, false), null);
+            } else if (c == '(') {
+                emit(SqlTokenType.LEFT_PAREN, position, position + 1, null);
+                depth++;
+            } else if (c == ')') {
+                depth = Math.max(depth - 1, 0);
+                emit(SqlTokenType.RIGHT_PAREN, position, position + 1, null);
+            } else if (c == ',') {
+                emit(SqlTokenType.COMMA, position, position + 1, null);
+            } else if (c == ';') {
+                emit(SqlTokenType.SEMICOLON, position, position + 1, null);
+            } else if (c == '.') {
+                emit(SqlTokenType.DOT, position, position + 1, null);
+            } else {
+                int end = position + 1;
+                if (COMPOSITE_OPERATOR_CHARS.indexOf(c) >= 0) {
+                    while (end < length && COMPOSITE_OPERATOR_CHARS.indexOf(sql.charAt(end)) >= 0) {
+                        end++;
+                    }
+                }
+                emit(SqlTokenType.OPERATOR, position, end, null);
+            }
+        }
+    }
+
+    private void emit(SqlTokenType type, int start, int end, String text) {
+        String raw = sql.substring(start, end);
+        tokens.add(new SqlToken(type, start, end, depth, text != null ? text : raw));
+        if (pendingSpace && !normalized.isEmpty()) {
+            normalized.append(' ');
+        }
+        normalized.append(raw);
+        pendingSpace = false;
+        position = end;
+    }
+
+    /**
+     * 单行注释不进入规范化SQL：规范化SQL不含换行，保留会使注释吞掉后续内容
+     */
+    private void scanLineComment() {
+        int end = position;
+        while (end < length && sql.charAt(end) != '\n' && sql.charAt(end) != '\r') {
+            end++;
+        }
+        tokens.add(new SqlToken(SqlTokenType.LINE_COMMENT, position, end, depth, sql.substring(position, end)));
+        pendingSpace = true;
+        position = end;
+    }
+
+    /**
+     * 块注释原样保留在规范化SQL中，如优化器提示{@code /*+ ... *}{@code /}
+     */
+    private void scanBlockComment() {
+        int close = sql.indexOf("*/", position + 2);
+        if (close < 0) {
+            unterminated = true;
+        }
+        emit(SqlTokenType.BLOCK_COMMENT, position, close < 0 ? length : close + 2, null);
+    }
+
+    /**
+     * 扫描引号内容，返回闭合引号之后的位置
+     */
+    private int scanQuoted(int index, char quote) {
+        int i = index;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\\' && quote != '`') {
+                i += 2;
+                continue;
+            }
+            if (c == quote) {
+                // 连续两个引号为转义
+                if (i + 1 < length && sql.charAt(i + 1) == quote) {
+                    i += 2;
+                    continue;
+                }
+                return i + 1;
+            }
+            i++;
+        }
+        unterminated = true;
+        return length;
+    }
+
+    private int scanNumber() {
+        int i = position;
+        while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+            i++;
+        }
+        if (i < length && (sql.charAt(i) == 'e' || sql.charAt(i) == 'E')) {
+            int exponent = i + 1;
+            if (exponent < length && (sql.charAt(exponent) == '+' || sql.charAt(exponent) == '-')) {
+                exponent++;
+            }
+            if (exponent < length && Character.isDigit(sql.charAt(exponent))) {
+                i = exponent;
+                while (i < length && Character.isDigit(sql.charAt(i))) {
+                    i++;
+                }
+            }
+        }
+        return i;
+    }
+
+    private int scanWhile(int index, boolean hexDigits) {
+        int i = index;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (hexDigits ? Character.digit(c, 16) < 0 : !isIdentifierPart(c)) {
+                break;
+            }
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * 点号紧跟在标识符之后时为限定名分隔符，如{@code t.1col}
+     */
+    private boolean followsIdentifier() {
+        if (tokens.isEmpty() || pendingSpace) {
+            return false;
+        }
+        SqlToken last = tokens.getLast();
+        return last.end() == position && (last.type() == SqlTokenType.WORD || last.type() == SqlTokenType.QUOTED_IDENTIFIER);
+    }
+
+    private static boolean isIdentifierStart(char c) {
+        return Character.isLetter(c) || c == '_' || c == '$';
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '@';
+    }
+}
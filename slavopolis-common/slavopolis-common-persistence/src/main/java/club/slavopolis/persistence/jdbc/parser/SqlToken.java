@@ -0,0 +1,90 @@
+package club.slavopolis.persistence.jdbc.parser;
+
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+
+/**
+ * SQL词法单元
+ * <p>{@code start}、{@code end}为原始SQL中的字符区间（左闭右开）；{@code depth}为所在的括号深度，括号本身记为外层深度</p>
+ * <p>{@code text}对关键字和标识符为小写文本，对反引号标识符为去除引号后的名称，其他类型为原文</p>
+ *
+ * @param type  类型
+ * @param start 起始位置
+ * @param end   结束位置
+ * @param depth 括号深度
+ * @param text  文本
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public record SqlToken(SqlTokenType type, int start, int end, int depth, String text) {
+
+    /**
+     * 是否为指定关键字
+     *
+     * @param keyword 小写关键字
+     * @return 是返回true
+     */
+    public boolean is(String keyword) {
+        return type == SqlTokenType.WORD && text.equals(keyword);
+    }
+
+    /**
+     * 是否为注释
+     *
+     * @return 是返回true
+     */
+    public boolean isComment() {
+        return type == SqlTokenType.LINE_COMMENT || type == SqlTokenType.BLOCK_COMMENT;
+    }
+
+    /**
+     * 是否为字面量：字符串、数值、十六进制
+     *
+     * @return 是返回true
+     */
+    public boolean isLiteral() {
+        return type == SqlTokenType.STRING || type == SqlTokenType.NUMBER || type == SqlTokenType.HEX_LITERAL;
+    }
+
+    /**
+     * 是否可作为标识符：关键字或标识符、反引号标识符、双引号文本（ANSI_QUOTES模式下为标识符）
+     *
+     * @return 是返回true
+     */
+    public boolean isIdentifier() {
+        return type == SqlTokenType.WORD || type == SqlTokenType.QUOTED_IDENTIFIER
+                || type == SqlTokenType.STRING && text.startsWith("\"");
+    }
+
+    /**
+     * 获取标识符名称，引号标识符去除引号
+     *
+     * @return 标识符名称
+     */
+    public String identifier() {
+        if (type == SqlTokenType.STRING) {
+            return unquote(text);
+        }
+        return text;
+    }
+
+    /**
+     * 获取字符串字面量去除引号后的内容，转义保持原样
+     *
+     * @return 字面量内容
+     */
+    public String unquotedText() {
+        return type == SqlTokenType.STRING ? unquote(text) : text;
+    }
+
+    private static String unquote(String quoted) {
+        if (quoted.length() >= 2 && quoted.charAt(quoted.length() - 1) == quoted.charAt(0)) {
+            return quoted.substring(1, quoted.length() - 1);
+        }
+        // 未闭合的引号
+        return quoted.substring(1);
+    }
+}
@@ -0,0 +1,174 @@
+package club.slavopolis.persistence.jdbc.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * 读写路由提示
+ * <p>以线程变量向{@link ReadWriteRoutingDataSource}传递当前操作的路由意图：</p>
+ * <ul>
+ *     <li>读范围：{@link club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate}的查询在读范围内获取连接，可路由到从库</li>
+ *     <li>强制主库：{@link #primary(Supplier)}范围内的所有操作使用主库，用于必须读到最新数据的场景</li>
+ *     <li>写入记录：写操作成功后记录写入时间，同一线程在粘滞窗口内的读取仍走主库（读己之写）</li>
+ *     <li>指定从库：{@link #preferReplica(String, Supplier)}范围内路由到从库的读取使用指定的从库，用于按从库限流的异步任务</li>
+ * </ul>
+ * <p>未配置读写分离数据源时，这些提示不产生任何效果。提示只在当前线程内有效，异步任务不继承调用方的写入记录。
+ * Servlet请求由{@link ReadWriteRoutingFilter}在结束时清除写入记录，其他复用线程的场景（如消息消费）应在处理结束时调用{@link #clearWrite()}</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class ReadWriteRouting {
+
+    /**
+     * 路由意图：null为默认（主库），READ为可读从库，PRIMARY为强制主库
+     */
+    private static final ThreadLocal<Intent> INTENT = new ThreadLocal<>();
+
+    /**
+     * 最近一次写入时间（纳秒）
+     */
+    private static final ThreadLocal<Long> LAST_WRITE_NANOS = new ThreadLocal<>();
+
+    /**
+     * 指定读取的从库名称
+     */
+    private static final ThreadLocal<String> PREFERRED_REPLICA = new ThreadLocal<>();
+
+    private ReadWriteRouting() {
+    }
+
+    /**
+     * 在读范围内执行操作
+     * <p>已处于强制主库范围时保持主库</p>
+     *
+     * @param <T>    返回类型
+     * @param action 读操作
+     * @return 操作结果
+     */
+    public static <T> T read(Supplier<T> action) {
+        Intent previous = INTENT.get();
+        if (previous == Intent.PRIMARY) {
+            return action.get();
+        }
+        INTENT.set(Intent.READ);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 强制在主库上执行操作
+     *
+     * @param <T>    返回类型
+     * @param action 操作
+     * @return 操作结果
+     */
+    public static <T> T primary(Supplier<T> action) {
+        Intent previous = INTENT.get();
+        INTENT.set(Intent.PRIMARY);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * 强制在主库上执行操作
+     *
+     * @param action 操作
+     */
+    public static void primary(Runnable action) {
+        primary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 在指定从库上执行读操作
+     * <p>只影响路由到从库的读取，写操作和强制主库范围仍走主库；指定的从库不健康时按轮询选择其他从库</p>
+     *
+     * @param <T>     返回类型
+     * @param replica 从库名称
+     * @param action  操作
+     * @return 操作结果
+     */
+    public static <T> T preferReplica(String replica, Supplier<T> action) {
+        String previous = PREFERRED_REPLICA.get();
+        PREFERRED_REPLICA.set(replica);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PREFERRED_REPLICA.remove();
+            } else {
+                PREFERRED_REPLICA.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 记录当前线程的写入
+     */
+    public static void recordWrite() {
+        LAST_WRITE_NANOS.set(System.nanoTime());
+    }
+
+    /**
+     * 清除当前线程的写入记录，如请求结束时
+     */
+    public static void clearWrite() {
+        LAST_WRITE_NANOS.remove();
+    }
+
+    /**
+     * 当前是否处于读范围
+     */
+    static boolean isReadIntent() {
+        return INTENT.get() == Intent.READ;
+    }
+
+    /**
+     * 当前是否强制主库
+     */
+    static boolean isPrimaryForced() {
+        return INTENT.get() == Intent.PRIMARY;
+    }
+
+    /**
+     * 当前指定的从库，未指定时为null
+     */
+    static String preferredReplica() {
+        return PREFERRED_REPLICA.get();
+    }
+
+    /**
+     * 当前线程是否在指定窗口内写入过
+     *
+     * @param windowNanos 粘滞窗口（纳秒）
+     */
+    static boolean wroteWithin(long windowNanos) {
+        Long lastWrite = LAST_WRITE_NANOS.get();
+        return lastWrite != null && System.nanoTime() - lastWrite < windowNanos;
+    }
+
+    private static void restore(Intent previous) {
+        if (previous == null) {
+            INTENT.remove();
+        } else {
+            INTENT.set(previous);
+        }
+    }
+
+    private enum Intent {
+        READ,
+        PRIMARY
+    }
+}
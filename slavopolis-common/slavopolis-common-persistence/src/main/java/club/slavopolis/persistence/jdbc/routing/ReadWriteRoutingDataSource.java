@@ -0,0 +1,391 @@
+package club.slavopolis.persistence.jdbc.routing;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 读写分离路由数据源
+ * <p>每次获取连接时按以下顺序决定使用主库还是从库：</p>
+ * <ol>
+ *     <li>{@link ReadWriteRouting#primary(java.util.function.Supplier)}范围内：主库</li>
+ *     <li>事务内：只读事务走从库，读写事务的所有操作走主库</li>
+ *     <li>非读范围（更新、批处理、存储过程等）：主库</li>
+ *     <li>当前线程在粘滞窗口内写入过：主库（读己之写）</li>
+ *     <li>其余读操作：使用{@link ReadWriteRouting#preferReplica(String, java.util.function.Supplier)}指定的健康从库，
+ *     未指定时在健康的从库间轮询，无健康从库时回退主库</li>
+ * </ol>
+ * <p>从库按固定间隔探测连通性和复制延迟，探测失败或延迟超过阈值的从库被剔除出读路由，恢复后自动加入</p>
+ * <p>事务管理器在事务开始时即获取连接，此时只读标志尚未生效，因此应通过{@link #toLazyProxy()}包装后使用，
+ * 使真正的连接延迟到第一条语句执行时获取</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    /**
+     * 主库路由键
+     */
+    public static final String PRIMARY_KEY = "primary";
+
+    private final DataSource primary;
+
+    private final List<ReplicaNode> replicas;
+
+    /**
+     * 路由目标数据源，键为节点名称
+     */
+    private final Map<Object, Object> targets;
+
+    /**
+     * 当前参与读路由的从库
+     */
+    private volatile ReplicaNode[] healthyReplicas;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    /**
+     * 从库延迟探测，默认只检查连通性
+     */
+    @Setter
+    private ReplicaLagProbe lagProbe = ReplicaLagProbe.connectivity(5);
+
+    /**
+     * 允许的最大复制延迟，超过时剔除从库
+     */
+    @Getter
+    @Setter
+    private Duration maxReplicaLag = Duration.ofSeconds(10);
+
+    /**
+     * 读己之写的粘滞窗口
+     */
+    @Getter
+    private Duration stickiness = Duration.ofSeconds(5);
+
+    private long stickinessNanos = stickiness.toNanos();
+
+    /**
+     * 从库健康检查间隔，为0时不定时检查
+     */
+    @Getter
+    @Setter
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * 关闭时是否同时关闭各节点数据源
+     */
+    @Setter
+    private boolean closeTargetsOnClose = false;
+
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * 路由统计
+     */
+    private final LongAdder primaryConnections = new LongAdder();
+    private final LongAdder stickyReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    /**
+     * 构造函数
+     *
+     * @param primary  主库数据源
+     * @param replicas 从库数据源，键为从库名称
+     */
+    public ReadWriteRoutingDataSource(DataSource primary, Map<String, DataSource> replicas) {
+        Assert.notNull(primary, "Primary data source cannot be null");
+        Assert.notNull(replicas, "Replica data sources cannot be null");
+        Assert.isTrue(!replicas.containsKey(PRIMARY_KEY), "Replica name cannot be '" + PRIMARY_KEY + "'");
+
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        this.targets = new HashMap<>();
+        this.targets.put(PRIMARY_KEY, primary);
+        replicas.forEach((name, dataSource) -> {
+            Assert.notNull(dataSource, () -> "Replica data source cannot be null: " + name);
+            this.replicas.add(new ReplicaNode(name, dataSource));
+            this.targets.put(name, dataSource);
+        });
+        this.healthyReplicas = this.replicas.toArray(ReplicaNode[]::new);
+    }
+
+    /**
+     * 设置读己之写的粘滞窗口
+     *
+     * @param stickiness 粘滞窗口，为0时写入后立即允许读从库
+     */
+    public void setStickiness(Duration stickiness) {
+        Assert.notNull(stickiness, "Stickiness cannot be null");
+        this.stickiness = stickiness;
+        this.stickinessNanos = stickiness.toNanos();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        super.afterPropertiesSet();
+        if (replicas.isEmpty()) {
+            return;
+        }
+        checkReplicas();
+        if (healthCheckInterval.toMillis() > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                    .name("slavopolis-replica-health")
+                    .daemon(true)
+                    .factory());
+            long intervalMillis = healthCheckInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::checkReplicasQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+        log.info("Read/write routing data source initialized - Replicas: {}, Max lag: {}, Stickiness: {}",
+                replicas.size(), maxReplicaLag, stickiness);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadWriteRouting.isPrimaryForced()) {
+            return routeToPrimary();
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? routeToReplica() : routeToPrimary();
+        }
+        if (!ReadWriteRouting.isReadIntent()) {
+            return routeToPrimary();
+        }
+        if (stickinessNanos > 0 && ReadWriteRouting.wroteWithin(stickinessNanos)) {
+            stickyReads.increment();
+            return routeToPrimary();
+        }
+        return routeToReplica();
+    }
+
+    /**
+     * 包装为延迟获取连接的数据源
+     *
+     * @return 延迟连接代理
+     */
+    public DataSource toLazyProxy() {
+        return new LazyConnectionDataSourceProxy(this);
+    }
+
+    /**
+     * 立即检查所有从库并更新读路由
+     */
+    public void checkReplicas() {
+        for (ReplicaNode node : replicas) {
+            checkReplica(node);
+        }
+        ReplicaNode[] healthy = replicas.stream().filter(node -> node.healthy).toArray(ReplicaNode[]::new);
+        if (healthy.length == 0 && !replicas.isEmpty() && healthyReplicas.length > 0) {
+            log.warn("No healthy replica available, all reads are routed to primary");
+        }
+        healthyReplicas = healthy;
+    }
+
+    /**
+     * 按轮询选择一个健康的从库
+     * <p>用于在执行前确定读取的从库，配合{@link ReadWriteRouting#preferReplica(String, java.util.function.Supplier)}使用</p>
+     *
+     * @return 从库名称，无健康从库时返回null
+     */
+    public String selectReplica() {
+        ReplicaNode[] candidates = healthyReplicas;
+        if (candidates.length == 0) {
+            return null;
+        }
+        return candidates[Math.floorMod(nextReplica.getAndIncrement(), candidates.length)].name;
+    }
+
+    /**
+     * 获取主库和各从库数据源
+     *
+     * @return 按节点名称的数据源，主库的键为{@link #PRIMARY_KEY}
+     */
+    public Map<String, DataSource> getNodeDataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        dataSources.put(PRIMARY_KEY, primary);
+        replicas.forEach(node -> dataSources.put(node.name, node.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * 获取从库状态
+     *
+     * @return 各从库状态
+     */
+    public List<ReplicaStatus> getReplicaStatuses() {
+        List<ReplicaStatus> statuses = new ArrayList<>(replicas.size());
+        for (ReplicaNode node : replicas) {
+            statuses.add(ReplicaStatus.builder()
+                    .name(node.name)
+                    .healthy(node.healthy)
+                    .lagMillis(node.lagMillis)
+                    .lastError(node.lastError)
+                    .lastCheckTime(node.lastCheckTime)
+                    .routedConnections(node.routedConnections.sum())
+                    .build());
+        }
+        return statuses;
+    }
+
+    /**
+     * 获取路由到主库的连接获取次数
+     */
+    public long getPrimaryConnections() {
+        return primaryConnections.sum();
+    }
+
+    /**
+     * 获取因读己之写路由到主库的读取次数
+     */
+    public long getStickyReads() {
+        return stickyReads.sum();
+    }
+
+    /**
+     * 获取因无健康从库回退主库的读取次数
+     */
+    public long getFallbackReads() {
+        return fallbackReads.sum();
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        if (closeTargetsOnClose) {
+            closeQuietly(primary);
+            replicas.forEach(node -> closeQuietly(node.dataSource));
+        }
+    }
+
+    private String routeToPrimary() {
+        primaryConnections.increment();
+        return PRIMARY_KEY;
+    }
+
+    private String routeToReplica() {
+        ReplicaNode[] candidates = healthyReplicas;
+        if (candidates.length == 0) {
+            fallbackReads.increment();
+            return routeToPrimary();
+        }
+        ReplicaNode node = findReplica(candidates, ReadWriteRouting.preferredReplica());
+        if (node == null) {
+            node = candidates[Math.floorMod(nextReplica.getAndIncrement(), candidates.length)];
+        }
+        node.routedConnections.increment();
+        return node.name;
+    }
+
+    private static ReplicaNode findReplica(ReplicaNode[] candidates, String name) {
+        if (name == null) {
+            return null;
+        }
+        for (ReplicaNode candidate : candidates) {
+            if (candidate.name.equals(name)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void checkReplicasQuietly() {
+        try {
+            checkReplicas();
+        } catch (RuntimeException e) {
+            log.error("Replica health check failed", e);
+        }
+    }
+
+    private void checkReplica(ReplicaNode node) {
+        boolean wasHealthy = node.healthy;
+        String error;
+        try (Connection connection = node.dataSource.getConnection()) {
+            Duration lag = lagProbe.measure(connection);
+            node.lagMillis = lag != null ? lag.toMillis() : -1;
+            if (lag == null) {
+                error = "Replication lag unknown, replication may be stopped";
+            } else if (lag.compareTo(maxReplicaLag) > 0) {
+                error = "Replication lag " + lag.toMillis() + "ms exceeds " + maxReplicaLag.toMillis() + "ms";
+            } else {
+                error = null;
+            }
+        } catch (Exception e) {
+            node.lagMillis = -1;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+
+        node.lastCheckTime = LocalDateTime.now();
+        node.lastError = error;
+        node.healthy = error == null;
+        if (wasHealthy && !node.healthy) {
+            log.warn("Replica {} removed from read routing: {}", node.name, error);
+        } else if (!wasHealthy && node.healthy) {
+            log.info("Replica {} restored to read routing, lag: {}ms", node.name, node.lagMillis);
+        }
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close data source {}", dataSource, e);
+            }
+        }
+    }
+
+    /**
+     * 从库节点
+     */
+    private static final class ReplicaNode {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private final LongAdder routedConnections = new LongAdder();
+
+        private volatile boolean healthy = true;
+
+        private volatile long lagMillis = -1;
+
+        private volatile String lastError;
+
+        private volatile LocalDateTime lastCheckTime;
+
+        private ReplicaNode(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
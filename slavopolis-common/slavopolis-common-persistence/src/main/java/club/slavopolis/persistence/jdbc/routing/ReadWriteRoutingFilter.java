@@ -0,0 +1,36 @@
+package club.slavopolis.persistence.jdbc.routing;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import java.io.IOException;
+
+/**
+ * 读写路由请求过滤器
+ * <p>读己之写的写入记录保存在线程变量中，容器线程在请求间复用，请求结束时不清除会使下一个请求的读取
+ * 在粘滞窗口内被错误地路由到主库。过滤器在请求开始和结束时清除当前线程的写入记录，
+ * 使读己之写的范围限定在单个请求内</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class ReadWriteRoutingFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+            throws IOException, ServletException {
+        ReadWriteRouting.clearWrite();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadWriteRouting.clearWrite();
+        }
+    }
+}
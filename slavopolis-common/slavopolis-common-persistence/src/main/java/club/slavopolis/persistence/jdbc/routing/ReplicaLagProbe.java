@@ -0,0 +1,94 @@
+package club.slavopolis.persistence.jdbc.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * 从库延迟探测
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    /**
+     * 探测从库复制延迟
+     *
+     * @param connection 从库连接
+     * @return 复制延迟，复制中断或延迟未知时返回null
+     * @throws SQLException 探测失败
+     */
+    Duration measure(Connection connection) throws SQLException;
+
+    /**
+     * MySQL从库延迟探测
+     * <p>读取{@code SHOW REPLICA STATUS}的Seconds_Behind_Source（8.0.22以下版本回退到{@code SHOW SLAVE STATUS}），
+     * 节点未配置复制时视为无延迟</p>
+     *
+     * @return 延迟探测
+     */
+    static ReplicaLagProbe mysql() {
+        return connection -> {
+            try (Statement statement = connection.createStatement()) {
+                ResultSet rs;
+                String column;
+                try {
+                    rs = statement.executeQuery("SHOW REPLICA STATUS");
+                    column = "Seconds_Behind_Source";
+                } catch (SQLException e) {
+                    rs = statement.executeQuery("SHOW SLAVE STATUS");
+                    column = "Seconds_Behind_Master";
+                }
+                try (ResultSet status = rs) {
+                    if (!status.next()) {
+                        return Duration.ZERO;
+                    }
+                    long seconds = status.getLong(column);
+                    return status.wasNull() ? null : Duration.ofSeconds(seconds);
+                }
+            }
+        };
+    }
+
+    /**
+     * 基于查询的延迟探测
+     * <p>查询返回单个数值，表示延迟秒数，如基于心跳表的{@code SELECT TIMESTAMPDIFF(SECOND, MAX(ts), NOW()) FROM heartbeat}</p>
+     *
+     * @param sql 延迟查询
+     * @return 延迟探测
+     */
+    static ReplicaLagProbe query(String sql) {
+        return connection -> {
+            try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+                if (!rs.next()) {
+                    return null;
+                }
+                double seconds = rs.getDouble(1);
+                return rs.wasNull() ? null : Duration.ofMillis(Math.round(seconds * 1000));
+            }
+        };
+    }
+
+    /**
+     * 仅检查连接可用，不探测延迟
+     *
+     * @param timeoutSeconds 连接校验超时（秒）
+     * @return 延迟探测
+     */
+    static ReplicaLagProbe connectivity(int timeoutSeconds) {
+        return connection -> {
+            if (!connection.isValid(timeoutSeconds)) {
+                throw new SQLException("Replica connection is not valid");
+            }
+            return Duration.ZERO;
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package club.slavopolis.persistence.jdbc.routing;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * 从库状态
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Data
+@Builder
+public class ReplicaStatus {
+
+    /**
+     * 从库名称
+     */
+    private String name;
+
+    /**
+     * 是否参与读路由
+     */
+    private boolean healthy;
+
+    /**
+     * 最近一次探测的复制延迟（毫秒），未知时为-1
+     */
+    private long lagMillis;
+
+    /**
+     * 最近一次探测失败或被剔除的原因
+     */
+    private String lastError;
+
+    /**
+     * 最近一次探测时间
+     */
+    private LocalDateTime lastCheckTime;
+
+    /**
+     * 路由到该从库的连接获取次数
+     */
+    private long routedConnections;
+}
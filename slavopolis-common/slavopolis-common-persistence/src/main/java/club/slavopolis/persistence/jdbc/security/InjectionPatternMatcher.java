@@ -0,0 +1,225 @@
+package club.slavopolis.persistence.jdbc.security;
+
+import org.springframework.util.Assert;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 注入特征多模式匹配器
+ * <p>基于Aho-Corasick自动机，一次扫描同时匹配全部注入关键词和危险字符序列，不生成小写副本，匹配时按ASCII忽略大小写</p>
+ * <p>关键词按单词边界匹配：首字符为字母或数字时要求前一个字符不是单词字符，末字符为字母或数字时要求后一个字符不是单词字符，
+ * 因此{@code username}不会命中{@code user}，而{@code sp_}、{@code @@}这类以符号开头或结尾的关键词仍可作为前缀或后缀匹配。
+ * 危险字符序列不检查边界</p>
+ * <p>构建后不可变，可在多线程间共享</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public final class InjectionPatternMatcher {
+
+    /**
+     * 匹配结果标志：命中注入关键词
+     */
+    public static final int KEYWORD = 1;
+
+    /**
+     * 匹配结果标志：命中危险字符序列
+     */
+    public static final int DANGEROUS_SEQUENCE = 1 << 1;
+
+    /**
+     * 全部匹配结果标志
+     */
+    public static final int ALL = KEYWORD | DANGEROUS_SEQUENCE;
+
+    /**
+     * 自动机字母表：模式只包含ASCII字符，其他字符回到初始状态
+     */
+    private static final int ALPHABET_SIZE = 128;
+
+    /**
+     * 状态转移表，已合并失败转移，扫描时每个字符一次查表
+     */
+    private final int[][] transitions;
+
+    /**
+     * 各状态结束的模式（含失败链上的后缀模式），无输出时为null
+     */
+    private final int[][] outputs;
+
+    private final int[] patternLengths;
+
+    private final int[] patternFlags;
+
+    private final boolean[] leftBoundaries;
+
+    private final boolean[] rightBoundaries;
+
+    /**
+     * 构造函数
+     *
+     * @param keywords           注入关键词，按单词边界匹配
+     * @param dangerousSequences 危险字符序列，按子串匹配
+     */
+    public InjectionPatternMatcher(Collection<String> keywords, Collection<String> dangerousSequences) {
+        List<String> patterns = new ArrayList<>(keywords.size() + dangerousSequences.size());
+        List<Integer> flags = new ArrayList<>(keywords.size() + dangerousSequences.size());
+        keywords.forEach(keyword -> {
+            patterns.add(keyword);
+            flags.add(KEYWORD);
+        });
+        dangerousSequences.forEach(sequence -> {
+            patterns.add(sequence);
+            flags.add(DANGEROUS_SEQUENCE);
+        });
+
+        int patternCount = patterns.size();
+        this.patternLengths = new int[patternCount];
+        this.patternFlags = new int[patternCount];
+        this.leftBoundaries = new boolean[patternCount];
+        this.rightBoundaries = new boolean[patternCount];
+
+        // 1. 构建字典树
+        List<int[]> trie = new ArrayList<>();
+        List<List<Integer>> terminals = new ArrayList<>();
+        trie.add(newState());
+        terminals.add(new ArrayList<>());
+        for (int p = 0; p < patternCount; p++) {
+            String pattern = patterns.get(p).toLowerCase(Locale.ROOT);
+            Assert.hasLength(pattern, "Pattern must not be empty");
+            int state = 0;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                Assert.isTrue(c < ALPHABET_SIZE, "Pattern must be ASCII: " + pattern);
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newState());
+                    terminals.add(new ArrayList<>());
+                }
+                state = trie.get(state)[c];
+            }
+            terminals.get(state).add(p);
+            patternLengths[p] = pattern.length();
+            patternFlags[p] = flags.get(p);
+            boolean keyword = flags.get(p) == KEYWORD;
+            leftBoundaries[p] = keyword && Character.isLetterOrDigit(pattern.charAt(0));
+            rightBoundaries[p] = keyword && Character.isLetterOrDigit(pattern.charAt(pattern.length() - 1));
+        }
+
+        // 2. 按广度优先计算失败转移，合并为完整的状态转移表
+        int stateCount = trie.size();
+        int[] failures = new int[stateCount];
+        this.transitions = new int[stateCount][];
+        this.outputs = new int[stateCount][];
+        Deque<Integer> queue = new ArrayDeque<>();
+
+        int[] root = trie.getFirst();
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            if (root[c] < 0) {
+                root[c] = 0;
+            } else {
+                failures[root[c]] = 0;
+                queue.add(root[c]);
+            }
+        }
+        transitions[0] = root;
+        outputs[0] = toArray(terminals.getFirst());
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            int[] row = trie.get(state);
+            List<Integer> output = terminals.get(state);
+            int[] inherited = outputs[failures[state]];
+            if (inherited != null) {
+                for (int p : inherited) {
+                    output.add(p);
+                }
+            }
+            outputs[state] = toArray(output);
+
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                int child = row[c];
+                if (child < 0) {
+                    row[c] = transitions[failures[state]][c];
+                } else {
+                    failures[child] = transitions[failures[state]][c];
+                    queue.add(child);
+                }
+            }
+            transitions[state] = row;
+        }
+    }
+
+    /**
+     * 扫描文本
+     *
+     * @param value     待扫描文本
+     * @param maxLength 最大扫描长度，小于等于0表示扫描全部，超出部分的内容不匹配
+     * @param stopMask  这些标志全部命中后立即返回，其余部分不再扫描
+     * @return 命中的标志组合，未命中返回0
+     */
+    public int scan(CharSequence value, int maxLength, int stopMask) {
+        int length = value.length();
+        int limit = maxLength > 0 ? Math.min(length, maxLength) : length;
+        int matched = 0;
+        int state = 0;
+
+        for (int i = 0; i < limit; i++) {
+            char c = value.charAt(i);
+            if (c >= ALPHABET_SIZE) {
+                state = 0;
+                continue;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            }
+            state = transitions[state][c];
+
+            int[] ends = outputs[state];
+            if (ends == null) {
+                continue;
+            }
+            for (int p : ends) {
+                if ((matched & patternFlags[p]) != 0) {
+                    continue;
+                }
+                int start = i - patternLengths[p] + 1;
+                if (leftBoundaries[p] && start > 0 && isWordChar(value.charAt(start - 1))) {
+                    continue;
+                }
+                if (rightBoundaries[p] && i + 1 < length && isWordChar(value.charAt(i + 1))) {
+                    continue;
+                }
+                matched |= patternFlags[p];
+                if ((matched & stopMask) == stopMask) {
+                    return matched;
+                }
+            }
+        }
+        return matched;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    private static int[] newState() {
+        int[] row = new int[ALPHABET_SIZE];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.isEmpty() ? null : values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -0,0 +1,245 @@
+package club.slavopolis.persistence.jdbc.security;
+
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlToken;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 敏感SQL掩码处理器
+ * <p>基于{@link ParsedSql}的词法单元替换字面量，只掩码字面量本身，SQL结构、列名和参数占位符保持原样：</p>
+ * <ul>
+ *     <li>敏感列的比较值：{@code password = '...'}、{@code token IN (...)}、{@code secret LIKE '...'}，
+ *     覆盖WHERE条件、UPDATE SET赋值和CASE表达式</li>
+ *     <li>INSERT VALUES中与敏感列位置对应的值</li>
+ *     <li>加密、哈希函数的字面量参数</li>
+ *     <li>看起来像密码、令牌、邮箱、电话号码的字符串字面量</li>
+ * </ul>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class SensitiveSqlMasker {
+
+    /**
+     * 掩码替换文本
+     */
+    private static final String MASK_TEXT = "***";
+
+    /**
+     * 参数需要掩码的加密、哈希函数
+     */
+    private static final Set<String> MASKED_FUNCTIONS = Set.of(
+        "md5", "sha1", "sha2", "sha256", "encrypt", "hash", "password", "pwd_hash", "encode", "aes_encrypt"
+    );
+
+    /**
+     * 敏感列与值之间的比较运算符
+     */
+    private static final Set<String> COMPARISON_OPERATORS = Set.of("=", "!=", "<>", "<=>", "<", ">", "<=", ">=");
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}");
+
+    /**
+     * 看起来像密码或令牌的长字符串
+     */
+    private static final Pattern SECRET_PATTERN = Pattern.compile("[a-zA-Z0-9!@#$%^&*()_+\\-=\\[\\]{}|;:,.<>?/]{9,}");
+
+    private static final Pattern PHONE_PATTERN = Pattern.compile("[0-9-+()\\s]{10,}");
+
+    private final SqlSecurityConfig securityConfig;
+
+    /**
+     * 构造函数
+     *
+     * @param securityConfig SQL安全配置，提供敏感列名模式
+     */
+    public SensitiveSqlMasker(SqlSecurityConfig securityConfig) {
+        this.securityConfig = securityConfig;
+    }
+
+    /**
+     * 对SQL中的敏感内容进行掩码处理
+     *
+     * @param parsedSql SQL分析结果
+     * @return 掩码后的SQL，无需掩码时返回原始SQL
+     */
+    public String mask(ParsedSql parsedSql) {
+        List<SqlToken> tokens = parsedSql.getTokens();
+        String[] replacements = new String[tokens.size()];
+        boolean masked = false;
+
+        if (parsedSql.startsWith("insert", "replace")) {
+            masked = maskInsertValues(tokens, replacements);
+        }
+
+        for (int i = 0; i < tokens.size(); i++) {
+            SqlToken token = tokens.get(i);
+            int next = nextIndex(tokens, i);
+            if (token.type() == SqlTokenType.WORD && MASKED_FUNCTIONS.contains(token.text())
+                    && next >= 0 && tokens.get(next).type() == SqlTokenType.LEFT_PAREN) {
+                masked |= maskGroup(tokens, next, replacements);
+            } else if (token.isIdentifier() && token.type() != SqlTokenType.STRING
+                    && securityConfig.isSensitiveParameter(token.identifier())) {
+                masked |= maskComparedValue(tokens, i, replacements);
+            } else if (token.type() == SqlTokenType.STRING && replacements[i] == null) {
+                String replacement = maskGenericValue(token);
+                if (replacement != null) {
+                    replacements[i] = replacement;
+                    masked = true;
+                }
+            }
+        }
+
+        return masked ? render(parsedSql.getSql(), tokens, replacements) : parsedSql.getSql();
+    }
+
+    /**
+     * 掩码敏感列之后的比较值：{@code col = v}、{@code col [NOT] LIKE v}、{@code col [NOT] IN (v1, v2)}
+     */
+    private boolean maskComparedValue(List<SqlToken> tokens, int columnIndex, String[] replacements) {
+        int operator = nextIndex(tokens, columnIndex);
+        if (operator < 0) {
+            return false;
+        }
+        if (tokens.get(operator).is("not")) {
+            operator = nextIndex(tokens, operator);
+            if (operator < 0) {
+                return false;
+            }
+        }
+        SqlToken token = tokens.get(operator);
+        int value = nextIndex(tokens, operator);
+        if (value < 0) {
+            return false;
+        }
+        if (token.is("in") && tokens.get(value).type() == SqlTokenType.LEFT_PAREN) {
+            return maskGroup(tokens, value, replacements);
+        }
+        boolean comparison = token.type() == SqlTokenType.OPERATOR && COMPARISON_OPERATORS.contains(token.text()) || token.is("like");
+        if (comparison && tokens.get(value).isLiteral()) {
+            replacements[value] = maskLiteral(tokens.get(value));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 掩码括号内的全部字面量
+     */
+    private boolean maskGroup(List<SqlToken> tokens, int open, String[] replacements) {
+        int depth = tokens.get(open).depth();
+        boolean masked = false;
+        for (int i = open + 1; i < tokens.size(); i++) {
+            SqlToken token = tokens.get(i);
+            if (token.type() == SqlTokenType.RIGHT_PAREN && token.depth() == depth) {
+                break;
+            }
+            if (token.isLiteral()) {
+                replacements[i] = maskLiteral(token);
+                masked = true;
+            }
+        }
+        return masked;
+    }
+
+    /**
+     * 按列位置掩码INSERT VALUES中敏感列的值，未指定列清单时无法对应位置，交由通用规则处理
+     */
+    private boolean maskInsertValues(List<SqlToken> tokens, String[] replacements) {
+        BitSet sensitiveColumns = new BitSet();
+        int i = 0;
+        // 列清单：表名之后、VALUES之前的第一对顶层括号
+        while (i < tokens.size() && !tokens.get(i).is("values") && !tokens.get(i).is("value")
+                && !tokens.get(i).is("select") && !tokens.get(i).is("set")) {
+            SqlToken token = tokens.get(i);
+            if (token.type() == SqlTokenType.LEFT_PAREN && token.depth() == 0) {
+                int column = 0;
+                for (i++; i < tokens.size() && tokens.get(i).depth() > 0; i++) {
+                    SqlToken item = tokens.get(i);
+                    if (item.type() == SqlTokenType.COMMA && item.depth() == 1) {
+                        column++;
+                    } else if (item.isIdentifier() && securityConfig.isSensitiveParameter(item.identifier())) {
+                        sensitiveColumns.set(column);
+                    }
+                }
+            }
+            i++;
+        }
+        if (sensitiveColumns.isEmpty() || i >= tokens.size() || !tokens.get(i).is("values") && !tokens.get(i).is("value")) {
+            return false;
+        }
+
+        boolean masked = false;
+        int column = 0;
+        for (i++; i < tokens.size(); i++) {
+            SqlToken token = tokens.get(i);
+            if (token.depth() == 0) {
+                // 行之间的逗号或行括号，VALUES之后出现其他顶层单词（如ON DUPLICATE KEY UPDATE）时结束
+                if (token.type() == SqlTokenType.WORD) {
+                    break;
+                }
+                column = 0;
+            } else if (token.type() == SqlTokenType.COMMA && token.depth() == 1) {
+                column++;
+            } else if (token.isLiteral() && sensitiveColumns.get(column)) {
+                replacements[i] = maskLiteral(token);
+                masked = true;
+            }
+        }
+        return masked;
+    }
+
+    /**
+     * 通用规则：看起来像邮箱、密码、令牌或电话号码的字符串字面量
+     */
+    private static String maskGenericValue(SqlToken token) {
+        String value = token.unquotedText();
+        char quote = token.text().charAt(0);
+        if (EMAIL_PATTERN.matcher(value).matches()) {
+            return quote + MASK_TEXT + "@***.***" + quote;
+        }
+        if (SECRET_PATTERN.matcher(value).matches() || PHONE_PATTERN.matcher(value).matches()) {
+            return quote + MASK_TEXT + quote;
+        }
+        return null;
+    }
+
+    private static String maskLiteral(SqlToken token) {
+        if (token.type() == SqlTokenType.STRING) {
+            char quote = token.text().charAt(0);
+            return quote + MASK_TEXT + quote;
+        }
+        return MASK_TEXT;
+    }
+
+    private static int nextIndex(List<SqlToken> tokens, int index) {
+        for (int i = index + 1; i < tokens.size(); i++) {
+            if (!tokens.get(i).isComment()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String render(String sql, List<SqlToken> tokens, String[] replacements) {
+        StringBuilder result = new StringBuilder(sql.length() + 16);
+        int position = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            if (replacements[i] != null) {
+                SqlToken token = tokens.get(i);
+                result.append(sql, position, token.start()).append(replacements[i]);
+                position = token.end();
+            }
+        }
+        return result.append(sql, position, sql.length()).toString();
+    }
+}
@@ -1,12 +1,16 @@
 package club.slavopolis.persistence.jdbc.security;
 
+import club.slavopolis.persistence.jdbc.enums.SqlTokenType;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import club.slavopolis.persistence.jdbc.parser.SqlLexer;
+import club.slavopolis.persistence.jdbc.parser.SqlToken;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.util.StringUtils;
 
+import java.util.List;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 /**
  * SQL注入验证器
@@ -38,20 +42,30 @@ public class SqlInjectionValidator {
     );
 
     /**
-     * 危险SQL模式
+     * 参数值中的危险字符序列
      */
-    private static final Pattern[] DANGEROUS_PATTERNS = {
-        // 单引号注入
-        Pattern.compile("'.*(union|select|insert|update|delete).*", Pattern.CASE_INSENSITIVE),
-        // 注释注入
-        Pattern.compile(".*(-{2}|/\\*|\\*/).*", Pattern.CASE_INSENSITIVE),
-        // 分号分隔的多语句
-        Pattern.compile(".*;\\s*(select|insert|update|delete|drop|create)", Pattern.CASE_INSENSITIVE),
-        // 十六进制注入
-        Pattern.compile(".*0x[0-9a-f]+.*", Pattern.CASE_INSENSITIVE),
-        // 函数调用注入
-        Pattern.compile(".*(exec|execute|sp_|xp_)\\s*\\(.*", Pattern.CASE_INSENSITIVE)
-    };
+    private static final Set<String> DANGEROUS_SEQUENCES = Set.of("'", "\"", "--", "/*", "*/", ";", "\\");
+
+    /**
+     * 参数扫描自动机，关键词和危险字符序列一次扫描完成
+     */
+    private static final InjectionPatternMatcher PARAMETER_MATCHER =
+        new InjectionPatternMatcher(SQL_INJECTION_KEYWORDS, DANGEROUS_SEQUENCES);
+
+    /**
+     * 默认参数最大扫描长度，扫描全部内容
+     */
+    public static final int DEFAULT_MAX_PARAMETER_SCAN_LENGTH = 0;
+
+    /**
+     * 以引号开头时视为注入片段的关键字
+     */
+    private static final Set<String> QUOTE_INJECTION_KEYWORDS = Set.of("union", "select", "insert", "update", "delete");
+
+    /**
+     * 分号之后视为堆叠注入的关键字
+     */
+    private static final Set<String> STACKED_STATEMENT_KEYWORDS = Set.of("select", "insert", "update", "delete", "drop", "create");
 
     /**
      * 是否启用验证
@@ -63,6 +77,24 @@ public class SqlInjectionValidator {
      */
     private boolean strictMode = false;
 
+    /**
+     * 参数最大扫描长度，小于等于0表示扫描全部
+     * <p>非严格模式下超出长度的内容不检测，其中的注入特征不会告警；严格模式始终扫描全部</p>
+     */
+    private int maxParameterScanLength = DEFAULT_MAX_PARAMETER_SCAN_LENGTH;
+
+    /**
+     * 根据安全配置创建验证器
+     *
+     * @param securityConfig SQL安全配置
+     * @return SQL注入验证器
+     */
+    public static SqlInjectionValidator of(SqlSecurityConfig securityConfig) {
+        SqlInjectionValidator validator = new SqlInjectionValidator();
+        validator.setMaxParameterScanLength(securityConfig.getMaxParameterScanLength());
+        return validator;
+    }
+
     /**
      * 验证SQL语句安全性
      * 
@@ -73,26 +105,37 @@ public class SqlInjectionValidator {
         if (!validationEnabled || !StringUtils.hasText(sql)) {
             return;
         }
+        validate(SqlLexer.parse(sql));
+    }
+
+    /**
+     * 基于词法分析结果验证SQL语句安全性
+     * <p>只检查字面量和注释之外的词法单元，字符串中出现的关键字、分号或注释符号不会误判</p>
+     *
+     * @param parsedSql SQL分析结果
+     * @throws SecurityException 如果检测到SQL注入风险
+     */
+    public void validate(ParsedSql parsedSql) {
+        if (!validationEnabled || parsedSql.getTokens().isEmpty()) {
+            return;
+        }
 
-        String normalizedSql = sql.toLowerCase().trim();
-        
         // 检查危险模式
-        for (Pattern pattern : DANGEROUS_PATTERNS) {
-            if (pattern.matcher(normalizedSql).matches()) {
-                String message = "Potential SQL injection detected in SQL: " + sql;
-                log.warn(message);
-                throw new SecurityException(message);
-            }
+        if (hasDangerousPattern(parsedSql)) {
+            String message = "Potential SQL injection detected in SQL: " + parsedSql.getSql();
+            log.warn(message);
+            throw new SecurityException(message);
         }
 
         // 严格模式下进行更多检查
         if (strictMode) {
-            validateSqlInStrictMode(normalizedSql, sql);
+            validateSqlInStrictMode(parsedSql);
         }
     }
 
     /**
      * 验证参数安全性
+     * <p>非严格模式下只扫描参数值的前{@code maxParameterScanLength}个字符，严格模式下扫描全部</p>
      * 
      * @param paramName 参数名
      * @param paramValue 参数值
@@ -103,24 +146,24 @@ public class SqlInjectionValidator {
             return;
         }
 
-        String normalizedValue = paramValue.toLowerCase().trim();
-        
+        // 严格模式命中关键词即抛出异常，非严格模式需要记录全部命中类型
+        int stopMask = strictMode ? InjectionPatternMatcher.KEYWORD : InjectionPatternMatcher.ALL;
+        int matched = PARAMETER_MATCHER.scan(paramValue, strictMode ? 0 : maxParameterScanLength, stopMask);
+
         // 检查参数值中的危险关键词
-        for (String keyword : SQL_INJECTION_KEYWORDS) {
-            if (normalizedValue.contains(keyword)) {
-                String message = String.format(
-                    "Potential SQL injection detected in parameter '%s': %s", 
-                    paramName, paramValue);
-                log.warn(message);
-                
-                if (strictMode) {
-                    throw new SecurityException(message);
-                }
+        if ((matched & InjectionPatternMatcher.KEYWORD) != 0) {
+            String message = String.format(
+                "Potential SQL injection detected in parameter '%s': %s", 
+                paramName, paramValue);
+            log.warn(message);
+            
+            if (strictMode) {
+                throw new SecurityException(message);
             }
         }
 
         // 检查危险字符
-        if (containsDangerousCharacters(paramValue)) {
+        if ((matched & InjectionPatternMatcher.DANGEROUS_SEQUENCE) != 0) {
             String message = String.format(
                 "Dangerous characters detected in parameter '%s': %s", 
                 paramName, paramValue);
@@ -133,60 +176,55 @@ public class SqlInjectionValidator {
     }
 
     /**
-     * 严格模式下的SQL验证
+     * 检查危险模式：引号开头的注入片段、注释、分号分隔的多语句、十六进制字面量、存储过程调用
      */
-    private void validateSqlInStrictMode(String normalizedSql, String originalSql) {
-        // 检查是否包含多个SQL语句
-        if (normalizedSql.contains(";")) {
-            long selectCount = normalizedSql.chars()
-                .mapToObj(c -> String.valueOf((char) c))
-                .filter(s -> normalizedSql.contains("select"))
-                .count();
-            
-            if (selectCount > 1) {
-                String message = "Multiple SQL statements detected: " + originalSql;
-                log.warn(message);
-                throw new SecurityException(message);
-            }
+    private boolean hasDangerousPattern(ParsedSql parsedSql) {
+        if (parsedSql.hasComment() || parsedSql.hasHexLiteral()) {
+            return true;
         }
 
-        // 检查是否有未闭合的引号
-        if (hasUnbalancedQuotes(normalizedSql)) {
-            String message = "Unbalanced quotes detected: " + originalSql;
-            log.warn(message);
-            throw new SecurityException(message);
+        List<SqlToken> tokens = parsedSql.getTokens();
+        boolean quoteLeading = tokens.getFirst().type() == SqlTokenType.STRING && tokens.getFirst().text().startsWith("'");
+        for (int i = 0; i < tokens.size(); i++) {
+            SqlToken token = tokens.get(i);
+            SqlToken next = i + 1 < tokens.size() ? tokens.get(i + 1) : null;
+            if (token.type() == SqlTokenType.SEMICOLON) {
+                if (next != null && next.type() == SqlTokenType.WORD && STACKED_STATEMENT_KEYWORDS.contains(next.text())) {
+                    return true;
+                }
+            } else if (token.type() == SqlTokenType.WORD) {
+                if (quoteLeading && QUOTE_INJECTION_KEYWORDS.contains(token.text())) {
+                    return true;
+                }
+                if (next != null && next.type() == SqlTokenType.LEFT_PAREN && isProcedureCall(token.text())) {
+                    return true;
+                }
+            }
         }
+        return false;
     }
 
-    /**
-     * 检查是否包含危险字符
-     */
-    private boolean containsDangerousCharacters(String value) {
-        return value.contains("'") || 
-               value.contains("\"") || 
-               value.contains("--") || 
-               value.contains("/*") || 
-               value.contains("*/") ||
-               value.contains(";") ||
-               value.contains("\\");
+    private static boolean isProcedureCall(String word) {
+        return word.equals("exec") || word.equals("execute") || word.startsWith("sp_") || word.startsWith("xp_");
     }
 
     /**
-     * 检查引号是否平衡
+     * 严格模式下的SQL验证
      */
-    private boolean hasUnbalancedQuotes(String sql) {
-        int singleQuoteCount = 0;
-        int doubleQuoteCount = 0;
-        
-        for (char c : sql.toCharArray()) {
-            if (c == '\'') {
-                singleQuoteCount++;
-            } else if (c == '"') {
-                doubleQuoteCount++;
-            }
+    private void validateSqlInStrictMode(ParsedSql parsedSql) {
+        // 检查是否包含多个SQL语句
+        if (parsedSql.hasMultipleStatements()) {
+            String message = "Multiple SQL statements detected: " + parsedSql.getSql();
+            log.warn(message);
+            throw new SecurityException(message);
+        }
+
+        // 检查是否有未闭合的引号
+        if (parsedSql.isUnterminated()) {
+            String message = "Unbalanced quotes detected: " + parsedSql.getSql();
+            log.warn(message);
+            throw new SecurityException(message);
         }
-        
-        return (singleQuoteCount % 2 != 0) || (doubleQuoteCount % 2 != 0);
     }
 
     /**
@@ -86,6 +86,23 @@ public class SqlSecurityConfig {
      */
     private boolean logSecurityWarnings = true;
 
+    /**
+     * 是否启用SQL验证结果缓存
+     */
+    private boolean validationCacheEnabled = true;
+
+    /**
+     * SQL验证结果缓存最大条目数
+     */
+    private int validationCacheMaxSize = SqlValidationCache.DEFAULT_MAXIMUM_SIZE;
+
+    /**
+     * 参数注入检测的最大扫描长度，默认0表示扫描全部
+     * <p>设置为正数时非严格模式只检测参数值的前N个字符，之后的注入关键词或危险字符不会告警，
+     * 用于降低超长参数的检测开销；严格模式不受该上限影响，始终检测全部内容</p>
+     */
+    private int maxParameterScanLength = SqlInjectionValidator.DEFAULT_MAX_PARAMETER_SCAN_LENGTH;
+
     /**
      * 检查参数名称是否敏感
      * 
@@ -0,0 +1,230 @@
+package club.slavopolis.persistence.jdbc.security;
+
+import club.slavopolis.persistence.jdbc.monitoring.ValidationCacheStatistics;
+import club.slavopolis.persistence.jdbc.parser.ParsedSql;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * SQL验证结果缓存
+ * <p>以SQL原文为键缓存语句级验证结论（词法分析结果与是否通过），仓储层的SQL多为常量文本，重复执行时可跳过词法分析、规范化和掩码</p>
+ * <p>基于Caffeine（W-TinyLFU）实现容量有界的淘汰；参数验证与SQL文本无关，不在缓存范围内，仍需每次执行</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Slf4j
+public class SqlValidationCache {
+
+    /**
+     * 默认最大缓存条目数
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 2048;
+
+    /**
+     * 验证结论缓存，未启用时为null
+     */
+    private final Cache<String, SqlVerdict> verdicts;
+
+    /**
+     * 最大缓存条目数
+     */
+    private final long maximumSize;
+
+    /**
+     * 构造函数
+     *
+     * @param enabled     是否启用缓存
+     * @param maximumSize 最大缓存条目数
+     */
+    public SqlValidationCache(boolean enabled, long maximumSize) {
+        this.maximumSize = maximumSize;
+        this.verdicts = enabled && maximumSize > 0
+                ? Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build()
+                : null;
+    }
+
+    /**
+     * 根据安全配置创建缓存
+     *
+     * @param securityConfig SQL安全配置
+     * @return 验证结果缓存
+     */
+    public static SqlValidationCache of(SqlSecurityConfig securityConfig) {
+        return new SqlValidationCache(securityConfig.isValidationCacheEnabled(), securityConfig.getValidationCacheMaxSize());
+    }
+
+    /**
+     * 获取SQL的验证结论，未命中时执行验证并缓存
+     *
+     * @param sql       SQL原文
+     * @param validator 语句级验证函数
+     * @return 验证结论
+     */
+    public SqlVerdict get(String sql, Function<String, SqlVerdict> validator) {
+        if (verdicts == null) {
+            return validator.apply(sql);
+        }
+        return verdicts.get(sql, validator);
+    }
+
+    /**
+     * 清空缓存
+     * <p>验证规则（如严格模式）变更后应调用，使已缓存的结论失效</p>
+     */
+    public void invalidateAll() {
+        if (verdicts != null) {
+            verdicts.invalidateAll();
+        }
+    }
+
+    /**
+     * 是否启用缓存
+     *
+     * @return 启用返回true
+     */
+    public boolean isEnabled() {
+        return verdicts != null;
+    }
+
+    /**
+     * 获取缓存统计信息
+     *
+     * @return 缓存统计信息
+     */
+    public ValidationCacheStatistics getStatistics() {
+        if (verdicts == null) {
+            return ValidationCacheStatistics.builder()
+                    .enabled(false)
+                    .maximumSize(maximumSize)
+                    .build();
+        }
+        CacheStats stats = verdicts.stats();
+        return ValidationCacheStatistics.builder()
+                .enabled(true)
+                .size(verdicts.estimatedSize())
+                .maximumSize(maximumSize)
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
+    /**
+     * SQL验证结论
+     * <p>保存语句的词法分析结果，通过的语句由此得到规范化SQL；被拒绝的语句保存拒绝原因，命中时重新抛出安全异常</p>
+     */
+    public static final class SqlVerdict {
+
+        private final ParsedSql parsedSql;
+        private final String rejectionMessage;
+
+        /**
+         * 掩码后的SQL，首次输出日志时生成
+         */
+        private volatile String maskedSql;
+
+        /**
+         * 查询结果缓存键中的语句部分，首次缓存查询时生成
+         */
+        private volatile String cacheKey;
+
+        private SqlVerdict(ParsedSql parsedSql, String rejectionMessage) {
+            this.parsedSql = parsedSql;
+            this.rejectionMessage = rejectionMessage;
+        }
+
+        /**
+         * 创建验证通过的结论
+         *
+         * @param parsedSql SQL分析结果
+         * @return 验证结论
+         */
+        public static SqlVerdict passed(ParsedSql parsedSql) {
+            return new SqlVerdict(parsedSql, null);
+        }
+
+        /**
+         * 创建验证拒绝的结论
+         *
+         * @param parsedSql        SQL分析结果
+         * @param rejectionMessage 拒绝原因
+         * @return 验证结论
+         */
+        public static SqlVerdict rejected(ParsedSql parsedSql, String rejectionMessage) {
+            return new SqlVerdict(parsedSql, rejectionMessage);
+        }
+
+        /**
+         * 验证未通过时抛出安全异常
+         *
+         * @throws SecurityException 如果SQL被拒绝
+         */
+        public void throwIfRejected() {
+            if (rejectionMessage != null) {
+                log.warn(rejectionMessage);
+                throw new SecurityException(rejectionMessage);
+            }
+        }
+
+        public String normalizedSql() {
+            return parsedSql.getNormalizedSql();
+        }
+
+        public ParsedSql parsedSql() {
+            return parsedSql;
+        }
+
+        public boolean isRejected() {
+            return rejectionMessage != null;
+        }
+
+        /**
+         * 获取语句涉及的表，解析结果随验证结论一起缓存
+         *
+         * @return 小写表名集合，无法识别时为空集合
+         */
+        public Set<String> tables() {
+            return parsedSql.getTables();
+        }
+
+        /**
+         * 获取掩码后的SQL，掩码结果随验证结论一起缓存
+         *
+         * @param masker 掩码函数
+         * @return 掩码后的SQL
+         */
+        public String maskedSql(Function<ParsedSql, String> masker) {
+            String result = maskedSql;
+            if (result == null) {
+                result = masker.apply(parsedSql);
+                maskedSql = result;
+            }
+            return result;
+        }
+
+        /**
+         * 获取查询结果缓存键中的语句部分，随验证结论一起缓存
+         *
+         * @param keyBuilder 缓存键生成函数
+         * @return 缓存键
+         */
+        public String cacheKey(Function<ParsedSql, String> keyBuilder) {
+            String result = cacheKey;
+            if (result == null) {
+                result = keyBuilder.apply(parsedSql);
+                cacheKey = result;
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package club.slavopolis.persistence.jdbc.transaction;
+
+import club.slavopolis.persistence.jdbc.exception.ExceptionClassifier;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 事务重试策略
+ * <p>事务因死锁、锁等待超时等瞬时异常失败时整体重试，两次尝试之间按指数退避等待，等待时间在上限的一半到上限之间随机，
+ * 避免冲突的事务同时重试再次冲突</p>
+ * <p>重试预算在使用同一策略的所有事务间共享：每个事务存入{@link #getBudgetRatio()}个令牌，每次重试取出1个，
+ * 令牌不足时不再重试。冲突持续时重试次数被限制在事务数的固定比例内，不会放大数据库压力</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+@Getter
+@Builder
+public class RetryPolicy {
+
+    /**
+     * 默认最大尝试次数
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * 默认策略，重试预算在所有使用该策略的事务间共享
+     */
+    public static final RetryPolicy DEFAULTS = RetryPolicy.builder().build();
+
+    /**
+     * 预算令牌的计量精度，令牌以千分之一为单位累计
+     */
+    private static final long TOKEN_SCALE = 1000L;
+
+    /**
+     * 最大尝试次数（含首次执行），为1时不重试
+     */
+    @Builder.Default
+    private final int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+    /**
+     * 首次重试前的退避上限
+     */
+    @Builder.Default
+    private final Duration initialBackoff = Duration.ofMillis(20);
+
+    /**
+     * 退避上限
+     */
+    @Builder.Default
+    private final Duration maxBackoff = Duration.ofSeconds(1);
+
+    /**
+     * 退避倍数
+     */
+    @Builder.Default
+    private final double multiplier = 2.0;
+
+    /**
+     * 每个事务存入的重试令牌数
+     */
+    @Builder.Default
+    private final double budgetRatio = 0.2;
+
+    /**
+     * 最多累计的重试令牌数，也是预算的初始令牌数
+     */
+    @Builder.Default
+    private final int budgetCapacity = 10;
+
+    /**
+     * 可重试异常判断，默认重试{@link ExceptionClassifier}识别的瞬时异常
+     */
+    @Builder.Default
+    private final Predicate<Throwable> retryOn = ExceptionClassifier::isTransientException;
+
+    /**
+     * 已取出的令牌数（千分之一），初始为0即预算满额
+     */
+    @Getter(AccessLevel.NONE)
+    private final AtomicLong spentTokens = new AtomicLong();
+
+    /**
+     * 记录一个新事务，向预算存入令牌
+     */
+    public void recordTransaction() {
+        long deposit = Math.round(budgetRatio * TOKEN_SCALE);
+        if (deposit > 0) {
+            spentTokens.getAndUpdate(spent -> Math.max(0L, spent - deposit));
+        }
+    }
+
+    /**
+     * 判断失败的尝试是否可以重试
+     *
+     * @param e       失败原因
+     * @param attempt 已执行的尝试次数
+     * @return 未达到最大尝试次数且异常可重试返回true
+     */
+    public boolean isRetryable(Throwable e, int attempt) {
+        return attempt < maxAttempts && retryOn.test(e);
+    }
+
+    /**
+     * 从预算取出一次重试的令牌
+     *
+     * @return 令牌充足返回true，预算耗尽返回false
+     */
+    public boolean tryAcquireRetry() {
+        long limit = (long) budgetCapacity * TOKEN_SCALE;
+        while (true) {
+            long spent = spentTokens.get();
+            if (spent + TOKEN_SCALE > limit) {
+                return false;
+            }
+            if (spentTokens.compareAndSet(spent, spent + TOKEN_SCALE)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 计算第N次重试前的退避时间
+     *
+     * @param retry 重试序号，从1开始
+     * @return 退避时间（纳秒）
+     */
+    public long backoffNanos(int retry) {
+        double ceiling = initialBackoff.toNanos() * Math.pow(Math.max(multiplier, 1.0), Math.max(retry - 1, 0));
+        long bound = (long) Math.min(ceiling, maxBackoff.toNanos());
+        if (bound <= 1) {
+            return Math.max(bound, 0L);
+        }
+        long half = bound / 2;
+        return half + ThreadLocalRandom.current().nextLong(bound - half + 1);
+    }
+
+    /**
+     * 当前可用的重试令牌数
+     *
+     * @return 可用令牌数
+     */
+    public double getAvailableTokens() {
+        return budgetCapacity - (double) spentTokens.get() / TOKEN_SCALE;
+    }
+}
@@ -0,0 +1,267 @@
+package club.slavopolis.persistence.jdbc.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 事务工作单元
+ * <p>事务内延迟执行的更新语句按SQL分组排队，在提交前、显式{@link #flush()}或读取、写入涉及排队写入的表时以JDBC批处理执行，
+ * 减少一次业务操作的数据库往返次数</p>
+ * <p>同一SQL的语句只有在中间没有写入相同表的其他语句时才合并到同一组，保证同一张表上的写入顺序不变；
+ * 涉及的表无法识别时不与其他语句合并</p>
+ * <p>工作单元作为事务资源按数据源绑定到当前事务，同一事务中使用相同数据源的所有模板共享；
+ * 事务挂起时随之解绑，恢复时重新绑定，事务完成后解绑并丢弃未执行的写入</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+public class UnitOfWork {
+
+    /**
+     * 写入执行器
+     */
+    private final Flusher flusher;
+
+    /**
+     * 按执行顺序排列的写入分组
+     */
+    private final List<WriteGroup> groups = new ArrayList<>();
+
+    private int pendingCount;
+
+    /**
+     * 构造函数
+     *
+     * @param flusher 写入执行器
+     */
+    public UnitOfWork(Flusher flusher) {
+        Assert.notNull(flusher, "Flusher must not be null");
+        this.flusher = flusher;
+    }
+
+    /**
+     * 获取当前事务中绑定到指定数据源的工作单元
+     *
+     * @param dataSource 数据源
+     * @return 工作单元，未绑定时返回null
+     */
+    public static UnitOfWork getBound(DataSource dataSource) {
+        Assert.notNull(dataSource, "DataSource must not be null");
+        return (UnitOfWork) TransactionSynchronizationManager.getResource(new ResourceKey(dataSource));
+    }
+
+    /**
+     * 获取当前事务中绑定到指定数据源的工作单元，不存在时创建并绑定
+     * <p>新建的工作单元注册事务同步：提交前执行排队的写入，执行失败时提交中止并回滚事务；事务完成后解绑</p>
+     *
+     * @param dataSource 数据源
+     * @param flusher    新建工作单元使用的写入执行器
+     * @return 工作单元，当前线程没有活动的事务同步时返回null
+     */
+    public static UnitOfWork bindIfAbsent(DataSource dataSource, Flusher flusher) {
+        UnitOfWork bound = getBound(dataSource);
+        if (bound != null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return bound;
+        }
+        ResourceKey key = new ResourceKey(dataSource);
+        UnitOfWork unitOfWork = new UnitOfWork(flusher);
+        TransactionSynchronizationManager.bindResource(key, unitOfWork);
+        TransactionSynchronizationManager.registerSynchronization(new UnitOfWorkSynchronization(key, unitOfWork));
+        return unitOfWork;
+    }
+
+    /**
+     * 获取排队中的语句数
+     *
+     * @return 语句数
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * 将更新语句加入队列
+     *
+     * @param sql           SQL语句
+     * @param tables        语句写入的表，无法识别时为空集合
+     * @param params        命名参数，排队时复制
+     * @param enableLogging 执行时是否启用日志
+     */
+    public void enqueue(String sql, Set<String> tables, Map<String, Object> params, boolean enableLogging) {
+        Assert.hasText(sql, "SQL must not be empty");
+        Map<String, Object> copy = params != null ? new HashMap<>(params) : new HashMap<>();
+        Set<String> writeTables = tables != null ? tables : Collections.emptySet();
+
+        WriteGroup target = null;
+        for (int i = groups.size() - 1; i >= 0; i--) {
+            WriteGroup group = groups.get(i);
+            if (group.sql.equals(sql) && !writeTables.isEmpty()) {
+                target = group;
+                break;
+            }
+            if (group.overlaps(writeTables)) {
+                break;
+            }
+        }
+        if (target == null) {
+            target = new WriteGroup(sql, writeTables, enableLogging);
+            groups.add(target);
+        }
+        target.params.add(copy);
+        pendingCount++;
+    }
+
+    /**
+     * 判断是否有涉及指定表的排队写入
+     *
+     * @param tables 表名集合，为null或空集合时视为涉及所有表
+     * @return 有相关的排队写入返回true
+     */
+    public boolean hasPendingWrites(Set<String> tables) {
+        if (groups.isEmpty()) {
+            return false;
+        }
+        if (tables == null || tables.isEmpty()) {
+            return true;
+        }
+        for (WriteGroup group : groups) {
+            if (group.overlaps(tables)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 按排队顺序执行所有写入，每组一次批处理
+     * <p>执行前清空队列，执行失败时剩余写入不再执行，由事务回滚处理</p>
+     *
+     * @return 执行的语句数
+     */
+    public int flush() {
+        if (groups.isEmpty()) {
+            return 0;
+        }
+        List<WriteGroup> pending = new ArrayList<>(groups);
+        int count = pendingCount;
+        discard();
+        for (WriteGroup group : pending) {
+            flusher.flush(group.sql, group.params, group.enableLogging);
+        }
+        return count;
+    }
+
+    /**
+     * 丢弃所有排队的写入，用于事务完成
+     */
+    public void discard() {
+        groups.clear();
+        pendingCount = 0;
+    }
+
+    /**
+     * 写入执行器
+     */
+    @FunctionalInterface
+    public interface Flusher {
+
+        /**
+         * 执行一组相同SQL的写入
+         *
+         * @param sql           SQL语句
+         * @param batchParams   每条语句的命名参数，按排队顺序排列
+         * @param enableLogging 是否启用日志
+         */
+        void flush(String sql, List<Map<String, Object>> batchParams, boolean enableLogging);
+    }
+
+    /**
+     * 工作单元的事务资源键，与事务管理器以数据源为键绑定的连接区分
+     */
+    private record ResourceKey(DataSource dataSource) {
+    }
+
+    /**
+     * 工作单元的事务同步
+     */
+    private static final class UnitOfWorkSynchronization implements TransactionSynchronization {
+
+        private final ResourceKey key;
+
+        private final UnitOfWork unitOfWork;
+
+        private UnitOfWorkSynchronization(ResourceKey key, UnitOfWork unitOfWork) {
+            this.key = key;
+            this.unitOfWork = unitOfWork;
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResourceIfPossible(key);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(key, unitOfWork);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            unitOfWork.flush();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(key);
+            unitOfWork.discard();
+        }
+    }
+
+    /**
+     * 相同SQL的写入分组
+     */
+    private static final class WriteGroup {
+
+        private final String sql;
+
+        private final Set<String> tables;
+
+        private final boolean enableLogging;
+
+        private final List<Map<String, Object>> params = new ArrayList<>();
+
+        private WriteGroup(String sql, Set<String> tables, boolean enableLogging) {
+            this.sql = sql;
+            this.tables = tables;
+            this.enableLogging = enableLogging;
+        }
+
+        /**
+         * 是否与指定表有交集，任一方无法识别表时视为有交集
+         */
+        private boolean overlaps(Set<String> other) {
+            if (tables.isEmpty() || other.isEmpty()) {
+                return true;
+            }
+            for (String table : other) {
+                if (tables.contains(table)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package club.slavopolis.persistence.jdbc.async;
+
+import club.slavopolis.persistence.jdbc.routing.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 数据源舱壁组测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class JdbcBulkheadGroupTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(1);
+
+    @Test
+    void createsOneBulkheadPerRoutingNode() {
+        JdbcBulkheadGroup group = JdbcBulkheadGroup.forRouting(routing(), 3, TIMEOUT);
+
+        assertEquals(Map.of("primary", 3, "r1", 3, "r2", 3), group.getPermits());
+    }
+
+    @Test
+    void readsHoldPermitOfSelectedReplicaOnly() {
+        JdbcBulkheadGroup group = JdbcBulkheadGroup.forRouting(routing(), 2, TIMEOUT);
+
+        // 轮询依次选中r1和r2，执行期间只占用所选从库的许可，其他任务占用主库许可
+        assertEquals("1/2/2", group.executeRead(() -> available(group)));
+        assertEquals("2/1/2", group.executeRead(() -> available(group)));
+        assertEquals("2/2/1", group.execute(() -> available(group)));
+        assertEquals("2/2/2", available(group));
+    }
+
+    @Test
+    void singleBulkheadServesReadsAndWrites() {
+        JdbcBulkheadGroup group = JdbcBulkheadGroup.of(new JdbcBulkhead(1, TIMEOUT));
+
+        assertEquals(0, group.executeRead(() -> group.getPrimary().getAvailablePermits()));
+        assertEquals(0, group.execute(() -> group.getPrimary().getAvailablePermits()));
+        assertEquals(Map.of("primary", 1), group.getPermits());
+    }
+
+    private static String available(JdbcBulkheadGroup group) {
+        return group.getReplica("r1").getAvailablePermits() + "/" + group.getReplica("r2").getAvailablePermits()
+                + "/" + group.getPrimary().getAvailablePermits();
+    }
+
+    private static ReadWriteRoutingDataSource routing() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("r1", new SimpleDriverDataSource());
+        replicas.put("r2", new SimpleDriverDataSource());
+        return new ReadWriteRoutingDataSource(new SimpleDriverDataSource(), replicas);
+    }
+}
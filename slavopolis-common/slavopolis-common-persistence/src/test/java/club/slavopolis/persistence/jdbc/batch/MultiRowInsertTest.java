@@ -0,0 +1,70 @@
+package club.slavopolis.persistence.jdbc.batch;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 多行INSERT改写模板测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class MultiRowInsertTest {
+
+    @Test
+    void rendersOneTuplePerRow() {
+        MultiRowInsert insert = MultiRowInsert.parse("INSERT INTO t (a, b) VALUES (:a, :b)");
+
+        assertEquals("INSERT INTO t (a, b) VALUES (:a__0, :b__0), (:a__1, :b__1)", insert.render(2));
+        assertEquals(Map.of("a__0", 1, "b__0", 2, "a__1", 3, "b__1", 4),
+                insert.bind(List.of(Map.of("a", 1, "b", 2), Map.of("a", 3, "b", 4))));
+    }
+
+    @Test
+    void keepsLiteralsAndFunctionCallsInsideTuple() {
+        MultiRowInsert insert = MultiRowInsert.parse("insert into t (a, note, ts) values (:a, 'x:y)', NOW());");
+
+        assertEquals(Set.of("a"), insert.getDistinctParameterNames());
+        assertEquals("insert into t (a, note, ts) values (:a__0, 'x:y)', NOW()), (:a__1, 'x:y)', NOW())",
+                insert.render(2));
+    }
+
+    @Test
+    void supportsOnDuplicateKeyUpdateWithoutParameters() {
+        MultiRowInsert insert = MultiRowInsert.parse(
+                "INSERT INTO t (a, c) VALUES (:a, 1) ON DUPLICATE KEY UPDATE c = c + VALUES(c)");
+
+        assertEquals("INSERT INTO t (a, c) VALUES (:a__0, 1), (:a__1, 1) ON DUPLICATE KEY UPDATE c = c + VALUES(c)",
+                insert.render(2));
+    }
+
+    @Test
+    void rejectsStatementsThatCannotBeRewritten() {
+        assertNull(MultiRowInsert.parse("INSERT INTO t (a) VALUES (?)"));
+        assertNull(MultiRowInsert.parse("INSERT INTO t (a) VALUES (:a) ON DUPLICATE KEY UPDATE a = :a"));
+        assertNull(MultiRowInsert.parse("INSERT INTO t (a) SELECT a FROM s WHERE id = :id"));
+        assertNull(MultiRowInsert.parse("INSERT INTO t (a) VALUES (:a::int)"));
+        assertNull(MultiRowInsert.parse("INSERT INTO t (a) VALUES (:a) /* hint */"));
+        assertNull(MultiRowInsert.parse("INSERT INTO t (a) VALUES ('unterminated, :a)"));
+        assertNull(MultiRowInsert.parse("UPDATE t SET a = :a"));
+        assertNull(MultiRowInsert.parse("INSERT INTO t (a) VALUES (1)"));
+    }
+
+    @Test
+    void bindRejectsRowsMissingParameters() {
+        MultiRowInsert insert = MultiRowInsert.parse("INSERT INTO t (a, b) VALUES (:a, :b)");
+
+        assertThrows(IllegalArgumentException.class, () -> insert.bind(List.of(Map.of("a", 1))));
+    }
+}
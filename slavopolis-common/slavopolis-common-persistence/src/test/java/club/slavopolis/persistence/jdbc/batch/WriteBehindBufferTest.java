@@ -0,0 +1,153 @@
+package club.slavopolis.persistence.jdbc.batch;
+
+import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import club.slavopolis.persistence.jdbc.core.JdbcExecutionContext;
+import club.slavopolis.persistence.jdbc.enums.WriteMergeMode;
+import club.slavopolis.persistence.jdbc.security.SqlSecurityConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 写后合并缓冲区测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class WriteBehindBufferTest {
+
+    private static final String SQL = "UPDATE file_info SET download_count = download_count + :downloadCount, "
+            + "last_access_time = :lastAccessTime WHERE file_id = :fileId";
+
+    private RecordingContext context;
+
+    private WriteBehindBuffer<String> buffer;
+
+    @BeforeEach
+    void setUp() {
+        context = new RecordingContext();
+        buffer = WriteBehindBuffer.<String>builder("test")
+                .sql(SQL)
+                .keyParameter("fileId")
+                .merge("downloadCount", WriteMergeMode.ADDITIVE)
+                .flushInterval(Duration.ofHours(1))
+                .build(context);
+    }
+
+    @AfterEach
+    void tearDown() {
+        buffer.close();
+    }
+
+    @Test
+    void mergesAdditiveValuesAndKeepsLatestOverwrite() {
+        buffer.submit("f1", Map.of("downloadCount", 1, "lastAccessTime", "t1"));
+        buffer.submit("f1", Map.of("downloadCount", 2, "lastAccessTime", "t2"));
+        buffer.submit("f1", Map.of("downloadCount", 4L, "lastAccessTime", "t3"));
+
+        assertEquals(1, buffer.getPendingKeys());
+        assertEquals(1, buffer.flush());
+        assertEquals(List.of(List.of(row("f1", 7L, "t3"))), context.flushedBatches);
+        assertEquals(2, buffer.getStatistics().getCoalesced());
+    }
+
+    @Test
+    void flushesRowsInKeyOrder() {
+        buffer.submit("f3", Map.of("downloadCount", 1, "lastAccessTime", "t"));
+        buffer.submit("f1", Map.of("downloadCount", 1, "lastAccessTime", "t"));
+        buffer.submit("f2", Map.of("downloadCount", 1, "lastAccessTime", "t"));
+
+        buffer.flush();
+
+        List<Object> keys = new ArrayList<>();
+        context.flushedBatches.getFirst().forEach(flushedRow -> keys.add(flushedRow.get("fileId")));
+        assertEquals(List.of("f1", "f2", "f3"), keys);
+    }
+
+    @Test
+    void requeuesFailedRowsBeneathWritesSubmittedDuringFlush() {
+        buffer.submit("f1", Map.of("downloadCount", 3, "lastAccessTime", "t1"));
+        // 刷写失败期间同一键有新的写入
+        context.failNext = () -> buffer.submit("f1", Map.of("downloadCount", 5, "lastAccessTime", "t2"));
+
+        assertThrows(QueryTimeoutException.class, buffer::flush);
+        assertEquals(1, buffer.getPendingKeys());
+        assertEquals(1, buffer.getStatistics().getFlushFailures());
+
+        // 累加值合并，覆盖值保留失败期间更新的写入
+        assertEquals(1, buffer.flush());
+        assertEquals(row("f1", 8L, "t2"), context.flushedBatches.getLast().getFirst());
+        assertEquals(0, buffer.getPendingKeys());
+    }
+
+    @Test
+    void closeDrainsPendingRowsAndRejectsSubmits() {
+        buffer.submit("f1", Map.of("downloadCount", 1, "lastAccessTime", "t1"));
+
+        buffer.close();
+
+        assertEquals(List.of(List.of(row("f1", 1, "t1"))), context.flushedBatches);
+        assertThrows(IllegalStateException.class, () -> buffer.submit("f2", Map.of("downloadCount", 1)));
+    }
+
+    private static Map<String, Object> row(String fileId, Object downloadCount, String lastAccessTime) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("fileId", fileId);
+        row.put("downloadCount", downloadCount);
+        row.put("lastAccessTime", lastAccessTime);
+        return row;
+    }
+
+    /**
+     * 记录刷写内容而不访问数据库的执行上下文
+     */
+    private static final class RecordingContext extends JdbcExecutionContext {
+
+        private final List<List<Map<String, Object>>> flushedBatches = new ArrayList<>();
+
+        private Runnable failNext;
+
+        private RecordingContext() {
+            super(new NamedParameterJdbcTemplate(new SimpleDriverDataSource()),
+                    new DataSourceTransactionManager(new SimpleDriverDataSource()),
+                    new DefaultTransactionDefinition(), new SqlSecurityConfig());
+        }
+
+        @Override
+        public EnhancedJdbcTemplate newHandle() {
+            return new EnhancedJdbcTemplate(this) {
+                @Override
+                public BulkWriteResult bulkWrite(String sql, Iterable<? extends Map<String, Object>> rows, BulkWriteOptions options) {
+                    if (failNext != null) {
+                        Runnable action = failNext;
+                        failNext = null;
+                        action.run();
+                        throw new QueryTimeoutException("simulated flush failure");
+                    }
+                    List<Map<String, Object>> batch = new ArrayList<>();
+                    rows.forEach(flushedRow -> batch.add(new HashMap<>(flushedRow)));
+                    flushedBatches.add(batch);
+                    return null;
+                }
+            };
+        }
+    }
+}
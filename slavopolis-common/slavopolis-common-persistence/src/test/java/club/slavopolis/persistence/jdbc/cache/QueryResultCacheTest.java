@@ -0,0 +1,173 @@
+package club.slavopolis.persistence.jdbc.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 查询结果缓存测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class QueryResultCacheTest {
+
+    private static final String SQL = "SELECT id, name, tags FROM item WHERE id = :id";
+
+    private static final Set<String> TABLES = Set.of("item");
+
+    private static final Map<String, Object> PARAMS = Map.of("id", 1);
+
+    private RecordingStore store;
+
+    private QueryResultCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        store = new RecordingStore();
+        cache = new QueryResultCache(Duration.ofMinutes(1), 100, store);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void returnsCopiesSoCallersCannotCorruptCachedRows() {
+        List<Item> first = load();
+        first.getFirst().setName("changed");
+        first.getFirst().getTags().put("k", "changed");
+        first.add(new Item());
+
+        List<Item> second = load();
+
+        assertEquals(1, loads.get());
+        assertEquals(1, second.size());
+        assertEquals("original", second.getFirst().getName());
+        assertEquals("v", second.getFirst().getTags().get("k"));
+        assertNotSame(second.getFirst(), load().getFirst());
+    }
+
+    @Test
+    void rejectsTypesThatCannotBeCopied() {
+        assertThrows(IllegalArgumentException.class, () -> cache.checkCacheable(NoDefaultConstructor.class));
+
+        cache.checkCacheable(Item.class);
+        cache.checkCacheable(String.class);
+        cache.checkCacheable(long.class);
+        cache.checkCacheable(Map.class);
+    }
+
+    @Test
+    void invalidationFromOtherInstancesClearsLocalEntries() {
+        load();
+        store.listener.accept(Set.of("other"));
+        load();
+        assertEquals(1, loads.get());
+
+        store.listener.accept(Set.of("item"));
+        load();
+        assertEquals(2, loads.get());
+
+        store.listener.accept(Set.of());
+        load();
+        assertEquals(3, loads.get());
+        assertEquals(0, store.invalidations.get());
+    }
+
+    private List<Item> load() {
+        return cache.get(SQL, TABLES, PARAMS, "list:" + Item.class.getName(), () -> {
+            loads.incrementAndGet();
+            Item item = new Item();
+            item.setName("original");
+            item.getTags().put("k", "v");
+            List<Item> items = new ArrayList<>();
+            items.add(item);
+            return items;
+        });
+    }
+
+    /**
+     * 测试用Bean
+     */
+    public static class Item {
+
+        private String name;
+
+        private Map<String, Object> tags = new HashMap<>();
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Map<String, Object> getTags() {
+            return tags;
+        }
+
+        public void setTags(Map<String, Object> tags) {
+            this.tags = tags;
+        }
+    }
+
+    /**
+     * 没有无参构造函数的类型
+     */
+    public static class NoDefaultConstructor {
+
+        public NoDefaultConstructor(String value) {
+        }
+    }
+
+    /**
+     * 不保存结果、只记录失效监听器的二级缓存
+     */
+    private static final class RecordingStore implements QueryCacheStore {
+
+        private final AtomicInteger invalidations = new AtomicInteger();
+
+        private Consumer<Set<String>> listener;
+
+        @Override
+        public Object get(String key) {
+            return null;
+        }
+
+        @Override
+        public void put(String key, Object value, Set<String> tables) {
+        }
+
+        @Override
+        public void invalidateTables(Set<String> tables) {
+            invalidations.incrementAndGet();
+        }
+
+        @Override
+        public void invalidateAll() {
+            invalidations.incrementAndGet();
+        }
+
+        @Override
+        public void setInvalidationListener(Consumer<Set<String>> listener) {
+            this.listener = listener;
+        }
+    }
+}
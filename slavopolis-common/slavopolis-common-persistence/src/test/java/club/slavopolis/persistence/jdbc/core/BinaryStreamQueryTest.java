@@ -0,0 +1,146 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 二进制流查询测试，使用连接池上的H2内存数据库，验证各种结束方式下连接都归还连接池
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class BinaryStreamQueryTest {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private static final String CONTENT_SQL = """
+            SELECT chunk_data
+            FROM file_content
+            WHERE file_id = :fileId AND delete_flag = 0
+            ORDER BY chunk_index ASC
+            """;
+
+    private static final String FIRST_CHUNK_SQL = "SELECT chunk_data FROM file_content WHERE file_id = :fileId AND chunk_index = 0";
+
+    private HikariDataSource dataSource;
+
+    private EnhancedJdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:binary_stream_" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE file_content (file_id VARCHAR(32), chunk_index INT, chunk_data BLOB, delete_flag INT DEFAULT 0)");
+        // 乱序写入，读取时按分片索引拼接
+        insertChunk(setup, "f1", 2, "chunk-2");
+        insertChunk(setup, "f1", 0, "chunk-0|");
+        insertChunk(setup, "f1", 1, "chunk-1|");
+        setup.update("INSERT INTO file_content (file_id, chunk_index, chunk_data) VALUES ('f1', 3, NULL)");
+        insertChunk(setup, "f2", 0, "other");
+
+        jdbc = new EnhancedJdbcTemplate(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void streamConcatenatesChunksInOrderAndReleasesConnection() throws IOException {
+        try (InputStream in = jdbc.queryForBinaryStream(CONTENT_SQL, Map.of("fileId", "f1"))) {
+            assertEquals(1, activeConnections());
+            assertEquals("chunk-0|chunk-1|chunk-2", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            assertEquals(-1, in.read());
+        }
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void partiallyReadStreamReleasesConnectionOnClose() throws IOException {
+        InputStream in = jdbc.queryForBinaryStream(CONTENT_SQL, Map.of("fileId", "f1"));
+        byte[] head = new byte[10];
+        assertEquals(10, in.readNBytes(head, 0, head.length));
+        assertEquals("chunk-0|ch", new String(head, StandardCharsets.UTF_8));
+        assertEquals(1, activeConnections());
+
+        in.close();
+
+        assertEquals(0, activeConnections());
+        assertThrows(IOException.class, in::read);
+    }
+
+    @Test
+    void emptyResultYieldsEmptyStream() throws IOException {
+        try (InputStream in = jdbc.queryForBinaryStream(CONTENT_SQL, Map.of("fileId", "missing"))) {
+            assertEquals(-1, in.read());
+        }
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void callbackReadsFirstRowAndReleasesConnection() {
+        String content = jdbc.queryForBinaryStream(FIRST_CHUNK_SQL, Map.of("fileId", "f1"),
+                stream -> new String(stream.readAllBytes(), StandardCharsets.UTF_8));
+
+        assertEquals("chunk-0|", content);
+        assertNull(jdbc.queryForBinaryStream(FIRST_CHUNK_SQL, Map.of("fileId", "missing"), stream -> "unexpected"));
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void callbackFailureReleasesConnection() {
+        assertThrows(DataAccessResourceFailureException.class, () -> jdbc.queryForBinaryStream(FIRST_CHUNK_SQL,
+                Map.of("fileId", "f1"), stream -> {
+                    throw new IOException("disk full");
+                }));
+        assertEquals(0, activeConnections());
+
+        assertThrows(IllegalStateException.class, () -> jdbc.queryForBinaryStream(FIRST_CHUNK_SQL,
+                Map.of("fileId", "f1"), stream -> {
+                    throw new IllegalStateException("rejected");
+                }));
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void failedQueryReleasesConnection() {
+        assertThrows(DataAccessException.class,
+                () -> jdbc.queryForBinaryStream("SELECT chunk_data FROM missing_table WHERE file_id = :fileId", Map.of("fileId", "f1")));
+        assertEquals(0, activeConnections());
+    }
+
+    private int activeConnections() {
+        return dataSource.getHikariPoolMXBean().getActiveConnections();
+    }
+
+    private static void insertChunk(JdbcTemplate jdbcTemplate, String fileId, int chunkIndex, String data) {
+        jdbcTemplate.update("INSERT INTO file_content (file_id, chunk_index, chunk_data) VALUES (?, ?, ?)",
+                fileId, chunkIndex, data.getBytes(StandardCharsets.UTF_8));
+    }
+}
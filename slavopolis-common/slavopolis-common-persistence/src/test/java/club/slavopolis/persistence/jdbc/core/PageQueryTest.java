@@ -0,0 +1,138 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import club.slavopolis.base.response.PageResponse;
+import club.slavopolis.persistence.jdbc.enums.PageMode;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 分页模式测试，使用H2内存数据库
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class PageQueryTest {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private static final String SELECT_ITEMS_SQL = "SELECT id, name FROM page_item WHERE tenant_id = :tenantId ORDER BY id";
+
+    private static final String SELECT_IDS_SQL = "SELECT id FROM page_item WHERE tenant_id = :tenantId ORDER BY id";
+
+    private static final Map<String, Object> TENANT = Map.of("tenantId", "t1");
+
+    private HikariDataSource dataSource;
+
+    private JdbcTemplate setup;
+
+    private EnhancedJdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:page_query_" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE page_item (id INT PRIMARY KEY, name VARCHAR(32), tenant_id VARCHAR(32))");
+        for (int i = 1; i <= 5; i++) {
+            insertItem(i, "t1");
+        }
+        insertItem(100, "t2");
+
+        jdbc = new EnhancedJdbcTemplate(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void hasNextFetchesOneExtraRowAndTrimsToPageSize() {
+        PageResponse<Integer> first = jdbc.queryForPage(SELECT_IDS_SQL, TENANT, Integer.class, 1, 4, PageMode.HAS_NEXT);
+        assertEquals(List.of(1, 2, 3, 4), first.getData());
+        assertTrue(first.isHasNext());
+        assertEquals(-1, first.getTotal());
+        assertEquals(-1, first.getTotalPages());
+
+        PageResponse<Integer> last = jdbc.queryForPage(SELECT_IDS_SQL, TENANT, Integer.class, 2, 4, PageMode.HAS_NEXT);
+        assertEquals(List.of(5), last.getData());
+        assertFalse(last.isHasNext());
+
+        // 恰好一整页时没有多出的行
+        PageResponse<Integer> exact = jdbc.queryForPage(SELECT_IDS_SQL, TENANT, Integer.class, 1, 5, PageMode.HAS_NEXT);
+        assertEquals(5, exact.getData().size());
+        assertFalse(exact.isHasNext());
+    }
+
+    @Test
+    void windowCountReturnsTotalWithoutCountColumn() {
+        PageResponse<Map<String, Object>> page = jdbc.queryForPage(SELECT_ITEMS_SQL, TENANT, 2, 2, PageMode.WINDOW_COUNT);
+
+        assertEquals(5, page.getTotal());
+        assertEquals(3, page.getTotalPages());
+        assertEquals(2, page.getData().size());
+        assertEquals(2, page.getData().getFirst().size());
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    void windowCountOnEmptyPageFallsBackToCount() {
+        PageResponse<Map<String, Object>> beyond = jdbc.queryForPage(SELECT_ITEMS_SQL, TENANT, 4, 2, PageMode.WINDOW_COUNT);
+        assertTrue(beyond.getData().isEmpty());
+        assertEquals(5, beyond.getTotal());
+        assertFalse(beyond.isHasNext());
+
+        PageResponse<Map<String, Object>> none = jdbc.queryForPage(SELECT_ITEMS_SQL, Map.of("tenantId", "missing"), 1, 2,
+                PageMode.WINDOW_COUNT);
+        assertTrue(none.getData().isEmpty());
+        assertEquals(0, none.getTotal());
+    }
+
+    @Test
+    void cachedCountIsReusedUntilExpiry() {
+        assertEquals(5, jdbc.queryForPage(SELECT_IDS_SQL, TENANT, Integer.class, 1, 2, PageMode.CACHED_COUNT).getTotal());
+
+        insertItem(6, "t1");
+
+        // 缓存有效期内沿用旧总数，精确计数立即反映新数据
+        assertEquals(5, jdbc.queryForPage(SELECT_IDS_SQL, TENANT, Integer.class, 1, 2, PageMode.CACHED_COUNT).getTotal());
+        assertEquals(6, jdbc.queryForPage(SELECT_IDS_SQL, TENANT, Integer.class, 1, 2, PageMode.EXACT_COUNT).getTotal());
+        // 不同参数使用不同的缓存条目
+        assertEquals(1, jdbc.queryForPage(SELECT_IDS_SQL, Map.of("tenantId", "t2"), Integer.class, 1, 2,
+                PageMode.CACHED_COUNT).getTotal());
+    }
+
+    @Test
+    void exactCountSkipsDataQueryWhenEmpty() {
+        PageResponse<Integer> page = jdbc.queryForPage(SELECT_IDS_SQL, Map.of("tenantId", "missing"), Integer.class, 1, 2,
+                PageMode.EXACT_COUNT);
+
+        assertTrue(page.getData().isEmpty());
+        assertEquals(0, page.getTotal());
+        assertFalse(page.isHasNext());
+    }
+
+    private void insertItem(int id, String tenantId) {
+        setup.update("INSERT INTO page_item (id, name, tenant_id) VALUES (?, ?, ?)", id, "item-" + id, tenantId);
+    }
+}
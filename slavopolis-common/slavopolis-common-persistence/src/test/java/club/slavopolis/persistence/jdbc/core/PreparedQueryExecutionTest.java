@@ -0,0 +1,172 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import club.slavopolis.base.response.PageResponse;
+import club.slavopolis.persistence.jdbc.enums.PageMode;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 预编译查询执行测试，使用H2内存数据库
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class PreparedQueryExecutionTest {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private static final String SELECT_ITEMS_SQL = "SELECT id, name FROM prepared_item WHERE tenant_id = :tenantId ORDER BY id";
+
+    private HikariDataSource dataSource;
+
+    private EnhancedJdbcTemplate jdbc;
+
+    private record TenantFilter(String tenantId) {
+    }
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:prepared_query_" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE prepared_item (id INT PRIMARY KEY, name VARCHAR(32), tenant_id VARCHAR(32))");
+        for (int i = 1; i <= 5; i++) {
+            setup.update("INSERT INTO prepared_item (id, name, tenant_id) VALUES (?, ?, ?)", i, "item-" + i, "t1");
+        }
+
+        jdbc = new EnhancedJdbcTemplate(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void prepareValidatesSqlAndBindsRowMapper() {
+        PreparedQuery<Item> query = jdbc.prepare(SELECT_ITEMS_SQL, Item.class);
+        assertNotNull(query.getRowMapper());
+
+        assertThrows(SecurityException.class,
+                () -> jdbc.prepare("SELECT id FROM prepared_item WHERE tenant_id = :tenantId; DROP TABLE prepared_item", Item.class));
+    }
+
+    @Test
+    void listObjectAndCountUsePositionalArguments() {
+        PreparedQuery<Item> query = jdbc.prepare(SELECT_ITEMS_SQL, Item.class);
+
+        List<Item> items = jdbc.queryForList(query, "t1");
+        assertEquals(5, items.size());
+        assertEquals("item-1", items.getFirst().getName());
+        assertEquals(5, jdbc.queryForCount(query, "t1"));
+
+        PreparedQuery<String> name = jdbc.prepare("SELECT name FROM prepared_item WHERE id = :id", String.class);
+        assertEquals("item-3", jdbc.queryForObject(name, 3));
+        assertNull(jdbc.queryForObject(name, 99));
+
+        assertThrows(IllegalArgumentException.class, () -> jdbc.queryForList(query));
+    }
+
+    @Test
+    void namedAndRecordParametersAreValidated() {
+        PreparedQuery<Item> query = jdbc.prepare(SELECT_ITEMS_SQL, Item.class);
+
+        assertEquals(5, jdbc.queryForList(query, Map.of("tenantId", "t1")).size());
+        assertEquals(5, jdbc.queryForCount(query, query.bindRecord(new TenantFilter("t1"))));
+        assertThrows(IllegalArgumentException.class, () -> jdbc.queryForList(query, Map.of("tenant", "t1")));
+    }
+
+    @Test
+    void hasNextPageTrimsExtraRow() {
+        PreparedQuery<Item> query = jdbc.prepare(SELECT_ITEMS_SQL, Item.class);
+
+        PageResponse<Item> first = jdbc.queryForPage(query, 1, 2, PageMode.HAS_NEXT, "t1");
+        assertEquals(2, first.getData().size());
+        assertEquals(1, first.getData().getFirst().getId());
+        assertTrue(first.isHasNext());
+        assertEquals(-1, first.getTotal());
+
+        PageResponse<Item> last = jdbc.queryForPage(query, 3, 2, PageMode.HAS_NEXT, "t1");
+        assertEquals(1, last.getData().size());
+        assertEquals(5, last.getData().getFirst().getId());
+        assertFalse(last.isHasNext());
+    }
+
+    @Test
+    void countedPagesShareOnePageStatement() {
+        PreparedQuery<Item> query = jdbc.prepare(SELECT_ITEMS_SQL, Item.class);
+
+        PageResponse<Item> second = jdbc.queryForPage(query, 2, 2, PageMode.EXACT_COUNT, "t1");
+        assertEquals(5, second.getTotal());
+        assertEquals(3, second.getData().getFirst().getId());
+
+        PageResponse<Item> cached = jdbc.queryForPage(query, 3, 2, PageMode.CACHED_COUNT, "t1");
+        assertEquals(5, cached.getTotal());
+        assertEquals(1, cached.getData().size());
+
+        PageResponse<Item> window = jdbc.queryForPage(query, 1, 2, PageMode.WINDOW_COUNT, "t1");
+        assertEquals(5, window.getTotal());
+        assertEquals(2, window.getData().size());
+
+        PageResponse<Item> empty = jdbc.queryForPage(query, 1, 2, PageMode.EXACT_COUNT, "missing");
+        assertTrue(empty.getData().isEmpty());
+        assertEquals(0, empty.getTotal());
+    }
+
+    @Test
+    void unpageableQueryFailsBeforeExecution() {
+        PreparedQuery<Item> query = jdbc.prepare("SELECT id, name FROM prepared_item WHERE tenant_id = :tenantId LIMIT 1", Item.class);
+
+        assertEquals(1, jdbc.queryForList(query, "t1").size());
+        assertThrows(IllegalStateException.class, () -> jdbc.queryForPage(query, 1, 2, PageMode.HAS_NEXT, "t1"));
+    }
+
+    /**
+     * 映射目标
+     */
+    public static class Item {
+
+        private Integer id;
+
+        private String name;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
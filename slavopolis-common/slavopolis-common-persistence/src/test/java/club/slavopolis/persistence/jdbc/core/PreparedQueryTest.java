@@ -0,0 +1,150 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 预编译查询句柄测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class PreparedQueryTest {
+
+    private static final String SQL = "SELECT file_id FROM file_info WHERE tenant_id = :tenantId AND status = :status ORDER BY upload_time DESC";
+
+    private record Filter(String tenantId, Integer status, String ignored) {
+    }
+
+    @Test
+    void parameterNamesFollowFirstOccurrence() {
+        PreparedQuery<String> query = PreparedQuery.of(
+                "SELECT file_id FROM file_info WHERE tenant_id = :tenantId AND (created_by = :user OR updated_by = :user)",
+                String.class);
+
+        assertEquals(List.of("tenantId", "user"), query.getParameterNames());
+    }
+
+    @Test
+    void positionalBindChecksArgumentCount() {
+        PreparedQuery<String> query = PreparedQuery.of(SQL, String.class);
+
+        assertEquals(Map.of("tenantId", "t1", "status", 1), query.bind("t1", 1));
+        assertThrows(IllegalArgumentException.class, () -> query.bind("t1"));
+        assertThrows(IllegalArgumentException.class, () -> query.bind("t1", 1, 2));
+    }
+
+    @Test
+    void mapArgumentIsBoundPositionally() {
+        PreparedQuery<Object> query = PreparedQuery.of("SELECT * FROM file_info WHERE metadata = :metadata", Object.class);
+        Map<String, Object> metadata = Map.of("metadata", "nested");
+
+        Map<String, Object> params = query.bind(new Object[]{metadata});
+
+        assertSame(metadata, params.get("metadata"));
+    }
+
+    @Test
+    void namedBindRequiresEveryParameter() {
+        PreparedQuery<String> query = PreparedQuery.of(SQL, String.class);
+        Map<String, Object> params = new HashMap<>();
+        params.put("tenantId", "t1");
+
+        assertThrows(IllegalArgumentException.class, () -> query.bind(params));
+
+        params.put("status", null);
+        params.put("extra", "kept");
+        assertSame(params, query.bind(params));
+    }
+
+    @Test
+    void recordBindUsesComponentNames() {
+        PreparedQuery<String> query = PreparedQuery.of(SQL, String.class);
+
+        Map<String, Object> params = query.bindRecord(new Filter("t1", 1, "x"));
+
+        assertEquals("t1", params.get("tenantId"));
+        assertEquals(1, params.get("status"));
+
+        PreparedQuery<String> missing = PreparedQuery.of("SELECT file_id FROM file_info WHERE file_hash = :fileHash", String.class);
+        assertThrows(IllegalArgumentException.class, () -> missing.bindRecord(new Filter("t1", 1, "x")));
+    }
+
+    @Test
+    void pageSqlAppendsNamedLimitAndOffset() {
+        PreparedQuery<String> query = PreparedQuery.of(SQL, String.class);
+
+        assertTrue(query.isPageable());
+        assertEquals(SQL + " LIMIT :" + PreparedQuery.LIMIT_PARAMETER + " OFFSET :" + PreparedQuery.OFFSET_PARAMETER,
+                query.getPageSql());
+
+        Map<String, Object> params = query.bindPage(query.bind("t1", 1), 20, 40L);
+        assertEquals(20, params.get(PreparedQuery.LIMIT_PARAMETER));
+        assertEquals(40L, params.get(PreparedQuery.OFFSET_PARAMETER));
+        assertEquals("t1", params.get("tenantId"));
+    }
+
+    @Test
+    void trailingSemicolonIsStripped() {
+        PreparedQuery<String> query = PreparedQuery.of(SQL + " ; ", String.class);
+
+        assertEquals(SQL, query.getSql());
+        assertTrue(query.getPageSql().startsWith(SQL + " LIMIT :"));
+    }
+
+    @Test
+    void queryWithLimitOrLockingClauseIsNotPageable() {
+        List<String> sqls = List.of(
+                "SELECT file_id FROM file_info WHERE file_hash = :fileHash LIMIT 1",
+                "SELECT file_id FROM file_info ORDER BY upload_time OFFSET 10 ROWS",
+                "SELECT file_id FROM file_info FETCH FIRST 10 ROWS ONLY",
+                "SELECT file_id FROM file_info WHERE file_id = :fileId FOR UPDATE",
+                "SELECT file_id FROM file_info WHERE file_id = :fileId FOR SHARE",
+                "SELECT file_id FROM file_info WHERE file_id = :fileId LOCK IN SHARE MODE");
+
+        for (String sql : sqls) {
+            PreparedQuery<String> query = PreparedQuery.of(sql, String.class);
+            assertFalse(query.isPageable(), sql);
+            assertThrows(IllegalStateException.class, query::getPageSql, sql);
+            // 计数不受影响
+            assertTrue(query.getCountSql().startsWith("SELECT COUNT(*)"), sql);
+        }
+    }
+
+    @Test
+    void limitInSubqueryDoesNotPreventPaging() {
+        PreparedQuery<String> query = PreparedQuery.of(
+                "SELECT file_id FROM file_info WHERE file_id IN (SELECT file_id FROM file_access ORDER BY access_time DESC LIMIT 10)",
+                String.class);
+
+        assertTrue(query.isPageable());
+    }
+
+    @Test
+    void columnNamedOffsetDoesNotPreventPaging() {
+        PreparedQuery<String> query = PreparedQuery.of("SELECT file_id, offset FROM file_chunk WHERE file_id = :fileId", String.class);
+
+        assertTrue(query.isPageable());
+    }
+
+    @Test
+    void reservedAndPositionalParametersAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PreparedQuery.of("SELECT * FROM file_info LIMIT :" + PreparedQuery.LIMIT_PARAMETER, Object.class));
+        assertThrows(IllegalArgumentException.class,
+                () -> PreparedQuery.of("SELECT * FROM file_info WHERE file_id = ?", Object.class));
+    }
+}
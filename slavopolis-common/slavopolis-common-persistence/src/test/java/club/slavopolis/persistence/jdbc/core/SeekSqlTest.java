@@ -0,0 +1,94 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import club.slavopolis.persistence.jdbc.page.SeekKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 游标分页SQL构建测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class SeekSqlTest {
+
+    private static final String SQL = "SELECT tenant_id, created_time, id, name FROM file_info WHERE status = :status ORDER BY created_time DESC";
+
+    private static final List<SeekKey> MIXED_KEYS = List.of(SeekKey.asc("tenant_id"), SeekKey.desc("created_time"), SeekKey.asc("id"));
+
+    private EnhancedJdbcTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        // 只构建SQL，不会获取连接
+        template = new EnhancedJdbcTemplate(new NamedParameterJdbcTemplate(new SimpleDriverDataSource()));
+    }
+
+    @Test
+    void firstPageWrapsQueryWithoutSeekCondition() {
+        Map<String, Object> params = new HashMap<>();
+
+        String seekSql = template.buildSeekSql(SQL, MIXED_KEYS, null, params, 21);
+
+        assertEquals("SELECT * FROM (SELECT tenant_id, created_time, id, name FROM file_info WHERE status = :status) AS seek_page_query"
+                + " ORDER BY tenant_id ASC, created_time DESC, id ASC LIMIT 21", seekSql);
+        assertTrue(params.isEmpty());
+    }
+
+    @Test
+    void mixedDirectionKeysetExpandsPerColumnComparison() {
+        LocalDateTime createdTime = LocalDateTime.of(2025, 7, 2, 10, 30);
+        Map<String, Object> params = new HashMap<>();
+        params.put("status", 1);
+
+        String seekSql = template.buildSeekSql(SQL, MIXED_KEYS, List.of(7L, createdTime, 1024L), params, 21);
+
+        assertEquals("SELECT * FROM (SELECT tenant_id, created_time, id, name FROM file_info WHERE status = :status) AS seek_page_query"
+                + " WHERE tenant_id >= :_seekKey0 AND (tenant_id > :_seekKey0"
+                + " OR (tenant_id = :_seekKey0 AND created_time < :_seekKey1)"
+                + " OR (tenant_id = :_seekKey0 AND created_time = :_seekKey1 AND id > :_seekKey2))"
+                + " ORDER BY tenant_id ASC, created_time DESC, id ASC LIMIT 21", seekSql);
+        assertEquals(4, params.size());
+        assertEquals(1, params.get("status"));
+        assertEquals(7L, params.get("_seekKey0"));
+        assertEquals(createdTime, params.get("_seekKey1"));
+        assertEquals(1024L, params.get("_seekKey2"));
+    }
+
+    @Test
+    void leadingDescendingKeyUsesUpperBoundRange() {
+        List<SeekKey> keys = List.of(SeekKey.desc("created_time"), SeekKey.asc("id"));
+        Map<String, Object> params = new HashMap<>();
+
+        String seekSql = template.buildSeekSql(SQL, keys, List.of("2025-07-02 10:30:00", 5L), params, 11);
+
+        assertEquals("SELECT * FROM (SELECT tenant_id, created_time, id, name FROM file_info WHERE status = :status) AS seek_page_query"
+                + " WHERE created_time <= :_seekKey0 AND (created_time < :_seekKey0"
+                + " OR (created_time = :_seekKey0 AND id > :_seekKey1))"
+                + " ORDER BY created_time DESC, id ASC LIMIT 11", seekSql);
+    }
+
+    @Test
+    void singleKeyUsesPlainComparison() {
+        Map<String, Object> params = new HashMap<>();
+
+        String seekSql = template.buildSeekSql(SQL, List.of(SeekKey.desc("id")), List.of(99L), params, 11);
+
+        assertEquals("SELECT * FROM (SELECT tenant_id, created_time, id, name FROM file_info WHERE status = :status) AS seek_page_query"
+                + " WHERE id < :_seekKey0 ORDER BY id DESC LIMIT 11", seekSql);
+    }
+}
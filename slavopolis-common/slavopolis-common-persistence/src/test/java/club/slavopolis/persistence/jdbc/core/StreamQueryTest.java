@@ -0,0 +1,132 @@
+package club.slavopolis.persistence.jdbc.core;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 流式查询测试，使用连接池上的H2内存数据库，验证结果逐行读取、fetch size生效以及连接在关闭时归还
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class StreamQueryTest {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private static final String SELECT_IDS_SQL = "SELECT id FROM stream_item WHERE id > :minId ORDER BY id";
+
+    private static final int ROW_COUNT = 50;
+
+    private HikariDataSource dataSource;
+
+    private EnhancedJdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:stream_query_" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE stream_item (id INT PRIMARY KEY, name VARCHAR(32))");
+        for (int i = 1; i <= ROW_COUNT; i++) {
+            setup.update("INSERT INTO stream_item (id, name) VALUES (?, ?)", i, "item-" + i);
+        }
+
+        jdbc = new EnhancedJdbcTemplate(new NamedParameterJdbcTemplate(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void streamReturnsAllRowsInOrderAndReleasesConnection() {
+        try (Stream<Integer> ids = jdbc.queryForStream(SELECT_IDS_SQL, Map.of("minId", 0), Integer.class)) {
+            assertEquals(1, activeConnections());
+            List<Integer> result = ids.toList();
+            assertEquals(ROW_COUNT, result.size());
+            assertEquals(1, result.getFirst());
+            assertEquals(ROW_COUNT, result.getLast());
+        }
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void partiallyConsumedStreamReleasesConnectionOnClose() {
+        Stream<Integer> ids = jdbc.queryForStream(SELECT_IDS_SQL, Map.of("minId", 10), Integer.class);
+        Iterator<Integer> iterator = ids.iterator();
+        assertEquals(11, iterator.next());
+        assertEquals(12, iterator.next());
+        assertEquals(1, activeConnections());
+
+        ids.close();
+
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void fetchSizeIsAppliedToStatement() {
+        List<Integer> fetchSizes = new ArrayList<>();
+        try (Stream<String> names = jdbc.queryForStream("SELECT name FROM stream_item WHERE id > :minId ORDER BY id",
+                Map.of("minId", ROW_COUNT - 3), (rs, rowNum) -> {
+                    fetchSizes.add(rs.getStatement().getFetchSize());
+                    return rs.getString(1);
+                })) {
+            assertEquals(List.of("item-48", "item-49", "item-50"), names.toList());
+        }
+        // 默认流式fetch size
+        assertEquals(List.of(1000, 1000, 1000), fetchSizes);
+
+        try (Stream<Integer> ids = jdbc.queryForStream(SELECT_IDS_SQL, Map.of("minId", 0), Integer.class, 7)) {
+            assertEquals(ROW_COUNT, ids.count());
+        }
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void forEachVisitsEveryRowAndReleasesConnection() {
+        List<Integer> visited = new ArrayList<>();
+
+        long count = jdbc.queryForEach(SELECT_IDS_SQL, Map.of("minId", ROW_COUNT - 5), Integer.class, visited::add);
+
+        assertEquals(5, count);
+        assertEquals(List.of(46, 47, 48, 49, 50), visited);
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void failingActionReleasesConnection() {
+        assertThrows(IllegalStateException.class, () -> jdbc.queryForEach(SELECT_IDS_SQL, Map.of("minId", 0), Integer.class, id -> {
+            if (id == 3) {
+                throw new IllegalStateException("rejected");
+            }
+        }));
+        assertEquals(0, activeConnections());
+    }
+
+    private int activeConnections() {
+        return dataSource.getHikariPoolMXBean().getActiveConnections();
+    }
+}
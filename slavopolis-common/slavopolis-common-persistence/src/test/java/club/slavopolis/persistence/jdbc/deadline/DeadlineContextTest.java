@@ -0,0 +1,101 @@
+package club.slavopolis.persistence.jdbc.deadline;
+
+import club.slavopolis.persistence.jdbc.exception.DataAccessException;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import java.lang.reflect.Proxy;
+import java.sql.SQLException;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 查询截止时间上下文测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class DeadlineContextTest {
+
+    @Test
+    void timeoutIsRecognizedByTypeAlongCauseChain() {
+        assertTrue(DeadlineContext.isTimeout(new QueryTimeoutException("timeout")));
+        assertTrue(DeadlineContext.isTimeout(new UncategorizedSQLException("query", "SELECT 1", new SQLTimeoutException())));
+        assertTrue(DeadlineContext.isTimeout(new UncategorizedSQLException("query", "SELECT 1",
+                new SQLException("Query execution was interrupted", "70100", 1317))));
+        assertTrue(DeadlineContext.isTimeout(DataAccessException.deadlineExceeded(5)));
+        assertTrue(DeadlineContext.isTimeout(DataAccessException.queryCancelled()));
+
+        assertFalse(DeadlineContext.isTimeout(new DuplicateKeyException("duplicate",
+                new SQLIntegrityConstraintViolationException("duplicate", "23000"))));
+    }
+
+    @Test
+    void failuresAfterDeadlineAreNotCountedAsTimeouts() {
+        DeadlineContext deadline = DeadlineContext.after(Duration.ZERO);
+        deadline.cancel();
+
+        assertFalse(deadline.call(() -> DeadlineContext.isTimeout(new DuplicateKeyException("duplicate"))));
+    }
+
+    @Test
+    void cancelFromAnotherThreadCancelsRegisteredStatements() throws Exception {
+        AtomicInteger cancelled = new AtomicInteger();
+        Statement statement = statement(cancelled);
+        DeadlineContext deadline = DeadlineContext.after(Duration.ofSeconds(30));
+        deadline.applyTo(statement);
+
+        Thread canceller = new Thread(deadline::cancel);
+        canceller.start();
+        canceller.join();
+
+        assertEquals(1, cancelled.get());
+        assertTrue(deadline.isCancelled());
+        assertThrows(DataAccessException.class, () -> deadline.applyTo(statement(cancelled)));
+    }
+
+    @Test
+    void nestedDeadlineNeverOutlivesOuterAndSharesCancellation() {
+        DeadlineContext outer = DeadlineContext.after(Duration.ofMillis(200));
+
+        DeadlineContext inner = outer.call(() -> DeadlineContext.after(Duration.ofHours(1)));
+        assertTrue(inner.remainingNanos() <= Duration.ofMillis(200).toNanos());
+
+        outer.cancel();
+        assertTrue(inner.isCancelled());
+    }
+
+    private static Statement statement(AtomicInteger cancelled) {
+        int[] queryTimeout = {0};
+        return (Statement) Proxy.newProxyInstance(DeadlineContextTest.class.getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getQueryTimeout" -> queryTimeout[0];
+                    case "setQueryTimeout" -> {
+                        queryTimeout[0] = (Integer) args[0];
+                        yield null;
+                    }
+                    case "isClosed" -> false;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "cancel" -> {
+                        cancelled.incrementAndGet();
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
@@ -0,0 +1,89 @@
+package club.slavopolis.persistence.jdbc.exception;
+
+import club.slavopolis.persistence.jdbc.enums.ExceptionCategory;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 异常分类器测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class ExceptionClassifierTest {
+
+    @Test
+    void lockingFailuresAreTransient() {
+        assertTransient(new PessimisticLockingFailureException("deadlock"));
+        assertTransient(new CannotAcquireLockException("lock wait timeout"));
+        assertTransient(new SQLTransactionRollbackException("rollback"));
+        assertTransient(new SQLTransientConnectionException("connection reset"));
+    }
+
+    @Test
+    void vendorCodesAreFoundAlongCauseChain() {
+        assertTransient(sqlFailure(new SQLException("Deadlock found", "40001", 1213)));
+        assertTransient(sqlFailure(new SQLException("Lock wait timeout exceeded", "HY000", 1205)));
+        assertTransient(sqlFailure(new SQLException("deadlock detected", "40P01", 0)));
+        assertTransient(new IllegalStateException(new RuntimeException(new SQLException("Deadlock found", "HY000", 1213))));
+    }
+
+    @Test
+    void wrappedJdbcExceptionIsClassifiedByItsCause() {
+        TransactionException deadlockOnCommit = TransactionException.commitTransactionError(
+                sqlFailure(new SQLException("Deadlock found", "40001", 1213)));
+        assertTransient(deadlockOnCommit);
+
+        TransactionException otherCommitFailure = TransactionException.commitTransactionError(
+                sqlFailure(new SQLException("Disk full", "HY000", 1021)));
+        assertEquals(ExceptionCategory.TRANSACTION, ExceptionClassifier.classify(otherCommitFailure));
+    }
+
+    @Test
+    void timeoutsAreNotTransient() {
+        assertEquals(ExceptionCategory.DATA_ACCESS, ExceptionClassifier.classify(new QueryTimeoutException("timeout",
+                new SQLException("Deadlock found", "40001", 1213))));
+        assertFalse(ExceptionClassifier.isTransientException(DataAccessException.deadlineExceeded(10)));
+    }
+
+    @Test
+    void unknownFailuresFallBackToGeneralCategories() {
+        assertEquals(ExceptionCategory.DATA_ACCESS, ExceptionClassifier.classify(new DuplicateKeyException("duplicate")));
+        assertEquals(ExceptionCategory.GENERAL, ExceptionClassifier.classify(new IllegalStateException("boom")));
+        assertEquals(ExceptionCategory.GENERAL, ExceptionClassifier.classify(null));
+    }
+
+    @Test
+    void cyclicCauseChainTerminates() {
+        RuntimeException first = new RuntimeException("first");
+        RuntimeException second = new RuntimeException("second", first);
+        first.initCause(second);
+
+        assertEquals(ExceptionCategory.GENERAL, ExceptionClassifier.classify(first));
+    }
+
+    private static UncategorizedSQLException sqlFailure(SQLException cause) {
+        return new UncategorizedSQLException("statement", "UPDATE t SET a = 1", cause);
+    }
+
+    private static void assertTransient(Throwable e) {
+        assertEquals(ExceptionCategory.TRANSIENT, ExceptionClassifier.classify(e));
+        assertTrue(ExceptionClassifier.isTransientException(e));
+    }
+}
@@ -0,0 +1,83 @@
+package club.slavopolis.persistence.jdbc.mapping;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * 紧凑行映射器测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class CompactRowMapperTest {
+
+    @Test
+    void excludedColumnIsLeftOutOfHeader() throws Exception {
+        CompactRowMapper mapper = new CompactRowMapper("camel").excluding("_TOTAL_COUNT");
+
+        Map<String, Object> row = mapper.mapRow(resultSet(List.of("user_id", "_total_count", "user_name"),
+                List.of(1L, 42, "alice")), 0);
+
+        assertEquals(2, mapper.getHeader().size());
+        assertEquals(List.of("userId", "userName"), List.copyOf(row.keySet()));
+        assertFalse(row.containsKey("_total_count"));
+        assertEquals("alice", row.get("USERNAME"));
+    }
+
+    @Test
+    void serializesAsCaseInsensitiveMap() throws Exception {
+        Map<String, Object> row = new CompactRowMapper().mapRow(resultSet(List.of("ID", "NAME"), List.of(7L, "bob")), 0);
+
+        Object copy = roundTrip(row);
+
+        assertInstanceOf(LinkedCaseInsensitiveMap.class, copy);
+        assertEquals(row, copy);
+        assertEquals("bob", ((Map<?, ?>) copy).get("name"));
+    }
+
+    private static Object roundTrip(Object value) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+
+    /**
+     * 只支持按位置读取当前行的结果集
+     */
+    private static ResultSet resultSet(List<String> columns, List<Object> values) {
+        ResultSetMetaData metaData = (ResultSetMetaData) Proxy.newProxyInstance(CompactRowMapperTest.class.getClassLoader(),
+                new Class<?>[]{ResultSetMetaData.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getColumnCount" -> columns.size();
+                    case "getColumnLabel", "getColumnName" -> columns.get((Integer) args[0] - 1);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        return (ResultSet) Proxy.newProxyInstance(CompactRowMapperTest.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getMetaData" -> metaData;
+                    case "getObject" -> values.get((Integer) args[0] - 1);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
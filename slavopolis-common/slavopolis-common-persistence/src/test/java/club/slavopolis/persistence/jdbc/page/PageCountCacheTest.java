@@ -0,0 +1,77 @@
+package club.slavopolis.persistence.jdbc.page;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 分页计数缓存测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class PageCountCacheTest {
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM file_info WHERE tenant_id = :tenantId";
+
+    private final AtomicInteger counts = new AtomicInteger();
+
+    @Test
+    void totalIsCachedPerSqlAndParameters() {
+        PageCountCache cache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
+
+        assertEquals(1, cache.get(COUNT_SQL, Map.of("tenantId", "t1"), this::count));
+        assertEquals(1, cache.get(COUNT_SQL, Map.of("tenantId", "t1"), this::count));
+        assertEquals(2, cache.get(COUNT_SQL, Map.of("tenantId", "t2"), this::count));
+        assertEquals(3, cache.get("SELECT COUNT(*) FROM file_info", Map.of(), this::count));
+        assertEquals(3, cache.get("SELECT COUNT(*) FROM file_info", null, this::count));
+        assertEquals(3, counts.get());
+    }
+
+    @Test
+    void parametersAreCopiedIntoKey() {
+        PageCountCache cache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
+        Map<String, Object> params = new HashMap<>();
+        params.put("tenantId", "t1");
+        cache.get(COUNT_SQL, params, this::count);
+
+        // 调用方复用参数Map不影响已缓存的条目
+        params.put("tenantId", "t2");
+
+        assertEquals(2, cache.get(COUNT_SQL, params, this::count));
+        assertEquals(1, cache.get(COUNT_SQL, Map.of("tenantId", "t1"), this::count));
+    }
+
+    @Test
+    void invalidateAllForcesRecount() {
+        PageCountCache cache = new PageCountCache(PageCountCache.DEFAULT_TTL, PageCountCache.DEFAULT_MAXIMUM_SIZE);
+        cache.get(COUNT_SQL, Map.of("tenantId", "t1"), this::count);
+
+        cache.invalidateAll();
+
+        assertEquals(2, cache.get(COUNT_SQL, Map.of("tenantId", "t1"), this::count));
+    }
+
+    @Test
+    void expiredTotalIsRecounted() throws InterruptedException {
+        PageCountCache cache = new PageCountCache(Duration.ofMillis(20), PageCountCache.DEFAULT_MAXIMUM_SIZE);
+        cache.get(COUNT_SQL, Map.of("tenantId", "t1"), this::count);
+
+        Thread.sleep(60);
+
+        assertEquals(2, cache.get(COUNT_SQL, Map.of("tenantId", "t1"), this::count));
+    }
+
+    private int count() {
+        return counts.incrementAndGet();
+    }
+}
@@ -0,0 +1,131 @@
+package club.slavopolis.persistence.jdbc.routing;
+
+import club.slavopolis.persistence.jdbc.core.EnhancedJdbcTemplate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 读写分离路由数据源测试，主库和从库为两个独立的H2内存数据库
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private static final String SELECT_NODE_SQL = "SELECT node_name FROM node_info WHERE id = :id";
+
+    private static final String UPDATE_HITS_SQL = "UPDATE node_info SET hits = hits + 1 WHERE id = :id";
+
+    private static final Map<String, Object> PARAMS = Map.of("id", 1);
+
+    private DataSource primary;
+
+    private ReadWriteRoutingDataSource routing;
+
+    private DataSource lazyProxy;
+
+    private EnhancedJdbcTemplate jdbc;
+
+    @BeforeEach
+    void setUp() {
+        primary = createNode("primary");
+        routing = new ReadWriteRoutingDataSource(primary, Map.of("replica", createNode("replica")));
+        routing.setHealthCheckInterval(Duration.ZERO);
+        routing.setStickiness(Duration.ofMillis(300));
+        routing.afterPropertiesSet();
+        lazyProxy = routing.toLazyProxy();
+        jdbc = new EnhancedJdbcTemplate(new NamedParameterJdbcTemplate(lazyProxy));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadWriteRouting.clearWrite();
+        routing.close();
+    }
+
+    @Test
+    void readsGoToReplicaAndWritesToPrimary() {
+        assertEquals("replica", readNode());
+
+        assertEquals(1, jdbc.update(UPDATE_HITS_SQL, PARAMS));
+        assertEquals(1, new JdbcTemplate(primary).queryForObject("SELECT hits FROM node_info WHERE id = 1", Integer.class));
+        assertEquals(1L, routing.getReplicaStatuses().getFirst().getRoutedConnections());
+    }
+
+    @Test
+    void readsStayOnPrimaryWithinStickinessWindowAfterWrite() throws InterruptedException {
+        jdbc.update(UPDATE_HITS_SQL, PARAMS);
+
+        assertEquals("primary", readNode());
+        assertEquals(1L, routing.getStickyReads());
+
+        Thread.sleep(routing.getStickiness().toMillis() + 100);
+        assertEquals("replica", readNode());
+    }
+
+    @Test
+    void clearWriteEndsStickinessImmediately() {
+        jdbc.update(UPDATE_HITS_SQL, PARAMS);
+        ReadWriteRouting.clearWrite();
+
+        assertEquals("replica", readNode());
+    }
+
+    @Test
+    void filterClearsWriteRecordWhenRequestEnds() throws Exception {
+        new ReadWriteRoutingFilter().doFilter(null, null, (request, response) -> {
+            jdbc.update(UPDATE_HITS_SQL, PARAMS);
+            assertEquals("primary", readNode());
+        });
+
+        assertEquals("replica", readNode());
+    }
+
+    @Test
+    void primaryScopeForcesPrimary() {
+        assertEquals("primary", ReadWriteRouting.primary(this::readNode));
+    }
+
+    @Test
+    void transactionsRouteByReadOnlyFlag() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(lazyProxy));
+
+        transactionTemplate.setReadOnly(true);
+        assertEquals("replica", transactionTemplate.execute(status -> readNode()));
+
+        transactionTemplate.setReadOnly(false);
+        assertEquals("primary", transactionTemplate.execute(status -> readNode()));
+    }
+
+    private String readNode() {
+        return jdbc.queryForString(SELECT_NODE_SQL, PARAMS);
+    }
+
+    private static DataSource createNode(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + "_" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node_info (id INT PRIMARY KEY, node_name VARCHAR(32), hits INT)");
+        jdbcTemplate.update("INSERT INTO node_info (id, node_name, hits) VALUES (1, ?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,82 @@
+package club.slavopolis.persistence.jdbc.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static club.slavopolis.persistence.jdbc.security.InjectionPatternMatcher.ALL;
+import static club.slavopolis.persistence.jdbc.security.InjectionPatternMatcher.DANGEROUS_SEQUENCE;
+import static club.slavopolis.persistence.jdbc.security.InjectionPatternMatcher.KEYWORD;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 注入特征多模式匹配器测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class InjectionPatternMatcherTest {
+
+    private static final InjectionPatternMatcher MATCHER = new InjectionPatternMatcher(
+            List.of("user", "char", "union", "select", "sp_", "@@"), List.of("'", "--", ";"));
+
+    @Test
+    void keywordsMatchOnWordBoundariesOnly() {
+        assertEquals(KEYWORD, scan("user"));
+        assertEquals(KEYWORD, scan("SELECT user()"));
+        assertEquals(KEYWORD, scan("CHAR(65)"));
+        assertEquals(KEYWORD, scan("a union b"));
+
+        assertEquals(0, scan("username"));
+        assertEquals(0, scan("superuser"));
+        assertEquals(0, scan("my_user"));
+        assertEquals(0, scan("user1"));
+        assertEquals(0, scan("charset"));
+        assertEquals(0, scan("varchar"));
+        assertEquals(0, scan("reunion selection"));
+    }
+
+    @Test
+    void symbolEdgedKeywordsMatchAsPrefixes() {
+        assertEquals(KEYWORD, scan("sp_executesql"));
+        assertEquals(KEYWORD, scan("exec sp_who2"));
+        assertEquals(0, scan("wasp_nest"));
+
+        assertEquals(KEYWORD, scan("@@version"));
+        assertEquals(KEYWORD, scan("select@@datadir"));
+        assertEquals(0, scan("admin@example.com"));
+    }
+
+    @Test
+    void dangerousSequencesMatchAnywhere() {
+        assertEquals(DANGEROUS_SEQUENCE, scan("O'Brien"));
+        assertEquals(DANGEROUS_SEQUENCE, scan("1--"));
+        assertEquals(0, scan("a-b-c"));
+        assertEquals(ALL, scan("' union select 1;"));
+    }
+
+    @Test
+    void stopsOnceStopMaskIsSatisfied() {
+        assertEquals(KEYWORD, MATCHER.scan("user'", 0, KEYWORD));
+        assertEquals(ALL, MATCHER.scan("user'", 0, ALL));
+    }
+
+    @Test
+    void scanLimitBoundsInspectedContent() {
+        int limit = 4096;
+        String padding = "a".repeat(limit - 1) + " ";
+
+        assertEquals(0, MATCHER.scan(padding + "union select", limit, ALL));
+        assertEquals(ALL, MATCHER.scan(padding + "' union select", 0, ALL));
+        // 最后一个受检字符处结束的关键词仍会命中
+        assertEquals(KEYWORD, MATCHER.scan("a".repeat(limit - 5) + " user", limit, ALL));
+    }
+
+    private static int scan(String value) {
+        return MATCHER.scan(value, 0, ALL);
+    }
+}
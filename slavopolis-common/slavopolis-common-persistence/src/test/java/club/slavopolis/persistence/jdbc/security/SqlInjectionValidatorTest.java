@@ -0,0 +1,119 @@
+package club.slavopolis.persistence.jdbc.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * SQL注入验证器测试
+ * <p>攻击语句须被拒绝；字面量中出现的关键字、分号和注释符号不应误判</p>
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class SqlInjectionValidatorTest {
+
+    private SqlInjectionValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        validator = new SqlInjectionValidator();
+    }
+
+    @Test
+    void rejectsStackedQueries() {
+        assertRejected("SELECT * FROM users WHERE id = 1; DROP TABLE users");
+        assertRejected("SELECT * FROM users WHERE id = 1 ;delete FROM users");
+        assertRejected("UPDATE users SET name = 'a' WHERE id = 1; SELECT password FROM users");
+    }
+
+    @Test
+    void rejectsCommentTricks() {
+        assertRejected("SELECT * FROM users WHERE name = 'admin' -- AND password = 'secret'");
+        assertRejected("SELECT * FROM users WHERE name = 'admin' # AND password = 'secret'");
+        assertRejected("SELECT * FROM users WHERE id = 1 /* AND tenant_id = 2 */");
+        assertRejected("SELECT/**/password/**/FROM/**/users");
+        assertRejected("SELECT * FROM users WHERE id = 1 /*! UNION SELECT password FROM users */");
+    }
+
+    @Test
+    void rejectsStringLiteralEvasion() {
+        assertRejected("'admin' UNION SELECT password FROM users");
+        assertRejected("'x' OR 1 = 1 UNION SELECT name FROM users");
+        assertRejected("SELECT * FROM users WHERE name = 0x61646d696e");
+        assertRejected("SELECT * FROM users WHERE name = X'61646d696e'");
+        assertRejected("EXEC('DROP TABLE users')");
+        assertRejected("SELECT xp_cmdshell('dir')");
+    }
+
+    @Test
+    void strictModeRejectsUnbalancedQuotesAndAnyStatementSeparator() {
+        String unbalanced = "SELECT * FROM users WHERE name = 'admin";
+        String separated = "UPDATE users SET name = 'a' WHERE id = 1; COMMIT";
+        assertDoesNotThrow(() -> validator.validateSql(unbalanced));
+        assertDoesNotThrow(() -> validator.validateSql(separated));
+
+        validator.setStrictMode(true);
+        assertRejected(unbalanced);
+        assertRejected(separated);
+    }
+
+    @Test
+    void keywordsInsideLiteralsAreNotFlagged() {
+        validator.setStrictMode(true);
+
+        assertAccepted("SELECT * FROM notes WHERE body = 'drop table users; -- not a comment'");
+        assertAccepted("SELECT * FROM notes WHERE body = 'it''s a union select'");
+        assertAccepted("SELECT * FROM posts WHERE tag = '#sale' OR tag = '/* promo */'");
+        assertAccepted("INSERT INTO audit_log (message) VALUES ('exec(cmd); delete from users')");
+        assertAccepted("SELECT \"select\", updated_at, user_name FROM accounts WHERE note = 'a\\'; drop table x'");
+        assertAccepted("SELECT name FROM users WHERE id = :id AND status IN (:statuses)");
+    }
+
+    @Test
+    void strictModeRejectsInjectionInParameters() {
+        validator.setStrictMode(true);
+
+        assertThrows(SecurityException.class, () -> validator.validateParameter("name", "x' OR user = 'admin"));
+        assertThrows(SecurityException.class, () -> validator.validateParameter("id", "1; --"));
+        assertDoesNotThrow(() -> validator.validateParameter("name", "username charset"));
+    }
+
+    @Test
+    void longParameterIsScannedByDefault() {
+        validator.setStrictMode(true);
+        String payload = "a".repeat(4096) + "' UNION SELECT password FROM users --";
+
+        assertThrows(SecurityException.class, () -> validator.validateParameter("comment", payload));
+    }
+
+    @Test
+    void strictModeIgnoresScanLimit() {
+        validator.setStrictMode(true);
+        validator.setMaxParameterScanLength(16);
+        String payload = "a".repeat(32) + "' UNION SELECT password FROM users --";
+
+        assertThrows(SecurityException.class, () -> validator.validateParameter("comment", payload));
+    }
+
+    @Test
+    void disabledValidatorAcceptsEverything() {
+        validator.setValidationEnabled(false);
+
+        assertAccepted("SELECT * FROM users WHERE id = 1; DROP TABLE users");
+    }
+
+    private void assertRejected(String sql) {
+        assertThrows(SecurityException.class, () -> validator.validateSql(sql), sql);
+    }
+
+    private void assertAccepted(String sql) {
+        assertDoesNotThrow(() -> validator.validateSql(sql), sql);
+    }
+}
@@ -0,0 +1,102 @@
+package club.slavopolis.persistence.jdbc.transaction;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 事务重试策略测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class RetryPolicyTest {
+
+    @Test
+    void budgetRejectsRetriesOnceCapacityIsSpent() {
+        RetryPolicy policy = RetryPolicy.builder().budgetCapacity(3).budgetRatio(0.5).build();
+
+        assertTrue(policy.tryAcquireRetry());
+        assertTrue(policy.tryAcquireRetry());
+        assertTrue(policy.tryAcquireRetry());
+        assertFalse(policy.tryAcquireRetry());
+        assertEquals(0.0, policy.getAvailableTokens(), 0.0001);
+    }
+
+    @Test
+    void transactionsRefillBudgetByRatio() {
+        RetryPolicy policy = RetryPolicy.builder().budgetCapacity(1).budgetRatio(0.5).build();
+        assertTrue(policy.tryAcquireRetry());
+
+        policy.recordTransaction();
+        assertEquals(0.5, policy.getAvailableTokens(), 0.0001);
+        assertFalse(policy.tryAcquireRetry());
+
+        policy.recordTransaction();
+        assertTrue(policy.tryAcquireRetry());
+        assertFalse(policy.tryAcquireRetry());
+    }
+
+    @Test
+    void depositsNeverExceedCapacity() {
+        RetryPolicy policy = RetryPolicy.builder().budgetCapacity(2).budgetRatio(0.2).build();
+
+        for (int i = 0; i < 100; i++) {
+            policy.recordTransaction();
+        }
+
+        assertEquals(2.0, policy.getAvailableTokens(), 0.0001);
+    }
+
+    @Test
+    void zeroRatioBudgetIsNeverRefilled() {
+        RetryPolicy policy = RetryPolicy.builder().budgetCapacity(1).budgetRatio(0).build();
+        assertTrue(policy.tryAcquireRetry());
+
+        policy.recordTransaction();
+
+        assertFalse(policy.tryAcquireRetry());
+    }
+
+    @Test
+    void retriesOnlyTransientFailuresWithinAttemptLimit() {
+        RetryPolicy policy = RetryPolicy.builder().maxAttempts(3).build();
+        PessimisticLockingFailureException deadlock = new PessimisticLockingFailureException("deadlock");
+
+        assertTrue(policy.isRetryable(deadlock, 1));
+        assertTrue(policy.isRetryable(deadlock, 2));
+        assertFalse(policy.isRetryable(deadlock, 3));
+        assertFalse(policy.isRetryable(new DuplicateKeyException("duplicate"), 1));
+    }
+
+    @Test
+    void backoffGrowsWithJitterAndStopsAtMaximum() {
+        RetryPolicy policy = RetryPolicy.builder()
+                .initialBackoff(Duration.ofMillis(20))
+                .maxBackoff(Duration.ofMillis(50))
+                .multiplier(2.0)
+                .build();
+
+        for (int i = 0; i < 50; i++) {
+            assertBetween(policy.backoffNanos(1), 10, 20);
+            assertBetween(policy.backoffNanos(2), 20, 40);
+            assertBetween(policy.backoffNanos(3), 25, 50);
+            assertBetween(policy.backoffNanos(10), 25, 50);
+        }
+    }
+
+    private static void assertBetween(long nanos, long minMillis, long maxMillis) {
+        assertTrue(nanos >= Duration.ofMillis(minMillis).toNanos() && nanos <= Duration.ofMillis(maxMillis).toNanos(),
+                nanos + "ns not in [" + minMillis + "ms, " + maxMillis + "ms]");
+    }
+}
@@ -0,0 +1,120 @@
+package club.slavopolis.persistence.jdbc.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 事务工作单元测试
+ *
+ * @author slavopolis
+ * @version 1.0.0
+ * @since 2025/7/2
+ * <p>
+ * Copyright (c) 2025 slavopolis-cloud-initializr
+ * All rights reserved.
+ */
+class UnitOfWorkTest {
+
+    private static final String INSERT_SQL = "INSERT INTO file_info (file_id) VALUES (:fileId)";
+
+    private static final String UPDATE_SQL = "UPDATE file_info SET status = 1 WHERE file_id = :fileId";
+
+    private static final Set<String> FILE_INFO = Set.of("file_info");
+
+    private final DataSource dataSource = new SimpleDriverDataSource();
+
+    private final List<String> flushed = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.getResourceMap().keySet()
+                .forEach(TransactionSynchronizationManager::unbindResource);
+    }
+
+    @Test
+    void notBoundOutsideTransaction() {
+        assertNull(UnitOfWork.bindIfAbsent(dataSource, this::record));
+        assertNull(UnitOfWork.getBound(dataSource));
+    }
+
+    @Test
+    void sameDataSourceSharesUnitOfWorkAndFlushesBeforeCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        UnitOfWork unitOfWork = UnitOfWork.bindIfAbsent(dataSource, this::record);
+        assertSame(unitOfWork, UnitOfWork.bindIfAbsent(dataSource, (sql, params, logging) -> {
+            throw new AssertionError("second flusher must not be used");
+        }));
+        assertSame(unitOfWork, UnitOfWork.getBound(dataSource));
+        assertNull(UnitOfWork.getBound(new SimpleDriverDataSource()));
+
+        unitOfWork.enqueue(INSERT_SQL, FILE_INFO, Map.of("fileId", "f1"), false);
+        unitOfWork.enqueue(INSERT_SQL, FILE_INFO, Map.of("fileId", "f2"), false);
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+        assertEquals(List.of(INSERT_SQL + " x2"), flushed);
+        assertEquals(0, unitOfWork.getPendingCount());
+
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        assertNull(UnitOfWork.getBound(dataSource));
+    }
+
+    @Test
+    void interleavedWriteToSameTableKeepsOrder() {
+        UnitOfWork unitOfWork = new UnitOfWork(this::record);
+        unitOfWork.enqueue(INSERT_SQL, FILE_INFO, Map.of("fileId", "f1"), false);
+        unitOfWork.enqueue(UPDATE_SQL, FILE_INFO, Map.of("fileId", "f1"), false);
+        unitOfWork.enqueue(INSERT_SQL, FILE_INFO, Map.of("fileId", "f2"), false);
+
+        assertTrue(unitOfWork.hasPendingWrites(FILE_INFO));
+        assertEquals(3, unitOfWork.flush());
+        assertEquals(List.of(INSERT_SQL + " x1", UPDATE_SQL + " x1", INSERT_SQL + " x1"), flushed);
+    }
+
+    @Test
+    void suspendedTransactionHidesUnitOfWork() {
+        TransactionSynchronizationManager.initSynchronization();
+        UnitOfWork unitOfWork = UnitOfWork.bindIfAbsent(dataSource, this::record);
+        unitOfWork.enqueue(INSERT_SQL, FILE_INFO, Map.of("fileId", "f1"), false);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::suspend);
+        assertNull(UnitOfWork.getBound(dataSource));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::resume);
+        assertSame(unitOfWork, UnitOfWork.getBound(dataSource));
+    }
+
+    @Test
+    void rollbackDiscardsPendingWrites() {
+        TransactionSynchronizationManager.initSynchronization();
+        UnitOfWork unitOfWork = UnitOfWork.bindIfAbsent(dataSource, this::record);
+        unitOfWork.enqueue(INSERT_SQL, FILE_INFO, Map.of("fileId", "f1"), false);
+
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(0, unitOfWork.getPendingCount());
+        assertTrue(flushed.isEmpty());
+        assertNull(UnitOfWork.getBound(dataSource));
+    }
+
+    private void record(String sql, List<Map<String, Object>> batchParams, boolean enableLogging) {
+        flushed.add(sql + " x" + batchParams.size());
+    }
+}